@@ -58,13 +58,19 @@ public class MailboxCommandLayer implements CommandLayer {
         final int argumentsLen = getArgumentsLen(dataBytes);
         final byte[] header = buildCommandHeader(commandCode, argumentsLen, 0, CLIENT_IDENTIFIER);
         final byte[] rawData = withAppendedHeaderAndPadding(argumentsLen, dataBytes, header);
-        log.trace("Sending raw data for command {}: {}", command.name(), toHex(rawData));
+        log.atTrace()
+            .addArgument(command.name())
+            .addArgument(() -> toHex(rawData))
+            .log("Sending raw data for command {}: {}");
         return rawData;
     }
 
     @Override
     public byte[] retrieve(byte[] data, CommandIdentifier command) {
-        log.trace("Received raw data for response {}: {}", command.name(), toHex(data));
+        log.atTrace()
+            .addArgument(command.name())
+            .addArgument(() -> toHex(data))
+            .log("Received raw data for response {}: {}");
         CommandHeaderManager.validateCommandHeaderCode(data, command.name());
         return ByteBufferSafe.wrap(data).skip(COMMAND_HEADER_LEN).getRemaining();
     }
@@ -40,11 +40,11 @@ import com.intel.bkp.command.maps.SigmaM2EndiannessMapImpl;
 import com.intel.bkp.core.endianness.EndiannessActor;
 import com.intel.bkp.core.endianness.IStructureType;
 import com.intel.bkp.core.interfaces.IEndiannessMap;
-import lombok.RequiredArgsConstructor;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.function.Function;
 
-@RequiredArgsConstructor
 public enum StructureType implements IStructureType {
     SIGMA_M2(SigmaM2EndiannessMapImpl::new),
     SIGMA_ENC_RESP(SigmaEncEndiannessMapImpl::new),
@@ -52,10 +52,16 @@ public enum StructureType implements IStructureType {
     CREATE_ATTESTATION_SUBKEY_RSP(CreateSubKeyRspEndiannessMapImpl::new),
     GET_MEASUREMENT_RSP(GetMeasurementRspEndiannessMapImpl::new);
 
-    private final Function<EndiannessActor, IEndiannessMap> getEndiannessMap;
+    private final Map<EndiannessActor, IEndiannessMap> endiannessMaps = new EnumMap<>(EndiannessActor.class);
+
+    StructureType(Function<EndiannessActor, IEndiannessMap> endiannessMapFactory) {
+        for (EndiannessActor actor : EndiannessActor.values()) {
+            endiannessMaps.put(actor, endiannessMapFactory.apply(actor));
+        }
+    }
 
     @Override
     public IEndiannessMap getEndiannessMap(EndiannessActor actor) {
-        return getEndiannessMap.apply(actor);
+        return endiannessMaps.get(actor);
     }
 }
@@ -33,6 +33,7 @@
 package com.intel.bkp.crypto;
 
 import com.intel.bkp.crypto.exceptions.KeystoreGenericException;
+import com.intel.bkp.crypto.impl.JcaEngineCache;
 import com.intel.bkp.crypto.x509.generation.X509CertificateBuilder;
 import com.intel.bkp.crypto.x509.generation.X509CertificateBuilderParams;
 import lombok.AccessLevel;
@@ -46,7 +47,6 @@ import java.security.KeyStoreException;
 import java.security.PrivateKey;
 import java.security.Provider;
 import java.security.PublicKey;
-import java.security.SecureRandom;
 import java.security.cert.Certificate;
 import java.time.Instant;
 import java.util.Date;
@@ -91,7 +91,7 @@ public class KeystoreUtils {
             final var params = new X509CertificateBuilderParams(pubKey)
                 .withIssuerName(issuer)
                 .withSubjectName(issuer)
-                .withSerialNumber(BigInteger.probablePrime(160, new SecureRandom()))
+                .withSerialNumber(BigInteger.probablePrime(160, JcaEngineCache.getSecureRandom()))
                 .withNotAfter(Date.from(Instant.now().plusSeconds(validityYears * YEARS_TO_SECONDS)));
 
             final var certificate = new X509CertificateBuilder(params)
@@ -32,7 +32,7 @@
 
 package com.intel.bkp.crypto.aesctr;
 
-import java.security.SecureRandom;
+import com.intel.bkp.crypto.impl.JcaEngineCache;
 
 public class AesCtrIvProvider implements IIvProvider {
 
@@ -41,7 +41,7 @@ public class AesCtrIvProvider implements IIvProvider {
 
     public byte[] generate() {
         byte[] iv = new byte[IV_LEN];
-        new SecureRandom().nextBytes(iv);
+        JcaEngineCache.getSecureRandom().nextBytes(iv);
         return iv;
     }
 }
@@ -33,6 +33,7 @@
 package com.intel.bkp.crypto.aesgcm;
 
 import com.intel.bkp.crypto.exceptions.EncryptionProviderException;
+import com.intel.bkp.crypto.impl.JcaEngineCache;
 import com.intel.bkp.crypto.interfaces.IEncryptionProvider;
 import com.intel.bkp.utils.ByteBufferSafe;
 import com.intel.bkp.utils.exceptions.ByteBufferSafeException;
@@ -43,7 +44,6 @@ import javax.crypto.spec.GCMParameterSpec;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.security.Provider;
-import java.security.SecureRandom;
 import java.util.Optional;
 
 public abstract class AesGcmProvider implements IEncryptionProvider {
@@ -90,11 +90,9 @@ public abstract class AesGcmProvider implements IEncryptionProvider {
     }
 
     private byte[] generateIV() {
-        SecureRandom secureRandom = new SecureRandom();
-
         // (https://nvlpubs.nist.gov/nistpubs/Legacy/SP/nistspecialpublication800-38d.pdf p.19)
         byte[] iv = new byte[IV_LEN_BYTES];
-        secureRandom.nextBytes(iv);
+        JcaEngineCache.getSecureRandom().nextBytes(iv);
         return iv;
     }
 
@@ -34,6 +34,7 @@ package com.intel.bkp.crypto.hmac;
 
 import com.intel.bkp.crypto.CryptoUtils;
 import com.intel.bkp.crypto.exceptions.HMacProviderException;
+import com.intel.bkp.crypto.impl.JcaEngineCache;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
@@ -68,7 +69,7 @@ public interface IHMacProvider {
 
     default byte[] getHash(ByteBuffer byteBuffer) throws HMacProviderException {
         try {
-            final Mac hmac = Mac.getInstance(getAlgorithmType(), getProvider());
+            final Mac hmac = JcaEngineCache.getMac(getAlgorithmType(), getProvider());
             SecretKeySpec masterKeySpec = new SecretKeySpec(getMasterKey(), getAlgorithmType());
             hmac.reset();
             hmac.init(masterKeySpec);
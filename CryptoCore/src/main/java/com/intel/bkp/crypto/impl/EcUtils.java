@@ -61,7 +61,6 @@ import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.Provider;
 import java.security.PublicKey;
-import java.security.SecureRandom;
 import java.security.Signature;
 import java.security.SignatureException;
 import java.security.cert.X509Certificate;
@@ -89,7 +88,7 @@ public class EcUtils {
         ECGenParameterSpec ecGenParameterSpec = new ECGenParameterSpec(ecCurve384spec);
         try {
             KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(algorithm, provider);
-            keyPairGenerator.initialize(ecGenParameterSpec, new SecureRandom());
+            keyPairGenerator.initialize(ecGenParameterSpec, JcaEngineCache.getSecureRandom());
             return keyPairGenerator.generateKeyPair();
         } catch (Exception e) {
             throw new KeystoreGenericException("Failed to create EC key in secure enclave.", e);
@@ -124,7 +123,7 @@ public class EcUtils {
     public static byte[] signEcData(PrivateKey privateKey, byte[] data, String sigAlgorithmName, Provider provider)
         throws KeystoreGenericException {
         try {
-            Signature ecdsaSign = Signature.getInstance(sigAlgorithmName, provider);
+            Signature ecdsaSign = JcaEngineCache.getSignature(sigAlgorithmName, provider);
             ecdsaSign.initSign(privateKey);
             ecdsaSign.update(data);
             return ecdsaSign.sign();
@@ -136,7 +135,7 @@ public class EcUtils {
     public static boolean sigVerify(X509Certificate certificate, byte[] data, byte[] signature, String sigAlgorithmName,
                                     Provider provider) throws InvalidSignatureException {
         try {
-            Signature ecdsaSign = Signature.getInstance(sigAlgorithmName, provider);
+            Signature ecdsaSign = JcaEngineCache.getSignature(sigAlgorithmName, provider);
             ecdsaSign.initVerify(certificate);
             ecdsaSign.update(data);
             return ecdsaSign.verify(signature);
@@ -149,7 +148,7 @@ public class EcUtils {
                                     Provider provider)
         throws InvalidSignatureException {
         try {
-            Signature ecdsaSign = Signature.getInstance(sigAlgorithmName, provider);
+            Signature ecdsaSign = JcaEngineCache.getSignature(sigAlgorithmName, provider);
             ecdsaSign.initVerify(publicKey);
             ecdsaSign.update(data);
             return ecdsaSign.verify(signature);
@@ -182,7 +181,7 @@ public class EcUtils {
             privateKeyBytes = PaddingUtils.padLeft(privateKeyBytes, privateKeyBytes.length + 1);
         }
         ECPrivateKeySpec keySpec = getEcKeySpec(new BigInteger(privateKeyBytes), ecCurve384spec);
-        KeyFactory kf = KeyFactory.getInstance(algorithm, bouncyCastleProvider);
+        KeyFactory kf = JcaEngineCache.getKeyFactory(algorithm, bouncyCastleProvider);
         return kf.generatePrivate(keySpec);
     }
 
@@ -211,7 +210,7 @@ public class EcUtils {
 
         ECPublicKeySpec keySpec = getEcKeySpec(affineX, affineY, curveType);
 
-        KeyFactory kf = KeyFactory.getInstance(algorithm, bouncyCastleProvider);
+        KeyFactory kf = JcaEngineCache.getKeyFactory(algorithm, bouncyCastleProvider);
         return kf.generatePublic(keySpec);
     }
 
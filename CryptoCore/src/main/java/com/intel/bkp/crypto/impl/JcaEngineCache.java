@@ -0,0 +1,179 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.crypto.impl;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.Mac;
+import java.security.DrbgParameters;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.security.Signature;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static java.security.DrbgParameters.Capability.RESEED_ONLY;
+
+/**
+ * Reusable JCA engines and shared random generator.
+ *
+ * <p>Engine lookup goes through provider service registry and reflection, so engines are created once per
+ * (type, algorithm, provider instance) and thread, and reused afterwards. Returned engines are confined to the calling
+ * thread and must be (re)initialized before each use - never keep them across calls or share them with other
+ * threads.</p>
+ *
+ * <p>Providers are matched by identity, so a provider that is re-registered (new instance under the same name) gets
+ * fresh engines. Engines created from the most preferred installed provider are recreated when their provider is no
+ * longer installed. Each thread keeps at most {@value #MAX_ENGINES_PER_THREAD} least recently used engines;
+ * {@link #clear()} drops them for the calling thread.</p>
+ *
+ * <p>Random values come from single, thread-safe DRBG seeded once.</p>
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class JcaEngineCache {
+
+    static final int MAX_ENGINES_PER_THREAD = 64;
+    private static final int DRBG_STRENGTH = 256;
+    private static final String DRBG_ALGORITHM = "DRBG";
+
+    private static final SecureRandom SECURE_RANDOM = createSecureRandom();
+
+    private static final ThreadLocal<Map<EngineKey, Object>> ENGINES = ThreadLocal.withInitial(EngineMap::new);
+
+    public static SecureRandom getSecureRandom() {
+        return SECURE_RANDOM;
+    }
+
+    public static Mac getMac(String algorithm, Provider provider) throws NoSuchAlgorithmException {
+        return getEngine(new EngineKey(Mac.class, algorithm, provider), Mac::getProvider,
+            () -> Mac.getInstance(algorithm, provider));
+    }
+
+    public static Signature getSignature(String algorithm, Provider provider) throws NoSuchAlgorithmException {
+        return getEngine(new EngineKey(Signature.class, algorithm, provider), Signature::getProvider,
+            () -> Signature.getInstance(algorithm, provider));
+    }
+
+    public static KeyFactory getKeyFactory(String algorithm, Provider provider) throws NoSuchAlgorithmException {
+        return getEngine(new EngineKey(KeyFactory.class, algorithm, provider), KeyFactory::getProvider,
+            () -> KeyFactory.getInstance(algorithm, provider));
+    }
+
+    /**
+     * @param provider provider or null for the most preferred installed one
+     */
+    public static CertificateFactory getCertificateFactory(String type, Provider provider)
+        throws CertificateException {
+        return getEngine(new EngineKey(CertificateFactory.class, type, provider), CertificateFactory::getProvider,
+            () -> provider == null
+                  ? CertificateFactory.getInstance(type)
+                  : CertificateFactory.getInstance(type, provider));
+    }
+
+    /**
+     * Drops engines cached by the calling thread, e.g. before the thread is handed back to a container on undeploy.
+     */
+    public static void clear() {
+        ENGINES.remove();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, E extends Exception> T getEngine(EngineKey key, Function<T, Provider> providerOf,
+                                                        EngineFactory<T, E> factory) throws E {
+        final Map<EngineKey, Object> engines = ENGINES.get();
+        T engine = (T) engines.get(key);
+        if (engine == null || (key.provider() == null && !isInstalled(providerOf.apply(engine)))) {
+            engine = factory.create();
+            engines.put(key, engine);
+        }
+        return engine;
+    }
+
+    private static boolean isInstalled(Provider provider) {
+        return Security.getProvider(provider.getName()) == provider;
+    }
+
+    private static SecureRandom createSecureRandom() {
+        try {
+            return SecureRandom.getInstance(DRBG_ALGORITHM,
+                DrbgParameters.instantiation(DRBG_STRENGTH, RESEED_ONLY, null));
+        } catch (NoSuchAlgorithmException e) {
+            log.warn("DRBG is not available, falling back to default SecureRandom: {}", e.getMessage());
+            return new SecureRandom();
+        }
+    }
+
+    @FunctionalInterface
+    private interface EngineFactory<T, E extends Exception> {
+        T create() throws E;
+    }
+
+    private static final class EngineMap extends LinkedHashMap<EngineKey, Object> {
+
+        private EngineMap() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<EngineKey, Object> eldest) {
+            return size() > MAX_ENGINES_PER_THREAD;
+        }
+    }
+
+    // Provider is compared by identity - Provider::equals and Provider::hashCode compare all registered services
+    private record EngineKey(Class<?> type, String algorithm, Provider provider) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof EngineKey other
+                && type == other.type
+                && algorithm.equals(other.algorithm)
+                && provider == other.provider;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, algorithm, System.identityHashCode(provider));
+        }
+    }
+}
@@ -47,7 +47,7 @@ public class PublicKeyUtils {
 
     public static PublicKey toPublicEncoded(byte[] publicKeyBytes, String algorithm, Provider provider)
         throws InvalidKeySpecException, NoSuchAlgorithmException {
-        KeyFactory kf = KeyFactory.getInstance(algorithm, provider);
+        KeyFactory kf = JcaEngineCache.getKeyFactory(algorithm, provider);
         return kf.generatePublic(new X509EncodedKeySpec(publicKeyBytes));
     }
 }
@@ -41,7 +41,6 @@ import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.Provider;
 import java.security.PublicKey;
-import java.security.SecureRandom;
 import java.security.spec.KeySpec;
 import java.security.spec.X509EncodedKeySpec;
 
@@ -51,7 +50,7 @@ public class RsaUtils {
     public static KeyPair genRSA(String rsaKeyName, int rsaKeySize, Provider provider) throws KeystoreGenericException {
         try {
             KeyPairGenerator kpg = KeyPairGenerator.getInstance(rsaKeyName, provider);
-            kpg.initialize(rsaKeySize, new SecureRandom());
+            kpg.initialize(rsaKeySize, JcaEngineCache.getSecureRandom());
             return kpg.generateKeyPair();
         } catch (Exception e) {
             throw new KeystoreGenericException("Failed to create RSA key in secure enclave.", e);
@@ -61,7 +60,7 @@ public class RsaUtils {
     public static PublicKey restoreRSAPubKey(byte[] rsaKey, String rsaKeyName, Provider provider)
         throws KeystoreGenericException {
         try {
-            KeyFactory kf = KeyFactory.getInstance(rsaKeyName, provider);
+            KeyFactory kf = JcaEngineCache.getKeyFactory(rsaKeyName, provider);
             KeySpec keySpec = new X509EncodedKeySpec(rsaKey);
             return kf.generatePublic(keySpec);
         } catch (Exception e) {
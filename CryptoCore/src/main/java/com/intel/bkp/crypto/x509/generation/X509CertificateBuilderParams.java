@@ -32,13 +32,13 @@
 
 package com.intel.bkp.crypto.x509.generation;
 
+import com.intel.bkp.crypto.impl.JcaEngineCache;
 import lombok.Getter;
 import org.bouncycastle.asn1.x500.X500Name;
 import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
 
 import java.math.BigInteger;
 import java.security.PublicKey;
-import java.security.SecureRandom;
 import java.util.Date;
 
 import static com.intel.bkp.utils.X509DateBuilderHelper.notAfter;
@@ -95,7 +95,7 @@ public class X509CertificateBuilderParams {
     }
 
     private BigInteger generateSerialNumber() {
-        return BigInteger.valueOf(new SecureRandom().nextInt());
+        return BigInteger.valueOf(JcaEngineCache.getSecureRandom().nextInt());
     }
 
     private X500Name getDefaultDummyX500Name() {
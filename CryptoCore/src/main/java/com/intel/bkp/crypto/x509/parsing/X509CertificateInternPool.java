@@ -0,0 +1,146 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.crypto.x509.parsing;
+
+import com.intel.bkp.crypto.exceptions.X509CertificateParsingException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.security.cert.X509Certificate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Shares parsed certificates between callers that decode the same encoded bytes.
+ *
+ * <p>Certificates are keyed by SHA-256 of their encoding and held through soft references in a bounded LRU map, so
+ * under memory pressure or after {@value #MAX_SIZE} other certificates they are simply parsed again. Values derived
+ * from a certificate (key identifiers, DICE extensions) can be memoized with {@link #derive}; they live as long as the
+ * certificate object itself.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class X509CertificateInternPool {
+
+    static final int MAX_SIZE = 1024;
+
+    private static final Map<ByteBuffer, SoftReference<X509Certificate>> POOL =
+        new LinkedHashMap<>(MAX_SIZE, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, SoftReference<X509Certificate>> eldest) {
+                return size() > MAX_SIZE;
+            }
+        };
+
+    private static final Map<X509Certificate, Map<String, Optional<?>>> DERIVED = new WeakHashMap<>();
+
+    @FunctionalInterface
+    public interface CertificateDecoder {
+
+        X509Certificate decode(byte[] encoded) throws X509CertificateParsingException;
+    }
+
+    public static X509Certificate intern(byte[] encoded, CertificateDecoder decoder)
+        throws X509CertificateParsingException {
+
+        final ByteBuffer key = ByteBuffer.wrap(DigestUtils.sha256(encoded));
+        final Optional<X509Certificate> pooled = get(key);
+        if (pooled.isPresent()) {
+            return pooled.get();
+        }
+
+        final X509Certificate certificate = decoder.decode(encoded);
+        if (certificate == null) {
+            return null;
+        }
+
+        synchronized (POOL) {
+            final X509Certificate existing = Optional.ofNullable(POOL.get(key))
+                .map(SoftReference::get)
+                .orElse(null);
+            if (existing != null) {
+                return existing;
+            }
+            POOL.put(key, new SoftReference<>(certificate));
+            return certificate;
+        }
+    }
+
+    /**
+     * Returns value computed by {@code function} for given certificate, computing it only on first call for the given
+     * certificate object and key. Function must not return a mutable value that callers modify.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T derive(X509Certificate certificate, String key, Function<X509Certificate, T> function) {
+        final Map<String, Optional<?>> values;
+        synchronized (DERIVED) {
+            values = DERIVED.computeIfAbsent(certificate, cert -> new ConcurrentHashMap<>());
+        }
+
+        final Optional<?> cached = values.get(key);
+        if (cached != null) {
+            return (T) cached.orElse(null);
+        }
+
+        final T value = function.apply(certificate);
+        values.putIfAbsent(key, Optional.ofNullable(value));
+        return value;
+    }
+
+    static int size() {
+        synchronized (POOL) {
+            return POOL.size();
+        }
+    }
+
+    static void clear() {
+        synchronized (POOL) {
+            POOL.clear();
+        }
+        synchronized (DERIVED) {
+            DERIVED.clear();
+        }
+    }
+
+    private static Optional<X509Certificate> get(ByteBuffer key) {
+        synchronized (POOL) {
+            return Optional.ofNullable(POOL.get(key)).map(SoftReference::get);
+        }
+    }
+}
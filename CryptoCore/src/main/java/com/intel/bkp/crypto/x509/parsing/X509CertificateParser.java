@@ -35,6 +35,7 @@ package com.intel.bkp.crypto.x509.parsing;
 import com.intel.bkp.crypto.CryptoUtils;
 import com.intel.bkp.crypto.constants.CryptoConstants;
 import com.intel.bkp.crypto.exceptions.X509CertificateParsingException;
+import com.intel.bkp.crypto.impl.JcaEngineCache;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -45,6 +46,8 @@ import java.nio.charset.StandardCharsets;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -52,11 +55,21 @@ import java.util.stream.Collectors;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class X509CertificateParser {
 
+    private static final byte DER_SEQUENCE_TAG = 0x30;
+    private static final byte DER_BIT_STRING_TAG = 0x03;
+    private static final byte[] CERTIFICATE_FIELD_TAGS = {DER_SEQUENCE_TAG, DER_SEQUENCE_TAG, DER_BIT_STRING_TAG};
+    private static final int DER_LONG_FORM_FLAG = 0x80;
+    private static final int MAX_DER_LENGTH_BYTES = 3;
+
     public static X509Certificate pemToX509Certificate(String certInPem) throws X509CertificateParsingException {
         return toX509Certificate(certInPem.getBytes(StandardCharsets.UTF_8));
     }
 
     public static X509Certificate toX509Certificate(byte[] certBytes) throws X509CertificateParsingException {
+        return X509CertificateInternPool.intern(certBytes, X509CertificateParser::decode);
+    }
+
+    private static X509Certificate decode(byte[] certBytes) throws X509CertificateParsingException {
         try (InputStream input = new ByteArrayInputStream(certBytes)) {
             return (X509Certificate) getCertificateFactory().generateCertificate(input);
         } catch (CertificateException | IOException e) {
@@ -79,6 +92,15 @@ public class X509CertificateParser {
     public static List<X509Certificate> toX509CertificateChain(byte[] certChainBytes)
         throws X509CertificateParsingException {
 
+        final Optional<List<byte[]>> derCertificates = splitDerSequences(certChainBytes);
+        if (derCertificates.isPresent()) {
+            final List<X509Certificate> chain = new ArrayList<>();
+            for (byte[] derCertificate : derCertificates.get()) {
+                chain.add(toX509Certificate(derCertificate));
+            }
+            return chain;
+        }
+
         try (InputStream input = new ByteArrayInputStream(certChainBytes)) {
             return getCertificateFactory().generateCertificates(input)
                 .stream()
@@ -89,8 +111,73 @@ public class X509CertificateParser {
         }
     }
 
+    /**
+     * Splits concatenated DER certificates, so that each of them can be interned separately.
+     * Returns empty if input is not a plain concatenation of DER certificates (e.g. PEM or PKCS#7).
+     */
+    private static Optional<List<byte[]>> splitDerSequences(byte[] bytes) {
+        final List<byte[]> sequences = new ArrayList<>();
+        int offset = 0;
+        while (offset < bytes.length) {
+            final Optional<DerHeader> header = readHeader(bytes, offset, bytes.length);
+            if (header.isEmpty() || header.get().tag() != DER_SEQUENCE_TAG || !isCertificate(bytes, header.get())) {
+                return Optional.empty();
+            }
+            sequences.add(Arrays.copyOfRange(bytes, offset, header.get().end()));
+            offset = header.get().end();
+        }
+        return sequences.isEmpty() ? Optional.empty() : Optional.of(sequences);
+    }
+
+    /**
+     * Certificate is SEQUENCE of tbsCertificate (SEQUENCE), signatureAlgorithm (SEQUENCE) and signatureValue
+     * (BIT STRING). PKCS#7 ContentInfo, which is a single SEQUENCE too, starts with OID instead.
+     */
+    private static boolean isCertificate(byte[] bytes, DerHeader certificate) {
+        int offset = certificate.contentStart();
+        for (byte expectedTag : CERTIFICATE_FIELD_TAGS) {
+            final Optional<DerHeader> field = readHeader(bytes, offset, certificate.end());
+            if (field.isEmpty() || field.get().tag() != expectedTag) {
+                return false;
+            }
+            offset = field.get().end();
+        }
+        return offset == certificate.end();
+    }
+
+    private static Optional<DerHeader> readHeader(byte[] bytes, int offset, int limit) {
+        if (offset + 1 >= limit) {
+            return Optional.empty();
+        }
+
+        final int firstLengthByte = bytes[offset + 1] & 0xFF;
+        int headerLength = 2;
+        int contentLength = firstLengthByte;
+        if (firstLengthByte >= DER_LONG_FORM_FLAG) {
+            final int lengthBytes = firstLengthByte & ~DER_LONG_FORM_FLAG;
+            if (lengthBytes == 0 || lengthBytes > MAX_DER_LENGTH_BYTES || offset + headerLength + lengthBytes > limit) {
+                return Optional.empty();
+            }
+            contentLength = 0;
+            for (int i = 0; i < lengthBytes; i++) {
+                contentLength = (contentLength << Byte.SIZE) | (bytes[offset + headerLength + i] & 0xFF);
+            }
+            headerLength += lengthBytes;
+        }
+
+        final DerHeader header = new DerHeader(bytes[offset], offset + headerLength, contentLength);
+        return header.end() > limit ? Optional.empty() : Optional.of(header);
+    }
+
+    private record DerHeader(byte tag, int contentStart, int contentLength) {
+
+        int end() {
+            return contentStart + contentLength;
+        }
+    }
+
     private static CertificateFactory getCertificateFactory() throws CertificateException {
-        return CertificateFactory.getInstance(
+        return JcaEngineCache.getCertificateFactory(
             CryptoConstants.CERTIFICATE_FACTORY_TYPE,
             CryptoUtils.getBouncyCastleProvider());
     }
@@ -34,6 +34,7 @@ package com.intel.bkp.crypto.x509.parsing;
 
 import com.intel.bkp.crypto.constants.CryptoConstants;
 import com.intel.bkp.crypto.exceptions.X509CrlParsingException;
+import com.intel.bkp.crypto.impl.JcaEngineCache;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -56,7 +57,8 @@ public class X509CrlParser {
 
     public static X509CRL toX509Crl(byte[] crlBytes) throws X509CrlParsingException {
         try {
-            CertificateFactory fact = CertificateFactory.getInstance(CryptoConstants.CERTIFICATE_FACTORY_TYPE);
+            CertificateFactory fact =
+                JcaEngineCache.getCertificateFactory(CryptoConstants.CERTIFICATE_FACTORY_TYPE, null);
             try (InputStream input = new ByteArrayInputStream(crlBytes)) {
                 return (X509CRL) fact.generateCRL(input);
             }
@@ -33,6 +33,7 @@
 package com.intel.bkp.crypto.x509.utils;
 
 import com.intel.bkp.crypto.CryptoUtils;
+import com.intel.bkp.crypto.x509.parsing.X509CertificateInternPool;
 import org.bouncycastle.asn1.x509.AuthorityKeyIdentifier;
 import org.bouncycastle.asn1.x509.Extension;
 import org.bouncycastle.asn1.x509.SubjectKeyIdentifier;
@@ -48,6 +49,9 @@ import static com.intel.bkp.crypto.x509.utils.X509ExtensionUtils.getExtensionByt
 
 public class KeyIdentifierUtils {
 
+    private static final String AKI_KEY = "AKI";
+    private static final String SKI_KEY = "SKI";
+
     /**
      * Creates AuthorityKeyIdentifier based on provided certificate.
      * If certificate contains SubjectKeyIdentifier extension, its value is used,
@@ -69,10 +73,11 @@ public class KeyIdentifierUtils {
      * Gets bytes of key identifier from AuthorityKeyIdentifier extension or null, if certificate doesn't contain it.
      */
     public static byte[] getAuthorityKeyIdentifier(final X509Certificate certificate) {
-        return getExtensionBytes(certificate, Extension.authorityKeyIdentifier)
+        return cloneOrNull(X509CertificateInternPool.derive(certificate, AKI_KEY, cert ->
+            getExtensionBytes(cert, Extension.authorityKeyIdentifier)
                 .map(AuthorityKeyIdentifier::getInstance)
                 .map(AuthorityKeyIdentifier::getKeyIdentifier)
-                .orElse(null);
+                .orElse(null)));
     }
 
     /**
@@ -98,9 +103,14 @@ public class KeyIdentifierUtils {
      * Gets bytes of key identifier from SubjectKeyIdentifier extension or null, if certificate doesn't contain it.
      */
     public static byte[] getSubjectKeyIdentifier(final X509Certificate certificate) {
-        return getExtensionBytes(certificate, Extension.subjectKeyIdentifier)
+        return cloneOrNull(X509CertificateInternPool.derive(certificate, SKI_KEY, cert ->
+            getExtensionBytes(cert, Extension.subjectKeyIdentifier)
                 .map(SubjectKeyIdentifier::getInstance)
                 .map(SubjectKeyIdentifier::getKeyIdentifier)
-                .orElse(null);
+                .orElse(null)));
+    }
+
+    private static byte[] cloneOrNull(byte[] keyIdentifier) {
+        return keyIdentifier == null ? null : keyIdentifier.clone();
     }
 }
@@ -37,12 +37,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
 
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -75,6 +78,7 @@ public class ChainVerifier {
     private List<X509Certificate> certificates = new LinkedList<>();
     private final Optional<Integer> rootBasicConstraints = Optional.empty();
     private final Set<String> knownExtensionOids = new HashSet<>(COMMON_EXTENSION_OIDS);
+    private Executor executor;
 
     public ChainVerifier certificates(List<X509Certificate> certificates) {
         this.certificates = certificates;
@@ -86,7 +90,19 @@ public class ChainVerifier {
         return this;
     }
 
+    /**
+     * Verifies chain links concurrently on given executor. Passing null restores sequential verification.
+     */
+    public ChainVerifier parallel(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
     public boolean verify() {
+        if (executor != null) {
+            return certificates.size() > 1 && new ParallelLinkVerifier(executor).verifyAll(getLinkChecks());
+        }
+
         final Iterator<X509Certificate> certificateChainIterator = certificates.iterator();
         return certificates.size() > 1
                 && certificateChainIterator.hasNext()
@@ -107,6 +123,28 @@ public class ChainVerifier {
         }
     }
 
+    private List<BooleanSupplier> getLinkChecks() {
+        final List<X509Certificate> chain = new ArrayList<>(certificates);
+        final List<BooleanSupplier> checks = new ArrayList<>(chain.size());
+        Optional<Integer> expectedBasicConstraints = LEAF_BASIC_CONSTRAINTS;
+        KeyUsage expectedKeyUsage = KeyUsage.DIGITAL_SIGNATURE;
+        for (int i = 0; i < chain.size() - 1; i++) {
+            final X509Certificate child = chain.get(i);
+            final X509Certificate parent = chain.get(i + 1);
+            final Optional<Integer> basicConstraints = expectedBasicConstraints;
+            final KeyUsage keyUsage = expectedKeyUsage;
+            checks.add(() -> verifyCertificate(child, parent, basicConstraints, keyUsage));
+            expectedBasicConstraints = getNext(expectedBasicConstraints);
+            expectedKeyUsage = KeyUsage.KEY_CERT_SIGN;
+        }
+
+        final X509Certificate root = chain.get(chain.size() - 1);
+        final Optional<Integer> lastExpectedBasicConstraints = expectedBasicConstraints;
+        final Optional<Integer> rootConstraints = rootBasicConstraints.or(() -> lastExpectedBasicConstraints);
+        checks.add(() -> verifyCertificate(root, root, rootConstraints, KeyUsage.KEY_CERT_SIGN));
+        return checks;
+    }
+
     private Optional<Integer> getNext(Optional<Integer> expectedBasicConstraints) {
         return expectedBasicConstraints
                 .map(expected -> expected + 1)
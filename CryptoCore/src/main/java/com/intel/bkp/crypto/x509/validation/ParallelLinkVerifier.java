@@ -0,0 +1,131 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.crypto.x509.validation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs independent per-link checks of a certificate chain on the given executor.
+ *
+ * <p>Results are evaluated in chain order, so the outcome (including a thrown exception) is the same as for
+ * sequential evaluation - the first failing link decides. Once any link fails, checks that have not started yet
+ * are skipped.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ParallelLinkVerifier {
+
+    private final Executor executor;
+
+    public boolean verifyAll(List<BooleanSupplier> checks) {
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        final List<CompletableFuture<Boolean>> results = new ArrayList<>(checks.size());
+        try {
+            for (BooleanSupplier check : checks) {
+                results.add(submit(check, failed));
+            }
+
+            for (int i = 0; i < checks.size(); i++) {
+                final Boolean result = await(results.get(i));
+                final boolean passed = result != null ? result : checks.get(i).getAsBoolean();
+                if (!passed) {
+                    log.debug("Chain link {} failed verification.", i);
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            failed.set(true);
+        }
+    }
+
+    private CompletableFuture<Boolean> submit(BooleanSupplier check, AtomicBoolean failed) {
+        try {
+            return CompletableFuture.supplyAsync(() -> runUnlessFailed(check, failed), executor);
+        } catch (RejectedExecutionException e) {
+            log.debug("Executor rejected chain link check - it will be verified in calling thread.");
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private static Boolean runUnlessFailed(BooleanSupplier check, AtomicBoolean failed) {
+        if (failed.get()) {
+            return null;
+        }
+        try {
+            final boolean result = check.getAsBoolean();
+            if (!result) {
+                failed.set(true);
+            }
+            return result;
+        } catch (RuntimeException | Error e) {
+            failed.set(true);
+            throw e;
+        }
+    }
+
+    private static Boolean await(CompletableFuture<Boolean> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for chain link verification.", e);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            return rethrow(cause.getCause());
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.crypto.impl;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.Signature;
+import java.security.cert.CertificateFactory;
+import java.util.concurrent.CompletableFuture;
+
+import static com.intel.bkp.crypto.CryptoUtils.getBouncyCastleProvider;
+import static com.intel.bkp.crypto.constants.CryptoConstants.CERTIFICATE_FACTORY_TYPE;
+import static com.intel.bkp.crypto.constants.CryptoConstants.EC_KEY;
+import static com.intel.bkp.crypto.constants.CryptoConstants.RSA_KEY;
+import static com.intel.bkp.crypto.constants.CryptoConstants.SHA256_WITH_ECDSA;
+import static com.intel.bkp.crypto.constants.CryptoConstants.SHA384_WITH_ECDSA;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JcaEngineCacheTest {
+
+    private static final String HMAC_ALGORITHM = "HMAC-SHA384";
+
+    @Test
+    void getSignature_SameThread_ReturnsSameInstance() throws Exception {
+        // when
+        final Signature first = JcaEngineCache.getSignature(SHA384_WITH_ECDSA, getBouncyCastleProvider());
+        final Signature second = JcaEngineCache.getSignature(SHA384_WITH_ECDSA, getBouncyCastleProvider());
+
+        // then
+        assertSame(first, second);
+        assertEquals(SHA384_WITH_ECDSA, first.getAlgorithm());
+    }
+
+    @Test
+    void getSignature_DifferentAlgorithm_ReturnsDifferentInstance() throws Exception {
+        // when
+        final Signature first = JcaEngineCache.getSignature(SHA384_WITH_ECDSA, getBouncyCastleProvider());
+        final Signature second = JcaEngineCache.getSignature(SHA256_WITH_ECDSA, getBouncyCastleProvider());
+
+        // then
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void getSignature_DifferentThread_ReturnsDifferentInstance() throws Exception {
+        // given
+        final Signature current = JcaEngineCache.getSignature(SHA384_WITH_ECDSA, getBouncyCastleProvider());
+
+        // when
+        final Signature other = CompletableFuture.supplyAsync(() -> {
+            try {
+                return JcaEngineCache.getSignature(SHA384_WITH_ECDSA, getBouncyCastleProvider());
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException(e);
+            }
+        }).get();
+
+        // then
+        assertNotSame(current, other);
+    }
+
+    @Test
+    void getSignature_OtherProviderInstanceWithSameName_ReturnsDifferentInstance() throws Exception {
+        // given
+        final Signature cached = JcaEngineCache.getSignature(SHA384_WITH_ECDSA, getBouncyCastleProvider());
+        final Provider reRegistered = new BouncyCastleProvider();
+
+        // when
+        final Signature result = JcaEngineCache.getSignature(SHA384_WITH_ECDSA, reRegistered);
+
+        // then
+        assertNotSame(cached, result);
+        assertSame(reRegistered, result.getProvider());
+    }
+
+    @Test
+    void clear_DropsEnginesOfCurrentThread() throws Exception {
+        // given
+        final Signature cached = JcaEngineCache.getSignature(SHA384_WITH_ECDSA, getBouncyCastleProvider());
+
+        // when
+        JcaEngineCache.clear();
+
+        // then
+        assertNotSame(cached, JcaEngineCache.getSignature(SHA384_WITH_ECDSA, getBouncyCastleProvider()));
+    }
+
+    @Test
+    void getKeyFactory_ReturnsCachedInstancePerAlgorithm() throws Exception {
+        // when
+        final KeyFactory ec = JcaEngineCache.getKeyFactory(EC_KEY, getBouncyCastleProvider());
+        final KeyFactory rsa = JcaEngineCache.getKeyFactory(RSA_KEY, getBouncyCastleProvider());
+
+        // then
+        assertSame(ec, JcaEngineCache.getKeyFactory(EC_KEY, getBouncyCastleProvider()));
+        assertNotSame(ec, rsa);
+    }
+
+    @Test
+    void getMac_ReturnsCachedInstance() throws Exception {
+        // when
+        final Mac mac = JcaEngineCache.getMac(HMAC_ALGORITHM, getBouncyCastleProvider());
+
+        // then
+        assertSame(mac, JcaEngineCache.getMac(HMAC_ALGORITHM, getBouncyCastleProvider()));
+    }
+
+    @Test
+    void getMac_UnknownAlgorithm_Throws() {
+        // when-then
+        assertThrows(NoSuchAlgorithmException.class,
+            () -> JcaEngineCache.getMac("unknown", getBouncyCastleProvider()));
+    }
+
+    @Test
+    void getCertificateFactory_CachesSeparatelyPerProvider() throws Exception {
+        // when
+        final CertificateFactory bc = JcaEngineCache.getCertificateFactory(CERTIFICATE_FACTORY_TYPE,
+            getBouncyCastleProvider());
+        final CertificateFactory defaultProvider = JcaEngineCache.getCertificateFactory(CERTIFICATE_FACTORY_TYPE,
+            null);
+
+        // then
+        assertSame(bc, JcaEngineCache.getCertificateFactory(CERTIFICATE_FACTORY_TYPE, getBouncyCastleProvider()));
+        assertSame(defaultProvider, JcaEngineCache.getCertificateFactory(CERTIFICATE_FACTORY_TYPE, null));
+        assertNotSame(bc, defaultProvider);
+    }
+
+    @Test
+    void getSecureRandom_ReturnsSharedInstance() {
+        // when
+        final var result = JcaEngineCache.getSecureRandom();
+
+        // then
+        assertNotNull(result);
+        assertSame(result, JcaEngineCache.getSecureRandom());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.crypto.x509.parsing;
+
+import com.intel.bkp.crypto.exceptions.X509CertificateParsingException;
+import com.intel.bkp.test.FileUtils;
+import com.intel.bkp.test.enumeration.ResourceDir;
+import org.apache.commons.lang3.ArrayUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class X509CertificateInternPoolTest {
+
+    private static final String DER_CERT_FILENAME = "IPCSSigningCA.cer";
+    private static final String KEY = "key";
+
+    private static byte[] certDerEncoded;
+
+    @BeforeAll
+    static void init() {
+        certDerEncoded = FileUtils.loadBinary(ResourceDir.CERTS, DER_CERT_FILENAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        X509CertificateInternPool.clear();
+    }
+
+    @Test
+    void intern_SameBytes_ReturnsSameInstanceAndDecodesOnce() throws X509CertificateParsingException {
+        // given
+        final AtomicInteger decodeCount = new AtomicInteger();
+        final X509CertificateInternPool.CertificateDecoder decoder = bytes -> {
+            decodeCount.incrementAndGet();
+            return X509CertificateParser.toX509Certificate(bytes);
+        };
+
+        // when
+        final X509Certificate first = X509CertificateInternPool.intern(certDerEncoded.clone(), decoder);
+        final X509Certificate second = X509CertificateInternPool.intern(certDerEncoded.clone(), decoder);
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, decodeCount.get());
+        assertEquals(1, X509CertificateInternPool.size());
+    }
+
+    @Test
+    void intern_DecoderReturnsNull_ReturnsNullAndDoesNotPool() throws X509CertificateParsingException {
+        // when
+        final X509Certificate result = X509CertificateInternPool.intern(new byte[0], bytes -> null);
+
+        // then
+        assertNull(result);
+        assertEquals(0, X509CertificateInternPool.size());
+    }
+
+    @Test
+    void toX509CertificateChain_ReturnsInternedCertificates() throws X509CertificateParsingException {
+        // given
+        final byte[] chainBytes = ArrayUtils.addAll(certDerEncoded, certDerEncoded);
+
+        // when
+        final List<X509Certificate> chain = X509CertificateParser.toX509CertificateChain(chainBytes);
+
+        // then
+        assertEquals(2, chain.size());
+        assertSame(chain.get(0), chain.get(1));
+        assertSame(chain.get(0), X509CertificateParser.toX509Certificate(certDerEncoded));
+    }
+
+    @Test
+    void derive_ComputesOncePerCertificate() throws X509CertificateParsingException {
+        // given
+        final X509Certificate certificate = X509CertificateParser.toX509Certificate(certDerEncoded);
+        final AtomicInteger computeCount = new AtomicInteger();
+
+        // when
+        final String first = X509CertificateInternPool.derive(certificate, KEY, cert -> {
+            computeCount.incrementAndGet();
+            return cert.getSubjectX500Principal().getName();
+        });
+        final String second = X509CertificateInternPool.derive(certificate, KEY, cert -> {
+            computeCount.incrementAndGet();
+            return "other";
+        });
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, computeCount.get());
+    }
+
+    @Test
+    void derive_NullValue_IsMemoized() throws X509CertificateParsingException {
+        // given
+        final X509Certificate certificate = X509CertificateParser.toX509Certificate(certDerEncoded);
+        final AtomicInteger computeCount = new AtomicInteger();
+
+        // when
+        X509CertificateInternPool.derive(certificate, KEY, cert -> {
+            computeCount.incrementAndGet();
+            return null;
+        });
+        final Object result = X509CertificateInternPool.derive(certificate, KEY, cert -> {
+            computeCount.incrementAndGet();
+            return null;
+        });
+
+        // then
+        assertNull(result);
+        assertEquals(1, computeCount.get());
+    }
+}
@@ -39,6 +39,7 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.util.List;
 import java.util.Optional;
@@ -193,6 +194,37 @@ class X509CertificateParserTest {
         assertEquals(PEM_CERT_SUBJECT, result.get(1).getSubjectX500Principal().getName());
     }
 
+    @Test
+    void toX509CertificateChain_ConcatenatedDerCerts_Success() throws Exception {
+        // given
+        final byte[] pemCertInDer = X509CertificateParser.toX509Certificate(certPemEncoded).getEncoded();
+        final byte[] chainBytes = ArrayUtils.addAll(certDerEncoded, pemCertInDer);
+
+        // when
+        final List<X509Certificate> result = X509CertificateParser.toX509CertificateChain(chainBytes);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(DER_CERT_SUBJECT, result.get(0).getSubjectX500Principal().getName());
+        assertEquals(PEM_CERT_SUBJECT, result.get(1).getSubjectX500Principal().getName());
+    }
+
+    @Test
+    void toX509CertificateChain_Pkcs7Chain_ReturnsAllCerts() throws Exception {
+        // given
+        final List<X509Certificate> chain = List.of(X509CertificateParser.toX509Certificate(certDerEncoded),
+            X509CertificateParser.toX509Certificate(certPemEncoded));
+        final byte[] pkcs7Bytes = CertificateFactory.getInstance("X.509").generateCertPath(chain).getEncoded("PKCS7");
+
+        // when
+        final List<X509Certificate> result = X509CertificateParser.toX509CertificateChain(pkcs7Bytes);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(DER_CERT_SUBJECT, result.get(0).getSubjectX500Principal().getName());
+        assertEquals(PEM_CERT_SUBJECT, result.get(1).getSubjectX500Principal().getName());
+    }
+
     @Test
     void toX509CertificateChain_InvalidInput_Throws() {
         // when-then
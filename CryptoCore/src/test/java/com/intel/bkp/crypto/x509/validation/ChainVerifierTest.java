@@ -45,6 +45,8 @@ import java.security.cert.X509Certificate;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -53,6 +55,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -188,6 +191,60 @@ class ChainVerifierTest {
         assertTrue(result);
     }
 
+    @Test
+    void verify_Parallel_VerifyAllChecksArePerformed() {
+        // given
+        addToList(attestationCert, parentCert, rootCert);
+        mockAllChecks();
+
+        // when
+        final boolean result = sut.parallel(Runnable::run).verify();
+
+        // then
+        assertTrue(result);
+        verify(signatureVerifier).verify(attestationCert, parentCert);
+        verify(signatureVerifier).verify(parentCert, rootCert);
+        verify(signatureVerifier).verify(rootCert, rootCert);
+        verify(keyUsageVerifier).verify(attestationCert, KeyUsage.DIGITAL_SIGNATURE);
+        verify(keyUsageVerifier).verify(parentCert, KeyUsage.KEY_CERT_SIGN);
+        verify(keyUsageVerifier).verify(rootCert, KeyUsage.KEY_CERT_SIGN);
+        verify(basicConstraintsVerifier).verify(parentCert, 0);
+        verify(basicConstraintsVerifier).verify(rootCert, 1);
+        verifyNoMoreInteractions(basicConstraintsVerifier);
+    }
+
+    @Test
+    void verify_Parallel_WithInvalidParentSignature_ReturnsFalse() {
+        // given
+        addToList(attestationCert, parentCert, rootCert);
+        mockAllChecksLeniently();
+        lenient().when(signatureVerifier.verify(parentCert, rootCert)).thenReturn(false);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        final boolean result;
+        try {
+            result = sut.parallel(executor).verify();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertFalse(result);
+    }
+
+    @Test
+    void verify_Parallel_With1Certificate_ReturnsFalse() {
+        // given
+        list.add(attestationCert);
+
+        // when
+        boolean result = sut.parallel(Runnable::run).verify();
+
+        // then
+        assertFalse(result);
+    }
+
     @Test
     void verify_With1Certificate_ReturnsFalse() {
         // given
@@ -213,4 +270,15 @@ class ChainVerifierTest {
         when(criticalExtensionsVerifier.verify(any(), any())).thenReturn(true);
         when(basicConstraintsVerifier.verify(any(), anyInt())).thenReturn(true);
     }
+
+    private void mockAllChecksLeniently() {
+        // links after the failing one may be skipped, so not every stub is guaranteed to be used
+        lenient().when(validityVerifier.verify(any())).thenReturn(true);
+        lenient().when(signatureVerifier.verify(any(X509Certificate.class), any())).thenReturn(true);
+        lenient().when(issuerVerifier.verify(any(), any())).thenReturn(true);
+        lenient().when(authorityKeyIdentifierVerifier.verify(any(), any())).thenReturn(true);
+        lenient().when(keyUsageVerifier.verify(any(), any())).thenReturn(true);
+        lenient().when(criticalExtensionsVerifier.verify(any(), any())).thenReturn(true);
+        lenient().when(basicConstraintsVerifier.verify(any(), anyInt())).thenReturn(true);
+    }
 }
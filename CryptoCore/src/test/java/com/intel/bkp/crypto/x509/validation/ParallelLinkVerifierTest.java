@@ -0,0 +1,166 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.crypto.x509.validation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelLinkVerifierTest {
+
+    private ExecutorService executor;
+
+    private ParallelLinkVerifier sut;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        sut = new ParallelLinkVerifier(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void verifyAll_AllLinksPass_ReturnsTrue() {
+        // given
+        final AtomicInteger counter = new AtomicInteger();
+        final BooleanSupplier check = () -> counter.incrementAndGet() > 0;
+
+        // when
+        final boolean result = sut.verifyAll(List.of(check, check, check));
+
+        // then
+        assertTrue(result);
+        assertEquals(3, counter.get());
+    }
+
+    @Test
+    void verifyAll_LinkFails_ReturnsFalse() {
+        // when
+        final boolean result = sut.verifyAll(List.of(() -> true, () -> false, () -> true));
+
+        // then
+        assertFalse(result);
+    }
+
+    @Test
+    void verifyAll_EarlierLinkThrowsAndLaterFails_ThrowsLikeSequentialVerification() {
+        // given
+        final CountDownLatch laterLinkFailed = new CountDownLatch(1);
+        final BooleanSupplier throwingLink = () -> {
+            await(laterLinkFailed);
+            throw new IllegalArgumentException("link 0");
+        };
+        final BooleanSupplier failingLink = () -> {
+            laterLinkFailed.countDown();
+            return false;
+        };
+
+        // when-then
+        final var ex = assertThrows(IllegalArgumentException.class,
+            () -> sut.verifyAll(List.of(throwingLink, failingLink)));
+
+        // then
+        assertEquals("link 0", ex.getMessage());
+    }
+
+    @Test
+    void verifyAll_EarlierLinkFails_LaterLinksAreSkipped() {
+        // given
+        final ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        final AtomicInteger laterLinkCalls = new AtomicInteger();
+        try {
+            // when
+            final boolean result = new ParallelLinkVerifier(singleThread)
+                .verifyAll(List.of(() -> false, () -> laterLinkCalls.incrementAndGet() > 0));
+
+            // then
+            assertFalse(result);
+        } finally {
+            shutdown(singleThread);
+        }
+        assertEquals(0, laterLinkCalls.get());
+    }
+
+    @Test
+    void verifyAll_ExecutorRejectsTask_VerifiesLinkInCallingThread() {
+        // given
+        final Thread caller = Thread.currentThread();
+        final AtomicInteger callerRuns = new AtomicInteger();
+        final ParallelLinkVerifier rejecting = new ParallelLinkVerifier(command -> {
+            throw new RejectedExecutionException();
+        });
+
+        // when
+        final boolean result = rejecting.verifyAll(List.of(
+            () -> Thread.currentThread() == caller && callerRuns.incrementAndGet() > 0));
+
+        // then
+        assertTrue(result);
+        assertEquals(1, callerRuns.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void shutdown(ExecutorService executorService) {
+        executorService.shutdown();
+        try {
+            executorService.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.protocol.spdm.jna;
+
+import com.intel.bkp.protocol.spdm.jna.model.SpdmContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of native libspdm requester contexts.
+ *
+ * <p>Allocating the context, its scratch buffer and local certificate chain buffer for every session is expensive,
+ * so contexts released by finished sessions are kept and handed out to next sessions. A context taken from the pool
+ * must have callbacks of the session that uses it bound (libspdm_bind_callbacks_w) and be initialized again
+ * (libspdm_prepare_context_w). Released contexts must already be deinitialized (libspdm_deinit_context_w) and
+ * unbound (libspdm_unbind_callbacks_w). Their memory is zeroed on release, so nothing of a finished session is
+ * handed over to the next one.</p>
+ */
+@Slf4j
+public class SpdmContextPool {
+
+    public static final int DEFAULT_MAX_IDLE = 8;
+
+    private static final SpdmContextPool SHARED = new SpdmContextPool(DEFAULT_MAX_IDLE);
+
+    private final int maxIdle;
+    private final Deque<SpdmContext> idle = new ArrayDeque<>();
+    private final AtomicLong allocated = new AtomicLong();
+
+    public SpdmContextPool(int maxIdle) {
+        if (maxIdle < 0) {
+            throw new IllegalArgumentException("Max idle contexts must not be negative.");
+        }
+        this.maxIdle = maxIdle;
+    }
+
+    public static SpdmContextPool shared() {
+        return SHARED;
+    }
+
+    public SpdmContext acquire(long contextSize) {
+        SpdmContext context;
+        while ((context = pollIdle()) != null) {
+            if (context.getContextSize() == contextSize) {
+                log.trace("Reusing pooled SPDM context.");
+                return context;
+            }
+            context.close();
+        }
+
+        allocated.incrementAndGet();
+        return new SpdmContext(contextSize);
+    }
+
+    public void release(SpdmContext context) {
+        context.clear();
+        synchronized (idle) {
+            if (idle.size() < maxIdle) {
+                idle.push(context);
+                return;
+            }
+        }
+        context.close();
+    }
+
+    /**
+     * Number of contexts allocated by this pool since it was created.
+     */
+    public long getAllocatedCount() {
+        return allocated.get();
+    }
+
+    public int getIdleCount() {
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+
+    public void clear() {
+        SpdmContext context;
+        while ((context = pollIdle()) != null) {
+            context.close();
+        }
+    }
+
+    private SpdmContext pollIdle() {
+        synchronized (idle) {
+            return idle.poll();
+        }
+    }
+}
@@ -130,10 +130,14 @@ public class SpdmParametersSetter {
             throw new SpdmRuntimeException("Failed to encode local public cert chain as ASN.1.", e);
         }
 
-        log.trace("LOCAL PUBLIC CERT - ENCODED SEQUENCE: {}", toHex(encodedSequence));
+        log.atTrace()
+            .addArgument(() -> toHex(encodedSequence))
+            .log("LOCAL PUBLIC CERT - ENCODED SEQUENCE: {}");
 
         final byte[] hash = DigestUtils.sha384(encodedSequence);
-        log.trace("LOCAL PUBLIC CERT - CALCULATED CHAIN 384 HASH: {}", toHex(hash));
+        log.atTrace()
+            .addArgument(() -> toHex(hash))
+            .log("LOCAL PUBLIC CERT - CALCULATED CHAIN 384 HASH: {}");
 
         final int length = Integer.BYTES + hash.length + encodedSequence.length;
         final int lengthLittleEndian = ByteSwap.getSwappedInt(length, ByteSwapOrder.B2L);
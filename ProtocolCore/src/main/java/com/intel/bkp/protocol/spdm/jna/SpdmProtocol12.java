@@ -68,7 +68,6 @@ import static com.intel.bkp.protocol.spdm.jna.SpdmUtils.throwOnError;
 import static com.intel.bkp.protocol.spdm.jna.model.LibSpdmReturn.LIBSPDM_STATUS_SPDM_INTERNAL_EXCEPTION;
 import static com.intel.bkp.protocol.spdm.jna.model.LibSpdmReturn.LIBSPDM_STATUS_SUCCESS;
 import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE;
-import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.MAX_LOCAL_CERTIFICATE_CHAIN_SIZE;
 import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.MAX_SPDM_BUFFER_SIZE;
 import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.SPDM_GET_MEASUREMENTS_REQUEST_ATTRIBUTES_GENERATE_SIGNATURE;
 import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.SPDM_GET_MEASUREMENTS_REQUEST_MEASUREMENT_OPERATION_ALL_MEASUREMENTS;
@@ -89,7 +88,6 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
     private final SpdmParametersProvider parametersProvider;
 
     private SpdmContext spdmContext;
-    private final Memory certificateChain = new CustomMemory(MAX_LOCAL_CERTIFICATE_CHAIN_SIZE);
 
     private int secureSessionId = 0;
 
@@ -111,6 +109,10 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
         return new byte[0];
     }
 
+    protected SpdmContextPool getContextPool() {
+        return SpdmContextPool.shared();
+    }
+
     protected SpdmProtocol12(MessageSender messageSender,
                              SpdmParametersProvider parametersProvider,
                              SignatureProvider signatureProvider) {
@@ -279,14 +281,16 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
 
         final long spdmContextSize = jnaInterface.libspdm_get_context_size_w().longValue();
         registerCallbacks(spdmContextSize, mctpEncapsulationTypeCallback);
-        jnaInterface.set_callbacks(callbacks);
 
-        spdmContext = new SpdmContext(spdmContextSize);
+        spdmContext = getContextPool().acquire(spdmContextSize);
+        jnaInterface.libspdm_bind_callbacks_w(spdmContext.getContext(), callbacks);
 
         final LibSpdmReturn status = jnaInterface.libspdm_prepare_context_w(spdmContext.getContext(),
             new Uint32(LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE));
 
-        log.debug("Initialize context status: {}", toFormattedHex(status.asLong()));
+        log.atDebug()
+            .addArgument(() -> toFormattedHex(status.asLong()))
+            .log("Initialize context status: {}");
 
         if (!LIBSPDM_STATUS_SUCCESS.equals(status)) {
             throw new SpdmRuntimeException("Failed to initialize SPDM context.");
@@ -302,7 +306,7 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
         spdmParametersSetter
             .with(jnaInterface, spdmContext.getContext())
             .setLibspdmParameters(parametersProvider)
-            .setCertChain(0, getCertChain(), certificateChain);
+            .setCertChain(0, getCertChain(), spdmContext.getLocalCertChain());
 
     }
 
@@ -318,7 +322,9 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
         log.debug("Sending SPDM GET_VERSION ...");
 
         final LibSpdmReturn status = jnaInterface.libspdm_init_connection_w(spdmContext.getContext(), true);
-        log.debug("VERSION status: {}", toFormattedHex(status.asLong()));
+        log.atDebug()
+            .addArgument(() -> toFormattedHex(status.asLong()))
+            .log("VERSION status: {}");
 
         throwOnError(status);
 
@@ -332,7 +338,9 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
         log.debug("Sending SPDM GET_VERSION, GET_CAPABILITIES, NEGOTIATE_ALGORITHMS (VCA) ...");
 
         final LibSpdmReturn status = jnaInterface.libspdm_init_connection_w(spdmContext.getContext(), false);
-        log.debug("Init connection status: {}", toFormattedHex(status.asLong()));
+        log.atDebug()
+            .addArgument(() -> toFormattedHex(status.asLong()))
+            .log("Init connection status: {}");
 
         throwOnError(status);
     }
@@ -340,32 +348,34 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
     private SpdmGetDigestResult getDigestInternal() throws SpdmCommandFailedException {
         log.debug("Sending SPDM GET_DIGESTS ...");
 
-        try (final Memory digestBuffer = new CustomMemory(MAX_SPDM_BUFFER_SIZE)) {
-            final ByteByReference slotMask = new ByteByReference();
-            final LibSpdmReturn status = jnaInterface.libspdm_get_digest_w(spdmContext.getContext(), null,
-                slotMask, digestBuffer);
-            log.debug("DIGESTS status: {}", toFormattedHex(status.asLong()));
-
-            throwOnError(status);
+        final Memory digestBuffer = spdmContext.getMessageBuffer();
+        final ByteByReference slotMask = new ByteByReference();
+        final LibSpdmReturn status = jnaInterface.libspdm_get_digest_w(spdmContext.getContext(), null,
+            slotMask, digestBuffer);
+        log.atDebug()
+            .addArgument(() -> toFormattedHex(status.asLong()))
+            .log("DIGESTS status: {}");
 
-            final int hashAlgSize = SHA384_LEN;
-            final byte slotMaskValue = slotMask.getValue();
-            return new SpdmGetDigestResult(slotMaskValue,
-                getBytes(digestBuffer, countSetBits(slotMaskValue) * hashAlgSize), hashAlgSize);
-        }
+        throwOnError(status);
 
+        final int hashAlgSize = SHA384_LEN;
+        final byte slotMaskValue = slotMask.getValue();
+        return new SpdmGetDigestResult(slotMaskValue,
+            getBytes(digestBuffer, countSetBits(slotMaskValue) * hashAlgSize), hashAlgSize);
     }
 
     private String getCertsInternal(int slotId) throws SpdmCommandFailedException {
         log.debug("Sending SPDM GET_CERTIFICATE ...");
 
-        try (final Memory certChain = new CustomMemory(MAX_SPDM_BUFFER_SIZE);
-             final Memory certChainSize = new CustomMemory(Long.BYTES)) {
+        final Memory certChain = spdmContext.getMessageBuffer();
+        try (final Memory certChainSize = new CustomMemory(Long.BYTES)) {
             certChainSize.setLong(0, MAX_SPDM_BUFFER_SIZE);
 
             final LibSpdmReturn status = jnaInterface.libspdm_get_certificate_w(spdmContext.getContext(),
                 null, new Uint8(slotId), certChainSize, certChain);
-            log.debug("CERTIFICATE status: {}", toFormattedHex(status.asLong()));
+            log.atDebug()
+                .addArgument(() -> toFormattedHex(status.asLong()))
+                .log("CERTIFICATE status: {}");
 
             throwOnError(status);
 
@@ -381,8 +391,8 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
     private String getMeasurementsInternal(int slotId) throws SpdmCommandFailedException {
         log.debug("Sending SPDM GET_MEASUREMENTS ...");
 
-        try (final Memory measurementRecord = new CustomMemory(MAX_SPDM_BUFFER_SIZE);
-             final Memory measurementRecordLength = new CustomMemory(Integer.BYTES);
+        final Memory measurementRecord = spdmContext.getMessageBuffer();
+        try (final Memory measurementRecordLength = new CustomMemory(Integer.BYTES);
              final Memory numberOfBlocks = new CustomMemory(Uint8.SIZE)) {
 
             measurementRecordLength.setInt(0, MAX_SPDM_BUFFER_SIZE);
@@ -391,7 +401,9 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
                 getRequestAttributes(), new Uint8(SPDM_GET_MEASUREMENTS_REQUEST_MEASUREMENT_OPERATION_ALL_MEASUREMENTS),
                 new Uint8(slotId), null, numberOfBlocks,
                 measurementRecordLength, measurementRecord);
-            log.debug("MEASUREMENTS status: {}", toFormattedHex(status.asLong()));
+            log.atDebug()
+                .addArgument(() -> toFormattedHex(status.asLong()))
+                .log("MEASUREMENTS status: {}");
 
             throwOnError(status);
 
@@ -418,7 +430,9 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
 
             final LibSpdmReturn setCertStatus = jnaInterface.libspdm_set_certificate_w(spdmContext.getContext(), null,
                 new Uint8(slotId), certChain, new NativeSize(setCertificateBuilder.getLenOfCertChain()));
-            log.debug("Set certificate status: {}", toFormattedHex(setCertStatus.asLong()));
+            log.atDebug()
+                .addArgument(() -> toFormattedHex(setCertStatus.asLong()))
+                .log("Set certificate status: {}");
 
             throwOnError(setCertStatus);
         }
@@ -437,7 +451,9 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
                 new Uint16(0), new Uint8(SPDM_KEY_EXCHANGE_REQUEST_ALL_MEASUREMENTS_HASH),
                 new Uint8(measurementSlotId), new Uint8(0), sessionId, heartbeatPeriod, measurementHash);
 
-            log.debug("KEY_EXCHANGE status: {}", toFormattedHex(status.asLong()));
+            log.atDebug()
+                .addArgument(() -> toFormattedHex(status.asLong()))
+                .log("KEY_EXCHANGE status: {}");
             final byte[] sessionIdBytes = getBytes(sessionId, Uint32.SIZE);
             final byte[] measurementHashBytes = getBytes(measurementHash, SHA384_LEN);
             if (!expectedMeasurementHash.isEmpty()) {
@@ -461,8 +477,8 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
         final int payloadLen = payload.length;
         final int responseBufferLen = MAX_SPDM_BUFFER_SIZE;
 
+        final Memory responseP = spdmContext.getMessageBuffer();
         try (final Memory payloadP = new CustomMemory(payloadLen);
-             final Memory responseP = new CustomMemory(responseBufferLen);
              final Memory responseSizeP = new CustomMemory(Uint64.SIZE)) {
             payloadP.clear(payloadLen);
             responseP.clear(responseBufferLen);
@@ -476,7 +492,9 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
             final LibSpdmReturn status = jnaInterface.libspdm_send_receive_data_w(spdmContext.getContext(),
                 sessionId, false, payloadP, new NativeSize(payloadLen), responseP, responseSizeP);
 
-            log.debug("VENDOR_DEFINED_REQUEST status: {}", toFormattedHex(status.asLong()));
+            log.atDebug()
+                .addArgument(() -> toFormattedHex(status.asLong()))
+                .log("VENDOR_DEFINED_REQUEST status: {}");
 
             throwOnError(status);
 
@@ -490,7 +508,9 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
         final LibSpdmReturn status = jnaInterface.libspdm_stop_session_w(spdmContext.getContext(),
             new Uint32(secureSessionId), new Uint8(0));
 
-        log.debug("END_SESSION status: {}", toFormattedHex(status.asLong()));
+        log.atDebug()
+            .addArgument(() -> toFormattedHex(status.asLong()))
+            .log("END_SESSION status: {}");
 
         throwOnError(status);
     }
@@ -510,11 +530,11 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
         deinitialize();
 
         if (spdmContext != null) {
-            spdmContext.close();
+            jnaInterface.libspdm_unbind_callbacks_w(spdmContext.getContext());
+            getContextPool().release(spdmContext);
             spdmContext = null;
         }
 
-        certificateChain.close();
         sessionId.close();
     }
 }
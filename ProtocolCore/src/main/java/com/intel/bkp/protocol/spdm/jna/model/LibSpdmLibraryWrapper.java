@@ -32,21 +32,49 @@
 
 package com.intel.bkp.protocol.spdm.jna.model;
 
+import com.intel.bkp.protocol.spdm.exceptions.SpdmRuntimeException;
 import com.sun.jna.Library;
 import com.sun.jna.Native;
+import com.sun.jna.NativeLibrary;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.ByteByReference;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 
 public interface LibSpdmLibraryWrapper extends Library {
 
+    /**
+     * Functions added to the wrapper together with SPDM context pooling. JNA resolves functions lazily, so a wrapper
+     * built from older sources would otherwise fail with UnsatisfiedLinkError in the middle of the first session.
+     */
+    List<String> REQUIRED_FUNCTIONS = List.of("libspdm_bind_callbacks_w", "libspdm_unbind_callbacks_w");
+
     static LibSpdmLibraryWrapper getInstance(String wrapperLibraryPath) {
-        return Native.load(wrapperLibraryPath, LibSpdmLibraryWrapper.class);
+        final LibSpdmLibraryWrapper wrapper = Native.load(wrapperLibraryPath, LibSpdmLibraryWrapper.class);
+        verifyRequiredFunctions(wrapperLibraryPath);
+        return wrapper;
+    }
+
+    private static void verifyRequiredFunctions(String wrapperLibraryPath) {
+        final NativeLibrary library = NativeLibrary.getInstance(wrapperLibraryPath);
+        for (String function : REQUIRED_FUNCTIONS) {
+            try {
+                library.getFunction(function);
+            } catch (UnsatisfiedLinkError e) {
+                throw new SpdmRuntimeException(("SPDM wrapper library %s does not export %s - it was built from older "
+                    + "sources. Rebuild spdm_wrapper from this release (see spdm_wrapper/README.md).")
+                    .formatted(wrapperLibraryPath, function), e);
+            }
+        }
     }
 
     void set_callbacks(SessionCallbacks callbacks);
 
+    void libspdm_bind_callbacks_w(Pointer spdmContext, SessionCallbacks callbacks);
+
+    void libspdm_unbind_callbacks_w(Pointer spdmContext);
+
     void libspdm_get_version_w(Pointer spdmContext, ByteBuffer version);
 
     NativeSize libspdm_get_context_size_w();
@@ -37,6 +37,14 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.MAX_LOCAL_CERTIFICATE_CHAIN_SIZE;
+import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.MAX_SPDM_BUFFER_SIZE;
+
+/**
+ * Native memory of libspdm requester context - the context itself, its scratch buffer, buffer for local
+ * certificate chain and buffer for responses. Buffers are allocated once and may be reused by subsequent sessions,
+ * see {@link com.intel.bkp.protocol.spdm.jna.SpdmContextPool}.
+ */
 @Slf4j
 @Getter
 @AllArgsConstructor
@@ -46,19 +54,79 @@ public class SpdmContext implements AutoCloseable {
 
     private Memory scratchBuffer;
     private long scratchBufferSize;
+    private Memory localCertChain;
+    private Memory messageBuffer;
 
     public SpdmContext(long spdmContextSize) {
         this.context = new CustomMemory(spdmContextSize);
     }
 
+    public long getContextSize() {
+        return context.size();
+    }
+
+    /**
+     * Allocates scratch buffer, unless buffer that is already allocated is large enough.
+     */
     public void withScratchBuffer(NativeSize scratchBufferSize) {
-        this.scratchBuffer = new CustomMemory(scratchBufferSize.longValue());
+        final long requiredSize = scratchBufferSize.longValue();
+        if (scratchBuffer != null && scratchBuffer.size() >= requiredSize) {
+            log.trace("Reusing scratch buffer of size: {}", scratchBuffer.size());
+            return;
+        }
+
+        if (scratchBuffer != null) {
+            scratchBuffer.close();
+        }
+        this.scratchBuffer = new CustomMemory(requiredSize);
         this.scratchBufferSize = scratchBuffer.size();
     }
 
+    public Memory getLocalCertChain() {
+        if (localCertChain == null) {
+            localCertChain = new CustomMemory(MAX_LOCAL_CERTIFICATE_CHAIN_SIZE);
+        }
+        return localCertChain;
+    }
+
+    /**
+     * Buffer of {@link SpdmConstants#MAX_SPDM_BUFFER_SIZE} bytes for responses of a single command.
+     * Content is valid only until next command is sent on this context.
+     */
+    public Memory getMessageBuffer() {
+        if (messageBuffer == null) {
+            messageBuffer = new CustomMemory(MAX_SPDM_BUFFER_SIZE);
+        }
+        return messageBuffer;
+    }
+
+    /**
+     * Zeroes the context and all its buffers.
+     */
+    public void clear() {
+        context.clear();
+        if (scratchBuffer != null) {
+            scratchBuffer.clear();
+        }
+        if (localCertChain != null) {
+            localCertChain.clear();
+        }
+        if (messageBuffer != null) {
+            messageBuffer.clear();
+        }
+    }
+
     @Override
     public void close() {
         context.close();
-        scratchBuffer.close();
+        if (scratchBuffer != null) {
+            scratchBuffer.close();
+        }
+        if (localCertChain != null) {
+            localCertChain.close();
+        }
+        if (messageBuffer != null) {
+            messageBuffer.close();
+        }
     }
 }
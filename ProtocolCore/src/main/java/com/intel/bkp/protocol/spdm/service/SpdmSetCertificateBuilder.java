@@ -76,7 +76,10 @@ public class SpdmSetCertificateBuilder {
 
     public byte[] build() {
         final byte[] array = certChainBuffer.array();
-        log.trace("SPDM Certificate (len in bytes with padding: {}): {}", array.length, toHex(array));
+        log.atTrace()
+            .addArgument(array.length)
+            .addArgument(() -> toHex(array))
+            .log("SPDM Certificate (len in bytes with padding: {}): {}");
         return array;
     }
 
@@ -86,7 +89,9 @@ public class SpdmSetCertificateBuilder {
         }
 
         final byte[] rootCertHash = DigestUtils.sha384(certificateChain.get(0));
-        log.debug("Calculated ROOT Cert Chain Hash: {}", toHex(rootCertHash));
+        log.atDebug()
+            .addArgument(() -> toHex(rootCertHash))
+            .log("Calculated ROOT Cert Chain Hash: {}");
         return rootCertHash;
     }
 
@@ -95,12 +100,15 @@ public class SpdmSetCertificateBuilder {
                                           ? lenOfCertChain / WORD_SIZE
                                           : lenOfCertChain / WORD_SIZE + 1;
         final int lenOfCertChainInBytesWithPadding = lenOfCertChainInWords * WORD_SIZE;
-        log.debug("Calculated Cert Chain Len: {} ({}) bytes. "
-                + "Total cert chain len with padding: {} ({}) or {} ({}) words;",
-            lenOfCertChain, toFormattedHex(lenOfCertChain),
-            lenOfCertChainInBytesWithPadding, toFormattedHex(lenOfCertChainInBytesWithPadding),
-            lenOfCertChainInWords, toFormattedHex(lenOfCertChainInWords)
-        );
+        log.atDebug()
+            .addArgument(lenOfCertChain)
+            .addArgument(() -> toFormattedHex(lenOfCertChain))
+            .addArgument(lenOfCertChainInBytesWithPadding)
+            .addArgument(() -> toFormattedHex(lenOfCertChainInBytesWithPadding))
+            .addArgument(lenOfCertChainInWords)
+            .addArgument(() -> toFormattedHex(lenOfCertChainInWords))
+            .log("Calculated Cert Chain Len: {} ({}) bytes. "
+                + "Total cert chain len with padding: {} ({}) or {} ({}) words;");
         return lenOfCertChainInBytesWithPadding;
     }
 
@@ -0,0 +1,198 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.protocol.spdm.jna;
+
+import com.intel.bkp.command.header.CommandHeader;
+import com.intel.bkp.command.header.CommandHeaderManager;
+import com.intel.bkp.command.model.CommandIdentifier;
+import com.intel.bkp.protocol.spdm.jna.model.LibSpdmLibraryWrapper;
+import com.intel.bkp.protocol.spdm.jna.model.MessageSender;
+import com.intel.bkp.protocol.spdm.jna.model.SpdmParametersProvider;
+import com.intel.bkp.protocol.spdm.jna.model.Uint32;
+import com.intel.bkp.protocol.spdm.jna.model.Uint8;
+import com.intel.bkp.test.spdm.SimulatedSpdmDevice;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.SPDM_ALGORITHMS_BASE_ASYM_ALGO_TPM_ALG_ECDSA_ECC_NIST_P384;
+import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.SPDM_ALGORITHMS_BASE_HASH_ALGO_TPM_ALG_SHA_384;
+import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.SPDM_MEASUREMENT_SPECIFICATION_DMTF;
+import static com.intel.bkp.utils.HexConverter.toHex;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs thousands of SPDM sessions of the native libspdm requester against {@link SimulatedSpdmDevice}, several of
+ * them concurrently. Requires the SPDM wrapper library, e.g. {@code ./gradlew :ProtocolCore:test
+ * -PspdmWrapperLibraryPath=/path/to/libspdm_wrapper.so}, and is skipped otherwise.
+ */
+@EnabledIfSystemProperty(named = SpdmContextPoolSessionsTest.WRAPPER_LIBRARY_PATH, matches = ".+")
+class SpdmContextPoolSessionsTest {
+
+    static final String WRAPPER_LIBRARY_PATH = "spdmWrapperLibraryPath";
+
+    private static final int DEVICES = 4;
+    private static final int SESSIONS_PER_DEVICE = 1000;
+    private static final int COMMAND_HEADER_LEN = 4;
+
+    private static LibSpdmLibraryWrapper wrapper;
+
+    private final SpdmContextPool pool = new SpdmContextPool(DEVICES);
+
+    @BeforeAll
+    static void init() {
+        wrapper = LibSpdmLibraryWrapper.getInstance(System.getProperty(WRAPPER_LIBRARY_PATH));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.clear();
+    }
+
+    @Test
+    void concurrentSessions_ReuseContextsAndKeepDevicesApart() throws Exception {
+        // given
+        final List<Callable<Void>> tasks = IntStream.rangeClosed(1, DEVICES)
+            .mapToObj(i -> SimulatedSpdmDevice.generate(String.format("%016X", i)))
+            .map(device -> (Callable<Void>) () -> runSessions(device))
+            .toList();
+        final ExecutorService executor = Executors.newFixedThreadPool(DEVICES);
+
+        // when
+        final List<Future<Void>> results;
+        try {
+            results = executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        for (Future<Void> result : results) {
+            assertDoesNotThrow(() -> result.get());
+        }
+        assertTrue(pool.getAllocatedCount() <= DEVICES);
+    }
+
+    private Void runSessions(SimulatedSpdmDevice device) throws Exception {
+        for (int i = 0; i < SESSIONS_PER_DEVICE; i++) {
+            try (TestSpdmProtocol protocol = new TestSpdmProtocol(new DeviceMessageSender(device), pool)) {
+                protocol.initSpdmConnection();
+                protocol.getDigest();
+                protocol.getCerts(0);
+                final String measurements = protocol.getMeasurements(0);
+
+                device.getIdentity().getMeasurements().values()
+                    .forEach(value -> assertTrue(measurements.contains(toHex(value))));
+            }
+        }
+        return null;
+    }
+
+    private static class TestSpdmProtocol extends SpdmProtocol12 {
+
+        private final SpdmContextPool pool;
+
+        TestSpdmProtocol(MessageSender messageSender, SpdmContextPool pool) {
+            super(messageSender, new TestParametersProvider());
+            this.pool = pool;
+        }
+
+        @Override
+        protected void initializeLibrary() {
+            jnaInterface = wrapper;
+        }
+
+        @Override
+        protected SpdmContextPool getContextPool() {
+            return pool;
+        }
+    }
+
+    private static class TestParametersProvider implements SpdmParametersProvider {
+
+        @Override
+        public Uint8 measurementSpec() {
+            return new Uint8(SPDM_MEASUREMENT_SPECIFICATION_DMTF);
+        }
+
+        @Override
+        public Uint32 baseAsymAlgo() {
+            return new Uint32(SPDM_ALGORITHMS_BASE_ASYM_ALGO_TPM_ALG_ECDSA_ECC_NIST_P384);
+        }
+
+        @Override
+        public Uint32 baseHashAlgo() {
+            return new Uint32(SPDM_ALGORITHMS_BASE_HASH_ALGO_TPM_ALG_SHA_384);
+        }
+    }
+
+    /**
+     * Sends MCTP messages in mailbox MCTP commands, as services do.
+     */
+    @RequiredArgsConstructor
+    private static class DeviceMessageSender implements MessageSender {
+
+        private final SimulatedSpdmDevice device;
+        private byte[] response;
+
+        @Override
+        public void sendMessage(ByteBuffer spdmContext, ByteBuffer buffer) {
+            final byte[] message = new byte[buffer.remaining()];
+            buffer.get(message);
+            final byte[] header = CommandHeaderManager.buildForFw(new CommandHeader(
+                CommandIdentifier.MCTP.getCommandCode(), message.length / Integer.BYTES, 0, 0));
+            response = device.process(ByteBuffer.allocate(header.length + message.length)
+                .put(header)
+                .put(message)
+                .array());
+        }
+
+        @Override
+        public Optional<byte[]> receiveResponse() {
+            return Optional.of(Arrays.copyOfRange(response, COMMAND_HEADER_LEN, response.length));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.protocol.spdm.jna;
+
+import com.intel.bkp.protocol.spdm.jna.model.SpdmContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SpdmContextPoolTest {
+
+    private static final long CONTEXT_SIZE = 64;
+    private static final int SESSIONS = 5000;
+
+    private final SpdmContextPool sut = new SpdmContextPool(2);
+
+    @Test
+    void constructor_WithNegativeMaxIdle_Throws() {
+        // when-then
+        assertThrows(IllegalArgumentException.class, () -> new SpdmContextPool(-1));
+    }
+
+    @Test
+    void acquire_AfterRelease_ReusesContext() {
+        // given
+        final SpdmContext first = sut.acquire(CONTEXT_SIZE);
+        sut.release(first);
+
+        // when
+        final SpdmContext result = sut.acquire(CONTEXT_SIZE);
+
+        // then
+        assertSame(first, result);
+        assertEquals(1, sut.getAllocatedCount());
+    }
+
+    @Test
+    void release_ZeroesContextAndBuffers() {
+        // given
+        final SpdmContext context = sut.acquire(CONTEXT_SIZE);
+        context.getContext().setByte(0, (byte) 1);
+        context.getMessageBuffer().setByte(0, (byte) 1);
+        context.getLocalCertChain().setByte(0, (byte) 1);
+
+        // when
+        sut.release(context);
+
+        // then
+        final SpdmContext result = sut.acquire(CONTEXT_SIZE);
+        assertEquals(0, result.getContext().getByte(0));
+        assertEquals(0, result.getMessageBuffer().getByte(0));
+        assertEquals(0, result.getLocalCertChain().getByte(0));
+    }
+
+    @Test
+    void acquire_ManySequentialSessions_AllocatesOnce() {
+        // when
+        for (int i = 0; i < SESSIONS; i++) {
+            final SpdmContext context = sut.acquire(CONTEXT_SIZE);
+            context.getLocalCertChain();
+            context.getMessageBuffer();
+            sut.release(context);
+        }
+
+        // then
+        assertEquals(1, sut.getAllocatedCount());
+        assertEquals(1, sut.getIdleCount());
+    }
+
+    @Test
+    void acquire_WithDifferentContextSize_AllocatesNewContext() {
+        // given
+        final SpdmContext first = sut.acquire(CONTEXT_SIZE);
+        sut.release(first);
+
+        // when
+        final SpdmContext result = sut.acquire(CONTEXT_SIZE * 2);
+
+        // then
+        assertNotSame(first, result);
+        assertEquals(CONTEXT_SIZE * 2, result.getContextSize());
+        assertEquals(2, sut.getAllocatedCount());
+        assertEquals(0, sut.getIdleCount());
+    }
+
+    @Test
+    void release_AboveMaxIdle_KeepsOnlyMaxIdle() {
+        // given
+        final SpdmContext first = sut.acquire(CONTEXT_SIZE);
+        final SpdmContext second = sut.acquire(CONTEXT_SIZE);
+        final SpdmContext third = sut.acquire(CONTEXT_SIZE);
+
+        // when
+        sut.release(first);
+        sut.release(second);
+        sut.release(third);
+
+        // then
+        assertEquals(2, sut.getIdleCount());
+    }
+
+    @Test
+    void clear_ClosesIdleContexts() {
+        // given
+        sut.release(sut.acquire(CONTEXT_SIZE));
+
+        // when
+        sut.clear();
+
+        // then
+        assertEquals(0, sut.getIdleCount());
+    }
+}
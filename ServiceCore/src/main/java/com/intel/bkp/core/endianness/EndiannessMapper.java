@@ -37,13 +37,11 @@ import com.intel.bkp.utils.ByteSwap;
 import com.intel.bkp.utils.ByteSwapOrder;
 import lombok.Getter;
 
-import java.util.Optional;
-
 public abstract class EndiannessMapper {
 
     private final IStructureType structureType;
 
-    private Optional<IEndiannessMap> endiannessMap;
+    private IEndiannessMap endiannessMap;
 
     @Getter
     private EndiannessActor actor = EndiannessActor.SERVICE;
@@ -83,13 +81,13 @@ public abstract class EndiannessMapper {
     }
 
     private ByteSwapOrder getByteOrder(IStructureField field) {
-        return endiannessMap
-            .map(map -> map.get(field))
-            .orElseThrow(() -> new IllegalStateException("Endianness map is absent."));
+        if (endiannessMap == null) {
+            throw new IllegalStateException("Endianness map is absent.");
+        }
+        return endiannessMap.get(field);
     }
 
     private void setEndiannessMap() {
-        endiannessMap = Optional.ofNullable(structureType)
-            .map(type -> type.getEndiannessMap(actor));
+        endiannessMap = structureType == null ? null : structureType.getEndiannessMap(actor);
     }
 }
@@ -42,11 +42,15 @@ import com.intel.bkp.core.endianness.maps.PsgQekEndiannessMapImpl;
 import com.intel.bkp.core.endianness.maps.PsgSignatureEndiannessMapImpl;
 import com.intel.bkp.core.endianness.maps.RomExtensionStructureEndiannessMapImpl;
 import com.intel.bkp.core.interfaces.IEndiannessMap;
-import lombok.RequiredArgsConstructor;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.function.Function;
 
-@RequiredArgsConstructor
+/**
+ * Endianness maps are immutable after construction, so one instance per actor is built once and shared by all
+ * builders of given structure.
+ */
 public enum StructureType implements IStructureType {
     PSG_BLOCK_0_ENTRY(PsgBlock0EntryEndiannessMapImpl::new),
     PSG_CANCELLABLE_BLOCK0_ENTRY(PsgCancellableBlock0EntryEndiannessMapImpl::new),
@@ -58,10 +62,16 @@ public enum StructureType implements IStructureType {
     ROM_EXT(RomExtensionStructureEndiannessMapImpl::new),
     PSG_QEK_ENTRY(PsgQekEndiannessMapImpl::new);
 
-    private final Function<EndiannessActor, IEndiannessMap> getEndiannessMap;
+    private final Map<EndiannessActor, IEndiannessMap> endiannessMaps = new EnumMap<>(EndiannessActor.class);
+
+    StructureType(Function<EndiannessActor, IEndiannessMap> endiannessMapFactory) {
+        for (EndiannessActor actor : EndiannessActor.values()) {
+            endiannessMaps.put(actor, endiannessMapFactory.apply(actor));
+        }
+    }
 
     @Override
     public IEndiannessMap getEndiannessMap(EndiannessActor actor) {
-        return getEndiannessMap.apply(actor);
+        return endiannessMaps.get(actor);
     }
 }
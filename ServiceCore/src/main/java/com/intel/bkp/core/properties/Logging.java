@@ -39,4 +39,5 @@ import lombok.Setter;
 @Setter
 public class Logging {
     private Logstash logstash;
+    private Tracing tracing = new Tracing();
 }
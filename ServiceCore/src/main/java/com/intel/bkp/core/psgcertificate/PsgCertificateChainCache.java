@@ -0,0 +1,164 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.core.psgcertificate;
+
+import com.intel.bkp.core.psgcertificate.exceptions.PsgInvalidSignatureException;
+import com.intel.bkp.core.psgcertificate.model.CertificateEntryWrapper;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Memoizes PSG chain parsing, decoded public keys and parent/child signature checks by SHA-256 digest of the input.
+ *
+ * <p>The same customer root and signing chains arrive with every request for a configuration, so after the first
+ * request they are neither split nor verified again. Each map is a bounded LRU; evicted entries are simply computed
+ * again. Cached chains are returned as copies, because {@link CertificateEntryWrapper} exposes its content array.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class PsgCertificateChainCache {
+
+    static final int MAX_CHAINS = 256;
+    static final int MAX_LINKS = 1024;
+    static final int MAX_PUBLIC_KEYS = 1024;
+
+    private static final Map<ByteBuffer, List<CertificateEntryWrapper>> CHAINS = lru(MAX_CHAINS);
+    private static final Map<ByteBuffer, Boolean> LINKS = lru(MAX_LINKS);
+    private static final Map<ByteBuffer, PsgPublicKeyHelper> PUBLIC_KEYS = lru(MAX_PUBLIC_KEYS);
+
+    @FunctionalInterface
+    interface LinkVerifier {
+
+        boolean verify(CertificateEntryWrapper parent, CertificateEntryWrapper child)
+            throws PsgInvalidSignatureException;
+    }
+
+    static List<CertificateEntryWrapper> chain(String format, byte[] decodedChain,
+                                               Function<byte[], List<CertificateEntryWrapper>> parser) {
+        final ByteBuffer key = digest(format.getBytes(UTF_8), decodedChain);
+        List<CertificateEntryWrapper> chain = get(CHAINS, key);
+        if (chain == null) {
+            chain = List.copyOf(parser.apply(decodedChain));
+            put(CHAINS, key, chain);
+        }
+        return copyOf(chain);
+    }
+
+    static boolean link(CertificateEntryWrapper parent, CertificateEntryWrapper child, LinkVerifier verifier)
+        throws PsgInvalidSignatureException {
+        final ByteBuffer key = digest(typeOf(parent), parent.getContent(), typeOf(child), child.getContent());
+        final Boolean cached = get(LINKS, key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final boolean verified = verifier.verify(parent, child);
+        put(LINKS, key, verified);
+        return verified;
+    }
+
+    static PsgPublicKeyHelper publicKey(byte[] psgPublicKey) {
+        final ByteBuffer key = digest(psgPublicKey);
+        PsgPublicKeyHelper helper = get(PUBLIC_KEYS, key);
+        if (helper == null) {
+            helper = PsgPublicKeyHelper.from(psgPublicKey);
+            put(PUBLIC_KEYS, key, helper);
+        }
+        return helper;
+    }
+
+    static int size() {
+        synchronized (PsgCertificateChainCache.class) {
+            return CHAINS.size() + LINKS.size() + PUBLIC_KEYS.size();
+        }
+    }
+
+    static void clear() {
+        synchronized (PsgCertificateChainCache.class) {
+            CHAINS.clear();
+            LINKS.clear();
+            PUBLIC_KEYS.clear();
+        }
+    }
+
+    private static List<CertificateEntryWrapper> copyOf(List<CertificateEntryWrapper> chain) {
+        return chain.stream()
+            .map(entry -> new CertificateEntryWrapper(entry.getType(), entry.getContent().clone()))
+            .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static byte[] typeOf(CertificateEntryWrapper entry) {
+        return entry.getType().name().getBytes(UTF_8);
+    }
+
+    private static ByteBuffer digest(byte[]... parts) {
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+        for (byte[] part : parts) {
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(part.length).array());
+            digest.update(part);
+        }
+        return ByteBuffer.wrap(digest.digest());
+    }
+
+    private static <V> V get(Map<ByteBuffer, V> map, ByteBuffer key) {
+        synchronized (PsgCertificateChainCache.class) {
+            return map.get(key);
+        }
+    }
+
+    private static <V> void put(Map<ByteBuffer, V> map, ByteBuffer key, V value) {
+        synchronized (PsgCertificateChainCache.class) {
+            map.putIfAbsent(key, value);
+        }
+    }
+
+    private static <V> Map<ByteBuffer, V> lru(int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+}
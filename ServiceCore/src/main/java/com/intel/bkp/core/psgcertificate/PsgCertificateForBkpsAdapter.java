@@ -48,9 +48,14 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class PsgCertificateForBkpsAdapter {
 
+    private static final String CHAIN_FORMAT = "bkps-hex";
+
     public static List<CertificateEntryWrapper> parse(String encodedChain) {
-        byte[] decodedChain = CertificateEncoder.sanitizeChainPayloadHex(encodedChain);
+        final byte[] decodedChain = CertificateEncoder.sanitizeChainPayloadHex(encodedChain);
+        return PsgCertificateChainCache.chain(CHAIN_FORMAT, decodedChain, PsgCertificateForBkpsAdapter::parseDecoded);
+    }
 
+    private static List<CertificateEntryWrapper> parseDecoded(byte[] decodedChain) {
         ByteBufferSafe decodedChainBuffer = ByteBufferSafe.wrap(decodedChain);
 
         final LinkedList<CertificateEntryWrapper> dataList = new LinkedList<>();
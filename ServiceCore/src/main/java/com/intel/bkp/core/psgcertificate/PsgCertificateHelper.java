@@ -66,6 +66,7 @@ public class PsgCertificateHelper {
     private static final int MIN_CHAIN_LENGTH = 2;
     private static final int MAX_CHAIN_LENGTH = 3;
     private static final String FAILED_TO_CHECK_SIGNATURE = "Failed to check signature";
+    private static final String CHAIN_FORMAT = "base64";
 
     static void verifyEntryMagic(int magic) throws PsgCertificateException {
         if (PUBLIC_KEY_ENTRY_MAGIC != magic) {
@@ -80,8 +81,11 @@ public class PsgCertificateHelper {
     }
 
     public List<CertificateEntryWrapper> getCertificateChainList(String encodedChain) {
-        byte[] decodedChain = CertificateEncoder.sanitizeChainPayloadBase64(encodedChain);
+        final byte[] decodedChain = CertificateEncoder.sanitizeChainPayloadBase64(encodedChain);
+        return PsgCertificateChainCache.chain(CHAIN_FORMAT, decodedChain, PsgCertificateHelper::splitChain);
+    }
 
+    private static List<CertificateEntryWrapper> splitChain(byte[] decodedChain) {
         ByteBufferSafe decryptedDataBuffer = ByteBufferSafe.wrap(decodedChain);
 
         List<CertificateEntryWrapper> dataList = new ArrayList<>();
@@ -101,7 +105,8 @@ public class PsgCertificateHelper {
         return dataList;
     }
 
-    private CertificateEntryWrapper getCertificate(ByteBufferSafe bufferSafe, int length, PsgCertificateType type) {
+    private static CertificateEntryWrapper getCertificate(ByteBufferSafe bufferSafe, int length,
+                                                          PsgCertificateType type) {
         byte[] certificateContent = bufferSafe.arrayFromInt(length);
         bufferSafe.get(certificateContent);
         return new CertificateEntryWrapper(type, certificateContent);
@@ -184,18 +189,22 @@ public class PsgCertificateHelper {
     public boolean verifyParentsByPubKeyRecursive(CertificateEntryWrapper parentEntry,
                                                   Iterator<CertificateEntryWrapper> certificateChainIterator)
         throws PsgInvalidSignatureException {
-        if (certificateChainIterator.hasNext()) {
-            PsgCertificateCommon parsedParentEntry = parseWrappedEntry(parentEntry);
-            CertificateEntryWrapper childEntry = certificateChainIterator.next();
-            PsgCertificateCommon parsedChildEntry = parseWrappedEntry(childEntry);
-            if (sigVerify(parsedParentEntry, parsedChildEntry)) {
-                return verifyParentsByPubKeyRecursive(childEntry, certificateChainIterator);
+        CertificateEntryWrapper parent = parentEntry;
+        while (certificateChainIterator.hasNext()) {
+            final CertificateEntryWrapper child = certificateChainIterator.next();
+            if (!PsgCertificateChainCache.link(parent, child, this::verifyLink)) {
+                return false;
             }
-            return false;
+            parent = child;
         }
         return true;
     }
 
+    private boolean verifyLink(CertificateEntryWrapper parentEntry, CertificateEntryWrapper childEntry)
+        throws PsgInvalidSignatureException {
+        return sigVerify(parseWrappedEntry(parentEntry), parseWrappedEntry(childEntry));
+    }
+
     private PsgCertificateCommon parseWrappedEntry(CertificateEntryWrapper entry) {
         if (entry.getType() == PsgCertificateType.ROOT) {
             return new PsgCertificateRootEntryBuilder().parse(entry.getContent()).build();
@@ -250,13 +259,13 @@ public class PsgCertificateHelper {
     }
 
     private EcSignatureAlgorithm getSignatureAlgorithm(IPsgCertificateWithPubKey entry) {
-        final CurvePoint pubKeyPoint = new PsgPublicKeyBuilder().parse(entry.getPsgPublicKey()).getCurvePoint();
+        final CurvePoint pubKeyPoint = PsgPublicKeyHelper.cached(entry.getPsgPublicKey()).getPoint();
         return EcSignatureAlgorithm.fromCurveSpec(pubKeyPoint.getCurveSpec());
     }
 
     private ECPublicKey decodeKey(IPsgCertificateWithPubKey parent)
         throws PublicKeyHelperException {
-        return (ECPublicKey) PsgPublicKeyHelper.from(parent.getPsgPublicKey()).toPublic();
+        return (ECPublicKey) PsgPublicKeyHelper.cached(parent.getPsgPublicKey()).toPublic();
     }
 
     public void verifyParentsInChainByPubKey(List<CertificateEntryWrapper> certificateChainList)
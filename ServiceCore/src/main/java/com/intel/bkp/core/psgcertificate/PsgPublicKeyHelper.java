@@ -32,10 +32,12 @@
 
 package com.intel.bkp.core.psgcertificate;
 
+import com.intel.bkp.core.exceptions.PublicKeyHelperException;
 import com.intel.bkp.core.utils.PublicKeyHelperBase;
 import com.intel.bkp.crypto.CryptoUtils;
 import com.intel.bkp.crypto.curve.CurvePoint;
 
+import java.security.PublicKey;
 import java.security.interfaces.ECPublicKey;
 
 import static com.intel.bkp.crypto.CryptoUtils.getBytesFromPubKey;
@@ -43,6 +45,7 @@ import static com.intel.bkp.crypto.CryptoUtils.getPubKeyXYLenForPubKey;
 
 public class PsgPublicKeyHelper extends PublicKeyHelperBase {
 
+    private volatile PublicKey publicKey;
 
     public PsgPublicKeyHelper(CurvePoint point) {
         super(point);
@@ -56,6 +59,23 @@ public class PsgPublicKeyHelper extends PublicKeyHelperBase {
         return new PsgPublicKeyHelper(new PsgPublicKeyBuilder().parse(data).getCurvePoint());
     }
 
+    /**
+     * Returns a shared helper for given PSG public key entry, whose {@link #toPublic()} result is decoded only once.
+     */
+    public static PsgPublicKeyHelper cached(byte[] data) {
+        return PsgCertificateChainCache.publicKey(data);
+    }
+
+    @Override
+    public PublicKey toPublic() throws PublicKeyHelperException {
+        PublicKey key = publicKey;
+        if (key == null) {
+            key = super.toPublic();
+            publicKey = key;
+        }
+        return key;
+    }
+
     public String generateFingerprint() {
         return getPoint().generateFingerprint();
     }
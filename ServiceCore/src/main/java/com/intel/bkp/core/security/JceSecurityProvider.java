@@ -337,7 +337,10 @@ public class JceSecurityProvider implements ISecurityProvider {
                 ecProperties.getSignatureAlgorithm(), provider);
 
             final byte[] pubKey = getPubKeyFromSecurityObject(name);
-            log.trace("Object ({}) public key: {}", name, toHex(pubKey));
+            log.atTrace()
+                .addArgument(name)
+                .addArgument(() -> toHex(pubKey))
+                .log("Object ({}) public key: {}");
 
             EcUtils.sigVerify(PublicKeyUtils.toPublicEncoded(pubKey, ecProperties.getKeyName(), provider),
                 content, signature, ecProperties.getSignatureAlgorithm(), provider);
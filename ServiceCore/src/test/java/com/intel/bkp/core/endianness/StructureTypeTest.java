@@ -0,0 +1,68 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.core.endianness;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static com.intel.bkp.core.endianness.StructureField.PSG_CERT_MAGIC;
+import static com.intel.bkp.utils.ByteSwapOrder.CONVERT;
+import static com.intel.bkp.utils.ByteSwapOrder.NONE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class StructureTypeTest {
+
+    @ParameterizedTest
+    @EnumSource(EndiannessActor.class)
+    void getEndiannessMap_CalledTwice_ReturnsSameInstance(EndiannessActor actor) {
+        // when
+        final var first = StructureType.PSG_CERT_ENTRY.getEndiannessMap(actor);
+        final var second = StructureType.PSG_CERT_ENTRY.getEndiannessMap(actor);
+
+        // then
+        assertSame(first, second);
+    }
+
+    @Test
+    void getEndiannessMap_ReturnsMapForGivenActor() {
+        // when
+        final var serviceMap = StructureType.PSG_CERT_ENTRY.getEndiannessMap(EndiannessActor.SERVICE);
+        final var firmwareMap = StructureType.PSG_CERT_ENTRY.getEndiannessMap(EndiannessActor.FIRMWARE);
+
+        // then
+        assertEquals(NONE, serviceMap.get(PSG_CERT_MAGIC));
+        assertEquals(CONVERT, firmwareMap.get(PSG_CERT_MAGIC));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.core.psgcertificate;
+
+import com.intel.bkp.core.psgcertificate.model.CertificateEntryWrapper;
+import com.intel.bkp.core.psgcertificate.model.PsgCertificateType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PsgCertificateChainCacheTest {
+
+    private static final byte[] CHAIN = {1, 2, 3, 4};
+    private static final CertificateEntryWrapper ROOT = new CertificateEntryWrapper(PsgCertificateType.ROOT, CHAIN);
+    private static final CertificateEntryWrapper LEAF =
+        new CertificateEntryWrapper(PsgCertificateType.LEAF, new byte[]{5, 6});
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        PsgCertificateChainCache.clear();
+    }
+
+    @Test
+    void chain_WithSameBytes_ParsesOnceAndReturnsCopies() {
+        // when
+        final List<CertificateEntryWrapper> first = PsgCertificateChainCache.chain("test", CHAIN, this::parse);
+        final List<CertificateEntryWrapper> second = PsgCertificateChainCache.chain("test", CHAIN, this::parse);
+
+        // then
+        assertEquals(1, calls.get());
+        assertArrayEquals(first.get(0).getContent(), second.get(0).getContent());
+        assertNotSame(first.get(0).getContent(), second.get(0).getContent());
+    }
+
+    @Test
+    void chain_WithDifferentFormat_ParsesAgain() {
+        // when
+        PsgCertificateChainCache.chain("first", CHAIN, this::parse);
+        PsgCertificateChainCache.chain("second", CHAIN, this::parse);
+
+        // then
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void link_VerifiesEachPairOnce() throws Exception {
+        // when
+        final boolean first = PsgCertificateChainCache.link(ROOT, LEAF, this::verifyFalse);
+        final boolean second = PsgCertificateChainCache.link(ROOT, LEAF, this::verifyFalse);
+        final boolean reversed = PsgCertificateChainCache.link(LEAF, ROOT, this::verifyFalse);
+
+        // then
+        assertFalse(first);
+        assertFalse(second);
+        assertFalse(reversed);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void link_AboveLimit_EvictsOldestEntries() throws Exception {
+        // when
+        IntStream.range(0, PsgCertificateChainCache.MAX_LINKS + 1).forEach(PsgCertificateChainCacheTest::linkEntry);
+
+        // then
+        assertEquals(PsgCertificateChainCache.MAX_LINKS, PsgCertificateChainCache.size());
+        assertTrue(PsgCertificateChainCache.link(ROOT, entry(0), (parent, child) -> true));
+        assertEquals(PsgCertificateChainCache.MAX_LINKS, PsgCertificateChainCache.size());
+    }
+
+    private List<CertificateEntryWrapper> parse(byte[] chain) {
+        calls.incrementAndGet();
+        return List.of(new CertificateEntryWrapper(PsgCertificateType.ROOT, chain.clone()));
+    }
+
+    private boolean verifyFalse(CertificateEntryWrapper parent, CertificateEntryWrapper child) {
+        calls.incrementAndGet();
+        return false;
+    }
+
+    private static void linkEntry(int index) {
+        try {
+            PsgCertificateChainCache.link(ROOT, entry(index), (parent, child) -> false);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static CertificateEntryWrapper entry(int index) {
+        return new CertificateEntryWrapper(PsgCertificateType.LEAF, new byte[]{(byte) (index >> 8), (byte) index});
+    }
+}
@@ -42,7 +42,11 @@ import org.slf4j.LoggerFactory;
 public class LoggerTestUtil extends ListAppender<ILoggingEvent> {
 
     public static LoggerTestUtil instance(Class<?> testClass) {
-        final Logger logger = (Logger) LoggerFactory.getLogger(testClass);
+        return instance(testClass.getName());
+    }
+
+    public static LoggerTestUtil instance(String loggerName) {
+        final Logger logger = (Logger) LoggerFactory.getLogger(loggerName);
 
         final LoggerTestUtil loggerTestUtil = new LoggerTestUtil();
         loggerTestUtil.setContext((LoggerContext) LoggerFactory.getILoggerFactory());
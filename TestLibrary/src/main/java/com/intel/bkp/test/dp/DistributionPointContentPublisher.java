@@ -0,0 +1,275 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.test.dp;
+
+import com.intel.bkp.core.manufacturing.model.PufType;
+import com.intel.bkp.crypto.CryptoUtils;
+import com.intel.bkp.crypto.x509.generation.X509CertificateBuilder;
+import com.intel.bkp.crypto.x509.generation.X509CertificateBuilderParams;
+import com.intel.bkp.crypto.x509.generation.X509CrlGenerator;
+import com.intel.bkp.crypto.x509.generation.X509CrlIssuerDTO;
+import com.intel.bkp.fpgacerts.dice.subject.DiceCertificateSubject;
+import com.intel.bkp.fpgacerts.model.Family;
+import com.intel.bkp.fpgacerts.url.DistributionPointAddressProvider;
+import com.intel.bkp.fpgacerts.url.params.RimParams;
+import com.intel.bkp.fpgacerts.url.params.RimSignedDataParams;
+import com.intel.bkp.fpgacerts.url.params.S10Params;
+import com.intel.bkp.fpgacerts.url.params.ZipDiceParams;
+import com.intel.bkp.fpgacerts.url.params.parsing.DiceParamsSubjectParser;
+import com.intel.bkp.test.KeyGenUtils;
+import com.intel.bkp.test.model.SerialNumberCrlParams;
+import com.intel.bkp.test.rim.RimGenerator;
+import com.intel.bkp.test.rim.XrimGenerator;
+import com.intel.bkp.test.spdm.SpdmDeviceIdentity;
+import com.intel.bkp.utils.PathUtils;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.bouncycastle.asn1.x500.X500Name;
+
+import java.io.ByteArrayOutputStream;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static com.intel.bkp.fpgacerts.dice.subject.DiceCertificateLevel.DEVICE_ID;
+import static com.intel.bkp.fpgacerts.utils.SkiHelper.getSkiInBase64UrlForDiceSubject;
+import static com.intel.bkp.utils.HexConverter.fromHex;
+import static com.intel.bkp.utils.X509DateBuilderHelper.notAfter;
+import static org.bouncycastle.asn1.x509.KeyUsage.cRLSign;
+import static org.bouncycastle.asn1.x509.KeyUsage.digitalSignature;
+import static org.bouncycastle.asn1.x509.KeyUsage.keyCertSign;
+
+/**
+ * Generates distribution point content - certificate chains, CRLs, ZIPs, CoRIMs and XCoRIMs - and publishes it on a
+ * {@link DistributionPointEmulator} under the same paths that services derive from device parameters.
+ *
+ * <p>Every device certificate is issued by one product family CA, which is issued by one self-signed root, as on the
+ * real distribution point. AIA and CDP extensions point back at the emulator, so chain and CRL fetchers follow them
+ * exactly as in production. Use {@link #getMainPath()}, {@link #CERTS_PATH} and {@link #ZIP_PATH} to configure the
+ * distribution point of the service under test.</p>
+ */
+@Getter
+public class DistributionPointContentPublisher {
+
+    public static final String CERTS_PATH = "content/IPCS/certs/";
+    public static final String ZIP_PATH = "content/IPCS/";
+    private static final String CRLS_PATH = "content/IPCS/crls/";
+    private static final String FAMILY_NAME = Family.AGILEX.getFamilyName();
+    private static final String PUF_TYPE_HEX = PufType.getPufTypeHex(PufType.EFUSE);
+    private static final String CER = ".cer";
+    private static final int VALIDITY_YEARS = 3;
+
+    private final DistributionPointEmulator emulator;
+    private final DistributionPointAddressProvider certsAddressProvider;
+    private final DistributionPointAddressProvider zipAddressProvider;
+
+    private final KeyPair rootKeyPair = KeyGenUtils.genEc384();
+    private final KeyPair familyKeyPair = KeyGenUtils.genEc384();
+    private final String rootCertUrl;
+    private final String rootCrlUrl;
+    private final String familyCertUrl;
+    private final String familyCrlUrl;
+    private final X509Certificate rootCert;
+    private final X509Certificate familyCert;
+
+    public DistributionPointContentPublisher(DistributionPointEmulator emulator) {
+        this.emulator = emulator;
+        this.certsAddressProvider = new DistributionPointAddressProvider(emulator.url(CERTS_PATH));
+        this.zipAddressProvider = new DistributionPointAddressProvider(emulator.url(ZIP_PATH));
+
+        this.rootCertUrl = emulator.url(PathUtils.buildPath(CERTS_PATH, "IPCS_root" + CER));
+        this.rootCrlUrl = emulator.url(PathUtils.buildPath(CRLS_PATH, "IPCS_root.crl"));
+        this.familyCertUrl = emulator.url(PathUtils.buildPath(CERTS_PATH, "IPCS_agilex" + CER));
+        this.familyCrlUrl = emulator.url(PathUtils.buildPath(CRLS_PATH, "IPCS_agilex.crl"));
+
+        this.rootCert = issueRoot(new X500Name("CN=Intel:IPCS:Root"), rootKeyPair);
+        this.familyCert = issue(new X500Name("CN=Intel:IPCS:Agilex"), familyKeyPair.getPublic(), rootCert,
+            rootKeyPair.getPrivate(), rootCertUrl, rootCrlUrl);
+
+        emulator.publish(rootCertUrl, encode(rootCert));
+        emulator.publish(familyCertUrl, encode(familyCert));
+        emulator.publish(rootCrlUrl, generateCrl(rootCert, rootKeyPair));
+        final byte[] familyCrl = generateCrl(familyCert, familyKeyPair);
+        emulator.publish(familyCrlUrl, familyCrl);
+        // DICE services additionally fetch the CRL of the level 1 issuer
+        emulator.publish(familyCrlUrl.replace(".crl", "_L1.crl"), familyCrl);
+    }
+
+    public String getMainPath() {
+        return emulator.getBaseUrl();
+    }
+
+    /**
+     * Publishes an S10 attestation certificate (EFUSE PUF) of the given device.
+     *
+     * @param deviceIdHex device id as received from device
+     *
+     * @return the published device certificate
+     */
+    public X509Certificate publishS10Chain(String deviceIdHex) {
+        final X509Certificate deviceCert = issueDeviceCert(new X500Name("CN=Intel:S10:" + deviceIdHex),
+            KeyGenUtils.genEc384().getPublic());
+        final var s10Params = S10Params.from(fromHex(deviceIdHex), PUF_TYPE_HEX);
+        emulator.publish(certsAddressProvider.getAttestationCertUrl(s10Params), encode(deviceCert));
+        return deviceCert;
+    }
+
+    /**
+     * Publishes a DICE DeviceID certificate of the given device.
+     *
+     * @param uidHex device id in hex
+     *
+     * @return the published DeviceID certificate, which is also a valid input for fetching the chain
+     */
+    public X509Certificate publishDiceChain(String uidHex) {
+        final X509Certificate deviceIdCert = generateDeviceIdCert(uidHex);
+        final var diceParams = DiceParamsSubjectParser.instance().parse(deviceIdCert);
+        emulator.publish(certsAddressProvider.getDeviceIdCertUrl(diceParams), encode(deviceIdCert));
+        return deviceIdCert;
+    }
+
+    /**
+     * Publishes a ZIP with DICE DeviceID, product family and root certificates of the given device.
+     *
+     * @param uidHex device id in hex
+     *
+     * @return parameters from which the ZIP url is built
+     */
+    public ZipDiceParams publishZip(String uidHex) {
+        final X509Certificate deviceIdCert = generateDeviceIdCert(uidHex);
+        final var diceParams = DiceParamsSubjectParser.instance().parse(deviceIdCert);
+        final var zipParams = new ZipDiceParams(diceParams.getId(), uidHex, Family.AGILEX);
+
+        final byte[] zip = zip(List.of(deviceIdCert, familyCert, rootCert));
+        emulator.publish(zipAddressProvider.getZipUrl(zipParams), zip);
+        return zipParams;
+    }
+
+    /**
+     * Generates an SPDM identity of the given device, whose DICE chain is issued by the published product family CA
+     * and points at the published family CRL, so that it can be verified against this distribution point.
+     *
+     * @param uidHex device id in hex, as returned by GET_CHIPID
+     *
+     * @return identity to provision on {@link com.intel.bkp.test.spdm.SpdmResponderEmulator}
+     */
+    public SpdmDeviceIdentity generateSpdmIdentity(String uidHex) {
+        return SpdmDeviceIdentity.generate(uidHex, rootCert, familyCert, familyKeyPair.getPrivate(), familyCrlUrl);
+    }
+
+    public String publishCorim(RimSignedDataParams params, KeyPair signingKey) {
+        final byte[] corim = RimGenerator.instance()
+            .distributionPointUrl(emulator.url(ZIP_PATH))
+            .keyPair(signingKey)
+            .generate();
+        return emulator.publish(certsAddressProvider.getRimSignedDataUrl(params), corim);
+    }
+
+    public String publishXcorim(RimParams params, KeyPair signingKey) {
+        final byte[] xcorim = XrimGenerator.instance()
+            .keyPair(signingKey)
+            .generate();
+        return emulator.publish(certsAddressProvider.getXrimSignedDataUrl(params), xcorim);
+    }
+
+    private X509Certificate generateDeviceIdCert(String uidHex) {
+        final KeyPair deviceIdKeyPair = KeyGenUtils.genEc384();
+        final String subject = DiceCertificateSubject.build(FAMILY_NAME, DEVICE_ID.getCode(),
+            getSkiInBase64UrlForDiceSubject(deviceIdKeyPair.getPublic()), uidHex);
+        return issueDeviceCert(new X500Name(subject), deviceIdKeyPair.getPublic());
+    }
+
+    private X509Certificate issueDeviceCert(X500Name subject, PublicKey publicKey) {
+        return issue(subject, publicKey, familyCert, familyKeyPair.getPrivate(), familyCertUrl, familyCrlUrl);
+    }
+
+    @SneakyThrows
+    private static X509Certificate issueRoot(X500Name subject, KeyPair keyPair) {
+        return getBuilder(subject, subject, keyPair.getPublic())
+            .sign(keyPair.getPrivate());
+    }
+
+    @SneakyThrows
+    private static X509Certificate issue(X500Name subject, PublicKey subjectKey, X509Certificate issuerCert,
+                                         PrivateKey issuerKey, String issuerCertUrl, String crlUrl) {
+        final X500Name issuerName = X500Name.getInstance(issuerCert.getSubjectX500Principal().getEncoded());
+        return getBuilder(subject, issuerName, subjectKey)
+            .withAuthorityKeyIdentifier(issuerCert)
+            .withAuthorityInfoAccess(issuerCertUrl)
+            .withCrlDistributionPoints(crlUrl)
+            .sign(issuerKey);
+    }
+
+    @SneakyThrows
+    private static X509CertificateBuilder getBuilder(X500Name subject, X500Name issuer, PublicKey subjectKey) {
+        final var params = new X509CertificateBuilderParams(subjectKey)
+            .withSubjectName(subject)
+            .withIssuerName(issuer)
+            .withNotAfter(notAfter(VALIDITY_YEARS));
+
+        return new X509CertificateBuilder(params)
+            .withSubjectKeyIdentifier()
+            .withBasicConstraintsForIssuerCertWithUnlimitedPathLength()
+            .withKeyUsage(keyCertSign | digitalSignature | cRLSign);
+    }
+
+    @SneakyThrows
+    private static byte[] generateCrl(X509Certificate issuerCert, KeyPair issuerKeyPair) {
+        final var issuer = new X509CrlIssuerDTO(issuerCert, issuerKeyPair.getPrivate(),
+            CryptoUtils.getBouncyCastleProvider());
+        return X509CrlGenerator.generateCrl(new SerialNumberCrlParams(issuer, new ArrayList<>())).getEncoded();
+    }
+
+    @SneakyThrows
+    private static byte[] encode(X509Certificate certificate) {
+        return certificate.getEncoded();
+    }
+
+    @SneakyThrows
+    private static byte[] zip(List<X509Certificate> certificates) {
+        final var out = new ByteArrayOutputStream();
+        try (var zip = new ZipOutputStream(out)) {
+            for (int i = 0; i < certificates.size(); i++) {
+                zip.putNextEntry(new ZipEntry("cert_" + i + CER));
+                zip.write(encode(certificates.get(i)));
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
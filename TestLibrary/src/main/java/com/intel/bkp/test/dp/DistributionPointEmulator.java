@@ -0,0 +1,366 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.test.dp;
+
+import com.intel.bkp.utils.PathUtils;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.intel.bkp.crypto.impl.HashUtils.generateSha256Fingerprint;
+import static java.net.HttpURLConnection.HTTP_BAD_METHOD;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+
+/**
+ * In-process HTTP distribution point for tests and benchmarks.
+ *
+ * <p>Serves content published with {@link #publish(String, byte[])} on a loopback port. Latency (time to first byte),
+ * bandwidth, failure injection and conditional requests (ETag / Last-Modified) are configurable at any time, also
+ * while requests are being served.</p>
+ */
+@Slf4j
+public class DistributionPointEmulator implements AutoCloseable {
+
+    public static final int DEFAULT_THREADS = 16;
+
+    private static final String GET = "GET";
+    private static final String HEAD = "HEAD";
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_LAST_MODIFIED = "Last-Modified";
+    private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+    private static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+    private static final String HEADER_CONTENT_TYPE = "Content-Type";
+    private static final String CONTENT_TYPE = "application/octet-stream";
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final int NO_BODY = -1;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    @Getter
+    private final String baseUrl;
+    private final Map<String, Resource> resources = new ConcurrentHashMap<>();
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong injectedFailures = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+
+    @Getter
+    private volatile Duration latency = Duration.ZERO;
+    @Getter
+    private volatile long bandwidthBytesPerSecond;
+    @Getter
+    private volatile double failureRate;
+    @Getter
+    private volatile int failureStatus = HTTP_UNAVAILABLE;
+    @Getter
+    private volatile boolean conditionalRequestsEnabled = true;
+
+    private DistributionPointEmulator(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+        final InetSocketAddress address = server.getAddress();
+        this.baseUrl = "http://%s:%d".formatted(address.getAddress().getHostAddress(), address.getPort());
+    }
+
+    public static DistributionPointEmulator start() {
+        return start(DEFAULT_THREADS);
+    }
+
+    @SneakyThrows
+    public static DistributionPointEmulator start(int threads) {
+        final var address = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        final HttpServer server = HttpServer.create(address, 0);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, daemonThreadFactory());
+        server.setExecutor(executor);
+
+        final var emulator = new DistributionPointEmulator(server, executor);
+        server.createContext("/", emulator::handle);
+        server.start();
+        log.debug("Distribution point emulator started: {}", emulator.getBaseUrl());
+        return emulator;
+    }
+
+    /**
+     * Delay applied before the response headers are sent.
+     */
+    public DistributionPointEmulator withLatency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Limits the rate at which response bodies are written. Zero means unlimited.
+     */
+    public DistributionPointEmulator withBandwidth(long bytesPerSecond) {
+        this.bandwidthBytesPerSecond = bytesPerSecond;
+        return this;
+    }
+
+    /**
+     * Answers the given fraction of requests (0.0 - 1.0) with {@code status} instead of the published content.
+     */
+    public DistributionPointEmulator withFailures(double rate, int status) {
+        this.failureRate = rate;
+        this.failureStatus = status;
+        return this;
+    }
+
+    /**
+     * When enabled, responses carry ETag and Last-Modified headers and matching conditional requests are answered
+     * with 304 Not Modified.
+     */
+    public DistributionPointEmulator withConditionalRequests(boolean enabled) {
+        this.conditionalRequestsEnabled = enabled;
+        return this;
+    }
+
+    public String url(String path) {
+        return PathUtils.buildPath(baseUrl, StringUtils.removeStart(path, "/"));
+    }
+
+    /**
+     * Publishes content under the path of the given url (or path). Replacing content changes its ETag.
+     */
+    public String publish(String urlOrPath, byte[] content) {
+        final String path = toPath(urlOrPath);
+        resources.put(path, Resource.of(content));
+        return url(path);
+    }
+
+    public void unpublish(String urlOrPath) {
+        resources.remove(toPath(urlOrPath));
+    }
+
+    public void unpublishAll() {
+        resources.clear();
+    }
+
+    public Statistics getStatistics() {
+        return new Statistics(requests.get(), notModified.get(), injectedFailures.get(), bytesSent.get());
+    }
+
+    public void resetStatistics() {
+        requests.set(0);
+        notModified.set(0);
+        injectedFailures.set(0);
+        bytesSent.set(0);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        log.debug("Distribution point emulator stopped: {}", baseUrl);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            requests.incrementAndGet();
+            sleep(latency);
+            respond(exchange);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        final String method = exchange.getRequestMethod();
+        if (!GET.equals(method) && !HEAD.equals(method)) {
+            exchange.sendResponseHeaders(HTTP_BAD_METHOD, NO_BODY);
+            return;
+        }
+
+        if (shouldFail()) {
+            injectedFailures.incrementAndGet();
+            exchange.sendResponseHeaders(failureStatus, NO_BODY);
+            return;
+        }
+
+        final Resource resource = resources.get(exchange.getRequestURI().getPath());
+        if (resource == null) {
+            exchange.sendResponseHeaders(HTTP_NOT_FOUND, NO_BODY);
+            return;
+        }
+
+        final Headers responseHeaders = exchange.getResponseHeaders();
+        responseHeaders.set(HEADER_CONTENT_TYPE, CONTENT_TYPE);
+        if (conditionalRequestsEnabled) {
+            responseHeaders.set(HEADER_ETAG, resource.etag());
+            responseHeaders.set(HEADER_LAST_MODIFIED, resource.lastModifiedHeader());
+            if (resource.isNotModified(exchange.getRequestHeaders())) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(HTTP_NOT_MODIFIED, NO_BODY);
+                return;
+            }
+        }
+
+        final byte[] content = resource.content();
+        final boolean withBody = GET.equals(method) && content.length > 0;
+        exchange.sendResponseHeaders(HTTP_OK, withBody ? content.length : NO_BODY);
+        if (withBody) {
+            write(exchange.getResponseBody(), content);
+        }
+    }
+
+    private boolean shouldFail() {
+        final double rate = failureRate;
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private void write(OutputStream out, byte[] content) throws IOException {
+        final long bandwidth = bandwidthBytesPerSecond;
+        if (bandwidth <= 0) {
+            out.write(content);
+            bytesSent.addAndGet(content.length);
+            return;
+        }
+
+        final long startNanos = System.nanoTime();
+        int written = 0;
+        while (written < content.length) {
+            final int length = Math.min(CHUNK_SIZE, content.length - written);
+            out.write(content, written, length);
+            out.flush();
+            written += length;
+            bytesSent.addAndGet(length);
+
+            final long expectedNanos = TimeUnit.SECONDS.toNanos(written) / bandwidth;
+            sleep(Duration.ofNanos(expectedNanos - (System.nanoTime() - startNanos)));
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isNegative() || duration.isZero()) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String toPath(String urlOrPath) {
+        final String path = urlOrPath.contains("://") ? URI.create(urlOrPath).getPath() : urlOrPath;
+        return path.startsWith("/") ? path : "/" + path;
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        final var counter = new AtomicInteger();
+        return runnable -> {
+            final var thread = new Thread(runnable, "dp-emulator-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Snapshot of emulator counters.
+     *
+     * @param requests all received requests
+     * @param notModified requests answered with 304 Not Modified
+     * @param injectedFailures requests answered with the configured failure status
+     * @param bytesSent response body bytes written
+     */
+    public record Statistics(long requests, long notModified, long injectedFailures, long bytesSent) {
+
+    }
+
+    private record Resource(byte[] content, String etag, Instant lastModified) {
+
+        private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.RFC_1123_DATE_TIME;
+
+        static Resource of(byte[] content) {
+            final byte[] copy = Arrays.copyOf(content, content.length);
+            final String etag = "\"" + generateSha256Fingerprint(copy) + "\"";
+            return new Resource(copy, etag, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        }
+
+        String lastModifiedHeader() {
+            return HTTP_DATE.format(ZonedDateTime.ofInstant(lastModified, ZoneOffset.UTC));
+        }
+
+        boolean isNotModified(Headers requestHeaders) {
+            final String ifNoneMatch = requestHeaders.getFirst(HEADER_IF_NONE_MATCH);
+            if (ifNoneMatch != null) {
+                return "*".equals(ifNoneMatch.trim()) || Arrays.stream(ifNoneMatch.split(","))
+                    .map(String::trim)
+                    .anyMatch(etag::equals);
+            }
+            return Optional.ofNullable(requestHeaders.getFirst(HEADER_IF_MODIFIED_SINCE))
+                .flatMap(Resource::parseHttpDate)
+                .map(since -> !lastModified.isAfter(since))
+                .orElse(false);
+        }
+
+        private static Optional<Instant> parseHttpDate(String value) {
+            try {
+                return Optional.of(ZonedDateTime.parse(value, HTTP_DATE).toInstant());
+            } catch (DateTimeParseException e) {
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.test.spdm;
+
+import com.intel.bkp.command.exception.CommandHeaderValidationException;
+import com.intel.bkp.command.header.CommandHeader;
+import com.intel.bkp.command.header.CommandHeaderManager;
+import com.intel.bkp.command.header.FwErrorCodes;
+import com.intel.bkp.command.model.CommandIdentifier;
+import com.intel.bkp.utils.ByteBufferSafe;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static com.intel.bkp.utils.HexConverter.fromHex;
+import static com.intel.bkp.utils.HexConverter.toHex;
+
+/**
+ * Software FPGA that answers mailbox commands as sent by services in {@code SEND_PACKET} messages.
+ *
+ * <p>MCTP commands carry SPDM messages in the framing of {@code spdm_wrapper} - a 4 byte MCTP header with message
+ * type in the last byte, followed by the SPDM message padded to full words - and are handled by
+ * {@link SpdmResponderEmulator}. GET_CHIPID returns the device id of the identity. Any other command, including
+ * secured MCTP messages, is answered with UNKNOWN_COMMAND status, as a device without support for it would do.</p>
+ */
+@Slf4j
+@Getter
+public class SimulatedSpdmDevice {
+
+    static final byte SPDM_MESSAGE_TYPE = 0x05;
+    static final byte SECURED_MESSAGE_TYPE = 0x06;
+
+    private static final int COMMAND_HEADER_LEN = 4;
+    private static final int MCTP_HEADER_LEN = 4;
+    private static final int MCTP_MESSAGE_TYPE_POSITION = 3;
+    private static final int WORD_SIZE = Integer.BYTES;
+
+    private final SpdmDeviceIdentity identity;
+    private final SpdmResponderEmulator responder;
+    private volatile Duration responseDelay = Duration.ZERO;
+
+    public SimulatedSpdmDevice(SpdmDeviceIdentity identity) {
+        this.identity = identity;
+        this.responder = new SpdmResponderEmulator(identity);
+    }
+
+    public static SimulatedSpdmDevice generate(String uidHex) {
+        return new SimulatedSpdmDevice(SpdmDeviceIdentity.generate(uidHex));
+    }
+
+    /**
+     * Delays every response, e.g. to model the round trip of JTAG communication.
+     */
+    public SimulatedSpdmDevice withResponseDelay(Duration responseDelay) {
+        this.responseDelay = responseDelay;
+        return this;
+    }
+
+    /**
+     * Executes a single mailbox command.
+     *
+     * @param command command with FW command header, as sent in {@code SEND_PACKET} message
+     *
+     * @return response with FW response header, as returned to services in {@code jtagResponses}
+     */
+    public byte[] process(byte[] command) {
+        delay();
+
+        final int commandCode = parseCommandCode(command);
+        final byte[] arguments = ByteBufferSafe.wrap(command).skip(COMMAND_HEADER_LEN).getRemaining();
+        if (CommandIdentifier.GET_CHIPID.getCommandCode() == commandCode) {
+            return success(fromHex(identity.getUidHex()));
+        }
+        if (CommandIdentifier.MCTP.getCommandCode() == commandCode) {
+            return processMctp(arguments);
+        }
+
+        log.debug("Unsupported command: 0x{}", Integer.toHexString(commandCode));
+        return unknownCommand();
+    }
+
+    private byte[] processMctp(byte[] message) {
+        if (message.length <= MCTP_HEADER_LEN || SPDM_MESSAGE_TYPE != message[MCTP_MESSAGE_TYPE_POSITION]) {
+            log.debug("Unsupported MCTP message: {}", toHex(message));
+            return unknownCommand();
+        }
+
+        final byte[] mctpHeader = Arrays.copyOf(message, MCTP_HEADER_LEN);
+        final byte[] spdmResponse = responder.respond(Arrays.copyOfRange(message, MCTP_HEADER_LEN, message.length));
+        return success(ByteBuffer.allocate(MCTP_HEADER_LEN + spdmResponse.length)
+            .put(mctpHeader)
+            .put(spdmResponse)
+            .array());
+    }
+
+    private static int parseCommandCode(byte[] command) {
+        if (command.length < COMMAND_HEADER_LEN) {
+            throw new IllegalArgumentException("Command is shorter than command header.");
+        }
+
+        try {
+            return CommandHeaderManager.parseFromFw(Arrays.copyOf(command, COMMAND_HEADER_LEN)).getCode();
+        } catch (CommandHeaderValidationException e) {
+            throw new IllegalArgumentException("Failed to parse command header.", e);
+        }
+    }
+
+    private static byte[] success(byte[] data) {
+        final int argumentsLen = (data.length + WORD_SIZE - 1) / WORD_SIZE;
+        return ByteBuffer.allocate(COMMAND_HEADER_LEN + argumentsLen * WORD_SIZE)
+            .put(responseHeader(FwErrorCodes.STATUS_OKAY, argumentsLen))
+            .put(data)
+            .array();
+    }
+
+    private static byte[] unknownCommand() {
+        return responseHeader(FwErrorCodes.UNKNOWN_COMMAND, 0);
+    }
+
+    private static byte[] responseHeader(FwErrorCodes status, int argumentsLen) {
+        return CommandHeaderManager.buildForFw(new CommandHeader(status.getCode(), argumentsLen, 0, 0));
+    }
+
+    @SneakyThrows
+    private void delay() {
+        final Duration delay = responseDelay;
+        if (!delay.isZero()) {
+            Thread.sleep(delay.toMillis());
+        }
+    }
+}
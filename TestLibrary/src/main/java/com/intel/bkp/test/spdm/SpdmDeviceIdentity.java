@@ -0,0 +1,257 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.test.spdm;
+
+import com.intel.bkp.crypto.x509.generation.X509CertificateBuilder;
+import com.intel.bkp.crypto.x509.generation.X509CertificateBuilderParams;
+import com.intel.bkp.fpgacerts.dice.subject.DiceCertificateLevel;
+import com.intel.bkp.fpgacerts.dice.subject.DiceCertificateSubject;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.FwidHashAlg;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.MeasurementType;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoConstants;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoField;
+import com.intel.bkp.fpgacerts.model.Family;
+import com.intel.bkp.test.KeyGenUtils;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.bouncycastle.asn1.ASN1Encodable;
+import org.bouncycastle.asn1.ASN1Integer;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.DEROctetString;
+import org.bouncycastle.asn1.DERSequence;
+import org.bouncycastle.asn1.DERTaggedObject;
+import org.bouncycastle.asn1.DERUTF8String;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.ExtendedKeyUsage;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.KeyPurposeId;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.intel.bkp.fpgacerts.dice.subject.DiceCertificateLevel.ALIAS;
+import static com.intel.bkp.fpgacerts.dice.subject.DiceCertificateLevel.DEVICE_ID;
+import static com.intel.bkp.fpgacerts.dice.subject.DiceCertificateLevel.FIRMWARE;
+import static com.intel.bkp.fpgacerts.dice.tcbinfo.MeasurementType.CMF;
+import static com.intel.bkp.fpgacerts.dice.tcbinfo.MeasurementType.ROM_EXTENSION;
+import static com.intel.bkp.fpgacerts.model.Oid.KEY_PURPOSE_ATTEST_INIT;
+import static com.intel.bkp.fpgacerts.model.Oid.TCG_DICE_MULTI_TCB_INFO;
+import static com.intel.bkp.fpgacerts.model.Oid.TCG_DICE_UEID;
+import static com.intel.bkp.fpgacerts.utils.DeviceIdUtil.getReversed;
+import static com.intel.bkp.fpgacerts.utils.SkiHelper.getSkiInBase64UrlForDiceSubject;
+import static com.intel.bkp.utils.HexConverter.fromHex;
+import static com.intel.bkp.utils.X509DateBuilderHelper.notAfter;
+import static org.bouncycastle.asn1.x509.KeyUsage.cRLSign;
+import static org.bouncycastle.asn1.x509.KeyUsage.digitalSignature;
+import static org.bouncycastle.asn1.x509.KeyUsage.keyCertSign;
+
+/**
+ * Identity presented by {@link SpdmResponderEmulator} - a DICE certificate chain provisioned in slot 0, the private key
+ * of its leaf (Alias) certificate used to sign measurements and the measurement blocks themselves.
+ *
+ * <p>DICE certificates are built as on a real device: subjects carry the byte-reversed device id, every DICE
+ * certificate has a UEID extension with the device id, DeviceID and Firmware certificates carry the ROM extension and
+ * CMF measurements in MultiTcbInfo extensions and the Alias certificate has the attestation key purpose.</p>
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class SpdmDeviceIdentity {
+
+    private static final Family FAMILY = Family.AGILEX;
+    private static final String FAMILY_NAME = FAMILY.getFamilyName();
+    private static final int VALIDITY_YEARS = 3;
+    private static final int DEFAULT_MEASUREMENTS_COUNT = 4;
+    private static final byte UEID_TYPE_CODE = 0x02;
+    private static final byte[] UEID_INTEL_OUI = {0x00, 0x07, (byte) 0xED};
+    private static final int UEID_RESERVED_LEN = 2;
+    private static final byte UEID_TEST_MODE_OFF = 0x00;
+    private static final int UEID_LEN = 16;
+
+    private final String uidHex;
+    private final List<X509Certificate> chain;
+    private final PrivateKey aliasPrivateKey;
+    private final Map<Integer, byte[]> measurements;
+
+    /**
+     * Generates a chain Root -> Family -> DeviceID -> Firmware -> Alias with P-384 keys and DICE subjects carrying
+     * the given device id, and {@value #DEFAULT_MEASUREMENTS_COUNT} SHA-384 measurements derived from it.
+     *
+     * @param uidHex device id in hex, as returned by GET_CHIPID
+     *
+     * @return generated identity
+     */
+    public static SpdmDeviceIdentity generate(String uidHex) {
+        final KeyPair rootKeyPair = KeyGenUtils.genEc384();
+        final KeyPair familyKeyPair = KeyGenUtils.genEc384();
+
+        final X509Certificate rootCert = issue(new X500Name("CN=Intel:IPCS:Root"), rootKeyPair.getPublic(), null,
+            rootKeyPair.getPrivate(), null);
+        final X509Certificate familyCert = issue(new X500Name("CN=Intel:IPCS:Agilex"), familyKeyPair.getPublic(),
+            rootCert, rootKeyPair.getPrivate(), null);
+
+        return generate(uidHex, rootCert, familyCert, familyKeyPair.getPrivate(), null);
+    }
+
+    /**
+     * Generates DeviceID -> Firmware -> Alias certificates of the given device, issued by an existing product family
+     * CA, e.g. the one published on a distribution point emulator.
+     *
+     * @param uidHex device id in hex, as returned by GET_CHIPID
+     * @param rootCert self-signed root certificate
+     * @param familyCert product family certificate issued by the root
+     * @param familyPrivateKey private key of the product family certificate
+     * @param crlUrl CRL distribution point of DeviceID and Firmware certificates, or null to omit the extension
+     *
+     * @return generated identity
+     */
+    public static SpdmDeviceIdentity generate(String uidHex, X509Certificate rootCert, X509Certificate familyCert,
+                                              PrivateKey familyPrivateKey, String crlUrl) {
+        final KeyPair deviceIdKeyPair = KeyGenUtils.genEc384();
+        final KeyPair firmwareKeyPair = KeyGenUtils.genEc384();
+        final KeyPair aliasKeyPair = KeyGenUtils.genEc384();
+        final Extension ueid = ueid(uidHex);
+
+        final X509Certificate deviceIdCert = issue(diceSubject(DEVICE_ID, deviceIdKeyPair, uidHex),
+            deviceIdKeyPair.getPublic(), familyCert, familyPrivateKey, crlUrl, ueid, multiTcbInfo(ROM_EXTENSION));
+        final X509Certificate firmwareCert = issue(diceSubject(FIRMWARE, firmwareKeyPair, uidHex),
+            firmwareKeyPair.getPublic(), deviceIdCert, deviceIdKeyPair.getPrivate(), crlUrl, ueid, multiTcbInfo(CMF));
+        final X509Certificate aliasCert = issue(diceSubject(ALIAS, aliasKeyPair, uidHex),
+            aliasKeyPair.getPublic(), firmwareCert, firmwareKeyPair.getPrivate(), null, ueid, attestationKeyPurpose());
+
+        return new SpdmDeviceIdentity(uidHex, List.of(rootCert, familyCert, deviceIdCert, firmwareCert, aliasCert),
+            aliasKeyPair.getPrivate(), generateMeasurements(uidHex));
+    }
+
+    public static SpdmDeviceIdentity from(String uidHex, List<X509Certificate> chain, PrivateKey aliasPrivateKey,
+                                          Map<Integer, byte[]> measurements) {
+        return new SpdmDeviceIdentity(uidHex, List.copyOf(chain), aliasPrivateKey,
+            Collections.unmodifiableMap(new TreeMap<>(measurements)));
+    }
+
+    private static Map<Integer, byte[]> generateMeasurements(String uidHex) {
+        final Map<Integer, byte[]> measurements = new TreeMap<>();
+        for (int index = 1; index <= DEFAULT_MEASUREMENTS_COUNT; index++) {
+            measurements.put(index, DigestUtils.sha384(("measurement-" + index + "-" + uidHex)
+                .getBytes(StandardCharsets.UTF_8)));
+        }
+        return Collections.unmodifiableMap(measurements);
+    }
+
+    private static X500Name diceSubject(DiceCertificateLevel level, KeyPair keyPair, String uidHex) {
+        return new X500Name(DiceCertificateSubject.build(FAMILY_NAME, level.getCode(),
+            getSkiInBase64UrlForDiceSubject(keyPair.getPublic()), getReversed(uidHex).toLowerCase(Locale.ROOT)));
+    }
+
+    @SneakyThrows
+    private static Extension ueid(String uidHex) {
+        final byte[] value = ByteBuffer.allocate(UEID_LEN)
+            .put(UEID_TYPE_CODE)
+            .put(UEID_INTEL_OUI)
+            .put(new byte[UEID_RESERVED_LEN])
+            .put(FAMILY.getFamilyId())
+            .put(UEID_TEST_MODE_OFF)
+            .put(fromHex(uidHex))
+            .array();
+        return Extension.create(new ASN1ObjectIdentifier(TCG_DICE_UEID.getOid()), false,
+            new DERSequence(new DEROctetString(value)));
+    }
+
+    /**
+     * Firmware measurements are the same on every device, so they depend only on the measurement type.
+     */
+    @SneakyThrows
+    private static Extension multiTcbInfo(MeasurementType measurementType) {
+        final var fwid = new DERSequence(new ASN1Encodable[]{
+            new ASN1ObjectIdentifier(FwidHashAlg.FWIDS_HASH_ALG_SHA384.getOid()),
+            new DEROctetString(DigestUtils.sha384(measurementType.name().getBytes(StandardCharsets.UTF_8)))
+        });
+        final var tcbInfo = new DERSequence(new ASN1Encodable[]{
+            tcbInfoField(TcbInfoField.VENDOR, new DERUTF8String(TcbInfoConstants.VENDOR)),
+            tcbInfoField(TcbInfoField.MODEL, new DERUTF8String(FAMILY_NAME)),
+            tcbInfoField(TcbInfoField.LAYER, new ASN1Integer(measurementType.getLayer())),
+            tcbInfoField(TcbInfoField.INDEX, new ASN1Integer(TcbInfoConstants.INDEX)),
+            tcbInfoField(TcbInfoField.FWIDS, new DERSequence(fwid))
+        });
+        return Extension.create(new ASN1ObjectIdentifier(TCG_DICE_MULTI_TCB_INFO.getOid()), true,
+            new DERSequence(tcbInfo));
+    }
+
+    private static DERTaggedObject tcbInfoField(TcbInfoField field, ASN1Encodable value) {
+        return new DERTaggedObject(false, field.ordinal(), value);
+    }
+
+    @SneakyThrows
+    private static Extension attestationKeyPurpose() {
+        return Extension.create(Extension.extendedKeyUsage, false,
+            new ExtendedKeyUsage(KeyPurposeId.getInstance(new ASN1ObjectIdentifier(KEY_PURPOSE_ATTEST_INIT.getOid()))));
+    }
+
+    @SneakyThrows
+    private static X509Certificate issue(X500Name subject, PublicKey subjectKey, X509Certificate issuerCert,
+                                         PrivateKey issuerKey, String crlUrl, Extension... extensions) {
+        final X500Name issuerName = issuerCert == null
+                                    ? subject
+                                    : X500Name.getInstance(issuerCert.getSubjectX500Principal().getEncoded());
+        final var params = new X509CertificateBuilderParams(subjectKey)
+            .withSubjectName(subject)
+            .withIssuerName(issuerName)
+            .withNotAfter(notAfter(VALIDITY_YEARS));
+
+        final var builder = new X509CertificateBuilder(params)
+            .withSubjectKeyIdentifier()
+            .withBasicConstraintsForIssuerCertWithUnlimitedPathLength()
+            .withKeyUsage(keyCertSign | digitalSignature | cRLSign);
+        if (issuerCert != null) {
+            builder.withAuthorityKeyIdentifier(issuerCert);
+        }
+        if (crlUrl != null) {
+            builder.withCrlDistributionPoints(crlUrl);
+        }
+        for (Extension extension : extensions) {
+            builder.withExtension(extension);
+        }
+        return builder.sign(issuerKey);
+    }
+}
@@ -0,0 +1,489 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.test.spdm;
+
+import com.intel.bkp.crypto.CryptoUtils;
+import com.intel.bkp.crypto.curve.CurvePoint;
+import com.intel.bkp.crypto.curve.CurveSpec;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static com.intel.bkp.crypto.constants.CryptoConstants.SHA384_LEN;
+import static com.intel.bkp.crypto.constants.CryptoConstants.SHA384_WITH_ECDSA;
+import static com.intel.bkp.utils.HexConverter.toHex;
+
+/**
+ * Pure-Java SPDM 1.2 responder that answers the requests sent by the libspdm requester used in services.
+ *
+ * <p>Supported requests: GET_VERSION, GET_CAPABILITIES, NEGOTIATE_ALGORITHMS, GET_DIGESTS, GET_CERTIFICATE,
+ * GET_MEASUREMENTS (with and without signature) and SET_CERTIFICATE. Only the algorithms negotiated by services are
+ * offered - ECDSA P-384, SHA-384 and DMTF measurement specification. Secure sessions (KEY_EXCHANGE, FINISH and secured
+ * messages) are not implemented, so KEY_EX_CAP is not advertised by default and such requests are answered with
+ * ERROR(UnsupportedRequest).</p>
+ *
+ * <p>Requests are expected without transport framing, but may carry trailing padding - the length of every request
+ * is derived from its content, so the transcript used for measurement signatures matches the one of the requester.
+ * An instance keeps connection state and is thread-safe, but represents a single device.</p>
+ */
+@Slf4j
+public class SpdmResponderEmulator {
+
+    public static final int CERT_CAP = 0x00000002;
+    public static final int MEAS_CAP_SIG = 0x00000010;
+    public static final int KEY_EX_CAP = 0x00000200;
+    public static final int SET_CERT_CAP = 0x00080000;
+    public static final int DEFAULT_CAPABILITIES = CERT_CAP | MEAS_CAP_SIG | SET_CERT_CAP;
+
+    static final byte SPDM_VERSION_10 = 0x10;
+    static final byte SPDM_VERSION_12 = 0x12;
+
+    static final byte GET_DIGESTS = (byte) 0x81;
+    static final byte GET_CERTIFICATE = (byte) 0x82;
+    static final byte GET_VERSION = (byte) 0x84;
+    static final byte GET_MEASUREMENTS = (byte) 0xE0;
+    static final byte GET_CAPABILITIES = (byte) 0xE1;
+    static final byte NEGOTIATE_ALGORITHMS = (byte) 0xE3;
+    static final byte SET_CERTIFICATE = (byte) 0xEE;
+
+    static final byte DIGESTS = 0x01;
+    static final byte CERTIFICATE = 0x02;
+    static final byte VERSION = 0x04;
+    static final byte MEASUREMENTS = 0x60;
+    static final byte CAPABILITIES = 0x61;
+    static final byte ALGORITHMS = 0x63;
+    static final byte SET_CERTIFICATE_RSP = 0x6E;
+    static final byte ERROR = 0x7F;
+
+    static final byte ERROR_INVALID_REQUEST = 0x01;
+    static final byte ERROR_UNEXPECTED_REQUEST = 0x04;
+    static final byte ERROR_UNSUPPORTED_REQUEST = 0x07;
+    static final byte ERROR_VERSION_MISMATCH = 0x41;
+
+    private static final int HEADER_LEN = 4;
+    private static final int CAPABILITIES_LEN = 20;
+    private static final int NEGOTIATE_ALGORITHMS_FIXED_LEN = 32;
+    private static final int ALGORITHMS_FIXED_LEN = 36;
+    private static final int ALG_STRUCT_LEN = 4;
+    private static final int GET_CERTIFICATE_LEN = 8;
+    private static final int NONCE_LEN = 32;
+    private static final int SIGNED_GET_MEASUREMENTS_LEN = HEADER_LEN + NONCE_LEN + 1;
+    private static final int CERT_CHAIN_HEADER_LEN = 4 + SHA384_LEN;
+    private static final int MAX_SLOTS = 8;
+
+    private static final byte CT_EXPONENT = 0x0E;
+    private static final int DATA_TRANSFER_SIZE = 4096;
+    private static final short SPDM_VERSION_12_ENTRY = 0x1200;
+    private static final byte MEASUREMENT_SPEC_DMTF = 0x01;
+    private static final byte OPAQUE_DATA_FORMAT_1 = 0x02;
+    private static final int MEAS_HASH_SHA_384 = 0x04;
+    private static final int BASE_ASYM_ECDSA_P384 = 0x80;
+    private static final int BASE_HASH_SHA_384 = 0x02;
+    private static final int DHE_SECP_384_R1 = 0x10;
+    private static final int AEAD_AES_256_GCM = 0x02;
+    private static final int KEY_SCHEDULE_HMAC_HASH = 0x01;
+    private static final byte ALG_TYPE_DHE = 2;
+    private static final byte ALG_TYPE_AEAD = 3;
+    private static final byte ALG_TYPE_REQ_BASE_ASYM = 4;
+    private static final byte ALG_TYPE_KEY_SCHEDULE = 5;
+    private static final byte ALG_COUNT_FIXED_2_BYTES = 0x20;
+    private static final byte MEASUREMENT_SIGNATURE_REQUESTED = 0x01;
+    private static final byte MEASUREMENT_OPERATION_TOTAL_NUMBER = 0x00;
+    private static final byte MEASUREMENT_OPERATION_ALL = (byte) 0xFF;
+    private static final byte DMTF_MEASUREMENT_TYPE_MUTABLE_FIRMWARE = 0x01;
+
+    private static final byte[] SPDM_PREFIX = "dmtf-spdm-v1.2.*".repeat(4).getBytes(StandardCharsets.UTF_8);
+    private static final String MEASUREMENTS_SIGNING_CONTEXT = "responder-measurements signing";
+    private static final int COMBINED_SPDM_PREFIX_LEN = 100;
+
+    private final SecureRandom random = new SecureRandom();
+    private final SpdmDeviceIdentity identity;
+    private final Map<Integer, byte[]> certificateChains = new TreeMap<>();
+    private final ByteArrayOutputStream messageA = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream messageM = new ByteArrayOutputStream();
+    private int capabilities = DEFAULT_CAPABILITIES;
+    private boolean negotiated;
+
+    public SpdmResponderEmulator(SpdmDeviceIdentity identity) {
+        this.identity = identity;
+        this.certificateChains.put(0, buildCertificateChain(identity.getChain()));
+    }
+
+    public synchronized SpdmResponderEmulator withCapabilities(int capabilities) {
+        this.capabilities = capabilities;
+        return this;
+    }
+
+    public synchronized boolean isSlotProvisioned(int slotId) {
+        return certificateChains.containsKey(slotId);
+    }
+
+    /**
+     * Handles a single SPDM request.
+     *
+     * @param request SPDM request starting with SPDM header, optionally followed by padding
+     *
+     * @return SPDM response
+     */
+    public synchronized byte[] respond(byte[] request) {
+        if (request.length < HEADER_LEN) {
+            return error(ERROR_INVALID_REQUEST, 0);
+        }
+
+        final byte version = request[0];
+        final byte code = request[1];
+        if (GET_VERSION == code) {
+            return getVersion(request);
+        }
+        if (SPDM_VERSION_12 != version) {
+            return error(ERROR_VERSION_MISMATCH, 0);
+        }
+
+        return switch (code) {
+            case GET_CAPABILITIES -> getCapabilities(request);
+            case NEGOTIATE_ALGORITHMS -> negotiateAlgorithms(request);
+            case GET_DIGESTS -> whenNegotiated(this::getDigests);
+            case GET_CERTIFICATE -> whenNegotiated(() -> getCertificate(request));
+            case GET_MEASUREMENTS -> whenNegotiated(() -> getMeasurements(request));
+            case SET_CERTIFICATE -> whenNegotiated(() -> setCertificate(request));
+            default -> {
+                log.debug("Unsupported SPDM request: {}", toHex(code));
+                yield error(ERROR_UNSUPPORTED_REQUEST, code);
+            }
+        };
+    }
+
+    private byte[] getVersion(byte[] request) {
+        messageA.reset();
+        messageM.reset();
+        negotiated = false;
+
+        final byte[] response = ByteBuffer.allocate(HEADER_LEN + 4)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .put(header(SPDM_VERSION_10, VERSION, 0, 0))
+            .put((byte) 0)
+            .put((byte) 1)
+            .putShort(SPDM_VERSION_12_ENTRY)
+            .array();
+        appendTranscript(messageA, request, HEADER_LEN, response);
+        return response;
+    }
+
+    private byte[] getCapabilities(byte[] request) {
+        if (request.length < CAPABILITIES_LEN) {
+            return error(ERROR_INVALID_REQUEST, 0);
+        }
+
+        final byte[] response = ByteBuffer.allocate(CAPABILITIES_LEN)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .put(header(SPDM_VERSION_12, CAPABILITIES, 0, 0))
+            .put((byte) 0)
+            .put(CT_EXPONENT)
+            .putShort((short) 0)
+            .putInt(capabilities)
+            .putInt(DATA_TRANSFER_SIZE)
+            .putInt(DATA_TRANSFER_SIZE)
+            .array();
+        appendTranscript(messageA, request, CAPABILITIES_LEN, response);
+        return response;
+    }
+
+    private byte[] negotiateAlgorithms(byte[] request) {
+        if (request.length < NEGOTIATE_ALGORITHMS_FIXED_LEN) {
+            return error(ERROR_INVALID_REQUEST, 0);
+        }
+
+        final ByteBuffer buffer = ByteBuffer.wrap(request).order(ByteOrder.LITTLE_ENDIAN);
+        final int algStructCount = request[2] & 0xFF;
+        final int length = Short.toUnsignedInt(buffer.getShort(4));
+        if (length < NEGOTIATE_ALGORITHMS_FIXED_LEN || length > request.length) {
+            return error(ERROR_INVALID_REQUEST, 0);
+        }
+
+        final byte measurementSpec = buffer.get(6);
+        final byte otherParams = buffer.get(7);
+        final int baseAsym = buffer.getInt(8);
+        final int baseHash = buffer.getInt(12);
+        final int extAsymCount = buffer.get(28) & 0xFF;
+        final int extHashCount = buffer.get(29) & 0xFF;
+
+        final boolean measurementsSupported = (capabilities & MEAS_CAP_SIG) != 0;
+        final boolean keyExchangeSupported = (capabilities & KEY_EX_CAP) != 0;
+
+        final ByteBuffer response = ByteBuffer.allocate(ALGORITHMS_FIXED_LEN + algStructCount * ALG_STRUCT_LEN)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .put(header(SPDM_VERSION_12, ALGORITHMS, algStructCount, 0))
+            .putShort((short) (ALGORITHMS_FIXED_LEN + algStructCount * ALG_STRUCT_LEN))
+            .put((byte) (measurementSpec & MEASUREMENT_SPEC_DMTF))
+            .put((byte) (otherParams & OPAQUE_DATA_FORMAT_1))
+            .putInt(measurementsSupported ? MEAS_HASH_SHA_384 : 0)
+            .putInt(baseAsym & BASE_ASYM_ECDSA_P384)
+            .putInt(baseHash & BASE_HASH_SHA_384)
+            .put(new byte[12])
+            .put((byte) 0)
+            .put((byte) 0)
+            .putShort((short) 0);
+
+        int position = NEGOTIATE_ALGORITHMS_FIXED_LEN + (extAsymCount + extHashCount) * Integer.BYTES;
+        for (int i = 0; i < algStructCount && position + ALG_STRUCT_LEN <= length; i++) {
+            final byte algType = buffer.get(position);
+            final int algCount = buffer.get(position + 1) & 0xFF;
+            final int supported = Short.toUnsignedInt(buffer.getShort(position + 2));
+            response
+                .put(algType)
+                .put(ALG_COUNT_FIXED_2_BYTES)
+                .putShort((short) selectAlgorithm(algType, supported, keyExchangeSupported));
+            position += ALG_STRUCT_LEN + (algCount & 0x0F) * Integer.BYTES;
+        }
+
+        final byte[] responseBytes = response.array();
+        appendTranscript(messageA, request, length, responseBytes);
+        negotiated = true;
+        return responseBytes;
+    }
+
+    private static int selectAlgorithm(byte algType, int supported, boolean keyExchangeSupported) {
+        return switch (algType) {
+            case ALG_TYPE_DHE -> keyExchangeSupported ? supported & DHE_SECP_384_R1 : 0;
+            case ALG_TYPE_AEAD -> keyExchangeSupported ? supported & AEAD_AES_256_GCM : 0;
+            case ALG_TYPE_REQ_BASE_ASYM -> keyExchangeSupported ? supported & BASE_ASYM_ECDSA_P384 : 0;
+            case ALG_TYPE_KEY_SCHEDULE -> keyExchangeSupported ? supported & KEY_SCHEDULE_HMAC_HASH : 0;
+            default -> 0;
+        };
+    }
+
+    private byte[] getDigests() {
+        int slotMask = 0;
+        final ByteArrayOutputStream digests = new ByteArrayOutputStream();
+        for (Map.Entry<Integer, byte[]> slot : certificateChains.entrySet()) {
+            slotMask |= 1 << slot.getKey();
+            digests.writeBytes(DigestUtils.sha384(slot.getValue()));
+        }
+
+        return ByteBuffer.allocate(HEADER_LEN + digests.size())
+            .put(header(SPDM_VERSION_12, DIGESTS, 0, slotMask))
+            .put(digests.toByteArray())
+            .array();
+    }
+
+    private byte[] getCertificate(byte[] request) {
+        if (request.length < GET_CERTIFICATE_LEN) {
+            return error(ERROR_INVALID_REQUEST, 0);
+        }
+
+        final ByteBuffer buffer = ByteBuffer.wrap(request).order(ByteOrder.LITTLE_ENDIAN);
+        final int slotId = request[2] & 0x0F;
+        final int offset = Short.toUnsignedInt(buffer.getShort(4));
+        final int length = Short.toUnsignedInt(buffer.getShort(6));
+        final byte[] chain = certificateChains.get(slotId);
+        if (chain == null || offset >= chain.length) {
+            return error(ERROR_INVALID_REQUEST, 0);
+        }
+
+        final int portionLength = Math.min(Math.min(length, chain.length - offset),
+            DATA_TRANSFER_SIZE - GET_CERTIFICATE_LEN);
+        final int remainderLength = chain.length - offset - portionLength;
+        return ByteBuffer.allocate(GET_CERTIFICATE_LEN + portionLength)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .put(header(SPDM_VERSION_12, CERTIFICATE, slotId, 0))
+            .putShort((short) portionLength)
+            .putShort((short) remainderLength)
+            .put(chain, offset, portionLength)
+            .array();
+    }
+
+    private byte[] getMeasurements(byte[] request) {
+        final boolean signatureRequested = (request[2] & MEASUREMENT_SIGNATURE_REQUESTED) != 0;
+        final int requestLength = signatureRequested ? SIGNED_GET_MEASUREMENTS_LEN : HEADER_LEN;
+        if (request.length < requestLength) {
+            return error(ERROR_INVALID_REQUEST, 0);
+        }
+
+        final byte operation = request[3];
+        final int slotId = signatureRequested ? request[SIGNED_GET_MEASUREMENTS_LEN - 1] & 0x0F : 0;
+        if (signatureRequested && !certificateChains.containsKey(slotId)) {
+            return error(ERROR_INVALID_REQUEST, 0);
+        }
+
+        final Map<Integer, byte[]> measurements = identity.getMeasurements();
+        final ByteArrayOutputStream record = new ByteArrayOutputStream();
+        int numberOfBlocks = 0;
+        int totalNumber = 0;
+        if (MEASUREMENT_OPERATION_TOTAL_NUMBER == operation) {
+            totalNumber = measurements.size();
+        } else if (MEASUREMENT_OPERATION_ALL == operation) {
+            for (Map.Entry<Integer, byte[]> measurement : measurements.entrySet()) {
+                record.writeBytes(measurementBlock(measurement.getKey(), measurement.getValue()));
+                numberOfBlocks++;
+            }
+        } else {
+            final int index = operation & 0xFF;
+            final byte[] value = measurements.get(index);
+            if (value == null) {
+                return error(ERROR_INVALID_REQUEST, 0);
+            }
+            record.writeBytes(measurementBlock(index, value));
+            numberOfBlocks++;
+        }
+
+        final byte[] nonce = new byte[NONCE_LEN];
+        random.nextBytes(nonce);
+        final int recordLength = record.size();
+        final byte[] response = ByteBuffer.allocate(HEADER_LEN + 4 + recordLength + NONCE_LEN + Short.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .put(header(SPDM_VERSION_12, MEASUREMENTS, totalNumber, slotId))
+            .put((byte) numberOfBlocks)
+            .put((byte) recordLength)
+            .put((byte) (recordLength >> 8))
+            .put((byte) (recordLength >> 16))
+            .put(record.toByteArray())
+            .put(nonce)
+            .putShort((short) 0)
+            .array();
+
+        appendTranscript(messageM, request, requestLength, response);
+        if (!signatureRequested) {
+            return response;
+        }
+
+        final byte[] signature = sign(concat(messageA.toByteArray(), messageM.toByteArray()));
+        messageM.reset();
+        return concat(response, signature);
+    }
+
+    private byte[] setCertificate(byte[] request) {
+        if ((capabilities & SET_CERT_CAP) == 0) {
+            return error(ERROR_UNSUPPORTED_REQUEST, SET_CERTIFICATE);
+        }
+
+        final int slotId = request[2] & 0x0F;
+        if (slotId >= MAX_SLOTS || request.length < HEADER_LEN + CERT_CHAIN_HEADER_LEN) {
+            return error(ERROR_INVALID_REQUEST, 0);
+        }
+
+        final int chainLength = Short.toUnsignedInt(ByteBuffer.wrap(request).order(ByteOrder.LITTLE_ENDIAN)
+            .getShort(HEADER_LEN));
+        if (chainLength < CERT_CHAIN_HEADER_LEN || HEADER_LEN + chainLength > request.length) {
+            return error(ERROR_INVALID_REQUEST, 0);
+        }
+
+        certificateChains.put(slotId, Arrays.copyOfRange(request, HEADER_LEN, HEADER_LEN + chainLength));
+        log.debug("Certificate chain provisioned in slot {} of device {}.", slotId, identity.getUidHex());
+        return header(SPDM_VERSION_12, SET_CERTIFICATE_RSP, slotId, 0);
+    }
+
+    private byte[] whenNegotiated(Supplier<byte[]> supplier) {
+        return negotiated ? supplier.get() : error(ERROR_UNEXPECTED_REQUEST, 0);
+    }
+
+    private static byte[] measurementBlock(int index, byte[] value) {
+        final int dmtfMeasurementLen = 3 + value.length;
+        return ByteBuffer.allocate(4 + dmtfMeasurementLen)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .put((byte) index)
+            .put(MEASUREMENT_SPEC_DMTF)
+            .putShort((short) dmtfMeasurementLen)
+            .put(DMTF_MEASUREMENT_TYPE_MUTABLE_FIRMWARE)
+            .putShort((short) value.length)
+            .put(value)
+            .array();
+    }
+
+    @SneakyThrows
+    private byte[] sign(byte[] transcript) {
+        final byte[] contextBytes = MEASUREMENTS_SIGNING_CONTEXT.getBytes(StandardCharsets.UTF_8);
+        final byte[] dataToSign = ByteBuffer.allocate(COMBINED_SPDM_PREFIX_LEN + SHA384_LEN)
+            .put(SPDM_PREFIX)
+            .position(COMBINED_SPDM_PREFIX_LEN - contextBytes.length)
+            .put(contextBytes)
+            .put(DigestUtils.sha384(transcript))
+            .array();
+
+        final Signature signature = Signature.getInstance(SHA384_WITH_ECDSA, CryptoUtils.getBouncyCastleProvider());
+        signature.initSign(identity.getAliasPrivateKey());
+        signature.update(dataToSign);
+        return CurvePoint.fromSignature(signature.sign(), () -> CurveSpec.C384).getAlignedDataToSize();
+    }
+
+    @SneakyThrows
+    private static byte[] buildCertificateChain(List<X509Certificate> chain) {
+        final ByteArrayOutputStream certificates = new ByteArrayOutputStream();
+        for (X509Certificate certificate : chain) {
+            certificates.writeBytes(certificate.getEncoded());
+        }
+
+        final int length = CERT_CHAIN_HEADER_LEN + certificates.size();
+        return ByteBuffer.allocate(length)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .putShort((short) length)
+            .putShort((short) 0)
+            .put(DigestUtils.sha384(chain.get(0).getEncoded()))
+            .put(certificates.toByteArray())
+            .array();
+    }
+
+    private static void appendTranscript(ByteArrayOutputStream transcript, byte[] request, int requestLength,
+                                         byte[] response) {
+        transcript.write(request, 0, requestLength);
+        transcript.writeBytes(response);
+    }
+
+    private static byte[] error(byte errorCode, int errorData) {
+        return header(SPDM_VERSION_12, ERROR, errorCode, errorData);
+    }
+
+    private static byte[] header(byte version, byte code, int param1, int param2) {
+        return new byte[]{version, code, (byte) param1, (byte) param2};
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        return ByteBuffer.allocate(first.length + second.length)
+            .put(first)
+            .put(second)
+            .array();
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.test.dp;
+
+import com.intel.bkp.core.manufacturing.model.PufType;
+import com.intel.bkp.fpgacerts.url.params.S10Params;
+import com.intel.bkp.fpgacerts.url.params.parsing.DiceParamsSubjectParser;
+import com.intel.bkp.test.spdm.SpdmDeviceIdentity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.zip.ZipInputStream;
+
+import static com.intel.bkp.crypto.x509.parsing.X509CertificateParser.toX509Certificate;
+import static com.intel.bkp.crypto.x509.parsing.X509CrlParser.toX509Crl;
+import static com.intel.bkp.crypto.x509.utils.AuthorityInformationAccessUtils.getIssuerCertUrl;
+import static com.intel.bkp.crypto.x509.utils.CrlDistributionPointsUtils.getCrlUrl;
+import static com.intel.bkp.utils.HexConverter.fromHex;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DistributionPointContentPublisherTest {
+
+    private static final String UID = "0102030405060708";
+    private static final String PUF_TYPE_EFUSE_HEX = PufType.getPufTypeHex(PufType.EFUSE);
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private DistributionPointEmulator emulator;
+    private DistributionPointContentPublisher sut;
+
+    @BeforeEach
+    void setUp() {
+        emulator = DistributionPointEmulator.start(2);
+        sut = new DistributionPointContentPublisher(emulator);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emulator.close();
+    }
+
+    @Test
+    void constructor_PublishesFamilyCertificateChainedToRootViaAia() throws Exception {
+        // when
+        final X509Certificate result = toX509Certificate(get(getIssuerCertUrl(sut.getFamilyCert()).orElseThrow()));
+
+        // then
+        assertEquals(sut.getRootCert(), result);
+        sut.getFamilyCert().verify(result.getPublicKey());
+    }
+
+    @Test
+    void constructor_PublishesCrlsSignedByIssuers() throws Exception {
+        // when
+        final X509CRL rootCrl = toX509Crl(get(sut.getRootCrlUrl()));
+        final X509CRL familyCrl = toX509Crl(get(sut.getFamilyCrlUrl()));
+        final X509CRL familyL1Crl = toX509Crl(get(sut.getFamilyCrlUrl().replace(".crl", "_L1.crl")));
+
+        // then
+        rootCrl.verify(sut.getRootCert().getPublicKey());
+        familyCrl.verify(sut.getFamilyCert().getPublicKey());
+        familyL1Crl.verify(sut.getFamilyCert().getPublicKey());
+        assertEquals(sut.getRootCrlUrl(), getCrlUrl(sut.getFamilyCert()).orElseThrow());
+    }
+
+    @Test
+    void getMainPath_ReturnsEmulatorBaseUrl() {
+        // when-then
+        assertEquals(emulator.getBaseUrl(), sut.getMainPath());
+    }
+
+    @Test
+    void publishS10Chain_PublishesCertificateUnderAttestationCertUrl() throws Exception {
+        // given
+        final String url = sut.getCertsAddressProvider()
+            .getAttestationCertUrl(S10Params.from(fromHex(UID), PUF_TYPE_EFUSE_HEX));
+
+        // when
+        final X509Certificate result = sut.publishS10Chain(UID);
+
+        // then
+        assertEquals(result, toX509Certificate(get(url)));
+        assertIssuedByFamily(result);
+    }
+
+    @Test
+    void publishDiceChain_PublishesDeviceIdCertificateIssuedByFamily() throws Exception {
+        // when
+        final X509Certificate result = sut.publishDiceChain(UID);
+
+        // then
+        final var diceParams = DiceParamsSubjectParser.instance().parse(result);
+        assertEquals(result, toX509Certificate(get(sut.getCertsAddressProvider().getDeviceIdCertUrl(diceParams))));
+        assertIssuedByFamily(result);
+    }
+
+    @Test
+    void publishZip_PublishesDeviceIdFamilyAndRootCertificates() throws Exception {
+        // when
+        final var result = sut.publishZip(UID);
+
+        // then
+        final byte[] zip = get(sut.getZipAddressProvider().getZipUrl(result));
+        assertEquals(3, countZipEntries(zip));
+    }
+
+    @Test
+    void generateSpdmIdentity_IssuesDiceChainUnderPublishedFamily() throws Exception {
+        // when
+        final SpdmDeviceIdentity result = sut.generateSpdmIdentity(UID);
+
+        // then
+        final List<X509Certificate> chain = result.getChain();
+        assertSame(sut.getRootCert(), chain.get(0));
+        assertSame(sut.getFamilyCert(), chain.get(1));
+        chain.get(2).verify(sut.getFamilyCert().getPublicKey());
+        assertEquals(sut.getFamilyCrlUrl(), getCrlUrl(chain.get(2)).orElseThrow());
+        assertEquals(sut.getFamilyCrlUrl(), getCrlUrl(chain.get(3)).orElseThrow());
+        assertFalse(getCrlUrl(chain.get(4)).isPresent());
+    }
+
+    private void assertIssuedByFamily(X509Certificate certificate) throws Exception {
+        certificate.verify(sut.getFamilyCert().getPublicKey());
+        assertEquals(sut.getFamilyCrlUrl(), getCrlUrl(certificate).orElseThrow());
+        assertEquals(sut.getFamilyCert(), toX509Certificate(get(getIssuerCertUrl(certificate).orElseThrow())));
+    }
+
+    private byte[] get(String url) throws Exception {
+        final HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+            HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(HTTP_OK, response.statusCode(), url);
+        return response.body();
+    }
+
+    private static int countZipEntries(byte[] zip) throws Exception {
+        int count = 0;
+        try (var in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            while (in.getNextEntry() != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
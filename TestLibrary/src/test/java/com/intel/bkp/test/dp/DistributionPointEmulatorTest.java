@@ -0,0 +1,251 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.test.dp;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static java.net.HttpURLConnection.HTTP_BAD_METHOD;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistributionPointEmulatorTest {
+
+    private static final String PATH = "content/IPCS/certs/test.cer";
+    private static final byte[] CONTENT = "certificate".getBytes(StandardCharsets.UTF_8);
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private DistributionPointEmulator sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = DistributionPointEmulator.start(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
+    @Test
+    void publish_ReturnsUrlServingContent() throws Exception {
+        // when
+        final String url = sut.publish(PATH, CONTENT);
+
+        // then
+        assertEquals(sut.url(PATH), url);
+        final HttpResponse<byte[]> response = get(url);
+        assertEquals(HTTP_OK, response.statusCode());
+        assertArrayEquals(CONTENT, response.body());
+        assertEquals(new DistributionPointEmulator.Statistics(1, 0, 0, CONTENT.length), sut.getStatistics());
+    }
+
+    @Test
+    void publish_WithFullUrl_ServesContentUnderItsPath() throws Exception {
+        // when
+        sut.publish(sut.url(PATH), CONTENT);
+
+        // then
+        assertArrayEquals(CONTENT, get(sut.url("/" + PATH)).body());
+    }
+
+    @Test
+    void get_NotPublished_Returns404() throws Exception {
+        // when
+        final HttpResponse<byte[]> response = get(sut.url(PATH));
+
+        // then
+        assertEquals(HTTP_NOT_FOUND, response.statusCode());
+    }
+
+    @Test
+    void unpublish_Returns404() throws Exception {
+        // given
+        final String url = sut.publish(PATH, CONTENT);
+
+        // when
+        sut.unpublish(url);
+
+        // then
+        assertEquals(HTTP_NOT_FOUND, get(url).statusCode());
+    }
+
+    @Test
+    void post_Returns405() throws Exception {
+        // given
+        final String url = sut.publish(PATH, CONTENT);
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .POST(HttpRequest.BodyPublishers.ofByteArray(CONTENT))
+            .build();
+
+        // when
+        final HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        // then
+        assertEquals(HTTP_BAD_METHOD, response.statusCode());
+    }
+
+    @Test
+    void get_WithMatchingEtag_Returns304WithoutBody() throws Exception {
+        // given
+        final String url = sut.publish(PATH, CONTENT);
+        final String etag = get(url).headers().firstValue(HEADER_ETAG).orElseThrow();
+
+        // when
+        final HttpResponse<byte[]> response = get(url, etag);
+
+        // then
+        assertEquals(HTTP_NOT_MODIFIED, response.statusCode());
+        assertEquals(0, response.body().length);
+        assertEquals(1, sut.getStatistics().notModified());
+    }
+
+    @Test
+    void publish_ReplacingContent_ChangesEtag() throws Exception {
+        // given
+        final String url = sut.publish(PATH, CONTENT);
+        final String etag = get(url).headers().firstValue(HEADER_ETAG).orElseThrow();
+
+        // when
+        sut.publish(PATH, "other".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        final HttpResponse<byte[]> response = get(url, etag);
+        assertEquals(HTTP_OK, response.statusCode());
+        assertNotEquals(etag, response.headers().firstValue(HEADER_ETAG).orElseThrow());
+    }
+
+    @Test
+    void withConditionalRequests_Disabled_IgnoresEtag() throws Exception {
+        // given
+        final String url = sut.publish(PATH, CONTENT);
+        final String etag = get(url).headers().firstValue(HEADER_ETAG).orElseThrow();
+
+        // when
+        sut.withConditionalRequests(false);
+
+        // then
+        final HttpResponse<byte[]> response = get(url, etag);
+        assertEquals(HTTP_OK, response.statusCode());
+        assertFalse(response.headers().firstValue(HEADER_ETAG).isPresent());
+    }
+
+    @Test
+    void withFailures_AllRequests_ReturnsConfiguredStatus() throws Exception {
+        // given
+        final String url = sut.publish(PATH, CONTENT);
+
+        // when
+        sut.withFailures(1.0, HTTP_UNAVAILABLE);
+
+        // then
+        assertEquals(HTTP_UNAVAILABLE, get(url).statusCode());
+        assertEquals(1, sut.getStatistics().injectedFailures());
+    }
+
+    @Test
+    void withLatency_DelaysResponse() throws Exception {
+        // given
+        final String url = sut.publish(PATH, CONTENT);
+        final Duration latency = Duration.ofMillis(100);
+        sut.withLatency(latency);
+
+        // when
+        final long startNanos = System.nanoTime();
+        get(url);
+        final long elapsedNanos = System.nanoTime() - startNanos;
+
+        // then
+        assertTrue(elapsedNanos >= latency.toNanos());
+    }
+
+    @Test
+    void withBandwidth_ThrottlesBody() throws Exception {
+        // given
+        final byte[] content = new byte[16 * 1024];
+        final String url = sut.publish(PATH, content);
+        sut.withBandwidth(64 * 1024);
+
+        // when
+        final long startNanos = System.nanoTime();
+        final HttpResponse<byte[]> response = get(url);
+        final long elapsedNanos = System.nanoTime() - startNanos;
+
+        // then
+        assertArrayEquals(content, response.body());
+        assertTrue(elapsedNanos >= Duration.ofMillis(200).toNanos());
+    }
+
+    @Test
+    void resetStatistics_ClearsCounters() throws Exception {
+        // given
+        get(sut.publish(PATH, CONTENT));
+
+        // when
+        sut.resetStatistics();
+
+        // then
+        assertEquals(new DistributionPointEmulator.Statistics(0, 0, 0, 0), sut.getStatistics());
+    }
+
+    private HttpResponse<byte[]> get(String url) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+            HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private HttpResponse<byte[]> get(String url, String etag) throws Exception {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .header(HEADER_IF_NONE_MATCH, etag)
+            .GET()
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.test.spdm;
+
+import com.intel.bkp.command.header.CommandHeader;
+import com.intel.bkp.command.header.CommandHeaderManager;
+import com.intel.bkp.command.header.FwErrorCodes;
+import com.intel.bkp.command.messages.spdm.MctpMessage;
+import com.intel.bkp.command.messages.spdm.MctpMessageParser;
+import com.intel.bkp.command.messages.spdm.SpdmMessageResponse;
+import com.intel.bkp.command.messages.spdm.SpdmMessageResponseParser;
+import com.intel.bkp.command.model.CommandIdentifier;
+import com.intel.bkp.crypto.curve.CurvePoint;
+import com.intel.bkp.crypto.curve.CurveSpec;
+import com.intel.bkp.crypto.impl.EcUtils;
+import lombok.SneakyThrows;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.PublicKey;
+import java.util.Arrays;
+import java.util.Map;
+
+import static com.intel.bkp.command.messages.spdm.SpdmRequestResponseCode.ALGORITHMS;
+import static com.intel.bkp.command.messages.spdm.SpdmRequestResponseCode.CAPABILITIES;
+import static com.intel.bkp.command.messages.spdm.SpdmRequestResponseCode.MEASUREMENTS;
+import static com.intel.bkp.command.messages.spdm.SpdmRequestResponseCode.VERSION;
+import static com.intel.bkp.crypto.constants.CryptoConstants.SHA384_LEN;
+import static com.intel.bkp.crypto.constants.CryptoConstants.SHA384_WITH_ECDSA;
+import static com.intel.bkp.test.spdm.SpdmRequests.NONCE_LEN;
+import static com.intel.bkp.test.spdm.SpdmRequests.SIGNED_GET_MEASUREMENTS_LEN;
+import static com.intel.bkp.test.spdm.SpdmRequests.commandHeader;
+import static com.intel.bkp.test.spdm.SpdmRequests.getCapabilities;
+import static com.intel.bkp.test.spdm.SpdmRequests.getSignedMeasurements;
+import static com.intel.bkp.test.spdm.SpdmRequests.getVersion;
+import static com.intel.bkp.test.spdm.SpdmRequests.mctpCommand;
+import static com.intel.bkp.test.spdm.SpdmRequests.negotiateAlgorithms;
+import static com.intel.bkp.utils.HexConverter.fromHex;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimulatedSpdmDeviceTest {
+
+    private static final String UID = "0102030405060708";
+    private static final int COMMAND_HEADER_LEN = Integer.BYTES;
+    private static final int MCTP_HEADER_LEN = Integer.BYTES;
+    private static final int SIGNATURE_LEN = 2 * CurveSpec.C384.getSize();
+    private static final int MEASUREMENT_OPERATION_ALL = 0xFF;
+    private static final int SLOT_ID = 0;
+    private static final byte[] SPDM_PREFIX = "dmtf-spdm-v1.2.*".repeat(4).getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MEASUREMENTS_SIGNING_CONTEXT =
+        "responder-measurements signing".getBytes(StandardCharsets.UTF_8);
+    private static final int COMBINED_SPDM_PREFIX_LEN = 100;
+
+    private static final SpdmDeviceIdentity IDENTITY = SpdmDeviceIdentity.generate(UID);
+
+    private final SpdmMessageResponseParser spdmParser = new SpdmMessageResponseParser();
+    private final MctpMessageParser mctpParser = new MctpMessageParser();
+    private final ByteArrayOutputStream messageA = new ByteArrayOutputStream();
+
+    private SimulatedSpdmDevice sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SimulatedSpdmDevice(IDENTITY);
+    }
+
+    @Test
+    void process_GetChipId_ReturnsUid() {
+        // when
+        final byte[] result = sut.process(commandHeader(CommandIdentifier.GET_CHIPID, 0));
+
+        // then
+        assertEquals(FwErrorCodes.STATUS_OKAY.getCode(), parseResponseHeader(result).getCode());
+        assertArrayEquals(fromHex(UID), Arrays.copyOfRange(result, COMMAND_HEADER_LEN, result.length));
+    }
+
+    @Test
+    void process_UnsupportedCommand_ReturnsUnknownCommand() {
+        // when
+        final byte[] result = sut.process(commandHeader(CommandIdentifier.GET_ATTESTATION_CERTIFICATE, 0));
+
+        // then
+        assertEquals(FwErrorCodes.UNKNOWN_COMMAND.getCode(), parseResponseHeader(result).getCode());
+        assertEquals(COMMAND_HEADER_LEN, result.length);
+    }
+
+    @Test
+    void process_SecuredMctpMessage_ReturnsUnknownCommand() {
+        // when
+        final byte[] result = sut.process(mctpCommand(SimulatedSpdmDevice.SECURED_MESSAGE_TYPE, getVersion()));
+
+        // then
+        assertEquals(FwErrorCodes.UNKNOWN_COMMAND.getCode(), parseResponseHeader(result).getCode());
+    }
+
+    @Test
+    void process_CommandShorterThanHeader_Throws() {
+        // when-then
+        assertThrows(IllegalArgumentException.class, () -> sut.process(new byte[]{1, 2}));
+    }
+
+    @Test
+    void process_VcaAndSignedGetMeasurements_SignatureVerifiesWithAliasKey() throws Exception {
+        // given
+        performVca();
+        final byte[] nonce = new byte[NONCE_LEN];
+        Arrays.fill(nonce, (byte) 0x5A);
+        final byte[] request = getSignedMeasurements(MEASUREMENT_OPERATION_ALL, nonce, SLOT_ID);
+
+        // when
+        final SpdmMessageResponse response = send(request);
+
+        // then
+        assertEquals(MEASUREMENTS.getValue(), response.getHeader().getRequestResponseCode());
+        final byte[] measurementsResponse = withoutPadding(response, measurementsResponseLength(response));
+        final int signatureOffset = measurementsResponse.length - SIGNATURE_LEN;
+        final byte[] signature = Arrays.copyOfRange(measurementsResponse, signatureOffset, measurementsResponse.length);
+
+        final ByteArrayOutputStream transcript = new ByteArrayOutputStream();
+        transcript.writeBytes(messageA.toByteArray());
+        transcript.write(request, 0, SIGNED_GET_MEASUREMENTS_LEN);
+        transcript.write(measurementsResponse, 0, signatureOffset);
+
+        assertTrue(EcUtils.sigVerify(aliasPublicKey(), dataToSign(transcript.toByteArray()),
+            CurvePoint.fromPubKey(signature, CurveSpec.C384), SHA384_WITH_ECDSA));
+        assertMeasurementBlocks(measurementsResponse);
+    }
+
+    @Test
+    void process_SignedGetMeasurements_SignatureDoesNotCoverMailboxPadding() throws Exception {
+        // given
+        performVca();
+        final byte[] request = getSignedMeasurements(MEASUREMENT_OPERATION_ALL, new byte[NONCE_LEN], SLOT_ID);
+
+        // when
+        final SpdmMessageResponse response = send(request);
+
+        // then
+        final byte[] measurementsResponse = withoutPadding(response, measurementsResponseLength(response));
+        final int signatureOffset = measurementsResponse.length - SIGNATURE_LEN;
+        final byte[] signature = Arrays.copyOfRange(measurementsResponse, signatureOffset, measurementsResponse.length);
+
+        // padded request, as it is sent in the mailbox, is not part of the transcript
+        final ByteArrayOutputStream transcript = new ByteArrayOutputStream();
+        transcript.writeBytes(messageA.toByteArray());
+        transcript.writeBytes(Arrays.copyOf(request, SIGNED_GET_MEASUREMENTS_LEN + 3));
+        transcript.write(measurementsResponse, 0, signatureOffset);
+
+        assertFalse(EcUtils.sigVerify(aliasPublicKey(), dataToSign(transcript.toByteArray()),
+            CurvePoint.fromPubKey(signature, CurveSpec.C384), SHA384_WITH_ECDSA));
+    }
+
+    private void performVca() {
+        final SpdmMessageResponse version = sendVcaRequest(getVersion(), getVersion().length);
+        assertEquals(VERSION.getValue(), version.getHeader().getRequestResponseCode());
+
+        final SpdmMessageResponse capabilities = sendVcaRequest(getCapabilities(), getCapabilities().length);
+        assertEquals(CAPABILITIES.getValue(), capabilities.getHeader().getRequestResponseCode());
+
+        final byte[] negotiateAlgorithms = negotiateAlgorithms();
+        final SpdmMessageResponse algorithms = sendVcaRequest(negotiateAlgorithms, negotiateAlgorithms.length);
+        assertEquals(ALGORITHMS.getValue(), algorithms.getHeader().getRequestResponseCode());
+    }
+
+    private SpdmMessageResponse sendVcaRequest(byte[] request, int requestLength) {
+        final SpdmMessageResponse response = send(request);
+        messageA.write(request, 0, requestLength);
+        messageA.writeBytes(withoutPadding(response, vcaResponseLength(response)));
+        return response;
+    }
+
+    private SpdmMessageResponse send(byte[] spdmRequest) {
+        final byte[] result = sut.process(mctpCommand(spdmRequest));
+        final CommandHeader header = parseResponseHeader(result);
+        assertEquals(FwErrorCodes.STATUS_OKAY.getCode(), header.getCode());
+        assertEquals(result.length - COMMAND_HEADER_LEN, header.getArgumentsSize() * Integer.BYTES);
+
+        final MctpMessage mctpMessage = mctpParser.parse(Arrays.copyOfRange(result, COMMAND_HEADER_LEN,
+            result.length));
+        assertEquals(SimulatedSpdmDevice.SPDM_MESSAGE_TYPE, mctpMessage.getHeader()[MCTP_HEADER_LEN - 1]);
+        return spdmParser.parse(mctpMessage.getPayload());
+    }
+
+    private static int vcaResponseLength(SpdmMessageResponse response) {
+        final byte code = response.getHeader().getRequestResponseCode();
+        final ByteBuffer payload = ByteBuffer.wrap(response.getPayload()).order(ByteOrder.LITTLE_ENDIAN);
+        if (VERSION.getValue() == code) {
+            return Integer.BYTES + 2 + (payload.get(1) & 0xFF) * Short.BYTES;
+        }
+        if (ALGORITHMS.getValue() == code) {
+            return Short.toUnsignedInt(payload.getShort(0));
+        }
+        return 20;
+    }
+
+    private static int measurementsResponseLength(SpdmMessageResponse response) {
+        final ByteBuffer payload = ByteBuffer.wrap(response.getPayload()).order(ByteOrder.LITTLE_ENDIAN);
+        final int recordLength = Short.toUnsignedInt(payload.getShort(1)) | (payload.get(3) & 0xFF) << 16;
+        final int opaqueLengthOffset = 4 + recordLength + NONCE_LEN;
+        final int opaqueLength = Short.toUnsignedInt(payload.getShort(opaqueLengthOffset));
+        return Integer.BYTES + opaqueLengthOffset + Short.BYTES + opaqueLength + SIGNATURE_LEN;
+    }
+
+    private static byte[] withoutPadding(SpdmMessageResponse response, int length) {
+        return Arrays.copyOf(response.array(), length);
+    }
+
+    private static void assertMeasurementBlocks(byte[] measurementsResponse) {
+        final Map<Integer, byte[]> expected = IDENTITY.getMeasurements();
+        final ByteBuffer buffer = ByteBuffer.wrap(measurementsResponse).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(Integer.BYTES);
+        assertEquals(expected.size(), buffer.get() & 0xFF);
+        buffer.position(buffer.position() + 3);
+
+        for (Map.Entry<Integer, byte[]> measurement : expected.entrySet()) {
+            assertEquals(measurement.getKey(), buffer.get() & 0xFF);
+            assertEquals(0x01, buffer.get());
+            assertEquals(3 + SHA384_LEN, Short.toUnsignedInt(buffer.getShort()));
+            buffer.get();
+            assertEquals(SHA384_LEN, Short.toUnsignedInt(buffer.getShort()));
+            final byte[] value = new byte[SHA384_LEN];
+            buffer.get(value);
+            assertArrayEquals(measurement.getValue(), value);
+        }
+    }
+
+    private static byte[] dataToSign(byte[] transcript) {
+        return ByteBuffer.allocate(COMBINED_SPDM_PREFIX_LEN + SHA384_LEN)
+            .put(SPDM_PREFIX)
+            .position(COMBINED_SPDM_PREFIX_LEN - MEASUREMENTS_SIGNING_CONTEXT.length)
+            .put(MEASUREMENTS_SIGNING_CONTEXT)
+            .put(DigestUtils.sha384(transcript))
+            .array();
+    }
+
+    private static PublicKey aliasPublicKey() {
+        final var chain = IDENTITY.getChain();
+        return chain.get(chain.size() - 1).getPublicKey();
+    }
+
+    @SneakyThrows
+    private static CommandHeader parseResponseHeader(byte[] response) {
+        return CommandHeaderManager.parseFromFw(Arrays.copyOf(response, COMMAND_HEADER_LEN));
+    }
+}
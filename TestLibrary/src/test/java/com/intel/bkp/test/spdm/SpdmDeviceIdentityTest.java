@@ -0,0 +1,167 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.test.spdm;
+
+import com.intel.bkp.crypto.CryptoUtils;
+import com.intel.bkp.crypto.impl.EcUtils;
+import com.intel.bkp.fpgacerts.dice.DiceChainMeasurementsCollector;
+import com.intel.bkp.fpgacerts.dice.subject.DiceCertificateSubject;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoKey;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement;
+import com.intel.bkp.fpgacerts.dice.ueid.UeidExtensionParser;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.intel.bkp.crypto.constants.CryptoConstants.SHA384_LEN;
+import static com.intel.bkp.crypto.constants.CryptoConstants.SHA384_WITH_ECDSA;
+import static com.intel.bkp.fpgacerts.dice.subject.DiceCertificateLevel.ALIAS;
+import static com.intel.bkp.fpgacerts.dice.subject.DiceCertificateLevel.DEVICE_ID;
+import static com.intel.bkp.fpgacerts.dice.subject.DiceCertificateLevel.FIRMWARE;
+import static com.intel.bkp.fpgacerts.dice.tcbinfo.MeasurementType.CMF;
+import static com.intel.bkp.fpgacerts.dice.tcbinfo.MeasurementType.ROM_EXTENSION;
+import static com.intel.bkp.fpgacerts.model.Oid.KEY_PURPOSE_ATTEST_INIT;
+import static com.intel.bkp.utils.HexConverter.fromHex;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpdmDeviceIdentityTest {
+
+    private static final String UID = "0102030405060708";
+    private static final String UID_REVERSED = "0807060504030201";
+    private static final String FAMILY_NAME = "Agilex";
+    private static final SpdmDeviceIdentity IDENTITY = SpdmDeviceIdentity.generate(UID);
+
+    @Test
+    void generate_ReturnsChainFromRootToAlias() throws Exception {
+        // when
+        final List<X509Certificate> result = IDENTITY.getChain();
+
+        // then
+        assertEquals(5, result.size());
+        result.get(0).verify(result.get(0).getPublicKey());
+        for (int i = 1; i < result.size(); i++) {
+            result.get(i).verify(result.get(i - 1).getPublicKey());
+            assertEquals(result.get(i - 1).getSubjectX500Principal(), result.get(i).getIssuerX500Principal());
+        }
+    }
+
+    @Test
+    void generate_DiceCertificatesCarryDeviceId() {
+        // when
+        final List<X509Certificate> result = IDENTITY.getChain();
+
+        // then
+        assertDiceSubject(result.get(2), DEVICE_ID.getCode());
+        assertDiceSubject(result.get(3), FIRMWARE.getCode());
+        assertDiceSubject(result.get(4), ALIAS.getCode());
+    }
+
+    @Test
+    void generate_DiceCertificatesCarryUeidWithDeviceId() {
+        // given
+        final var parser = new UeidExtensionParser();
+
+        // when
+        final List<X509Certificate> result = IDENTITY.getChain().subList(2, 5);
+
+        // then
+        result.forEach(certificate -> {
+            final var ueid = parser.parse(certificate);
+            assertArrayEquals(fromHex(UID), ueid.getUid());
+            assertEquals(FAMILY_NAME, ueid.getFamilyName());
+        });
+    }
+
+    @Test
+    void generate_DeviceIdAndFirmwareCarryRomExtAndCmfMeasurements() {
+        // when
+        final Set<TcbInfoKey> result = new DiceChainMeasurementsCollector()
+            .getMeasurementsFromCertChain(IDENTITY.getChain())
+            .stream()
+            .map(TcbInfoMeasurement::getKey)
+            .collect(Collectors.toSet());
+
+        // then
+        assertEquals(Set.of(TcbInfoKey.from(ROM_EXTENSION, FAMILY_NAME), TcbInfoKey.from(CMF, FAMILY_NAME)), result);
+    }
+
+    @Test
+    void generate_AliasHasAttestationKeyPurpose() throws Exception {
+        // when
+        final List<String> result = IDENTITY.getChain().get(4).getExtendedKeyUsage();
+
+        // then
+        assertTrue(result.contains(KEY_PURPOSE_ATTEST_INIT.getOid()));
+    }
+
+    @Test
+    void generate_AliasPrivateKeyMatchesAliasCertificate() throws Exception {
+        // given
+        final byte[] data = "measurements".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        final byte[] signature = EcUtils.signEcData(IDENTITY.getAliasPrivateKey(), data, SHA384_WITH_ECDSA,
+            CryptoUtils.getBouncyCastleProvider());
+
+        // then
+        assertTrue(EcUtils.sigVerify(IDENTITY.getChain().get(4).getPublicKey(), data, signature, SHA384_WITH_ECDSA));
+        assertFalse(EcUtils.sigVerify(IDENTITY.getChain().get(3).getPublicKey(), data, signature, SHA384_WITH_ECDSA));
+    }
+
+    @Test
+    void generate_ReturnsSha384MeasurementsDerivedFromDeviceId() {
+        // when
+        final var result = IDENTITY.getMeasurements();
+        final var otherDevice = SpdmDeviceIdentity.generate("0807060504030201").getMeasurements();
+
+        // then
+        assertEquals(List.of(1, 2, 3, 4), List.copyOf(result.keySet()));
+        result.values().forEach(value -> assertEquals(SHA384_LEN, value.length));
+        assertArrayEquals(result.get(1), SpdmDeviceIdentity.generate(UID).getMeasurements().get(1));
+        assertFalse(Arrays.equals(result.get(1), otherDevice.get(1)));
+    }
+
+    private static void assertDiceSubject(X509Certificate certificate, String levelCode) {
+        final var subject = DiceCertificateSubject.parse(certificate.getSubjectX500Principal().getName());
+        assertEquals(levelCode, subject.level());
+        assertEquals(UID_REVERSED, subject.deviceId());
+    }
+}
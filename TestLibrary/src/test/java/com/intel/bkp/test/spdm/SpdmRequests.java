@@ -0,0 +1,131 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.test.spdm;
+
+import com.intel.bkp.command.header.CommandHeader;
+import com.intel.bkp.command.header.CommandHeaderManager;
+import com.intel.bkp.command.model.CommandIdentifier;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * SPDM 1.2 requests built as the libspdm requester sends them (DSP0274), independently of the emulator.
+ */
+final class SpdmRequests {
+
+    static final int NONCE_LEN = 32;
+    static final int SIGNED_GET_MEASUREMENTS_LEN = 4 + NONCE_LEN + 1;
+
+    private static final byte SPDM_VERSION_10 = 0x10;
+    private static final byte SPDM_VERSION_12 = 0x12;
+    private static final int NEGOTIATE_ALGORITHMS_FIXED_LEN = 32;
+    private static final byte[][] ALG_STRUCTS = {
+        {2, 0x20, 0x10, 0}, // DHE: secp384r1
+        {3, 0x20, 0x02, 0}, // AEAD: AES-256-GCM
+        {4, 0x20, (byte) 0x80, 0}, // ReqBaseAsymAlg: ECDSA P-384
+        {5, 0x20, 0x01, 0}, // KeySchedule: SPDM key schedule
+    };
+
+    private SpdmRequests() {
+    }
+
+    static byte[] getVersion() {
+        return new byte[]{SPDM_VERSION_10, (byte) 0x84, 0, 0};
+    }
+
+    static byte[] getCapabilities() {
+        return ByteBuffer.allocate(20)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .put(new byte[]{SPDM_VERSION_12, (byte) 0xE1, 0, 0})
+            .put((byte) 0)
+            .put((byte) 0x0E)
+            .putShort((short) 0)
+            .putInt(0x00000006)
+            .putInt(4096)
+            .putInt(4096)
+            .array();
+    }
+
+    static byte[] negotiateAlgorithms() {
+        final int length = NEGOTIATE_ALGORITHMS_FIXED_LEN + ALG_STRUCTS.length * Integer.BYTES;
+        final ByteBuffer buffer = ByteBuffer.allocate(length)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .put(new byte[]{SPDM_VERSION_12, (byte) 0xE3, (byte) ALG_STRUCTS.length, 0})
+            .putShort((short) length)
+            .put((byte) 0x01)
+            .put((byte) 0x02)
+            .putInt(0x80)
+            .putInt(0x02)
+            .put(new byte[12])
+            .put((byte) 0)
+            .put((byte) 0)
+            .putShort((short) 0);
+        for (byte[] algStruct : ALG_STRUCTS) {
+            buffer.put(algStruct);
+        }
+        return buffer.array();
+    }
+
+    static byte[] getMeasurements(int operation) {
+        return new byte[]{SPDM_VERSION_12, (byte) 0xE0, 0, (byte) operation};
+    }
+
+    static byte[] getSignedMeasurements(int operation, byte[] nonce, int slotId) {
+        return ByteBuffer.allocate(SIGNED_GET_MEASUREMENTS_LEN)
+            .put(new byte[]{SPDM_VERSION_12, (byte) 0xE0, 0x01, (byte) operation})
+            .put(nonce)
+            .put((byte) slotId)
+            .array();
+    }
+
+    /**
+     * Wraps SPDM request in MCTP mailbox command, padded to full words as in {@code spdm_wrapper}.
+     */
+    static byte[] mctpCommand(byte[] spdmRequest) {
+        return mctpCommand(SimulatedSpdmDevice.SPDM_MESSAGE_TYPE, spdmRequest);
+    }
+
+    static byte[] mctpCommand(byte messageType, byte[] spdmRequest) {
+        final int messageLen = (Integer.BYTES + spdmRequest.length + Integer.BYTES - 1) / Integer.BYTES;
+        return ByteBuffer.allocate(Integer.BYTES + messageLen * Integer.BYTES)
+            .put(commandHeader(CommandIdentifier.MCTP, messageLen))
+            .put(new byte[]{0, 0, 0, messageType})
+            .put(spdmRequest)
+            .array();
+    }
+
+    static byte[] commandHeader(CommandIdentifier command, int argumentsLen) {
+        return CommandHeaderManager.buildForFw(new CommandHeader(command.getCommandCode(), argumentsLen, 0, 0));
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.test.spdm;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import static com.intel.bkp.test.spdm.SpdmRequests.NONCE_LEN;
+import static com.intel.bkp.test.spdm.SpdmRequests.getCapabilities;
+import static com.intel.bkp.test.spdm.SpdmRequests.getMeasurements;
+import static com.intel.bkp.test.spdm.SpdmRequests.getSignedMeasurements;
+import static com.intel.bkp.test.spdm.SpdmRequests.getVersion;
+import static com.intel.bkp.test.spdm.SpdmRequests.negotiateAlgorithms;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.ALGORITHMS;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.CAPABILITIES;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.DEFAULT_CAPABILITIES;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.DIGESTS;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.ERROR;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.ERROR_INVALID_REQUEST;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.ERROR_UNEXPECTED_REQUEST;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.ERROR_UNSUPPORTED_REQUEST;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.ERROR_VERSION_MISMATCH;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.GET_DIGESTS;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.KEY_EX_CAP;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.MEASUREMENTS;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.SET_CERTIFICATE;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.SET_CERTIFICATE_RSP;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.SPDM_VERSION_10;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.SPDM_VERSION_12;
+import static com.intel.bkp.test.spdm.SpdmResponderEmulator.VERSION;
+import static org.apache.commons.codec.digest.DigestUtils.sha384;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpdmResponderEmulatorTest {
+
+    private static final SpdmDeviceIdentity IDENTITY = SpdmDeviceIdentity.generate("0102030405060708");
+    private static final int MEASUREMENT_OPERATION_TOTAL_NUMBER = 0x00;
+    private static final int MEASUREMENT_OPERATION_ALL = 0xFF;
+    private static final int CERT_CHAIN_HEADER_LEN = 4 + 48;
+    private static final int SIGNATURE_LEN = 96;
+
+    private SpdmResponderEmulator sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SpdmResponderEmulator(IDENTITY);
+    }
+
+    @Test
+    void respond_GetVersion_ReturnsVersion12() {
+        // when
+        final byte[] result = sut.respond(getVersion());
+
+        // then
+        assertArrayEquals(new byte[]{SPDM_VERSION_10, VERSION, 0, 0, 0, 1, 0x00, 0x12}, result);
+    }
+
+    @Test
+    void respond_GetCapabilities_ReturnsDefaultCapabilities() {
+        // given
+        sut.respond(getVersion());
+
+        // when
+        final byte[] result = sut.respond(getCapabilities());
+
+        // then
+        assertEquals(CAPABILITIES, result[1]);
+        assertEquals(DEFAULT_CAPABILITIES, littleEndian(result).getInt(8));
+    }
+
+    @Test
+    void respond_NegotiateAlgorithmsWithoutKeyExCap_SelectsOnlyMeasurementAlgorithms() {
+        // given
+        sut.respond(getVersion());
+        sut.respond(getCapabilities());
+
+        // when
+        final byte[] result = sut.respond(negotiateAlgorithms());
+
+        // then
+        final ByteBuffer buffer = littleEndian(result);
+        assertEquals(ALGORITHMS, result[1]);
+        assertEquals(result.length, Short.toUnsignedInt(buffer.getShort(4)));
+        assertEquals(0x04, buffer.getInt(8));
+        assertEquals(0x80, buffer.getInt(12));
+        assertEquals(0x02, buffer.getInt(16));
+        assertEquals(0, buffer.getShort(36 + 2));
+    }
+
+    @Test
+    void respond_NegotiateAlgorithmsWithKeyExCap_SelectsDhe() {
+        // given
+        sut.withCapabilities(DEFAULT_CAPABILITIES | KEY_EX_CAP);
+        sut.respond(getVersion());
+        sut.respond(getCapabilities());
+
+        // when
+        final byte[] result = sut.respond(negotiateAlgorithms());
+
+        // then
+        assertEquals(0x10, littleEndian(result).getShort(36 + 2));
+    }
+
+    @Test
+    void respond_GetMeasurementsBeforeNegotiation_ReturnsUnexpectedRequest() {
+        // when
+        final byte[] result = sut.respond(getMeasurements(MEASUREMENT_OPERATION_ALL));
+
+        // then
+        assertArrayEquals(new byte[]{SPDM_VERSION_12, ERROR, ERROR_UNEXPECTED_REQUEST, 0}, result);
+    }
+
+    @Test
+    void respond_RequestWithVersion10_ReturnsVersionMismatch() {
+        // given
+        final byte[] request = getCapabilities();
+        request[0] = SPDM_VERSION_10;
+
+        // when
+        final byte[] result = sut.respond(request);
+
+        // then
+        assertArrayEquals(new byte[]{SPDM_VERSION_12, ERROR, ERROR_VERSION_MISMATCH, 0}, result);
+    }
+
+    @Test
+    void respond_TooShortRequest_ReturnsInvalidRequest() {
+        // when
+        final byte[] result = sut.respond(new byte[]{SPDM_VERSION_12});
+
+        // then
+        assertArrayEquals(new byte[]{SPDM_VERSION_12, ERROR, ERROR_INVALID_REQUEST, 0}, result);
+    }
+
+    @Test
+    void respond_UnsupportedRequest_ReturnsUnsupportedRequest() {
+        // given
+        negotiate();
+        final byte keyExchange = (byte) 0xE4;
+
+        // when
+        final byte[] result = sut.respond(new byte[]{SPDM_VERSION_12, keyExchange, 0, 0});
+
+        // then
+        assertArrayEquals(new byte[]{SPDM_VERSION_12, ERROR, ERROR_UNSUPPORTED_REQUEST, keyExchange}, result);
+    }
+
+    @Test
+    void respond_GetDigests_ReturnsDigestOfProvisionedChain() {
+        // given
+        negotiate();
+
+        // when
+        final byte[] result = sut.respond(new byte[]{SPDM_VERSION_12, GET_DIGESTS, 0, 0});
+
+        // then
+        assertEquals(DIGESTS, result[1]);
+        assertEquals(1, result[3]);
+        assertEquals(4 + 48, result.length);
+    }
+
+    @Test
+    void respond_GetMeasurementsTotalNumber_ReturnsNumberOfBlocksInParam1() {
+        // given
+        negotiate();
+
+        // when
+        final byte[] result = sut.respond(getMeasurements(MEASUREMENT_OPERATION_TOTAL_NUMBER));
+
+        // then
+        assertEquals(MEASUREMENTS, result[1]);
+        assertEquals(IDENTITY.getMeasurements().size(), result[2]);
+        assertEquals(0, result[4]);
+    }
+
+    @Test
+    void respond_UnsignedGetMeasurementsWithPadding_ReturnsAllBlocksWithoutSignature() {
+        // given
+        negotiate();
+        final byte[] paddedRequest = Arrays.copyOf(getMeasurements(MEASUREMENT_OPERATION_ALL), 8);
+
+        // when
+        final byte[] result = sut.respond(paddedRequest);
+
+        // then
+        final int recordLength = measurementRecordLength(result);
+        assertEquals(MEASUREMENTS, result[1]);
+        assertEquals(IDENTITY.getMeasurements().size(), result[4]);
+        assertEquals(8 + recordLength + NONCE_LEN + 2, result.length);
+    }
+
+    @Test
+    void respond_SignedGetMeasurements_AppendsSignature() {
+        // given
+        negotiate();
+
+        // when
+        final byte[] result = sut.respond(getSignedMeasurements(MEASUREMENT_OPERATION_ALL, new byte[NONCE_LEN], 0));
+
+        // then
+        final int recordLength = measurementRecordLength(result);
+        assertEquals(8 + recordLength + NONCE_LEN + 2 + SIGNATURE_LEN, result.length);
+    }
+
+    @Test
+    void respond_SignedGetMeasurementsForEmptySlot_ReturnsInvalidRequest() {
+        // given
+        negotiate();
+
+        // when
+        final byte[] result = sut.respond(getSignedMeasurements(MEASUREMENT_OPERATION_ALL, new byte[NONCE_LEN], 1));
+
+        // then
+        assertArrayEquals(new byte[]{SPDM_VERSION_12, ERROR, ERROR_INVALID_REQUEST, 0}, result);
+    }
+
+    @Test
+    void respond_SetCertificate_ProvisionsSlot() {
+        // given
+        negotiate();
+        final int slotId = 1;
+        final byte[] chain = ByteBuffer.allocate(CERT_CHAIN_HEADER_LEN)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .putShort((short) CERT_CHAIN_HEADER_LEN)
+            .putShort((short) 0)
+            .put(sha384(new byte[0]))
+            .array();
+        final byte[] request = ByteBuffer.allocate(4 + chain.length)
+            .put(new byte[]{SPDM_VERSION_12, SET_CERTIFICATE, slotId, 0})
+            .put(chain)
+            .array();
+        assertFalse(sut.isSlotProvisioned(slotId));
+
+        // when
+        final byte[] result = sut.respond(request);
+
+        // then
+        assertArrayEquals(new byte[]{SPDM_VERSION_12, SET_CERTIFICATE_RSP, slotId, 0}, result);
+        assertTrue(sut.isSlotProvisioned(slotId));
+    }
+
+    @Test
+    void respond_SetCertificateWithoutCapability_ReturnsUnsupportedRequest() {
+        // given
+        sut.withCapabilities(DEFAULT_CAPABILITIES & ~SpdmResponderEmulator.SET_CERT_CAP);
+        negotiate();
+
+        // when
+        final byte[] result = sut.respond(new byte[]{SPDM_VERSION_12, SET_CERTIFICATE, 1, 0});
+
+        // then
+        assertArrayEquals(new byte[]{SPDM_VERSION_12, ERROR, ERROR_UNSUPPORTED_REQUEST, SET_CERTIFICATE}, result);
+    }
+
+    private void negotiate() {
+        sut.respond(getVersion());
+        sut.respond(getCapabilities());
+        sut.respond(negotiateAlgorithms());
+    }
+
+    private static int measurementRecordLength(byte[] response) {
+        return (response[5] & 0xFF) | (response[6] & 0xFF) << 8 | (response[7] & 0xFF) << 16;
+    }
+
+    private static ByteBuffer littleEndian(byte[] response) {
+        return ByteBuffer.wrap(response).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -36,10 +36,15 @@ import com.intel.bkp.utils.exceptions.ByteBufferSafeException;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
-import java.nio.ByteBuffer;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 
 /**
  * This class is intended to change data order.
+ *
+ * <p>Conversions operate directly on arrays through {@link VarHandle} views, so apart from the returned array no
+ * intermediate buffers are allocated.</p>
  */
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -48,35 +53,47 @@ public class ByteSwap {
     private static final String ARRAY_LENGTH_NOT_MULTIPLE_OF = "Destination array length is %d, "
         + "but should be a multiple of %d.";
 
+    private static final VarHandle SHORT_BE = MethodHandles.byteArrayViewVarHandle(short[].class,
+        ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class,
+        ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class,
+        ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class,
+        ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class,
+        ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class,
+        ByteOrder.LITTLE_ENDIAN);
+
     public static byte[] getSwappedArray(short source, ByteSwapOrder byteSwapOrder) {
-        ByteBuffer sourceBuffer = getBufferWithShort(source, byteSwapOrder);
-        return ByteBuffer.allocate(Short.BYTES)
-            .order(byteSwapOrder.getDestOrder()).putShort(sourceBuffer.getShort()).array();
+        final byte[] result = new byte[Short.BYTES];
+        shortView(byteSwapOrder.getDestOrder()).set(result, 0, source);
+        return result;
     }
 
     public static byte[] getSwappedArray(int source, ByteSwapOrder byteSwapOrder) {
-        ByteBuffer sourceBuffer = getBufferWithInteger(source, byteSwapOrder);
-        return ByteBuffer.allocate(Integer.BYTES)
-            .order(byteSwapOrder.getDestOrder()).putInt(sourceBuffer.getInt()).array();
+        final byte[] result = new byte[Integer.BYTES];
+        intView(byteSwapOrder.getDestOrder()).set(result, 0, source);
+        return result;
     }
 
     public static byte[] getSwappedArray(long source, ByteSwapOrder byteSwapOrder) {
-        ByteBuffer sourceBuffer = getBufferWithLong(source, byteSwapOrder);
-        return ByteBuffer.allocate(Long.BYTES)
-            .order(byteSwapOrder.getDestOrder()).putLong(sourceBuffer.getLong()).array();
+        final byte[] result = new byte[Long.BYTES];
+        longView(byteSwapOrder.getDestOrder()).set(result, 0, source);
+        return result;
     }
 
     /**
      * Reverses integer value.
      */
     public static int getSwappedInt(int source, ByteSwapOrder byteSwapOrder) {
-        ByteBuffer buffer = getBufferWithInteger(source, byteSwapOrder);
-        return buffer.order(byteSwapOrder.getDestOrder()).getInt();
+        return isSwapped(byteSwapOrder) ? Integer.reverseBytes(source) : source;
     }
 
     public static int getSwappedInt(byte[] source, ByteSwapOrder byteSwapOrder) {
         verifyIfArrayIsMultipleOfValue(source, Integer.BYTES);
-        final int sourceInt = ByteBuffer.wrap(source).getInt();
+        final int sourceInt = (int) INT_BE.get(source, 0);
         return getSwappedInt(sourceInt, byteSwapOrder);
     }
 
@@ -84,13 +101,12 @@ public class ByteSwap {
      * Reverses short value.
      */
     public static short getSwappedShort(short source, ByteSwapOrder byteSwapOrder) {
-        ByteBuffer buffer = getBufferWithShort(source, byteSwapOrder);
-        return buffer.order(byteSwapOrder.getDestOrder()).getShort();
+        return isSwapped(byteSwapOrder) ? Short.reverseBytes(source) : source;
     }
 
     public static short getSwappedShort(byte[] source, ByteSwapOrder byteSwapOrder) {
         verifyIfArrayIsMultipleOfValue(source, Short.BYTES);
-        final short sourceShort = ByteBuffer.wrap(source).getShort();
+        final short sourceShort = (short) SHORT_BE.get(source, 0);
         return getSwappedShort(sourceShort, byteSwapOrder);
     }
 
@@ -100,12 +116,14 @@ public class ByteSwap {
     public static byte[] getSwappedArrayByShort(byte[] source, ByteSwapOrder byteSwapOrder) {
         verifyIfArrayIsMultipleOfValue(source, Short.BYTES);
 
-        ByteBuffer sourceBuffer = ByteBuffer.wrap(source).order(byteSwapOrder.getSourceOrder());
-        ByteBuffer tempBuffer = ByteBuffer.allocate(source.length).order(byteSwapOrder.getDestOrder());
-        while (sourceBuffer.remaining() >= Short.BYTES) {
-            tempBuffer.putShort(sourceBuffer.getShort());
+        if (!isSwapped(byteSwapOrder)) {
+            return source.clone();
         }
-        return tempBuffer.array();
+        final byte[] result = new byte[source.length];
+        for (int offset = 0; offset < source.length; offset += Short.BYTES) {
+            SHORT_BE.set(result, offset, (short) SHORT_LE.get(source, offset));
+        }
+        return result;
     }
 
     /**
@@ -114,12 +132,14 @@ public class ByteSwap {
     public static byte[] getSwappedArrayByInt(byte[] source, ByteSwapOrder byteSwapOrder) {
         verifyIfArrayIsMultipleOfValue(source, Integer.BYTES);
 
-        ByteBuffer sourceBuffer = ByteBuffer.wrap(source).order(byteSwapOrder.getSourceOrder());
-        ByteBuffer tempBuffer = ByteBuffer.allocate(source.length).order(byteSwapOrder.getDestOrder());
-        while (sourceBuffer.remaining() >= Integer.BYTES) {
-            tempBuffer.putInt(sourceBuffer.getInt());
+        if (!isSwapped(byteSwapOrder)) {
+            return source.clone();
+        }
+        final byte[] result = new byte[source.length];
+        for (int offset = 0; offset < source.length; offset += Integer.BYTES) {
+            INT_BE.set(result, offset, (int) INT_LE.get(source, offset));
         }
-        return tempBuffer.array();
+        return result;
     }
 
     /**
@@ -128,27 +148,30 @@ public class ByteSwap {
     public static byte[] getSwappedArrayByLong(byte[] source, ByteSwapOrder byteSwapOrder) {
         verifyIfArrayIsMultipleOfValue(source, Long.BYTES);
 
-        ByteBuffer sourceBuffer = ByteBuffer.wrap(source).order(byteSwapOrder.getSourceOrder());
-        ByteBuffer tempBuffer = ByteBuffer.allocate(source.length).order(byteSwapOrder.getDestOrder());
-        while (sourceBuffer.remaining() >= Long.BYTES) {
-            tempBuffer.putLong(sourceBuffer.getLong());
+        if (!isSwapped(byteSwapOrder)) {
+            return source.clone();
         }
-        return tempBuffer.array();
+        final byte[] result = new byte[source.length];
+        for (int offset = 0; offset < source.length; offset += Long.BYTES) {
+            LONG_BE.set(result, offset, (long) LONG_LE.get(source, offset));
+        }
+        return result;
+    }
+
+    private static boolean isSwapped(ByteSwapOrder byteSwapOrder) {
+        return byteSwapOrder.getSourceOrder() != byteSwapOrder.getDestOrder();
     }
 
-    private static ByteBuffer getBufferWithShort(short source, ByteSwapOrder byteSwapOrder) {
-        return ByteBuffer.allocate(Short.BYTES)
-            .order(byteSwapOrder.getSourceOrder()).putShort(source).rewind();
+    private static VarHandle shortView(ByteOrder order) {
+        return ByteOrder.BIG_ENDIAN == order ? SHORT_BE : SHORT_LE;
     }
 
-    private static ByteBuffer getBufferWithInteger(int source, ByteSwapOrder byteSwapOrder) {
-        return ByteBuffer.allocate(Integer.BYTES)
-            .order(byteSwapOrder.getSourceOrder()).putInt(source).rewind();
+    private static VarHandle intView(ByteOrder order) {
+        return ByteOrder.BIG_ENDIAN == order ? INT_BE : INT_LE;
     }
 
-    private static ByteBuffer getBufferWithLong(long source, ByteSwapOrder byteSwapOrder) {
-        return ByteBuffer.allocate(Long.BYTES)
-            .order(byteSwapOrder.getSourceOrder()).putLong(source).rewind();
+    private static VarHandle longView(ByteOrder order) {
+        return ByteOrder.BIG_ENDIAN == order ? LONG_BE : LONG_LE;
     }
 
     private static void verifyIfArrayIsMultipleOfValue(byte[] array, int value) {
@@ -37,9 +37,11 @@ import org.junit.jupiter.api.Test;
 
 import static com.intel.bkp.utils.ByteSwapOrder.B2L;
 import static com.intel.bkp.utils.ByteSwapOrder.L2B;
+import static com.intel.bkp.utils.ByteSwapOrder.NONE;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ByteSwapTest {
@@ -285,6 +287,57 @@ class ByteSwapTest {
         assertArrayEquals(expected, result);
     }
 
+    @Test
+    void getSwappedArray_WithInteger_None_Success() {
+        // given
+        int data = 1;
+        byte[] expected = new byte[]{0, 0, 0, 1};
+
+        // when
+        byte[] result = ByteSwap.getSwappedArray(data, NONE);
+
+        // then
+        assertArrayEquals(expected, result);
+    }
+
+    @Test
+    void getSwappedInt_None_ReturnsSameValue() {
+        // given
+        int data = 0x01020304;
+
+        // when
+        int result = ByteSwap.getSwappedInt(data, NONE);
+
+        // then
+        assertEquals(data, result);
+    }
+
+    @Test
+    void getSwappedArrayByShort_BigToLittle_Success() {
+        // given
+        byte[] data = new byte[]{1, 2, 3, 4};
+        byte[] expected = new byte[]{2, 1, 4, 3};
+
+        // when
+        byte[] result = ByteSwap.getSwappedArrayByShort(data, B2L);
+
+        // then
+        assertArrayEquals(expected, result);
+    }
+
+    @Test
+    void getSwappedArrayByInt_None_ReturnsCopy() {
+        // given
+        byte[] data = new byte[]{1, 2, 3, 4, 5, 6, 7, 8};
+
+        // when
+        byte[] result = ByteSwap.getSwappedArrayByInt(data, NONE);
+
+        // then
+        assertArrayEquals(data, result);
+        assertNotSame(data, result);
+    }
+
     @Test
     void verifyIfArrayIsMultipleOfValue_IsMultiple_Success() {
         // given
@@ -93,7 +93,6 @@ import static com.intel.bkp.utils.PathUtils.buildPath;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -143,20 +142,17 @@ public class CoRIMHandlerIT {
         String refMeasurementsAgilexCoRim = readEvidence();
         prepareTcbInfoMeasurementsAggregatorForAgilexCoRIM();
         final DistributionPointConnector dpConnector = mockDpConnector(false);
-        final var appContext = spy(AppContext.instance());
+        final var appContext = spy(AppContext.create());
         when(appContext.getDpConnector()).thenReturn(dpConnector);
 
-        try (var appContextStaticMock = mockStatic(AppContext.class)) {
-            when(AppContext.instance()).thenReturn(appContext);
-            final EvidenceVerifier sutWithMockedDpConnector = new EvidenceVerifier(new RimHandlersProvider());
+        final EvidenceVerifier sutWithMockedDpConnector = new EvidenceVerifier(new RimHandlersProvider(appContext));
 
-            // when
-            final VerificationResult result =
-                sutWithMockedDpConnector.verify(tcbInfoAggregator, refMeasurementsAgilexCoRim);
+        // when
+        final VerificationResult result =
+            sutWithMockedDpConnector.verify(tcbInfoAggregator, refMeasurementsAgilexCoRim);
 
-            // then
-            assertEquals(VerificationResult.PASSED, result);
-        }
+        // then
+        assertEquals(VerificationResult.PASSED, result);
     }
 
     @Test
@@ -165,21 +161,18 @@ public class CoRIMHandlerIT {
         final String unsignedStandalone = buildStandaloneUnsignedRimWithLocalPaths();
         prepareTcbInfoMeasurementsAggregatorForAgilexCoRIM();
         final DistributionPointConnector dpConnector = mockDpConnector(true);
-        final var appContext = spy(AppContext.instance());
+        final var appContext = spy(AppContext.create());
         when(appContext.getDpConnector()).thenReturn(dpConnector);
         appContext.getLibConfig().setAcceptUnsignedCorim(true);
 
-        try (var appContextStaticMock = mockStatic(AppContext.class)) {
-            when(AppContext.instance()).thenReturn(appContext);
-            final EvidenceVerifier sutWithMockedDpConnector = new EvidenceVerifier(new RimHandlersProvider());
+        final EvidenceVerifier sutWithMockedDpConnector = new EvidenceVerifier(new RimHandlersProvider(appContext));
 
-            // when
-            final VerificationResult result =
-                sutWithMockedDpConnector.verify(tcbInfoAggregator, unsignedStandalone);
+        // when
+        final VerificationResult result =
+            sutWithMockedDpConnector.verify(tcbInfoAggregator, unsignedStandalone);
 
-            // then
-            assertEquals(VerificationResult.PASSED, result);
-        }
+        // then
+        assertEquals(VerificationResult.PASSED, result);
 
         verify(dpConnector, never()).tryGetBytes(BASE_URL_PROD + "IPCS/certs/" + FILENAME_AGILEX_CORIM_CERT);
         verify(dpConnector, never()).tryGetBytes(BASE_URL_PROD + "IPCS/crls/" + FILENAME_AGILEX_XRIM);
@@ -196,17 +189,14 @@ public class CoRIMHandlerIT {
         final var rootFingerprint = mockDiceChain(keyPair, dpConnector, testData.getCerLink());
 
         final var appContext = prepareAppContext(dpConnector, params.getData().isAllowedUnsigned(), rootFingerprint);
-        try (var appContextStaticMock = mockStatic(AppContext.class)) {
-            when(AppContext.instance()).thenReturn(appContext);
-            final EvidenceVerifier sutWithMockedDpConnector = new EvidenceVerifier(new RimHandlersProvider());
+        final EvidenceVerifier sutWithMockedDpConnector = new EvidenceVerifier(new RimHandlersProvider(appContext));
 
-            // when - then
-            assertTrue(X509CertificateUtils.isSelfSigned(rootCertificate));
-            final var result = sutWithMockedDpConnector.verify(tcbInfoAggregator, testData.getTestData());
+        // when - then
+        assertTrue(X509CertificateUtils.isSelfSigned(rootCertificate));
+        final var result = sutWithMockedDpConnector.verify(tcbInfoAggregator, testData.getTestData());
 
-            // then
-            assertEquals(VerificationResult.PASSED, result);
-        }
+        // then
+        assertEquals(VerificationResult.PASSED, result);
     }
 
     @Test
@@ -225,17 +215,14 @@ public class CoRIMHandlerIT {
 
         final var appContext = prepareAppContext(dpConnector, data.isAllowedUnsigned(), rootFingerprint);
 
-        try (var appContextStaticMock = mockStatic(AppContext.class)) {
-            when(AppContext.instance()).thenReturn(appContext);
-            final EvidenceVerifier sutWithMockedDpConnector = new EvidenceVerifier(new RimHandlersProvider());
+        final EvidenceVerifier sutWithMockedDpConnector = new EvidenceVerifier(new RimHandlersProvider(appContext));
 
-            // when
-            final var result = sutWithMockedDpConnector.verify(tcbInfoAggregator, testData.getTestData());
+        // when
+        final var result = sutWithMockedDpConnector.verify(tcbInfoAggregator, testData.getTestData());
 
-            // then
-            assertEquals(VerificationResult.PASSED, result);
-            verifyLogExists(loggerTestUtil, "Stop parsing nested locators at level: 16", Level.DEBUG);
-        }
+        // then
+        assertEquals(VerificationResult.PASSED, result);
+        verifyLogExists(loggerTestUtil, "Stop parsing nested locators at level: 16", Level.DEBUG);
     }
 
     @Test
@@ -249,17 +236,14 @@ public class CoRIMHandlerIT {
         final var rootFingerprint = mockDiceChain(keyPair, dpConnector, testData.getCerLink());
 
         final var appContext = prepareAppContext(dpConnector, params.isAllowedUnsigned(), rootFingerprint);
-        try (var appContextStaticMock = mockStatic(AppContext.class)) {
-            when(AppContext.instance()).thenReturn(appContext);
-            final EvidenceVerifier sutWithMockedDpConnector = new EvidenceVerifier(new RimHandlersProvider());
+        final EvidenceVerifier sutWithMockedDpConnector = new EvidenceVerifier(new RimHandlersProvider(appContext));
 
-            // when - then
-            assertTrue(X509CertificateUtils.isSelfSigned(rootCertificate));
-            final var result = sutWithMockedDpConnector.verify(tcbInfoAggregator, testData.getTestData());
+        // when - then
+        assertTrue(X509CertificateUtils.isSelfSigned(rootCertificate));
+        final var result = sutWithMockedDpConnector.verify(tcbInfoAggregator, testData.getTestData());
 
-            // then
-            assertEquals(VerificationResult.ERROR, result);
-        }
+        // then
+        assertEquals(VerificationResult.ERROR, result);
     }
 
     private static DistributionPointConnector mockDesignDistributionPointData(Map<String, byte[]> inputData) {
@@ -288,7 +272,7 @@ public class CoRIMHandlerIT {
 
     private static AppContext prepareAppContext(DistributionPointConnector dpConnector, boolean acceptUnsigned,
                                                 String rootFingerprint) {
-        final var appContext = spy(AppContext.instance());
+        final var appContext = spy(AppContext.create());
         when(appContext.getDpConnector()).thenReturn(dpConnector);
         final String[] trustedRootHash = new String[]{rootFingerprint};
         when(appContext.getDpTrustedRootHashes()).thenReturn(trustedRootHash);
@@ -43,6 +43,7 @@ import com.intel.bkp.fpgacerts.verification.EvidenceVerifier;
 import com.intel.bkp.fpgacerts.verification.VerificationResult;
 import com.intel.bkp.protocol.spdm.model.SpdmMeasurementResponse;
 import com.intel.bkp.protocol.spdm.model.SpdmMeasurementResponseBuilder;
+import com.intel.bkp.verifier.service.certificate.AppContext;
 import com.intel.bkp.verifier.service.measurements.RimHandlersProvider;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Tag;
@@ -82,7 +83,7 @@ public class EvidenceVerifierSpdmTestIT {
         new SpdmMeasurementResponseToTcbInfoMapper();
     private final TcbInfoMeasurementsAggregator tcbInfoMeasurementsAggregator = new TcbInfoMeasurementsAggregator();
 
-    private final EvidenceVerifier sut = new EvidenceVerifier(new RimHandlersProvider());
+    private final EvidenceVerifier sut = new EvidenceVerifier(new RimHandlersProvider(AppContext.create()));
 
     @BeforeAll
     static void init() throws Exception {
@@ -51,17 +51,15 @@ import java.util.Optional;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class JceSecurityConfiguration {
 
-    private static ISecurityProvider securityProvider = null;
-
+    /**
+     * Creates security provider owned by the caller. JCE provider itself is registered once per JVM.
+     */
     public static ISecurityProvider getSecurityProvider(SecurityProviderParams securityProviderParams) {
-        if (securityProvider == null) {
-            initializeJceProvider(getProviderClassName(securityProviderParams));
+        initializeJceProvider(getProviderClassName(securityProviderParams));
 
-            securityProvider = new JceSecurityProvider(securityProviderParams,
-                () -> KeystoreManagerChooser.choose(securityProviderParams.getProvider().getFileBased())
-            );
-        }
-        return securityProvider;
+        return new JceSecurityProvider(securityProviderParams,
+            () -> KeystoreManagerChooser.choose(securityProviderParams.getProvider().getFileBased())
+        );
     }
 
     private static String getProviderClassName(SecurityProviderParams params) {
@@ -71,9 +69,12 @@ public class JceSecurityConfiguration {
             .orElseThrow(() -> new InternalLibraryException("Provide security provider params in config"));
     }
 
-    private static void initializeJceProvider(String name) {
+    private static synchronized void initializeJceProvider(String name) {
         try {
-            Security.addProvider((Provider)Class.forName(name).getConstructor().newInstance());
+            final Provider provider = (Provider)Class.forName(name).getConstructor().newInstance();
+            if (Security.getProvider(provider.getName()) == null) {
+                Security.addProvider(provider);
+            }
         } catch (InstantiationException | IllegalAccessException
             | InvocationTargetException | NoSuchMethodException | ClassNotFoundException e) {
             throw new JceSecurityProviderException("Failed to initialize security provider using class: " + name, e);
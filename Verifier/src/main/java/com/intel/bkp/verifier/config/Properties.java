@@ -42,6 +42,8 @@ public class Properties {
     public static final String REQUIRE_IID_UDS = "require-iid-uds";
     public static final String TEST_MODE_SECRETS = "test-mode-secrets";
     public static final String ACCEPT_UNSIGNED_CORIM = "accept-unsigned-corim";
+    public static final String BATCH_MAX_CONCURRENCY = "batch-max-concurrency";
+    public static final String CHAIN_VERIFICATION_THREADS = "chain-verification-threads";
     public static final String DISTRIBUTION_POINT_GROUP = "distribution-point";
     public static final String TRUSTED_ROOT_HASH_GROUP = "trusted-root-hash";
     public static final String PROXY_GROUP = "proxy";
@@ -60,6 +62,9 @@ public class Properties {
     public static final String DISTRIBUTION_POINT_ATT_CERT_PATH = "attestation-cert-base-path";
     public static final String DISTRIBUTION_POINT_PROXY_HOST = "host";
     public static final String DISTRIBUTION_POINT_PROXY_PORT = "port";
+    public static final String DISTRIBUTION_POINT_OFFLINE_MODE = "offline-mode";
+    public static final String DISTRIBUTION_POINT_CACHE_TTL_HOURS = "cache-ttl-hours";
+    public static final String DISTRIBUTION_POINT_OFFLINE_MAX_STALE_HOURS = "offline-max-stale-hours";
 
     public static final String VERIFIER_KEY_PARAMS_SINGLE_ROOT_QKY_CHAIN_PATH = "single-chain-path";
     public static final String VERIFIER_KEY_PARAMS_MULTI_ROOT_QKY_CHAIN_PATH = "multi-chain-path";
@@ -33,5 +33,7 @@
 package com.intel.bkp.verifier.database;
 
 public enum CacheEntityType {
-    S10
+    S10,
+    DEVICE_CAPABILITY,
+    DISTRIBUTION_POINT
 }
@@ -36,50 +36,104 @@ import com.intel.bkp.verifier.exceptions.DatabaseException;
 import com.intel.bkp.verifier.model.DatabaseConfiguration;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.dbutils.DbUtils;
+import org.sqlite.SQLiteConfig;
 
 import java.io.File;
-import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Small pool of SQLite connections in WAL mode, so concurrent attestations (in one or several processes) can read
+ * while another one writes. Writers wait up to busy timeout for each other instead of failing with SQLITE_BUSY.
+ *
+ * <p>Each pool is owned by the {@link SQLiteHelper} that created it, so closing one Verifier context does not close
+ * connections used by another one.</p>
+ */
 @Slf4j
 public class DatabaseManager {
 
     private static final String DATABASE_NAME = "verifier_core.sqlite";
-
-    private static DatabaseManager INSTANCE;
+    static final int MAX_CONNECTIONS = 8;
+    static final int BUSY_TIMEOUT_MILLIS = 10_000;
 
     private final DatabaseConfiguration dbConfig;
 
-    private Connection connection;
+    private final Semaphore permits = new Semaphore(MAX_CONNECTIONS, true);
+    private final BlockingQueue<PooledConnection> idleConnections = new LinkedBlockingQueue<>();
+    private final Set<PooledConnection> openConnections = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
 
-    private DatabaseManager(DatabaseConfiguration dbConfig) {
+    public DatabaseManager(DatabaseConfiguration dbConfig) {
         this.dbConfig = dbConfig;
     }
 
-    private DatabaseManager() {
+    DatabaseManager() {
         this.dbConfig = null;
     }
 
-    public static DatabaseManager instance(DatabaseConfiguration dbConfig) {
-        if (INSTANCE == null) {
-            log.debug("Creating instance of DatabaseManager.");
-            INSTANCE = new DatabaseManager(dbConfig);
+    /**
+     * Borrows connection from the pool, blocking if all connections are in use. Must be closed after use.
+     */
+    public PooledConnection getConnection() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseException("Interrupted while waiting for database connection", null);
+        }
+
+        if (closed) {
+            permits.release();
+            throw new DatabaseException("Database is closed", null);
         }
-        return INSTANCE;
-    }
 
-    public Connection getConnection() {
         try {
-            if (connection == null || connection.isClosed()) {
-                connection = DriverManager.getConnection(getJdbcUrl());
+            PooledConnection connection = idleConnections.poll();
+            while (connection != null && connection.isClosed()) {
+                openConnections.remove(connection);
+                connection = idleConnections.poll();
+            }
+            if (connection == null) {
+                connection = openConnection();
             }
+            connection.checkOut();
+            return connection;
         } catch (Exception e) {
+            permits.release();
             throw new DatabaseException("Failed to initialize database connection", e);
         }
+    }
+
+    private PooledConnection openConnection() throws SQLException {
+        final SQLiteConfig config = new SQLiteConfig();
+        config.setJournalMode(SQLiteConfig.JournalMode.WAL);
+        config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        config.setBusyTimeout(BUSY_TIMEOUT_MILLIS);
+        config.setTransactionMode(SQLiteConfig.TransactionMode.IMMEDIATE);
+
+        final PooledConnection connection = new PooledConnection(
+            DriverManager.getConnection(getJdbcUrl(), config.toProperties()), this::release);
+        openConnections.add(connection);
+        log.debug("Opened database connection, currently open: {}", openConnections.size());
         return connection;
     }
 
+    private void release(PooledConnection connection) {
+        if (closed) {
+            openConnections.remove(connection);
+            connection.closePhysically();
+        } else {
+            idleConnections.offer(connection);
+        }
+        permits.release();
+    }
+
     @SneakyThrows
     String getJdbcUrl() {
         final String url;
@@ -92,7 +146,34 @@ public class DatabaseManager {
         return "jdbc:sqlite:" + url;
     }
 
+    /**
+     * Closes the pool. Waits up to busy timeout for borrowed connections to be returned, so queries in progress are
+     * not interrupted. Connections returned later are closed on return.
+     */
     public void closeDatabase() {
-        DbUtils.closeQuietly(connection);
+        closed = true;
+        final boolean allReturned = acquireAllPermits();
+
+        PooledConnection connection;
+        while ((connection = idleConnections.poll()) != null) {
+            openConnections.remove(connection);
+            connection.closePhysically();
+        }
+
+        if (allReturned) {
+            permits.release(MAX_CONNECTIONS);
+        } else {
+            log.warn("Database closed while {} connection(s) still in use, they will be closed when returned.",
+                openConnections.size());
+        }
+    }
+
+    private boolean acquireAllPermits() {
+        try {
+            return permits.tryAcquire(MAX_CONNECTIONS, BUSY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 }
@@ -33,17 +33,20 @@
 package com.intel.bkp.verifier.database;
 
 import com.intel.bkp.verifier.database.repository.CacheEntityServiceBase;
+import com.intel.bkp.verifier.database.repository.DeviceCapabilityCacheService;
+import com.intel.bkp.verifier.database.repository.DistributionPointCacheService;
 import com.intel.bkp.verifier.database.repository.S10CacheEntityService;
 import com.intel.bkp.verifier.model.DatabaseConfiguration;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.dbutils.QueryRunner;
 import org.apache.commons.dbutils.handlers.ScalarHandler;
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.stream.Stream;
 
+import static com.intel.bkp.verifier.database.CacheEntityType.DEVICE_CAPABILITY;
+import static com.intel.bkp.verifier.database.CacheEntityType.DISTRIBUTION_POINT;
 import static com.intel.bkp.verifier.database.CacheEntityType.S10;
 import static java.util.stream.Collectors.toUnmodifiableMap;
 
@@ -53,24 +56,24 @@ public class SQLiteHelper implements AutoCloseable {
     /**
      * Updating database schema requires updating CURRENT_SCHEMA_VERSION.
      */
-    private static final int CURRENT_SCHEMA_VERSION = 1;
+    private static final int CURRENT_SCHEMA_VERSION = 3;
 
 
     private static final String SQL_SCHEMA_VERSION = "PRAGMA user_version";
 
     private final DatabaseManager databaseManager;
-    private final Connection connection;
 
     private Map<CacheEntityType, CacheEntityServiceBase> entityServices;
 
     private final QueryRunner runner = new QueryRunner();
 
     public SQLiteHelper(DatabaseConfiguration dbConfig) {
-        this.databaseManager = DatabaseManager.instance(dbConfig);
-        this.connection = databaseManager.getConnection();
+        this.databaseManager = new DatabaseManager(dbConfig);
 
         entityServices = Stream.of(
-            new S10CacheEntityService(connection)
+            new S10CacheEntityService(databaseManager),
+            new DeviceCapabilityCacheService(databaseManager),
+            new DistributionPointCacheService(databaseManager)
         ).collect(toUnmodifiableMap(CacheEntityServiceBase::getCacheEntityType, s -> s));
 
         final int oldVersion = getDatabaseVersion();
@@ -90,9 +93,17 @@ public class SQLiteHelper implements AutoCloseable {
         return (S10CacheEntityService)entityServices.get(S10);
     }
 
+    public DeviceCapabilityCacheService getDeviceCapabilityCacheService() {
+        return (DeviceCapabilityCacheService)entityServices.get(DEVICE_CAPABILITY);
+    }
+
+    public DistributionPointCacheService getDistributionPointCacheService() {
+        return (DistributionPointCacheService)entityServices.get(DISTRIBUTION_POINT);
+    }
+
     private int getDatabaseVersion() {
-        try {
-            return runner.query(connection, SQL_SCHEMA_VERSION, new ScalarHandler<>());
+        try (PooledConnection connection = databaseManager.getConnection()) {
+            return runner.query(connection.getConnection(), SQL_SCHEMA_VERSION, new ScalarHandler<>());
         } catch (SQLException e) {
             log.error("Database error: {}", e.getMessage());
             log.debug("Stacktrace: ", e);
@@ -101,8 +112,9 @@ public class SQLiteHelper implements AutoCloseable {
     }
 
     private void setDatabaseVersion() {
-        try {
-            runner.update(connection, String.format("%s = %d", SQL_SCHEMA_VERSION, CURRENT_SCHEMA_VERSION));
+        try (PooledConnection connection = databaseManager.getConnection()) {
+            runner.update(connection.getConnection(),
+                String.format("%s = %d", SQL_SCHEMA_VERSION, CURRENT_SCHEMA_VERSION));
         } catch (SQLException e) {
             log.error("Database error: {}", e.getMessage());
             log.debug("Stacktrace: ", e);
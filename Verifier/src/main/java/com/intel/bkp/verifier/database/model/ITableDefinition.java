@@ -44,5 +44,9 @@ public interface ITableDefinition {
 
     String getSelectSQL();
 
+    String getSelectByKeySQL();
+
+    String getDeleteSQL();
+
     Map<Integer, String> getMigrationQuery();
 }
@@ -33,6 +33,8 @@
 package com.intel.bkp.verifier.database.repository;
 
 import com.intel.bkp.verifier.database.CacheEntityType;
+import com.intel.bkp.verifier.database.DatabaseManager;
+import com.intel.bkp.verifier.database.PooledConnection;
 import com.intel.bkp.verifier.database.model.IMigratable;
 import com.intel.bkp.verifier.database.model.ITableDefinition;
 import com.intel.bkp.verifier.exceptions.DatabaseException;
@@ -42,7 +44,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.dbutils.QueryRunner;
 import org.apache.commons.dbutils.ResultSetHandler;
 
-import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.Optional;
@@ -55,7 +58,7 @@ public abstract class CacheEntityServiceBase implements IMigratable {
 
     @Getter
     protected final CacheEntityType cacheEntityType;
-    protected final Connection connection;
+    protected final DatabaseManager databaseManager;
     protected final ITableDefinition tableDefinition;
     private final QueryRunner runner = new QueryRunner();
 
@@ -71,10 +74,10 @@ public abstract class CacheEntityServiceBase implements IMigratable {
             .orElse(Map.of());
 
         if (migrationQuery.containsKey(currentMigrationVersion)) {
-            try {
+            try (PooledConnection connection = databaseManager.getConnection()) {
                 log.debug("Migrating table {} to version {}: {}", tableDefinition.getTableName(),
                     currentMigrationVersion + 1, fromOrdinal(currentMigrationVersion).getDescription());
-                runner.update(connection, migrationQuery.get(currentMigrationVersion));
+                runner.update(connection.getConnection(), migrationQuery.get(currentMigrationVersion));
             } catch (SQLException e) {
                 throw new DatabaseException("Failed to update database schema: " + tableDefinition.getTableName(), e);
             }
@@ -83,7 +86,15 @@ public abstract class CacheEntityServiceBase implements IMigratable {
 
     <T> T select(ResultSetHandler<T> handler) {
         try {
-            return runner.query(connection, tableDefinition.getSelectSQL(), handler);
+            return query(tableDefinition.getSelectSQL(), handler);
+        } catch (SQLException e) {
+            throw new DatabaseException("Failed to select from: " + tableDefinition.getTableName(), e);
+        }
+    }
+
+    <T> T selectByKey(ResultSetHandler<T> handler, Object key) {
+        try {
+            return query(tableDefinition.getSelectByKeySQL(), handler, key);
         } catch (SQLException e) {
             throw new DatabaseException("Failed to select from: " + tableDefinition.getTableName(), e);
         }
@@ -91,9 +102,35 @@ public abstract class CacheEntityServiceBase implements IMigratable {
 
     void insert(Object[] params) {
         try {
-            runner.update(connection, tableDefinition.getInsertSQL(), params);
+            update(tableDefinition.getInsertSQL(), params);
         } catch (SQLException e) {
             throw new DatabaseException("Failed to create row in: " + tableDefinition.getTableName(), e);
         }
     }
+
+    void delete(Object key) {
+        try {
+            update(tableDefinition.getDeleteSQL(), key);
+        } catch (SQLException e) {
+            throw new DatabaseException("Failed to delete row from: " + tableDefinition.getTableName(), e);
+        }
+    }
+
+    private <T> T query(String sql, ResultSetHandler<T> handler, Object... params) throws SQLException {
+        try (PooledConnection connection = databaseManager.getConnection()) {
+            final PreparedStatement statement = connection.prepareStatement(sql);
+            runner.fillStatement(statement, params);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return handler.handle(resultSet);
+            }
+        }
+    }
+
+    private void update(String sql, Object... params) throws SQLException {
+        try (PooledConnection connection = databaseManager.getConnection()) {
+            final PreparedStatement statement = connection.prepareStatement(sql);
+            runner.fillStatement(statement, params);
+            statement.executeUpdate();
+        }
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.database.repository;
+
+import com.intel.bkp.verifier.database.CacheEntityType;
+import com.intel.bkp.verifier.database.DatabaseManager;
+import com.intel.bkp.verifier.database.model.DeviceCapabilityEntity;
+import com.intel.bkp.verifier.database.table.DeviceCapabilityTableDefinition;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.dbutils.handlers.BeanHandler;
+
+import java.util.Optional;
+
+@Slf4j
+public class DeviceCapabilityCacheService extends CacheEntityServiceBase {
+
+    public DeviceCapabilityCacheService(DatabaseManager databaseManager) {
+        super(CacheEntityType.DEVICE_CAPABILITY, databaseManager, new DeviceCapabilityTableDefinition());
+    }
+
+    public DeviceCapabilityCacheService store(DeviceCapabilityEntity entity) {
+        log.debug("Insert capabilities for transportId: {}", entity.getTransportId());
+        insert(getParams(entity));
+        return this;
+    }
+
+    public Optional<DeviceCapabilityEntity> read(String transportId) {
+        log.debug("Reading cached capabilities for transportId: {}", transportId);
+        return Optional.ofNullable(selectByKey(getResultHandler(), transportId));
+    }
+
+    public void remove(String transportId) {
+        log.debug("Removing cached capabilities for transportId: {}", transportId);
+        delete(transportId);
+    }
+
+    private Object[] getParams(DeviceCapabilityEntity entity) {
+        return new Object[] {
+            entity.getTransportId(),
+            entity.getProtocol(),
+            entity.getSpdmVersion(),
+            entity.getUpdatedAt()
+        };
+    }
+
+    private BeanHandler<DeviceCapabilityEntity> getResultHandler() {
+        return new BeanHandler<>(DeviceCapabilityEntity.class);
+    }
+}
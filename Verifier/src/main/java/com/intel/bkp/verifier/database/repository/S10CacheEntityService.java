@@ -33,12 +33,12 @@
 package com.intel.bkp.verifier.database.repository;
 
 import com.intel.bkp.verifier.database.CacheEntityType;
+import com.intel.bkp.verifier.database.DatabaseManager;
 import com.intel.bkp.verifier.database.model.S10CacheEntity;
 import com.intel.bkp.verifier.database.table.S10TableDefinition;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.dbutils.handlers.BeanListHandler;
 
-import java.sql.Connection;
 import java.util.Optional;
 
 import static com.intel.bkp.utils.HexConverter.toHex;
@@ -46,8 +46,8 @@ import static com.intel.bkp.utils.HexConverter.toHex;
 @Slf4j
 public class S10CacheEntityService extends CacheEntityServiceBase {
 
-    public S10CacheEntityService(Connection connection) {
-        super(CacheEntityType.S10, connection, new S10TableDefinition());
+    public S10CacheEntityService(DatabaseManager databaseManager) {
+        super(CacheEntityType.S10, databaseManager, new S10TableDefinition());
     }
 
     public S10CacheEntityService store(S10CacheEntity entity) {
@@ -0,0 +1,102 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.database.table;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.intel.bkp.verifier.database.table.DeviceCapabilityTableDefinition.Columns.PROTOCOL;
+import static com.intel.bkp.verifier.database.table.DeviceCapabilityTableDefinition.Columns.SPDM_VERSION;
+import static com.intel.bkp.verifier.database.table.DeviceCapabilityTableDefinition.Columns.TRANSPORT_ID;
+import static com.intel.bkp.verifier.database.table.DeviceCapabilityTableDefinition.Columns.UPDATED_AT;
+import static com.intel.bkp.verifier.database.table.SQLiteChangelog.V2;
+
+@Getter
+public final class DeviceCapabilityTableDefinition extends TableDefinitionBase {
+
+    static final String TABLE_NAME = "device_capability_cache";
+
+    private final Map<Integer, String> migrationQuery = new LinkedHashMap<>(
+        Map.of(V2.ordinal(), getTableDefinition())
+    // here goes ALTER sql for each version
+    );
+
+    @Override
+    public String getTableName() {
+        return TABLE_NAME;
+    }
+
+    @Override
+    protected void getColumnsForCreateTable(StringBuilder sb) {
+        buildColumnCreate(sb, TRANSPORT_ID.getColName(), "TEXT PRIMARY KEY UNIQUE");
+        buildColumnCreate(sb, PROTOCOL.getColName(), "TEXT NOT NULL");
+        buildColumnCreate(sb, SPDM_VERSION.getColName(), "TEXT");
+        buildColumnCreate(sb, UPDATED_AT.getColName(), "INTEGER NOT NULL", false);
+    }
+
+    @Override
+    protected void getColumnsForInsert(StringBuilder sb) {
+        buildColumnInsert(sb, TRANSPORT_ID.getColName());
+        buildColumnInsert(sb, PROTOCOL.getColName());
+        buildColumnInsert(sb, SPDM_VERSION.getColName());
+        buildColumnInsert(sb, UPDATED_AT.getColName(), false);
+    }
+
+    @Override
+    protected int getColumnLength() {
+        return Columns.getColumnLength();
+    }
+
+    @Override
+    protected String getKeyColumnName() {
+        return TRANSPORT_ID.getColName();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    enum Columns {
+        TRANSPORT_ID("transportid"),
+        PROTOCOL("protocol"),
+        SPDM_VERSION("spdmversion"),
+        UPDATED_AT("updatedat"); // epoch millis
+
+        private final String colName;
+
+        private static int getColumnLength() {
+            return values().length;
+        }
+    }
+}
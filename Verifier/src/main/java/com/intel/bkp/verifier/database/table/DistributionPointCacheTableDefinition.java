@@ -0,0 +1,110 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.database.table;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.intel.bkp.verifier.database.table.DistributionPointCacheTableDefinition.Columns.CONTENT;
+import static com.intel.bkp.verifier.database.table.DistributionPointCacheTableDefinition.Columns.ETAG;
+import static com.intel.bkp.verifier.database.table.DistributionPointCacheTableDefinition.Columns.EXPIRES_AT;
+import static com.intel.bkp.verifier.database.table.DistributionPointCacheTableDefinition.Columns.LAST_MODIFIED;
+import static com.intel.bkp.verifier.database.table.DistributionPointCacheTableDefinition.Columns.UPDATED_AT;
+import static com.intel.bkp.verifier.database.table.DistributionPointCacheTableDefinition.Columns.URL;
+import static com.intel.bkp.verifier.database.table.SQLiteChangelog.V3;
+
+@Getter
+public final class DistributionPointCacheTableDefinition extends TableDefinitionBase {
+
+    static final String TABLE_NAME = "distribution_point_cache";
+
+    private final Map<Integer, String> migrationQuery = new LinkedHashMap<>(
+        Map.of(V3.ordinal(), getTableDefinition())
+    // here goes ALTER sql for each version
+    );
+
+    @Override
+    public String getTableName() {
+        return TABLE_NAME;
+    }
+
+    @Override
+    protected void getColumnsForCreateTable(StringBuilder sb) {
+        buildColumnCreate(sb, URL.getColName(), "TEXT PRIMARY KEY UNIQUE");
+        buildColumnCreate(sb, CONTENT.getColName(), "BLOB NOT NULL");
+        buildColumnCreate(sb, ETAG.getColName(), "TEXT");
+        buildColumnCreate(sb, LAST_MODIFIED.getColName(), "TEXT");
+        buildColumnCreate(sb, EXPIRES_AT.getColName(), "INTEGER NOT NULL");
+        buildColumnCreate(sb, UPDATED_AT.getColName(), "INTEGER NOT NULL", false);
+    }
+
+    @Override
+    protected void getColumnsForInsert(StringBuilder sb) {
+        buildColumnInsert(sb, URL.getColName());
+        buildColumnInsert(sb, CONTENT.getColName());
+        buildColumnInsert(sb, ETAG.getColName());
+        buildColumnInsert(sb, LAST_MODIFIED.getColName());
+        buildColumnInsert(sb, EXPIRES_AT.getColName());
+        buildColumnInsert(sb, UPDATED_AT.getColName(), false);
+    }
+
+    @Override
+    protected int getColumnLength() {
+        return Columns.getColumnLength();
+    }
+
+    @Override
+    protected String getKeyColumnName() {
+        return URL.getColName();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    enum Columns {
+        URL("url"),
+        CONTENT("content"), // DER certificate, CRL or (X)CoRIM
+        ETAG("etag"),
+        LAST_MODIFIED("lastmodified"),
+        EXPIRES_AT("expiresat"), // epoch millis
+        UPDATED_AT("updatedat"); // epoch millis
+
+        private final String colName;
+
+        private static int getColumnLength() {
+            return values().length;
+        }
+    }
+}
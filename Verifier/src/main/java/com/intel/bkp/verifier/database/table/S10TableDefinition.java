@@ -83,6 +83,11 @@ public final class S10TableDefinition extends TableDefinitionBase {
         return Columns.getColumnLength();
     }
 
+    @Override
+    protected String getKeyColumnName() {
+        return UID.getColName();
+    }
+
     @Getter
     @AllArgsConstructor
     enum Columns {
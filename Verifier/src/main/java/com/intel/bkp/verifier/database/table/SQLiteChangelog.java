@@ -41,7 +41,9 @@ import java.util.Arrays;
 @AllArgsConstructor
 public enum SQLiteChangelog {
     // enum order matters!
-    V1("Create table s10_cache.");
+    V1("Create table s10_cache."),
+    V2("Create table device_capability_cache."),
+    V3("Create table distribution_point_cache.");
 
     private final String description;
 
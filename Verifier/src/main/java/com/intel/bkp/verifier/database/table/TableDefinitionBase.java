@@ -45,6 +45,9 @@ public abstract class TableDefinitionBase implements ITableDefinition {
     private static final String REPLACE_INTO = "REPLACE INTO";
     private static final String VALUES = "VALUES";
     private  static final String SELECT_FROM = "SELECT * FROM ";
+    private static final String DELETE_FROM = "DELETE FROM ";
+    private static final String WHERE = " WHERE ";
+    private static final String EQUALS_PARAM = " = ?";
 
     protected abstract void getColumnsForCreateTable(StringBuilder sb);
 
@@ -52,6 +55,8 @@ public abstract class TableDefinitionBase implements ITableDefinition {
 
     protected abstract int getColumnLength();
 
+    protected abstract String getKeyColumnName();
+
     void buildColumnCreate(StringBuilder sb, String colName, String type) {
         buildColumnCreate(sb, colName, type, true);
     }
@@ -73,6 +78,16 @@ public abstract class TableDefinitionBase implements ITableDefinition {
         return SELECT_FROM + getTableName();
     }
 
+    @Override
+    public String getSelectByKeySQL() {
+        return SELECT_FROM + getTableName() + WHERE + getKeyColumnName() + EQUALS_PARAM;
+    }
+
+    @Override
+    public String getDeleteSQL() {
+        return DELETE_FROM + getTableName() + WHERE + getKeyColumnName() + EQUALS_PARAM;
+    }
+
     @Override
     public String getTableDefinition() {
         final StringBuilder sb = new StringBuilder(CREATE_TABLE_IF_NOT_EXISTS);
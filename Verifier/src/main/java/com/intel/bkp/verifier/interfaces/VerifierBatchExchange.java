@@ -0,0 +1,53 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.interfaces;
+
+import com.intel.bkp.verifier.model.dto.DeviceAttestationRequestDTO;
+import com.intel.bkp.verifier.model.dto.VerifierExchangeResponseDTO;
+
+import java.util.List;
+
+public interface VerifierBatchExchange {
+
+    /**
+     * Get device attestation for multiple devices in parallel.
+     * Number of devices attested at the same time is limited by batch-max-concurrency configuration parameter.
+     *
+     * @param requests list of devices to attest, each with its transportId and hex content of RIM file
+     *     - see {@link VerifierExchange#getDeviceAttestation(String, String)}
+     *
+     * @return list of DTOs in the same order as requests, each with result where 0 is SUCCESS, 1 is FAIL, -1 is ERROR
+     *     along with deviceId of the platform attested
+     */
+    List<VerifierExchangeResponseDTO> getDeviceAttestation(List<DeviceAttestationRequestDTO> requests);
+}
@@ -59,4 +59,7 @@ public class LibConfig {
     private LibSpdmParams libSpdmParams;
     private boolean testModeSecrets;
     private boolean acceptUnsignedCorim;
+    private int batchMaxConcurrency;
+    private int chainVerificationThreads;
+    private DistributionPointCacheParams distributionPointCacheParams;
 }
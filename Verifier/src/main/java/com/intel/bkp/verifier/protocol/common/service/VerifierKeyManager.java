@@ -37,6 +37,7 @@ import com.intel.bkp.crypto.constants.SecurityKeyType;
 import com.intel.bkp.crypto.pem.PemFormatEncoder;
 import com.intel.bkp.crypto.pem.PemFormatHeader;
 import com.intel.bkp.verifier.exceptions.InternalLibraryException;
+import com.intel.bkp.verifier.service.certificate.AppContext;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -79,12 +80,12 @@ public class VerifierKeyManager {
         return true;
     }
 
-    public void initialize() {
-        createNewKey();
+    public void initialize(AppContext appContext) {
+        createNewKey(appContext);
     }
 
-    private void createNewKey() {
-        verifierRootChainManager.backupExistingChainFile();
+    private void createNewKey(AppContext appContext) {
+        verifierRootChainManager.backupExistingChainFile(appContext);
 
         final String guid = guidProvider.generateNewGuid();
         createKeyInSecurityEnclave(guid);
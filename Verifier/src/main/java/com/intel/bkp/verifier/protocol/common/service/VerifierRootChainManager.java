@@ -68,11 +68,7 @@ public class VerifierRootChainManager {
                : verifierRootQkyChain.getMultiChainPath();
     }
 
-    public void backupExistingChainFile() {
-        backupExistingChainFile(AppContext.instance());
-    }
-
-    void backupExistingChainFile(AppContext appContext) {
+    public void backupExistingChainFile(AppContext appContext) {
         backupExistingChainFile(appContext, RootChainType.SINGLE);
         backupExistingChainFile(appContext, RootChainType.MULTI);
     }
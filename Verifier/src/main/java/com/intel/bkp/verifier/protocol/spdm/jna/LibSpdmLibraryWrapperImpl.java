@@ -40,8 +40,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class LibSpdmLibraryWrapperImpl {
 
-    public static LibSpdmLibraryWrapper getInstance() {
-        final AppContext appContext = AppContext.instance();
+    public static LibSpdmLibraryWrapper getInstance(AppContext appContext) {
         return LibSpdmLibraryWrapper.getInstance(appContext.getLibConfig().getLibSpdmParams().getWrapperLibraryPath());
     }
 
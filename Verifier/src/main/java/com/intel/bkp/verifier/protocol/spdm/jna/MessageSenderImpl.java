@@ -35,6 +35,7 @@ package com.intel.bkp.verifier.protocol.spdm.jna;
 import com.intel.bkp.command.exception.JtagUnknownCommandResponseException;
 import com.intel.bkp.protocol.spdm.jna.model.MessageLogger;
 import com.intel.bkp.protocol.spdm.jna.model.MessageSender;
+import com.intel.bkp.verifier.service.certificate.AppContext;
 import lombok.extern.slf4j.Slf4j;
 
 import java.nio.ByteBuffer;
@@ -43,9 +44,13 @@ import java.util.Optional;
 @Slf4j
 public class MessageSenderImpl implements MessageSender {
 
-    private final SpdmMessageSender spdmMessageSender = new SpdmMessageSender();
+    private final SpdmMessageSender spdmMessageSender;
     private final MessageLogger messageLogger = new SpdmMessageResponseHandler();
 
+    public MessageSenderImpl(AppContext appContext) {
+        this.spdmMessageSender = new SpdmMessageSender(appContext);
+    }
+
     @Override
     public void sendMessage(ByteBuffer spdmContext, ByteBuffer buffer) throws JtagUnknownCommandResponseException {
         messageLogger.logMessage(buffer);
@@ -39,17 +39,22 @@ import com.intel.bkp.command.model.CommandIdentifier;
 import com.intel.bkp.command.model.CommandLayer;
 import com.intel.bkp.verifier.service.certificate.AppContext;
 import com.intel.bkp.verifier.transport.model.TransportLayer;
-import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 
 import java.nio.ByteBuffer;
 
-@NoArgsConstructor
+/**
+ * Sends SPDM messages over transport layer of the device session it was created for. Each SPDM context has its own
+ * callbacks bound, so concurrent device sessions never share a sender or its last response.
+ */
+@RequiredArgsConstructor
 public class SpdmMessageSender {
 
+    private final AppContext appContext;
+
     private byte[] response;
 
     void send(ByteBuffer buffer) throws JtagUnknownCommandResponseException {
-        final AppContext appContext = AppContext.instance();
         final CommandLayer commandLayer = appContext.getCommandLayer();
         final TransportLayer transportLayer = appContext.getTransportLayer();
 
@@ -60,8 +65,9 @@ public class SpdmMessageSender {
     }
 
     byte[] receive() {
-        final AppContext appContext = AppContext.instance();
         final CommandLayer commandLayer = appContext.getCommandLayer();
-        return commandLayer.retrieve(response, CommandIdentifier.MCTP);
+        final byte[] lastResponse = response;
+        response = null;
+        return commandLayer.retrieve(lastResponse, CommandIdentifier.MCTP);
     }
 }
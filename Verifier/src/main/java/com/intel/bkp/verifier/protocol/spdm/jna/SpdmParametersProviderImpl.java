@@ -36,16 +36,19 @@ import com.intel.bkp.protocol.spdm.jna.model.SpdmParametersProvider;
 import com.intel.bkp.protocol.spdm.jna.model.Uint32;
 import com.intel.bkp.protocol.spdm.jna.model.Uint8;
 import com.intel.bkp.verifier.service.certificate.AppContext;
+import lombok.RequiredArgsConstructor;
 
 import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.SPDM_ALGORITHMS_BASE_ASYM_ALGO_TPM_ALG_ECDSA_ECC_NIST_P384;
 import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.SPDM_ALGORITHMS_BASE_HASH_ALGO_TPM_ALG_SHA_384;
 import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.SPDM_MEASUREMENT_SPECIFICATION_DMTF;
 
+@RequiredArgsConstructor
 public class SpdmParametersProviderImpl implements SpdmParametersProvider {
 
+    private final AppContext appContext;
+
     @Override
     public Uint8 ctExponent() {
-        final AppContext appContext = AppContext.instance();
         return new Uint8(appContext.getLibConfig().getLibSpdmParams().getCtExponent());
     }
 
@@ -43,8 +43,11 @@ import lombok.extern.slf4j.Slf4j;
 @Getter(AccessLevel.PACKAGE)
 public class SpdmProtocol12Impl extends SpdmProtocol12 {
 
-    public SpdmProtocol12Impl() {
-        super(new MessageSenderImpl(), new SpdmParametersProviderImpl());
+    private final AppContext appContext;
+
+    public SpdmProtocol12Impl(AppContext appContext) {
+        super(new MessageSenderImpl(appContext), new SpdmParametersProviderImpl(appContext));
+        this.appContext = appContext;
     }
 
     @Override
@@ -57,7 +60,7 @@ public class SpdmProtocol12Impl extends SpdmProtocol12 {
         log.debug("Loading SPDM Wrapper library.");
 
         try {
-            this.jnaInterface = LibSpdmLibraryWrapperImpl.getInstance();
+            this.jnaInterface = LibSpdmLibraryWrapperImpl.getInstance(appContext);
         } catch (UnsatisfiedLinkError e) {
             throw new VerifierRuntimeException("Failed to link SPDM Wrapper library.", e);
         }
@@ -65,7 +68,6 @@ public class SpdmProtocol12Impl extends SpdmProtocol12 {
 
     @Override
     public boolean isMeasurementsRequestSignature() {
-        final AppContext appContext = AppContext.instance();
         return appContext.getLibConfig().getLibSpdmParams().isMeasurementsRequestSignature();
     }
 
@@ -48,18 +48,18 @@ public class SpdmChainSearcher extends SpdmChainSearcherBase {
     @Getter(value = AccessLevel.PROTECTED)
     private final String[] trustedRootHashes;
 
-    public SpdmChainSearcher(SpdmProtocol spdmProtocol) {
-        this(AppContext.instance(), spdmProtocol);
+    public SpdmChainSearcher(AppContext appContext, SpdmProtocol spdmProtocol) {
+        super(spdmProtocol, new IidAliasFlowDetector(appContext), prepareChainVerifier(appContext));
+        this.trustedRootHashes = appContext.getDpTrustedRootHashes();
     }
 
-    private SpdmChainSearcher(AppContext appContext, SpdmProtocol spdmProtocol) {
-        super(spdmProtocol, new IidAliasFlowDetector(),
-            new DiceAliasChainVerifier(
-                new DistributionPointCrlProvider(appContext.getDpConnector()),
-                appContext.getDpTrustedRootHashes(),
-                appContext.getLibConfig().isTestModeSecrets()
-            )
+    private static DiceAliasChainVerifier prepareChainVerifier(AppContext appContext) {
+        final DiceAliasChainVerifier chainVerifier = new DiceAliasChainVerifier(
+            new DistributionPointCrlProvider(appContext.getDpConnector()),
+            appContext.getDpTrustedRootHashes(),
+            appContext.getLibConfig().isTestModeSecrets()
         );
-        this.trustedRootHashes = appContext.getDpTrustedRootHashes();
+        chainVerifier.setVerificationExecutor(appContext.getChainVerificationExecutor());
+        return chainVerifier;
     }
 }
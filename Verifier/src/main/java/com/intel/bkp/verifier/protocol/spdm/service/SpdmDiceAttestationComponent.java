@@ -43,13 +43,16 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SpdmDiceAttestationComponent extends SpdmDiceAttestationComponentBase {
 
-    public SpdmDiceAttestationComponent(SpdmProtocol spdmProtocol) {
-        super(spdmProtocol, new SpdmChainSearcher(spdmProtocol), new RimHandlersProvider(),
-            new RimUrlProvider(new DistributionPointAddressProvider(AppContext.instance().getDpPathCer())));
+    private final AppContext appContext;
+
+    public SpdmDiceAttestationComponent(AppContext appContext, SpdmProtocol spdmProtocol) {
+        super(spdmProtocol, new SpdmChainSearcher(appContext, spdmProtocol), new RimHandlersProvider(appContext),
+            new RimUrlProvider(new DistributionPointAddressProvider(appContext.getDpPathCer())));
+        this.appContext = appContext;
     }
 
     @Override
     protected boolean withMeasurementsSignatureVerification() {
-        return AppContext.instance().getLibConfig().getLibSpdmParams().isMeasurementsRequestSignature();
+        return appContext.getLibConfig().getLibSpdmParams().isMeasurementsRequestSignature();
     }
 }
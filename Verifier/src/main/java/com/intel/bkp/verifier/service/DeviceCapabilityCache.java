@@ -0,0 +1,122 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.service;
+
+import com.intel.bkp.verifier.database.SQLiteHelper;
+import com.intel.bkp.verifier.database.model.DeviceCapabilityEntity;
+import com.intel.bkp.verifier.database.repository.DeviceCapabilityCacheService;
+import com.intel.bkp.verifier.exceptions.DatabaseException;
+import com.intel.bkp.verifier.model.VerifierProtocolType;
+import com.intel.bkp.verifier.service.certificate.AppContext;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static com.intel.bkp.verifier.model.VerifierProtocolType.SPDM;
+import static com.intel.bkp.verifier.service.GetDeviceAttestationComponentSpdm.SPDM_SUPPORTED_VERSION;
+
+/**
+ * Remembers which protocol was detected for a device (identified by transportId), so subsequent operations skip
+ * the GET_VERSION probe. Entries are dropped when they no longer match supported version or when operation
+ * performed with cached protocol fails. Cache failures never fail the operation itself.
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+class DeviceCapabilityCache {
+
+    private final DeviceCapabilityCacheService cacheService;
+    private final Clock clock;
+
+    static DeviceCapabilityCache from(AppContext appContext) {
+        final DeviceCapabilityCacheService service = Optional.ofNullable(appContext.getSqLiteHelper())
+            .map(SQLiteHelper::getDeviceCapabilityCacheService)
+            .orElse(null);
+        return new DeviceCapabilityCache(service, Clock.systemUTC());
+    }
+
+    Optional<VerifierProtocolType> get(String transportId) {
+        if (cacheService == null) {
+            return Optional.empty();
+        }
+
+        try {
+            final Optional<DeviceCapabilityEntity> entity = cacheService.read(transportId);
+            final Optional<VerifierProtocolType> protocol = entity.flatMap(this::toValidProtocol);
+            if (entity.isPresent() && protocol.isEmpty()) {
+                log.debug("Cached capabilities for transportId {} are outdated.", transportId);
+                cacheService.remove(transportId);
+            }
+            protocol.ifPresent(p -> log.debug("Using cached protocol {} for transportId: {}", p, transportId));
+            return protocol;
+        } catch (DatabaseException e) {
+            log.warn("Failed to read device capability cache: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    void put(String transportId, VerifierProtocolType protocol) {
+        if (cacheService == null) {
+            return;
+        }
+
+        final String spdmVersion = SPDM == protocol ? SPDM_SUPPORTED_VERSION : null;
+        try {
+            cacheService.store(new DeviceCapabilityEntity(transportId, protocol.name(), spdmVersion, clock.millis()));
+        } catch (DatabaseException e) {
+            log.warn("Failed to update device capability cache: {}", e.getMessage());
+        }
+    }
+
+    void invalidate(String transportId) {
+        if (cacheService == null) {
+            return;
+        }
+
+        try {
+            cacheService.remove(transportId);
+        } catch (DatabaseException e) {
+            log.warn("Failed to invalidate device capability cache: {}", e.getMessage());
+        }
+    }
+
+    private Optional<VerifierProtocolType> toValidProtocol(DeviceCapabilityEntity entity) {
+        return Arrays.stream(VerifierProtocolType.values())
+            .filter(type -> type.name().equals(entity.getProtocol()))
+            .filter(type -> SPDM != type || SPDM_SUPPORTED_VERSION.equals(entity.getSpdmVersion()))
+            .findFirst();
+    }
+}
@@ -42,7 +42,6 @@ import com.intel.bkp.protocol.spdm.service.SpdmVcaMessageSender;
 import com.intel.bkp.protocol.spdm.service.SpdmVersionVerifier;
 import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
 import com.intel.bkp.verifier.model.VerifierExchangeResponse;
-import com.intel.bkp.verifier.protocol.spdm.jna.SpdmProtocol12Impl;
 import com.intel.bkp.verifier.protocol.spdm.service.SpdmDiceAttestationComponent;
 import com.intel.bkp.verifier.service.certificate.AppContext;
 import lombok.AccessLevel;
@@ -60,20 +59,14 @@ public class GetDeviceAttestationComponentSpdm extends GetDeviceAttestationCompo
     private final SpdmVcaMessageSender spdmVcaMessageSender;
     private final SpdmVersionVerifier spdmVersionVerifier;
 
-    public GetDeviceAttestationComponentSpdm() {
-
-        final SpdmProtocol spdmProtocol = new SpdmProtocol12Impl();
+    public GetDeviceAttestationComponentSpdm(AppContext appContext, SpdmProtocol spdmProtocol) {
         this.spdmGetVersionMessageSender = new SpdmGetVersionMessageSender(spdmProtocol);
         this.spdmVcaMessageSender = new SpdmVcaMessageSender(spdmProtocol);
-        this.spdmDiceAttestationComponent = new SpdmDiceAttestationComponent(spdmProtocol);
+        this.spdmDiceAttestationComponent = new SpdmDiceAttestationComponent(appContext, spdmProtocol);
         this.spdmVersionVerifier = new SpdmVersionVerifier(SPDM_SUPPORTED_VERSION);
     }
 
     public VerifierExchangeResponse perform(String refMeasurementHex, byte[] deviceId) {
-        return perform(AppContext.instance(), refMeasurementHex, deviceId);
-    }
-
-    VerifierExchangeResponse perform(AppContext appContext, String refMeasurementHex, byte[] deviceId) {
         var response = VerifierExchangeResponse.ERROR;
         if (spdmSupported()) {
             response = runSpdmAttestation(refMeasurementHex, deviceId);
@@ -39,23 +39,22 @@ import com.intel.bkp.verifier.service.certificate.AppContext;
 import com.intel.bkp.verifier.transport.model.TransportLayer;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
-import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Optional;
 
 @Slf4j
 @AllArgsConstructor(access = AccessLevel.PACKAGE)
-@NoArgsConstructor
 public class InitSessionComponent {
 
-    private GetChipIdMessageSender getChipIdMessageSender = new GetChipIdMessageSender();
+    private final AppContext appContext;
+    private final GetChipIdMessageSender getChipIdMessageSender;
 
-    public byte[] initializeSessionForDeviceId() throws InitSessionFailedException {
-        return initializeSessionForDeviceId(AppContext.instance());
+    public InitSessionComponent(AppContext appContext) {
+        this(appContext, new GetChipIdMessageSender());
     }
 
-    byte[] initializeSessionForDeviceId(AppContext appContext) throws InitSessionFailedException {
+    public byte[] initializeSessionForDeviceId() throws InitSessionFailedException {
         final TransportLayer transportLayer = appContext.getTransportLayer();
         final CommandLayer commandLayer = appContext.getCommandLayer();
 
@@ -0,0 +1,145 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.service;
+
+import com.intel.bkp.verifier.interfaces.VerifierBatchExchange;
+import com.intel.bkp.verifier.interfaces.VerifierExchange;
+import com.intel.bkp.verifier.model.dto.DeviceAttestationRequestDTO;
+import com.intel.bkp.verifier.model.dto.VerifierExchangeResponseDTO;
+import com.intel.bkp.verifier.service.certificate.AppContext;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.intel.bkp.verifier.model.VerifierExchangeResponse.ERROR;
+
+/**
+ * Attests multiple devices in parallel. Devices share one {@link AppContext} (configuration, database, DP connector),
+ * while each device is handled on its own worker thread with its own session (transport layer, SPDM context).
+ *
+ * <p>The context is created by the first batch and reused by subsequent ones, together with its bounded device
+ * session executor. Close this object to release them.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class VerifierBatchExchangeImpl implements VerifierBatchExchange, AutoCloseable {
+
+    private final Supplier<AppContext> appContextFactory;
+    private final Function<Supplier<AppContext>, VerifierExchange> verifierExchangeFactory;
+
+    private AppContext sharedContext;
+
+    public VerifierBatchExchangeImpl() {
+        this(AppContext::create, VerifierExchangeImpl::new);
+    }
+
+    @Override
+    public List<VerifierExchangeResponseDTO> getDeviceAttestation(List<DeviceAttestationRequestDTO> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            final AppContext appContext = getSharedContext();
+            log.info("Batch attestation will be performed for {} devices, max {} at a time.",
+                requests.size(), appContext.getLibConfig().getBatchMaxConcurrency());
+            return attestInParallel(appContext, requests);
+        } catch (Exception e) {
+            log.error("Batch device attestation failed: {}", e.getMessage());
+            log.debug("Stacktrace: ", e);
+            return requests.stream()
+                .map(request -> errorResponse())
+                .toList();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (sharedContext != null) {
+            sharedContext.close();
+            sharedContext = null;
+        }
+    }
+
+    private synchronized AppContext getSharedContext() {
+        if (sharedContext == null) {
+            final AppContext appContext = appContextFactory.get();
+            try {
+                appContext.init();
+            } catch (RuntimeException e) {
+                appContext.close();
+                throw e;
+            }
+            sharedContext = appContext;
+        }
+        return sharedContext;
+    }
+
+    private List<VerifierExchangeResponseDTO> attestInParallel(AppContext appContext,
+                                                               List<DeviceAttestationRequestDTO> requests)
+        throws InterruptedException {
+        final VerifierExchange verifierExchange = verifierExchangeFactory.apply(appContext::forDevice);
+        final List<Callable<VerifierExchangeResponseDTO>> tasks = requests.stream()
+            .<Callable<VerifierExchangeResponseDTO>>map(request -> () -> verifierExchange
+                .getDeviceAttestation(request.getTransportId(), request.getRefMeasurementHex()))
+            .toList();
+        return appContext.getDeviceSessionExecutor().invokeAll(tasks).stream()
+            .map(this::getResult)
+            .toList();
+    }
+
+    private VerifierExchangeResponseDTO getResult(Future<VerifierExchangeResponseDTO> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Device attestation interrupted.");
+            return errorResponse();
+        } catch (ExecutionException e) {
+            log.error("Device attestation failed: {}", e.getCause().getMessage());
+            log.debug("Stacktrace: ", e.getCause());
+            return errorResponse();
+        }
+    }
+
+    private static VerifierExchangeResponseDTO errorResponse() {
+        return new VerifierExchangeResponseDTO(ERROR.getCode(), "");
+    }
+}
@@ -35,49 +35,63 @@ package com.intel.bkp.verifier.service;
 import com.intel.bkp.core.manufacturing.model.PufType;
 import com.intel.bkp.protocol.spdm.exceptions.SpdmNotSupportedException;
 import com.intel.bkp.protocol.spdm.exceptions.UnsupportedSpdmVersionException;
-import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
 import com.intel.bkp.protocol.spdm.service.SpdmGetVersionMessageSender;
 import com.intel.bkp.protocol.spdm.service.SpdmVersionVerifier;
 import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
 import com.intel.bkp.verifier.interfaces.VerifierExchange;
+import com.intel.bkp.verifier.model.VerifierProtocolType;
 import com.intel.bkp.verifier.model.dto.VerifierExchangeResponseDTO;
-import com.intel.bkp.verifier.protocol.spdm.jna.SpdmProtocol12Impl;
 import com.intel.bkp.verifier.service.certificate.AppContext;
 import com.intel.bkp.verifier.transport.model.TransportLayer;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import static com.intel.bkp.verifier.service.GetDeviceAttestationComponentSpdm.SPDM_SUPPORTED_VERSION;
 import static com.intel.bkp.verifier.model.VerifierExchangeResponse.ERROR;
+import static com.intel.bkp.verifier.model.VerifierProtocolType.SIGMA;
+import static com.intel.bkp.verifier.model.VerifierProtocolType.SPDM;
 import static com.intel.bkp.verifier.service.VerifierExchangeProtocol.logAttestationResult;
 
 @Slf4j
 @AllArgsConstructor(access = AccessLevel.PACKAGE)
 public class VerifierExchangeImpl implements VerifierExchange {
 
-    private final SpdmProtocol spdmProtocol = new SpdmProtocol12Impl();
     private final SpdmVersionVerifier spdmVersionVerifier = new SpdmVersionVerifier(SPDM_SUPPORTED_VERSION);
-    private final VerifierExchangeProtocolSpdm verifierExchangeProtocolSpdm;
-    private final VerifierExchangeProtocolSigma verifierExchangeProtocolSigma;
-    private final SpdmGetVersionMessageSender spdmGetVersionMessageSender;
+    private final Supplier<AppContext> appContextFactory;
+    private final Function<AppContext, VerifierExchangeSession> sessionFactory;
 
     public VerifierExchangeImpl() {
-        this.verifierExchangeProtocolSpdm = new VerifierExchangeProtocolSpdm();
-        this.verifierExchangeProtocolSigma = new VerifierExchangeProtocolSigma();
-        this.spdmGetVersionMessageSender = new SpdmGetVersionMessageSender(spdmProtocol);
+        this(AppContext::create);
+    }
+
+    /**
+     * Runs every operation in a context obtained from given factory, e.g. {@code sharedContext::forDevice}.
+     * The context is closed when the operation completes.
+     */
+    public VerifierExchangeImpl(Supplier<AppContext> appContextFactory) {
+        this(appContextFactory, VerifierExchangeSession::new);
     }
 
     @Override
     public int createDeviceAttestationSubKey(String transportId, String context, String pufType) {
-        try (AppContext appContext = AppContext.instance()) {
+        try (AppContext appContext = appContextFactory.get();
+             VerifierExchangeSession session = sessionFactory.apply(appContext)) {
             appContext.init();
             final TransportLayer transportLayer = appContext.getTransportLayer();
+            final DeviceCapabilityCache capabilityCache = DeviceCapabilityCache.from(appContext);
 
             try {
                 transportLayer.initialize(transportId);
-                return getProtocol().createSubKeyInternal(context, PufType.valueOf(pufType));
+                final int result = getProtocol(session, capabilityCache, transportId)
+                    .createSubKeyInternal(context, PufType.valueOf(pufType));
+                invalidateOnError(capabilityCache, transportId, result);
+                return result;
             } catch (Exception e) {
+                capabilityCache.invalidate(transportId);
                 log.error("Create attestation subkey failed: {}", e.getMessage());
                 log.debug("Stacktrace: ", e);
                 return ERROR.getCode();
@@ -95,14 +109,19 @@ public class VerifierExchangeImpl implements VerifierExchange {
     public VerifierExchangeResponseDTO getDeviceAttestation(String transportId, String refMeasurementHex) {
         var attestationResult = new VerifierExchangeResponseDTO(ERROR.getCode(), "");
 
-        try (AppContext appContext = AppContext.instance()) {
+        try (AppContext appContext = appContextFactory.get();
+             VerifierExchangeSession session = sessionFactory.apply(appContext)) {
             appContext.init();
             final TransportLayer transportLayer = appContext.getTransportLayer();
+            final DeviceCapabilityCache capabilityCache = DeviceCapabilityCache.from(appContext);
 
             try {
                 transportLayer.initialize(transportId);
-                attestationResult = getProtocol().getAttestationInternal(refMeasurementHex);
+                attestationResult = getProtocol(session, capabilityCache, transportId)
+                    .getAttestationInternal(refMeasurementHex);
+                invalidateOnError(capabilityCache, transportId, attestationResult.getStatus());
             } catch (Exception e) {
+                capabilityCache.invalidate(transportId);
                 log.error("Device attestation failed: {}", e.getMessage());
                 log.debug("Stacktrace: ", e);
             } finally {
@@ -120,14 +139,19 @@ public class VerifierExchangeImpl implements VerifierExchange {
 
     @Override
     public int healthCheck(String transportId) {
-        try (AppContext appContext = AppContext.instance()) {
+        try (AppContext appContext = appContextFactory.get();
+             VerifierExchangeSession session = sessionFactory.apply(appContext)) {
             appContext.init();
             final TransportLayer transportLayer = appContext.getTransportLayer();
+            final DeviceCapabilityCache capabilityCache = DeviceCapabilityCache.from(appContext);
 
             try {
                 transportLayer.initialize(transportId);
-                return getProtocol().healthCheckInternal(transportLayer);
+                final int result = getProtocol(session, capabilityCache, transportId).healthCheckInternal(transportLayer);
+                invalidateOnError(capabilityCache, transportId, result);
+                return result;
             } catch (Exception e) {
+                capabilityCache.invalidate(transportId);
                 log.error("Health check failed: {}", e.getMessage());
                 log.debug("Stacktrace: ", e);
                 return ERROR.getCode();
@@ -141,18 +165,28 @@ public class VerifierExchangeImpl implements VerifierExchange {
         }
     }
 
-    public VerifierExchangeProtocol getProtocol() {
-        final VerifierExchangeProtocol protocol;
+    VerifierExchangeProtocol getProtocol(VerifierExchangeSession session, DeviceCapabilityCache capabilityCache,
+                                         String transportId) {
+        final VerifierProtocolType protocolType = capabilityCache.get(transportId)
+            .orElseGet(() -> {
+                final VerifierProtocolType detected =
+                    spdmSupported(session.getSpdmGetVersionMessageSender()) ? SPDM : SIGMA;
+                capabilityCache.put(transportId, detected);
+                return detected;
+            });
+
+        return SPDM == protocolType
+            ? session.getVerifierExchangeProtocolSpdm()
+            : session.getVerifierExchangeProtocolSigma();
+    }
 
-        if (spdmSupported()) {
-            protocol = this.verifierExchangeProtocolSpdm;
-        } else {
-            protocol = this.verifierExchangeProtocolSigma;
+    private static void invalidateOnError(DeviceCapabilityCache capabilityCache, String transportId, int result) {
+        if (ERROR.getCode() == result) {
+            capabilityCache.invalidate(transportId);
         }
-        return protocol;
     }
 
-    public boolean spdmSupported() {
+    boolean spdmSupported(SpdmGetVersionMessageSender spdmGetVersionMessageSender) {
         try {
             final String responderVersion = spdmGetVersionMessageSender.send();
             log.debug("SPDM Responder version: {}", responderVersion);
@@ -32,7 +32,9 @@
 
 package com.intel.bkp.verifier.service;
 
+import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
 import com.intel.bkp.verifier.model.dto.VerifierExchangeResponseDTO;
+import com.intel.bkp.verifier.service.certificate.AppContext;
 import com.intel.bkp.verifier.transport.model.TransportLayer;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -50,9 +52,9 @@ public class VerifierExchangeProtocolSpdm extends VerifierExchangeProtocol {
     private final InitSessionComponent initSessionComponent;
     private final GetDeviceAttestationComponent getDeviceAttestationComponent;
 
-    VerifierExchangeProtocolSpdm() {
-        initSessionComponent = new InitSessionComponent();
-        getDeviceAttestationComponent = new GetDeviceAttestationComponentSpdm();
+    VerifierExchangeProtocolSpdm(AppContext appContext, SpdmProtocol spdmProtocol) {
+        initSessionComponent = new InitSessionComponent(appContext);
+        getDeviceAttestationComponent = new GetDeviceAttestationComponentSpdm(appContext, spdmProtocol);
     }
 
     @Override
@@ -0,0 +1,69 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.service;
+
+import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
+import com.intel.bkp.protocol.spdm.service.SpdmGetVersionMessageSender;
+import com.intel.bkp.verifier.protocol.spdm.jna.SpdmProtocol12Impl;
+import com.intel.bkp.verifier.service.certificate.AppContext;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Protocol components of a single Verifier operation, created for the device session the operation runs in.
+ * All of them share one SPDM context, which is released when the session is closed.
+ */
+@Getter(AccessLevel.PACKAGE)
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+class VerifierExchangeSession implements AutoCloseable {
+
+    private final SpdmProtocol spdmProtocol;
+    private final VerifierExchangeProtocolSpdm verifierExchangeProtocolSpdm;
+    private final VerifierExchangeProtocolSigma verifierExchangeProtocolSigma;
+    private final SpdmGetVersionMessageSender spdmGetVersionMessageSender;
+
+    VerifierExchangeSession(AppContext appContext) {
+        this(appContext, new SpdmProtocol12Impl(appContext));
+    }
+
+    private VerifierExchangeSession(AppContext appContext, SpdmProtocol spdmProtocol) {
+        this(spdmProtocol, new VerifierExchangeProtocolSpdm(appContext, spdmProtocol),
+            new VerifierExchangeProtocolSigma(), new SpdmGetVersionMessageSender(spdmProtocol));
+    }
+
+    @Override
+    public void close() throws Exception {
+        spdmProtocol.close();
+    }
+}
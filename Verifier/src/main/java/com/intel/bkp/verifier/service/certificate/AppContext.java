@@ -39,6 +39,7 @@ import com.intel.bkp.core.properties.Proxy;
 import com.intel.bkp.core.properties.TrustStore;
 import com.intel.bkp.core.security.ISecurityProvider;
 import com.intel.bkp.fpgacerts.dp.DistributionPointConnector;
+import com.intel.bkp.fpgacerts.dp.IDistributionPointConnector;
 import com.intel.bkp.utils.PathUtils;
 import com.intel.bkp.verifier.config.JceSecurityConfiguration;
 import com.intel.bkp.verifier.database.SQLiteHelper;
@@ -52,48 +53,79 @@ import com.intel.bkp.verifier.utils.LibConfigParser;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verifier context.
+ *
+ * <p>Read-mostly resources (configuration, security provider, database, DP connector) are created once by
+ * {@link #create()} and shared by all device sessions derived from it with {@link #forDevice()}. Each device session
+ * owns its own transport layer, so devices can be attested concurrently, each from its own thread.</p>
+ *
+ * <p>There is no global or thread-bound context - components receive the context of the device session they work
+ * for in their constructors.</p>
+ */
 @Getter
 @Slf4j
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class AppContext implements AutoCloseable {
 
     private static final String CONFIG_FILE_NAME = "config.properties";
+    private static final int CHAIN_VERIFICATION_QUEUE_SIZE_PER_THREAD = 16;
 
-    private LibConfig libConfig;
-    private CommandLayer commandLayer;
-    private ISecurityProvider securityProvider;
-    private SQLiteHelper sqLiteHelper;
-    private VerifierKeyParams verifierKeyParams;
-    private VerifierKeyManager verifierKeyManager;
-    private DistributionPointConnector dpConnector;
-    private TrustStore trustStore;
-
-    private static AppContext INSTANCE;
-
-    public static AppContext instance() {
-        if (INSTANCE == null) {
-            log.debug("Initializing AppContext...");
-            logAppInfo();
-            INSTANCE = initialize();
-            logAppConfiguration();
-        }
-        return INSTANCE;
+    private final LibConfig libConfig;
+    private final CommandLayer commandLayer;
+    private final ISecurityProvider securityProvider;
+    private final SQLiteHelper sqLiteHelper;
+    private final VerifierKeyParams verifierKeyParams;
+    private final VerifierKeyManager verifierKeyManager;
+    private final IDistributionPointConnector dpConnector;
+    private final TrustStore trustStore;
+    private final ExecutorService chainVerificationExecutor;
+    private final ExecutorService deviceSessionExecutor;
+    private final TransportLayer transportLayer;
+
+    @Getter(AccessLevel.NONE)
+    private final boolean sharedResourcesOwner;
+
+    /**
+     * Creates new context with its own set of shared resources.
+     */
+    public static AppContext create() {
+        return create(prepareLibConfig());
     }
 
-    private static AppContext initialize() {
-        final LibConfig libConfig = prepareLibConfig();
+    /**
+     * Creates new context with its own set of shared resources from given configuration instead of the configuration
+     * file, e.g. to point it at a distribution point emulator.
+     */
+    public static AppContext create(LibConfig libConfig) {
+        log.debug("Initializing AppContext...");
+        logAppInfo();
+        final AppContext context = initialize(libConfig);
+        log.debug("Library configuration: {}", context.getLibConfig());
+        return context;
+    }
+
+    private static AppContext initialize(LibConfig libConfig) {
         final ISecurityProvider securityProvider = prepareSecurityProvider(libConfig);
         final VerifierKeyParams verifierKeyParams = prepareVerifierKeyParams(libConfig);
         final TrustStore trustStore = prepareTrustStore(libConfig);
+        final SQLiteHelper sqLiteHelper = prepareSqLiteHelper(libConfig);
 
         return new AppContext(libConfig, prepareCommandLayer(), securityProvider,
-            prepareSqLiteHelper(libConfig), verifierKeyParams,
+            sqLiteHelper, verifierKeyParams,
             prepareVerifierKeyManager(securityProvider, verifierKeyParams.getKeyName()),
-            prepareDistributionPointConnector(libConfig, trustStore), trustStore);
+            prepareDistributionPointConnector(libConfig, trustStore, sqLiteHelper), trustStore,
+            prepareChainVerificationExecutor(libConfig), prepareDeviceSessionExecutor(libConfig),
+            prepareTransportLayer(libConfig), true);
     }
 
     private static void logAppInfo() {
@@ -103,10 +135,6 @@ public class AppContext implements AutoCloseable {
         log.info("Library details: VENDOR: {}, VERSION: {}", implementationTitle, implementationVersion);
     }
 
-    private static void logAppConfiguration() {
-        log.debug("Library configuration: {}", INSTANCE.getLibConfig());
-    }
-
     private static LibConfig prepareLibConfig() {
         return new LibConfigParser().parseConfigFile(CONFIG_FILE_NAME);
     }
@@ -135,25 +163,75 @@ public class AppContext implements AutoCloseable {
         return libConfig.getTrustStore();
     }
 
-    private static DistributionPointConnector prepareDistributionPointConnector(LibConfig libConfig,
-                                                                                TrustStore trustStore) {
+    private static TransportLayer prepareTransportLayer(LibConfig libConfig) {
+        return libConfig.getTransportLayerType().createTransportLayer();
+    }
+
+    private static IDistributionPointConnector prepareDistributionPointConnector(LibConfig libConfig,
+                                                                                 TrustStore trustStore,
+                                                                                 SQLiteHelper sqLiteHelper) {
         final Proxy proxy = libConfig.getDistributionPoint().getProxy();
-        return new DistributionPointConnector(proxy.getHost(), proxy.getPort(),
-            new X509TrustManagerManager(trustStore).getTrustManagers());
+        final DistributionPointConnector connector = new DistributionPointConnector(proxy.getHost(),
+            proxy.getPort(), new X509TrustManagerManager(trustStore).getTrustManagers());
+        return new CachingDistributionPointConnector(connector, sqLiteHelper,
+            libConfig.getDistributionPointCacheParams());
     }
 
     /**
-     * Must be called after calling instance() for the first time.
+     * Returns bounded executor shared by all device sessions, or null if chain links are verified sequentially.
+     * Tasks rejected when the queue is full are verified by the calling thread.
      */
-    public void init() {
-        if (!verifierKeyManager.initialized()) {
-            verifierKeyManager.initialize();
-            throw new VerifierKeyNotInitializedException();
+    private static ExecutorService prepareChainVerificationExecutor(LibConfig libConfig) {
+        final int threads = libConfig.getChainVerificationThreads();
+        if (threads < 1) {
+            return null;
         }
+
+        final AtomicInteger threadCounter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(threads * CHAIN_VERIFICATION_QUEUE_SIZE_PER_THREAD),
+            runnable -> {
+                final Thread thread = new Thread(runnable, "chain-verification-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
     }
 
-    public TransportLayer getTransportLayer() {
-        return libConfig.getTransportLayerType().getTransportLayer();
+    /**
+     * Returns executor running device sessions of a batch, limited to batch-max-concurrency threads.
+     * Threads are started on first use and reused by subsequent batches.
+     */
+    private static ExecutorService prepareDeviceSessionExecutor(LibConfig libConfig) {
+        final int threads = Math.max(1, libConfig.getBatchMaxConcurrency());
+        final AtomicInteger threadCounter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+                final Thread thread = new Thread(runnable, "device-session-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * Creates device session sharing resources of this context, but with its own transport layer.
+     * Closing the session does not release shared resources.
+     */
+    public AppContext forDevice() {
+        return new AppContext(libConfig, commandLayer, securityProvider, sqLiteHelper, verifierKeyParams,
+            verifierKeyManager, dpConnector, trustStore, chainVerificationExecutor, deviceSessionExecutor,
+            prepareTransportLayer(libConfig), false);
+    }
+
+    /**
+     * Must be called after creating the context, before it is used.
+     */
+    public void init() {
+        synchronized (verifierKeyManager) {
+            if (!verifierKeyManager.initialized()) {
+                verifierKeyManager.initialize(this);
+                throw new VerifierKeyNotInitializedException();
+            }
+        }
     }
 
     public String[] getDpTrustedRootHashes() {
@@ -167,12 +245,21 @@ public class AppContext implements AutoCloseable {
 
     @Override
     public void close() {
+        if (!sharedResourcesOwner) {
+            return;
+        }
+
+        if (chainVerificationExecutor != null) {
+            chainVerificationExecutor.shutdownNow();
+        }
+        deviceSessionExecutor.shutdownNow();
         sqLiteHelper.close();
         try {
-            dpConnector.close();
+            if (dpConnector instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
         } catch (Exception e) {
             log.error("Failed to close active DP connections.");
         }
-        INSTANCE = null;
     }
 }
@@ -0,0 +1,185 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.service.certificate;
+
+import com.intel.bkp.crypto.x509.parsing.X509CrlParser;
+import com.intel.bkp.fpgacerts.dp.DistributionPointConnector;
+import com.intel.bkp.fpgacerts.dp.DistributionPointResponse;
+import com.intel.bkp.fpgacerts.dp.IDistributionPointConnector;
+import com.intel.bkp.verifier.database.SQLiteHelper;
+import com.intel.bkp.verifier.database.model.DistributionPointCacheEntity;
+import com.intel.bkp.verifier.database.repository.DistributionPointCacheService;
+import com.intel.bkp.verifier.exceptions.DatabaseException;
+import com.intel.bkp.verifier.model.DistributionPointCacheParams;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Distribution point connector backed by persistent SQLite cache of certificates, CRLs and CoRIM/XCoRIM files.
+ *
+ * <p>Cached content is served until it expires - CRLs at their nextUpdate, everything else after configured TTL,
+ * whichever comes first. Expired content is revalidated with conditional request, so unchanged files are not
+ * downloaded again. In offline mode only cached content is served and DP is never contacted - expired content is
+ * served with a warning, but only up to configured time past its expiry (for CRLs - past nextUpdate).</p>
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class CachingDistributionPointConnector implements IDistributionPointConnector, AutoCloseable {
+
+    private static final String CRL_EXTENSION = ".crl";
+
+    private final DistributionPointConnector connector;
+    private final DistributionPointCacheService cacheService;
+    private final DistributionPointCacheParams cacheParams;
+    private final Clock clock;
+
+    public CachingDistributionPointConnector(DistributionPointConnector connector, SQLiteHelper sqLiteHelper,
+                                             DistributionPointCacheParams cacheParams) {
+        this(connector, Optional.ofNullable(sqLiteHelper)
+            .map(SQLiteHelper::getDistributionPointCacheService)
+            .orElse(null), cacheParams, Clock.systemUTC());
+    }
+
+    @Override
+    public Optional<byte[]> tryGetBytes(String url) {
+        final Optional<DistributionPointCacheEntity> cached = read(url);
+
+        if (cacheParams.isOfflineMode()) {
+            return getOffline(url, cached);
+        }
+
+        if (cached.filter(entity -> !isExpired(entity)).isPresent()) {
+            log.debug("Using cached content for: {}", url);
+            return cached.map(DistributionPointCacheEntity::getContent);
+        }
+
+        return connector.tryGetBytesIfModified(url,
+                cached.map(DistributionPointCacheEntity::getEtag).orElse(null),
+                cached.map(DistributionPointCacheEntity::getLastModified).orElse(null))
+            .flatMap(response -> handleResponse(url, cached, response));
+    }
+
+    private Optional<byte[]> getOffline(String url, Optional<DistributionPointCacheEntity> cached) {
+        if (cached.isEmpty()) {
+            log.error("Offline mode - no cached content for: {}", url);
+            return Optional.empty();
+        }
+
+        final DistributionPointCacheEntity entity = cached.get();
+        if (isExpired(entity)) {
+            final Duration stale = Duration.ofMillis(clock.millis() - entity.getExpiresAt());
+            final Duration maxStale = Duration.ofHours(cacheParams.getOfflineMaxStaleHours());
+            if (stale.compareTo(maxStale) > 0) {
+                log.error("Offline mode - cached content expired {} ago, more than allowed {}: {}",
+                    stale, maxStale, url);
+                return Optional.empty();
+            }
+            log.warn("Offline mode - serving content expired {} ago for: {}", stale, url);
+        }
+        return Optional.of(entity.getContent());
+    }
+
+    @Override
+    public void close() {
+        connector.close();
+    }
+
+    private Optional<byte[]> handleResponse(String url, Optional<DistributionPointCacheEntity> cached,
+                                            DistributionPointResponse response) {
+        final Optional<byte[]> content = response.isNotModified()
+                                         ? cached.map(DistributionPointCacheEntity::getContent)
+                                         : Optional.of(response.getBody());
+        content.ifPresent(bytes -> store(url, bytes, response));
+        return content;
+    }
+
+    private Optional<DistributionPointCacheEntity> read(String url) {
+        if (cacheService == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return cacheService.read(url);
+        } catch (DatabaseException e) {
+            log.warn("Failed to read distribution point cache: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void store(String url, byte[] content, DistributionPointResponse response) {
+        if (cacheService == null) {
+            return;
+        }
+
+        final long now = clock.millis();
+        final Optional<Long> expiresAt = getExpiresAt(url, content, now);
+        if (expiresAt.isEmpty()) {
+            log.debug("Content will not be cached: {}", url);
+            return;
+        }
+
+        try {
+            cacheService.store(new DistributionPointCacheEntity(url, content, response.getEtag(),
+                response.getLastModified(), expiresAt.get(), now));
+        } catch (DatabaseException e) {
+            log.warn("Failed to update distribution point cache: {}", e.getMessage());
+        }
+    }
+
+    private Optional<Long> getExpiresAt(String url, byte[] content, long now) {
+        final long ttlExpiry = now + Duration.ofHours(cacheParams.getCacheTtlHours()).toMillis();
+        if (!isCrl(url)) {
+            return Optional.of(ttlExpiry);
+        }
+
+        // CRL that cannot be parsed is not cached, CRL without nextUpdate is revalidated on every use
+        return X509CrlParser.tryToX509(content)
+            .map(crl -> Optional.ofNullable(crl.getNextUpdate())
+                .map(nextUpdate -> Math.min(nextUpdate.getTime(), ttlExpiry))
+                .orElse(now));
+    }
+
+    private boolean isExpired(DistributionPointCacheEntity entity) {
+        return clock.millis() >= entity.getExpiresAt();
+    }
+
+    private static boolean isCrl(String url) {
+        return StringUtils.endsWithIgnoreCase(StringUtils.substringBefore(url, "?"), CRL_EXTENSION);
+    }
+}
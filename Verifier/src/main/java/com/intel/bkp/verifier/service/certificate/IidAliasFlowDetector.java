@@ -36,11 +36,7 @@ import com.intel.bkp.fpgacerts.dice.iidutils.IidFlowDetector;
 
 public class IidAliasFlowDetector extends IidFlowDetector {
 
-    public IidAliasFlowDetector() {
-        this(AppContext.instance());
-    }
-
-    private IidAliasFlowDetector(AppContext appContext) {
+    public IidAliasFlowDetector(AppContext appContext) {
         super();
         withRequireIidUds(appContext.getLibConfig().getAttestationCertificateFlow().isRequireIidUds());
     }
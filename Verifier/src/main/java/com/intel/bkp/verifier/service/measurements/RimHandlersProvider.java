@@ -48,10 +48,6 @@ public class RimHandlersProvider implements IRimHandlersProvider {
 
     private final AppContext appContext;
 
-    public RimHandlersProvider() {
-        this(AppContext.instance());
-    }
-
     public List<IRimHandler<?>> getRimHandlers() {
         return List.of(
             new CoRimHandler(appContext.getDpConnector(),
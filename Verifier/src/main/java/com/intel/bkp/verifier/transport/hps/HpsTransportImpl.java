@@ -53,9 +53,13 @@ public class HpsTransportImpl implements TransportLayer {
 
     @Override
     public byte[] sendCommand(byte[] command) {
-        log.trace("Sending command: {}", toHex(command));
+        log.atTrace()
+            .addArgument(() -> toHex(command))
+            .log("Sending command: {}");
         byte[] result = client.sendPacket(command);
-        log.trace("Command result: {}", toHex(result));
+        log.atTrace()
+            .addArgument(() -> toHex(result))
+            .log("Command result: {}");
         return result;
     }
 
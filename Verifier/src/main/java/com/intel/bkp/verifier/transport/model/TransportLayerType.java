@@ -35,13 +35,20 @@ package com.intel.bkp.verifier.transport.model;
 import com.intel.bkp.verifier.transport.hps.HpsTransportImpl;
 import com.intel.bkp.verifier.transport.systemconsole.SystemConsoleTransportImpl;
 import lombok.AllArgsConstructor;
-import lombok.Getter;
 
-@Getter
+import java.util.function.Supplier;
+
 @AllArgsConstructor
 public enum TransportLayerType {
-    SYSTEM_CONSOLE(new SystemConsoleTransportImpl()),
-    HPS(new HpsTransportImpl());
+    SYSTEM_CONSOLE(SystemConsoleTransportImpl::new),
+    HPS(HpsTransportImpl::new);
+
+    private final Supplier<TransportLayer> transportLayerFactory;
 
-    private final TransportLayer transportLayer;
+    /**
+     * Creates new transport layer instance - each device session must use its own connection.
+     */
+    public TransportLayer createTransportLayer() {
+        return transportLayerFactory.get();
+    }
 }
@@ -41,6 +41,7 @@ import com.intel.bkp.verifier.exceptions.InternalLibraryException;
 import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
 import com.intel.bkp.verifier.model.AttestationCertificateFlow;
 import com.intel.bkp.verifier.model.DatabaseConfiguration;
+import com.intel.bkp.verifier.model.DistributionPointCacheParams;
 import com.intel.bkp.verifier.model.LibConfig;
 import com.intel.bkp.verifier.model.LibSpdmParams;
 import com.intel.bkp.verifier.model.VerifierKeyParams;
@@ -65,10 +66,15 @@ import java.util.stream.Collectors;
 
 import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.DEFAULT_CT_EXPONENT;
 import static com.intel.bkp.verifier.config.Properties.ACCEPT_UNSIGNED_CORIM;
+import static com.intel.bkp.verifier.config.Properties.BATCH_MAX_CONCURRENCY;
+import static com.intel.bkp.verifier.config.Properties.CHAIN_VERIFICATION_THREADS;
 import static com.intel.bkp.verifier.config.Properties.DATABASE_CONFIGURATION_GROUP;
 import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_ATT_CERT_PATH;
+import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_CACHE_TTL_HOURS;
 import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_GROUP;
 import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_MAIN_PATH;
+import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_OFFLINE_MAX_STALE_HOURS;
+import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_OFFLINE_MODE;
 import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_PROXY_HOST;
 import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_PROXY_PORT;
 import static com.intel.bkp.verifier.config.Properties.EC_GROUP;
@@ -100,6 +106,10 @@ import static com.intel.bkp.verifier.config.Properties.VERIFIER_KEY_PARAMS_SINGL
 public class LibConfigParser {
 
     private static final String VERIFIER_SECURITY_PROVIDER_PASSWORD = "VERIFIER_SECURITY_PROVIDER_PASSWORD";
+    static final int DEFAULT_BATCH_MAX_CONCURRENCY = 4;
+    static final int DEFAULT_DP_CACHE_TTL_HOURS = 24;
+    static final int DEFAULT_DP_OFFLINE_MAX_STALE_HOURS = 168;
+    static final int DEFAULT_CHAIN_VERIFICATION_THREADS = 0;
 
     public LibConfig parseConfigFile(String configFileName) {
         final SchemaParams prop = new SchemaParams();
@@ -137,6 +147,7 @@ public class LibConfigParser {
         appConfig.setTransportLayerType(getTransportLayerType(prop));
         appConfig.setAttestationCertificateFlow(getAttestationCertificateFlow(prop));
         appConfig.setDistributionPoint(getDistributionPoint(prop));
+        appConfig.setDistributionPointCacheParams(getDistributionPointCacheParams(prop));
         appConfig.setVerifierKeyParams(getVerifierKeyParams(prop));
         appConfig.setTrustStore(getTrustStore(prop));
         appConfig.setLibSpdmParams(getLibSpdmParams(prop));
@@ -144,6 +155,8 @@ public class LibConfigParser {
         appConfig.setProviderParams(getProviderParams(prop));
         appConfig.setTestModeSecrets(getTestModeSecrets(prop));
         appConfig.setAcceptUnsignedCorim(getAcceptUnsignedCorim(prop));
+        appConfig.setBatchMaxConcurrency(getBatchMaxConcurrency(prop));
+        appConfig.setChainVerificationThreads(getChainVerificationThreads(prop));
         return appConfig;
     }
 
@@ -198,6 +211,40 @@ public class LibConfigParser {
         );
     }
 
+    private DistributionPointCacheParams getDistributionPointCacheParams(SchemaParams prop) {
+        return new DistributionPointCacheParams(
+            Optional.ofNullable(prop.getPropertyGroup(DISTRIBUTION_POINT_OFFLINE_MODE, DISTRIBUTION_POINT_GROUP))
+                .filter(StringUtils::isNotBlank)
+                .map(Boolean::valueOf)
+                .orElse(false),
+            getDistributionPointCacheTtlHours(prop),
+            getDistributionPointOfflineMaxStaleHours(prop)
+        );
+    }
+
+    int getDistributionPointCacheTtlHours(SchemaParams prop) {
+        return getNonNegativeDistributionPointHours(prop, DISTRIBUTION_POINT_CACHE_TTL_HOURS,
+            DEFAULT_DP_CACHE_TTL_HOURS);
+    }
+
+    int getDistributionPointOfflineMaxStaleHours(SchemaParams prop) {
+        return getNonNegativeDistributionPointHours(prop, DISTRIBUTION_POINT_OFFLINE_MAX_STALE_HOURS,
+            DEFAULT_DP_OFFLINE_MAX_STALE_HOURS);
+    }
+
+    private int getNonNegativeDistributionPointHours(SchemaParams prop, String key, int defaultValue) {
+        final int value = Optional.ofNullable(prop.getPropertyGroup(key, DISTRIBUTION_POINT_GROUP))
+            .filter(StringUtils::isNotBlank)
+            .map(String::trim)
+            .map(Integer::valueOf)
+            .orElse(defaultValue);
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid configuration file - %s.%s must not be negative."
+                .formatted(DISTRIBUTION_POINT_GROUP, key));
+        }
+        return value;
+    }
+
     private VerifierKeyParams getVerifierKeyParams(SchemaParams prop) {
         return new VerifierKeyParams(
             new VerifierRootQkyChain(Optional.ofNullable(
@@ -310,6 +357,32 @@ public class LibConfigParser {
                        .orElse(false);
     }
 
+    int getBatchMaxConcurrency(SchemaParams prop) {
+        final int value = Optional.ofNullable(prop.getProperty(BATCH_MAX_CONCURRENCY))
+            .filter(StringUtils::isNotBlank)
+            .map(String::trim)
+            .map(Integer::valueOf)
+            .orElse(DEFAULT_BATCH_MAX_CONCURRENCY);
+        if (value < 1) {
+            throw new IllegalArgumentException(
+                "Invalid configuration file - %s must be a positive number.".formatted(BATCH_MAX_CONCURRENCY));
+        }
+        return value;
+    }
+
+    int getChainVerificationThreads(SchemaParams prop) {
+        final int value = Optional.ofNullable(prop.getProperty(CHAIN_VERIFICATION_THREADS))
+            .filter(StringUtils::isNotBlank)
+            .map(String::trim)
+            .map(Integer::valueOf)
+            .orElse(DEFAULT_CHAIN_VERIFICATION_THREADS);
+        if (value < 0) {
+            throw new IllegalArgumentException(
+                "Invalid configuration file - %s must not be negative.".formatted(CHAIN_VERIFICATION_THREADS));
+        }
+        return value;
+    }
+
     private int toInt(String value, String param) {
         try {
             return Integer.parseInt(value, 16);
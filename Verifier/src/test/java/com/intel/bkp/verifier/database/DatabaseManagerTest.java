@@ -32,36 +32,176 @@
 
 package com.intel.bkp.verifier.database;
 
+import com.intel.bkp.verifier.database.model.DistributionPointCacheEntity;
+import com.intel.bkp.verifier.database.repository.DistributionPointCacheService;
+import com.intel.bkp.verifier.database.table.SQLiteChangelog;
+import com.intel.bkp.verifier.exceptions.DatabaseException;
+import lombok.SneakyThrows;
+import org.apache.commons.dbutils.QueryRunner;
+import org.apache.commons.dbutils.handlers.ScalarHandler;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
-import java.sql.Connection;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class DatabaseManagerTest {
 
+    private static final int THREADS = 8;
+    private static final int OPERATIONS = 50;
+    private static final int URLS = 10;
+    private static final long BORROW_MILLIS = 200;
+
     @Spy
     private DatabaseManager sut;
 
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void getConnection_Success() throws Exception {
+        // given
+        doReturn("jdbc:sqlite::memory:").when(sut).getJdbcUrl();
+
+        // when
+        try (PooledConnection connection = sut.getConnection()) {
+            // then
+            assertNotNull(connection);
+            assertFalse(connection.isClosed());
+        }
+    }
+
+    @Test
+    void getConnection_Released_IsReused() {
+        // given
+        doReturn("jdbc:sqlite::memory:").when(sut).getJdbcUrl();
+        final PooledConnection first = sut.getConnection();
+        first.close();
+
+        // when
+        final PooledConnection result = sut.getConnection();
+
+        // then
+        assertSame(first, result);
+    }
+
     @Test
-    void getConnection_Success() {
+    void close_CalledTwice_ReleasesOnce() {
         // given
         doReturn("jdbc:sqlite::memory:").when(sut).getJdbcUrl();
+        final PooledConnection connection = sut.getConnection();
+        connection.close();
+
+        // when
+        connection.close();
+
+        // then
+        final PooledConnection first = sut.getConnection();
+        final PooledConnection second = sut.getConnection();
+        assertSame(connection, first);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void getConnection_InUse_OpensAnother() {
+        // given
+        doReturn("jdbc:sqlite::memory:").when(sut).getJdbcUrl();
+        final PooledConnection first = sut.getConnection();
+
+        // when
+        final PooledConnection result = sut.getConnection();
+
+        // then
+        assertNotSame(first, result);
+    }
+
+    @Test
+    void getConnection_ReusesPreparedStatements() throws Exception {
+        // given
+        doReturn("jdbc:sqlite::memory:").when(sut).getJdbcUrl();
+
+        // when
+        try (PooledConnection connection = sut.getConnection()) {
+            // then
+            assertSame(connection.prepareStatement("SELECT 1"), connection.prepareStatement("SELECT 1"));
+        }
+    }
+
+    @Test
+    void getConnection_FileDatabase_UsesWalJournal() throws Exception {
+        // given
+        doReturn(getFileJdbcUrl()).when(sut).getJdbcUrl();
+
+        // when
+        try (PooledConnection connection = sut.getConnection()) {
+            final String result = new QueryRunner().query(connection.getConnection(), "PRAGMA journal_mode",
+                new ScalarHandler<>());
+
+            // then
+            assertEquals("wal", result);
+        }
+    }
+
+    @Test
+    void concurrentReadsAndWrites_NoLockErrors() throws Exception {
+        // given
+        final String jdbcUrl = getFileJdbcUrl();
+        // separate pools on the same file, as if used by separate processes
+        final List<DatabaseManager> managers = List.of(prepareManager(jdbcUrl), prepareManager(jdbcUrl));
+        new DistributionPointCacheService(managers.get(0)).migrate(0, SQLiteChangelog.values().length);
+
+        final List<Callable<Void>> tasks = IntStream.range(0, THREADS)
+            .mapToObj(thread -> (Callable<Void>) () -> {
+                final var service = new DistributionPointCacheService(managers.get(thread % managers.size()));
+                for (int i = 0; i < OPERATIONS; i++) {
+                    service.store(prepareEntity(i % URLS, thread));
+                    service.read(prepareUrl(i % URLS));
+                }
+                return null;
+            })
+            .toList();
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
 
         // when
-        final Connection connection = sut.getConnection();
+        final List<Future<Void>> results;
+        try {
+            results = executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
 
         // then
-        assertNotNull(connection);
+        for (Future<Void> result : results) {
+            assertDoesNotThrow(() -> result.get());
+        }
+        final var service = new DistributionPointCacheService(managers.get(1));
+        IntStream.range(0, URLS).forEach(i -> assertEquals(1, service.read(prepareUrl(i)).orElseThrow()
+            .getContent().length));
+        managers.forEach(DatabaseManager::closeDatabase);
     }
 
     @Test
@@ -69,4 +209,95 @@ class DatabaseManagerTest {
         // when-then
         assertDoesNotThrow(() -> sut.closeDatabase());
     }
+
+    @Test
+    void closeBD_ClosesIdleConnections() throws Exception {
+        // given
+        doReturn("jdbc:sqlite::memory:").when(sut).getJdbcUrl();
+        final PooledConnection connection = sut.getConnection();
+        connection.close();
+
+        // when
+        sut.closeDatabase();
+
+        // then
+        assertTrue(connection.isClosed());
+    }
+
+    @Test
+    void closeBD_WaitsForBorrowedConnection() throws Exception {
+        // given
+        doReturn("jdbc:sqlite::memory:").when(sut).getJdbcUrl();
+        final PooledConnection connection = sut.getConnection();
+        final AtomicBoolean openWhenReturned = new AtomicBoolean();
+        final Thread borrower = new Thread(() -> {
+            sleep(BORROW_MILLIS);
+            openWhenReturned.set(!isClosed(connection));
+            connection.close();
+        });
+        borrower.start();
+
+        // when
+        sut.closeDatabase();
+
+        // then
+        borrower.join();
+        assertTrue(openWhenReturned.get());
+        assertTrue(connection.isClosed());
+    }
+
+    @Test
+    void getConnection_AfterClose_Throws() {
+        // given
+        sut.closeDatabase();
+
+        // when-then
+        assertThrows(DatabaseException.class, () -> sut.getConnection());
+    }
+
+    @Test
+    void closeBD_OtherManager_KeepsItsConnectionsOpen() throws Exception {
+        // given
+        final String jdbcUrl = getFileJdbcUrl();
+        final DatabaseManager other = prepareManager(jdbcUrl);
+        doReturn(jdbcUrl).when(sut).getJdbcUrl();
+        final PooledConnection connection = other.getConnection();
+        sut.getConnection().close();
+
+        // when
+        sut.closeDatabase();
+
+        // then
+        assertFalse(connection.isClosed());
+        connection.close();
+        other.closeDatabase();
+    }
+
+    @SneakyThrows
+    private static void sleep(long millis) {
+        Thread.sleep(millis);
+    }
+
+    @SneakyThrows
+    private static boolean isClosed(PooledConnection connection) {
+        return connection.isClosed();
+    }
+
+    private String getFileJdbcUrl() {
+        return "jdbc:sqlite:" + tempDir.resolve("verifier_core.sqlite");
+    }
+
+    private static DatabaseManager prepareManager(String jdbcUrl) {
+        final DatabaseManager manager = spy(DatabaseManager.class);
+        doReturn(jdbcUrl).when(manager).getJdbcUrl();
+        return manager;
+    }
+
+    private static DistributionPointCacheEntity prepareEntity(int urlIndex, int thread) {
+        return new DistributionPointCacheEntity(prepareUrl(urlIndex), new byte[]{(byte) thread}, null, null, 0L, 0L);
+    }
+
+    private static String prepareUrl(int urlIndex) {
+        return "https://tsci.intel.com/content/IPCS/certs/" + urlIndex + ".cer";
+    }
 }
@@ -59,6 +59,11 @@ class TableDefinitionBaseTest {
             return 1;
         }
 
+        @Override
+        protected String getKeyColumnName() {
+            return COLUMN;
+        }
+
         @Override
         public String getTableName() {
             return TABLE_NAME;
@@ -98,4 +103,22 @@ class TableDefinitionBaseTest {
         assertEquals(String.format("REPLACE INTO %s (%s) VALUES (?)", TABLE_NAME, COLUMN),
             result);
     }
+
+    @Test
+    void getSelectByKeySQL() {
+        // when
+        final String result = sut.getSelectByKeySQL();
+
+        // then
+        assertEquals(String.format("SELECT * FROM %s WHERE %s = ?", TABLE_NAME, COLUMN), result);
+    }
+
+    @Test
+    void getDeleteSQL() {
+        // when
+        final String result = sut.getDeleteSQL();
+
+        // then
+        assertEquals(String.format("DELETE FROM %s WHERE %s = ?", TABLE_NAME, COLUMN), result);
+    }
 }
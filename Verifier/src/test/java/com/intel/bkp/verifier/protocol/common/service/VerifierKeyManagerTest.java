@@ -36,6 +36,7 @@ import com.intel.bkp.core.security.ISecurityProvider;
 import com.intel.bkp.crypto.constants.SecurityKeyType;
 import com.intel.bkp.test.KeyGenUtils;
 import com.intel.bkp.verifier.exceptions.InternalLibraryException;
+import com.intel.bkp.verifier.service.certificate.AppContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -64,6 +65,9 @@ class VerifierKeyManagerTest {
     @Mock
     private VerifierRootChainManager verifierRootChainManager;
 
+    @Mock
+    private AppContext appContext;
+
     private VerifierKeyManager sut;
 
     @BeforeEach
@@ -115,9 +119,9 @@ class VerifierKeyManagerTest {
         when(securityProvider.getPubKeyFromSecurityObject(KEY_NAME)).thenReturn(mockPubKey);
 
         // when-then
-        assertDoesNotThrow(() -> sut.initialize());
+        assertDoesNotThrow(() -> sut.initialize(appContext));
         verify(securityProvider).createSecurityObject(SecurityKeyType.EC, KEY_NAME);
-        verify(verifierRootChainManager).backupExistingChainFile();
+        verify(verifierRootChainManager).backupExistingChainFile(appContext);
     }
 
     @Test
@@ -127,7 +131,7 @@ class VerifierKeyManagerTest {
         when(securityProvider.existsSecurityObject(KEY_NAME)).thenReturn(false);
 
         // when-then
-        assertThrows(InternalLibraryException.class, () -> sut.initialize());
+        assertThrows(InternalLibraryException.class, () -> sut.initialize(appContext));
         verify(securityProvider, never()).getPubKeyFromSecurityObject(KEY_NAME);
     }
 
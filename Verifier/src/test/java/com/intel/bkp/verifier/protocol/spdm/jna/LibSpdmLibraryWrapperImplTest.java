@@ -54,7 +54,6 @@ import static org.mockito.Mockito.when;
 class LibSpdmLibraryWrapperImplTest {
 
     private static final String LIBSPDM_FAKE_PATH = "FAKE PATH";
-    private static MockedStatic<AppContext> appContextMockedStatic;
     private static MockedStatic<Native> nativeMockedStatic;
 
     @Mock
@@ -68,19 +67,16 @@ class LibSpdmLibraryWrapperImplTest {
 
     @BeforeAll
     static void prepareStaticMock() {
-        appContextMockedStatic = mockStatic(AppContext.class);
         nativeMockedStatic = mockStatic(Native.class);
     }
 
     @AfterAll
     static void closeStaticMock() {
-        appContextMockedStatic.close();
         nativeMockedStatic.close();
     }
 
     @BeforeEach
     void setUp() {
-        when(AppContext.instance()).thenReturn(appContextMock);
         when(appContextMock.getLibConfig()).thenReturn(libConfigMock);
         when(libConfigMock.getLibSpdmParams()).thenReturn(libSpdmParamsMock);
         when(libSpdmParamsMock.getWrapperLibraryPath()).thenReturn(LIBSPDM_FAKE_PATH);
@@ -92,8 +88,8 @@ class LibSpdmLibraryWrapperImplTest {
         when(Native.load(LIBSPDM_FAKE_PATH, LibSpdmLibraryWrapper.class)).thenReturn(wrapperMock);
 
         // when
-        final LibSpdmLibraryWrapper result = LibSpdmLibraryWrapperImpl.getInstance();
-        final LibSpdmLibraryWrapper resultSecond = LibSpdmLibraryWrapperImpl.getInstance();
+        final LibSpdmLibraryWrapper result = LibSpdmLibraryWrapperImpl.getInstance(appContextMock);
+        final LibSpdmLibraryWrapper resultSecond = LibSpdmLibraryWrapperImpl.getInstance(appContextMock);
 
         // then
         assertSame(wrapperMock, result);
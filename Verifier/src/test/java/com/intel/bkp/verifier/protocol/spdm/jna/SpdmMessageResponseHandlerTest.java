@@ -0,0 +1,108 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.protocol.spdm.jna;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.intel.bkp.test.LoggerTestUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+
+import static com.intel.bkp.utils.HexConverter.fromHex;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpdmMessageResponseHandlerTest {
+
+    // MCTP header + SPDM 1.2 GET_VERSION header
+    private static final byte[] MESSAGE = fromHex("01000005" + "12840000");
+
+    private LoggerTestUtil loggerTestUtil;
+
+    private final SpdmMessageResponseHandler sut = new SpdmMessageResponseHandler();
+
+    @BeforeEach
+    void setUp() {
+        loggerTestUtil = LoggerTestUtil.instance(SpdmMessageResponseHandler.class);
+    }
+
+    @AfterEach
+    void clearLogs() {
+        loggerTestUtil.reset();
+    }
+
+    @Test
+    void logMessage_DebugEnabled_LogsParsedMessage() {
+        // given
+        setLevel(Level.DEBUG);
+
+        // when
+        sut.logMessage(ByteBuffer.wrap(MESSAGE));
+
+        // then
+        assertTrue(loggerTestUtil.contains("SPDM Message", Level.DEBUG));
+    }
+
+    @Test
+    void logResponse_DebugEnabled_LogsParsedResponse() {
+        // given
+        setLevel(Level.DEBUG);
+
+        // when
+        sut.logResponse(ByteBuffer.wrap(MESSAGE));
+
+        // then
+        assertTrue(loggerTestUtil.contains("SPDM Response", Level.DEBUG));
+    }
+
+    @Test
+    void logMessage_DebugDisabled_DoesNotParseMessage() {
+        // given
+        setLevel(Level.INFO);
+        final ByteBuffer unparseable = ByteBuffer.allocate(0);
+
+        // when-then
+        assertDoesNotThrow(() -> sut.logMessage(unparseable));
+        assertDoesNotThrow(() -> sut.logResponse(unparseable));
+        assertEquals(0, loggerTestUtil.getSize());
+    }
+
+    private static void setLevel(Level level) {
+        ((Logger) LoggerFactory.getLogger(SpdmMessageResponseHandler.class)).setLevel(level);
+    }
+}
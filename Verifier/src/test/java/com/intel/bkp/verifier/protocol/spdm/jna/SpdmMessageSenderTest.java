@@ -37,13 +37,10 @@ import com.intel.bkp.command.model.CommandIdentifier;
 import com.intel.bkp.command.model.CommandLayer;
 import com.intel.bkp.verifier.service.certificate.AppContext;
 import com.intel.bkp.verifier.transport.model.TransportLayer;
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.ByteBuffer;
@@ -52,7 +49,6 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -62,19 +58,6 @@ class SpdmMessageSenderTest {
     private static final byte[] RESPONSE_NOT_PARSED = new byte[]{5, 6, 7, 8};
     private static final byte[] EXPECTED_RESPONSE = new byte[]{9, 10, 11, 12};
 
-    private static MockedStatic<AppContext> appContextMockedStatic;
-
-    @BeforeAll
-    static void prepareStaticMock() {
-        appContextMockedStatic = mockStatic(AppContext.class);
-    }
-
-    @AfterAll
-    static void closeStaticMock() {
-        appContextMockedStatic.close();
-    }
-
-
     private final ByteBuffer requestBuffer = ByteBuffer.allocate(100);
 
     @Mock
@@ -88,10 +71,9 @@ class SpdmMessageSenderTest {
 
     @BeforeEach
     void setUp() {
-        when(AppContext.instance()).thenReturn(appContext);
         when(appContext.getCommandLayer()).thenReturn(commandLayer);
 
-        sut = new SpdmMessageSender();
+        sut = new SpdmMessageSender(appContext);
     }
 
     @Test
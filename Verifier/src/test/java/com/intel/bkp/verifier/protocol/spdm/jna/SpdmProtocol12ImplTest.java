@@ -48,13 +48,10 @@ import com.intel.bkp.verifier.service.certificate.AppContext;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.ByteByReference;
 import lombok.SneakyThrows;
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
@@ -90,8 +87,6 @@ class SpdmProtocol12ImplTest {
         DIGEST[1] = (byte) 0x04;
     }
 
-    private static MockedStatic<AppContext> appContextMockedStatic;
-
     @Mock
     private LibSpdmLibraryWrapper wrapperMock;
     @Mock
@@ -103,28 +98,16 @@ class SpdmProtocol12ImplTest {
 
     private SpdmProtocol12Impl sut;
 
-    @BeforeAll
-    static void prepareStaticMock() {
-        appContextMockedStatic = mockStatic(AppContext.class);
-    }
-
-    @AfterAll
-    static void closeStaticMock() {
-        appContextMockedStatic.close();
-    }
-
     @BeforeEach
     void setUp() {
-        when(AppContext.instance()).thenReturn(appContextMock);
-
-        sut = new SpdmProtocol12Impl();
+        sut = new SpdmProtocol12Impl(appContextMock);
     }
 
     @Test
     void initializeLibrary_WrapperLibraryNotLoaded_Throws() {
         // given
         try (var wrapperMockedStatic = mockStatic(LibSpdmLibraryWrapperImpl.class)) {
-            when(LibSpdmLibraryWrapperImpl.getInstance()).thenThrow(new UnsatisfiedLinkError());
+            when(LibSpdmLibraryWrapperImpl.getInstance(appContextMock)).thenThrow(new UnsatisfiedLinkError());
 
             // when-then
             final VerifierRuntimeException ex =
@@ -418,11 +401,11 @@ class SpdmProtocol12ImplTest {
     }
 
     private void verifyCallbacksAreRegistered() {
-        verify(wrapperMock).set_callbacks(any(SessionCallbacks.class));
+        verify(wrapperMock).libspdm_bind_callbacks_w(any(), any(SessionCallbacks.class));
     }
 
     private void mockWrapper() {
-        when(LibSpdmLibraryWrapperImpl.getInstance()).thenReturn(wrapperMock);
+        when(LibSpdmLibraryWrapperImpl.getInstance(appContextMock)).thenReturn(wrapperMock);
     }
 
     private void prepareLibConfig() {
@@ -454,8 +437,8 @@ class SpdmProtocol12ImplTest {
     }
 
     @SneakyThrows
-    private static SpdmProtocol12Impl mockConnectionAlreadyInitialized() {
-        final SpdmProtocol12Impl sut = new SpdmProtocol12Impl();
+    private SpdmProtocol12Impl mockConnectionAlreadyInitialized() {
+        final SpdmProtocol12Impl sut = new SpdmProtocol12Impl(appContextMock);
         final SpdmProtocol12Impl spdmProtocol12Spy = Mockito.spy(sut);
         when(spdmProtocol12Spy.isConnectionInitialized()).thenReturn(true);
         spdmProtocol12Spy.initSpdmConnection();
@@ -32,29 +32,25 @@
 
 package com.intel.bkp.verifier.protocol.spdm.service;
 
+import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
+import com.intel.bkp.verifier.model.AttestationCertificateFlow;
 import com.intel.bkp.verifier.model.LibConfig;
 import com.intel.bkp.verifier.model.LibSpdmParams;
 import com.intel.bkp.verifier.service.certificate.AppContext;
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.CALLS_REAL_METHODS;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class SpdmDiceAttestationComponentTest {
 
-    private static MockedStatic<AppContext> appContextMockedStatic;
-
+    @Mock
+    private SpdmProtocol spdmProtocolMock;
     @Mock
     private AppContext appContextMock;
     @Mock
@@ -62,33 +58,23 @@ class SpdmDiceAttestationComponentTest {
     @Mock
     private LibSpdmParams libSpdmParamsMock;
 
-    @BeforeAll
-    static void prepareStaticMock() {
-        appContextMockedStatic = mockStatic(AppContext.class);
-    }
-
-    @AfterAll
-    static void closeStaticMock() {
-        appContextMockedStatic.close();
-    }
-
     @ParameterizedTest
     @ValueSource(booleans = {false, true})
     void withMeasurementsSignatureVerification_ReturnsValueBasedOnLibConfig(boolean isRequestSignature) {
         // given
         prepareLibConfig(isRequestSignature);
-        final SpdmDiceAttestationComponent spySut = mock(SpdmDiceAttestationComponent.class, CALLS_REAL_METHODS);
+        final var sut = new SpdmDiceAttestationComponent(appContextMock, spdmProtocolMock);
 
         // when
-        final var result = spySut.withMeasurementsSignatureVerification();
+        final var result = sut.withMeasurementsSignatureVerification();
 
         // then
         assertEquals(isRequestSignature, result);
     }
 
     private void prepareLibConfig(boolean isRequestSignature) {
-        when(AppContext.instance()).thenReturn(appContextMock);
         when(appContextMock.getLibConfig()).thenReturn(libConfigMock);
+        when(libConfigMock.getAttestationCertificateFlow()).thenReturn(new AttestationCertificateFlow());
         when(libConfigMock.getLibSpdmParams()).thenReturn(libSpdmParamsMock);
         when(libSpdmParamsMock.isMeasurementsRequestSignature()).thenReturn(isRequestSignature);
     }
@@ -0,0 +1,185 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.service;
+
+import com.intel.bkp.verifier.database.model.DeviceCapabilityEntity;
+import com.intel.bkp.verifier.database.repository.DeviceCapabilityCacheService;
+import com.intel.bkp.verifier.exceptions.DatabaseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static com.intel.bkp.verifier.model.VerifierProtocolType.SIGMA;
+import static com.intel.bkp.verifier.model.VerifierProtocolType.SPDM;
+import static com.intel.bkp.verifier.service.GetDeviceAttestationComponentSpdm.SPDM_SUPPORTED_VERSION;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeviceCapabilityCacheTest {
+
+    private static final String TRANSPORT_ID = "host:127.0.0.1; port:50001";
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private DeviceCapabilityCacheService cacheService;
+
+    private DeviceCapabilityCache sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new DeviceCapabilityCache(cacheService, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void get_CachedSpdmInSupportedVersion_ReturnsSpdm() {
+        // given
+        when(cacheService.read(TRANSPORT_ID)).thenReturn(Optional.of(
+            new DeviceCapabilityEntity(TRANSPORT_ID, SPDM.name(), SPDM_SUPPORTED_VERSION, NOW.toEpochMilli())));
+
+        // when
+        final var result = sut.get(TRANSPORT_ID);
+
+        // then
+        assertEquals(Optional.of(SPDM), result);
+        verify(cacheService, never()).remove(any());
+    }
+
+    @Test
+    void get_CachedSpdmInDifferentVersion_InvalidatesEntry() {
+        // given
+        when(cacheService.read(TRANSPORT_ID)).thenReturn(Optional.of(
+            new DeviceCapabilityEntity(TRANSPORT_ID, SPDM.name(), "11", NOW.toEpochMilli())));
+
+        // when
+        final var result = sut.get(TRANSPORT_ID);
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(cacheService).remove(TRANSPORT_ID);
+    }
+
+    @Test
+    void get_CachedUnknownProtocol_InvalidatesEntry() {
+        // given
+        when(cacheService.read(TRANSPORT_ID)).thenReturn(Optional.of(
+            new DeviceCapabilityEntity(TRANSPORT_ID, "UNKNOWN", null, NOW.toEpochMilli())));
+
+        // when
+        final var result = sut.get(TRANSPORT_ID);
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(cacheService).remove(TRANSPORT_ID);
+    }
+
+    @Test
+    void get_DatabaseError_ReturnsEmpty() {
+        // given
+        when(cacheService.read(TRANSPORT_ID)).thenThrow(new DatabaseException("error", new SQLException()));
+
+        // when
+        final var result = sut.get(TRANSPORT_ID);
+
+        // then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void get_NoCacheService_ReturnsEmpty() {
+        // given
+        sut = new DeviceCapabilityCache(null, Clock.systemUTC());
+
+        // when
+        final var result = sut.get(TRANSPORT_ID);
+
+        // then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void put_Spdm_StoresSupportedVersion() {
+        // given
+        final var captor = ArgumentCaptor.forClass(DeviceCapabilityEntity.class);
+
+        // when
+        sut.put(TRANSPORT_ID, SPDM);
+
+        // then
+        verify(cacheService).store(captor.capture());
+        final DeviceCapabilityEntity stored = captor.getValue();
+        assertEquals(TRANSPORT_ID, stored.getTransportId());
+        assertEquals(SPDM.name(), stored.getProtocol());
+        assertEquals(SPDM_SUPPORTED_VERSION, stored.getSpdmVersion());
+        assertEquals(NOW.toEpochMilli(), stored.getUpdatedAt());
+    }
+
+    @Test
+    void put_Sigma_StoresWithoutVersion() {
+        // given
+        final var captor = ArgumentCaptor.forClass(DeviceCapabilityEntity.class);
+
+        // when
+        sut.put(TRANSPORT_ID, SIGMA);
+
+        // then
+        verify(cacheService).store(captor.capture());
+        assertEquals(SIGMA.name(), captor.getValue().getProtocol());
+        assertNull(captor.getValue().getSpdmVersion());
+    }
+
+    @Test
+    void invalidate_DatabaseError_DoesNotThrow() {
+        // given
+        doThrow(new DatabaseException("error", new SQLException())).when(cacheService).remove(TRANSPORT_ID);
+
+        // when-then
+        assertDoesNotThrow(() -> sut.invalidate(TRANSPORT_ID));
+    }
+}
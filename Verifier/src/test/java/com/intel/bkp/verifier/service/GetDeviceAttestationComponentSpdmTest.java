@@ -32,7 +32,6 @@
 
 package com.intel.bkp.verifier.service;
 
-import com.intel.bkp.command.model.CommandLayer;
 import com.intel.bkp.fpgacerts.verification.VerificationResult;
 import com.intel.bkp.protocol.spdm.exceptions.UnsupportedSpdmVersionException;
 import com.intel.bkp.protocol.spdm.service.SpdmGetVersionMessageSender;
@@ -41,8 +40,6 @@ import com.intel.bkp.protocol.spdm.service.SpdmVersionVerifier;
 import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
 import com.intel.bkp.verifier.model.VerifierExchangeResponse;
 import com.intel.bkp.verifier.protocol.spdm.service.SpdmDiceAttestationComponent;
-import com.intel.bkp.verifier.service.certificate.AppContext;
-import com.intel.bkp.verifier.transport.model.TransportLayer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -65,15 +62,6 @@ class GetDeviceAttestationComponentSpdmTest {
     private static final String SPDM_SUPPORTED_VERSION = "12";
     private static final String SPDM_NOT_SUPPORTED_VERSION = "10";
 
-    @Mock
-    private AppContext appContext;
-
-    @Mock
-    private CommandLayer commandLayer;
-
-    @Mock
-    private TransportLayer transportLayer;
-
     @Mock
     private SpdmGetVersionMessageSender spdmGetVersionMessageSender;
 
@@ -102,7 +90,7 @@ class GetDeviceAttestationComponentSpdmTest {
 
         // when
         final var ex = assertThrows(VerifierRuntimeException.class, () ->
-            sutSpdm.perform(appContext, REF_MEASUREMENT, DEVICE_ID));
+            sutSpdm.perform(REF_MEASUREMENT, DEVICE_ID));
 
         // then
         assertEquals(expectedExMessage, ex.getMessage());
@@ -118,7 +106,7 @@ class GetDeviceAttestationComponentSpdmTest {
         // when
         final VerifierRuntimeException ex =
             assertThrows(VerifierRuntimeException.class,
-                () -> sutSpdm.perform(appContext, REF_MEASUREMENT, DEVICE_ID));
+                () -> sutSpdm.perform(REF_MEASUREMENT, DEVICE_ID));
 
         // then
         assertEquals(expectedErrorMessage, ex.getMessage());
@@ -135,7 +123,7 @@ class GetDeviceAttestationComponentSpdmTest {
         // when
         final VerifierRuntimeException ex =
             assertThrows(VerifierRuntimeException.class,
-                () -> sutSpdm.perform(appContext, REF_MEASUREMENT, DEVICE_ID));
+                () -> sutSpdm.perform(REF_MEASUREMENT, DEVICE_ID));
 
         // then
         assertEquals(expectedErrorMessage, ex.getMessage());
@@ -151,7 +139,7 @@ class GetDeviceAttestationComponentSpdmTest {
         when(spdmDiceAttestationComponent.perform(REF_MEASUREMENT, DEVICE_ID)).thenReturn(attestationResult);
 
         // when
-        final var actualResult = sutSpdm.perform(appContext, REF_MEASUREMENT, DEVICE_ID);
+        final var actualResult = sutSpdm.perform(REF_MEASUREMENT, DEVICE_ID);
 
         // then
         assertEquals(expectedResult, actualResult);
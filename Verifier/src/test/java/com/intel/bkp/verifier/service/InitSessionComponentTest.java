@@ -74,7 +74,7 @@ class InitSessionComponentTest {
         when(getChipIdMessageSender.send(transportLayer, commandLayer)).thenReturn(DEVICE_ID);
 
         // when
-        byte[] result = sut.initializeSessionForDeviceId(appContext);
+        byte[] result = sut.initializeSessionForDeviceId();
 
         // then
         assertArrayEquals(DEVICE_ID, result);
@@ -87,7 +87,7 @@ class InitSessionComponentTest {
 
         // when-then
         assertThrows(InitSessionFailedException.class,
-            () -> sut.initializeSessionForDeviceId(appContext));
+            () -> sut.initializeSessionForDeviceId());
     }
 
     private void mockAppContext() {
@@ -0,0 +1,256 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.service;
+
+import com.intel.bkp.verifier.exceptions.VerifierKeyNotInitializedException;
+import com.intel.bkp.verifier.interfaces.VerifierExchange;
+import com.intel.bkp.verifier.model.LibConfig;
+import com.intel.bkp.verifier.model.dto.DeviceAttestationRequestDTO;
+import com.intel.bkp.verifier.model.dto.VerifierExchangeResponseDTO;
+import com.intel.bkp.verifier.service.certificate.AppContext;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static com.intel.bkp.verifier.model.VerifierExchangeResponse.ERROR;
+import static com.intel.bkp.verifier.model.VerifierExchangeResponse.OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VerifierBatchExchangeImplTest {
+
+    private static final int MAX_CONCURRENCY = 2;
+    private static final String REF_MEASUREMENT = "0102";
+
+    @Mock
+    private AppContext appContext;
+
+    @Mock
+    private AppContext deviceSession;
+
+    private final LibConfig libConfig = new LibConfig();
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    private final ExecutorService deviceSessionExecutor = Executors.newFixedThreadPool(MAX_CONCURRENCY);
+
+    private final AtomicInteger createdContexts = new AtomicInteger();
+
+    private VerifierBatchExchangeImpl sut;
+
+    @BeforeEach
+    void setUp() {
+        libConfig.setBatchMaxConcurrency(MAX_CONCURRENCY);
+        lenient().when(appContext.getLibConfig()).thenReturn(libConfig);
+        lenient().when(appContext.forDevice()).thenReturn(deviceSession);
+        lenient().when(appContext.getDeviceSessionExecutor()).thenReturn(deviceSessionExecutor);
+
+        sut = new VerifierBatchExchangeImpl(() -> {
+            createdContexts.incrementAndGet();
+            return appContext;
+        }, TrackingVerifierExchange::new);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deviceSessionExecutor.shutdownNow();
+    }
+
+    @Test
+    void getDeviceAttestation_ReturnsResultsInRequestOrder() {
+        // given
+        final var requests = prepareRequests(5);
+
+        // when
+        final List<VerifierExchangeResponseDTO> result = sut.getDeviceAttestation(requests);
+
+        // then
+        assertEquals(requests.size(), result.size());
+        IntStream.range(0, requests.size()).forEach(i -> {
+            assertEquals(OK.getCode(), result.get(i).getStatus());
+            assertEquals(requests.get(i).getTransportId(), result.get(i).getDeviceId());
+        });
+    }
+
+    @Test
+    void getDeviceAttestation_UsesSeparateSessionPerDevice() {
+        // given
+        final var requests = prepareRequests(3);
+
+        // when
+        sut.getDeviceAttestation(requests);
+
+        // then
+        verify(appContext).init();
+        verify(appContext, times(3)).forDevice();
+        verify(deviceSession, times(3)).close();
+        verify(appContext, never()).close();
+    }
+
+    @Test
+    void getDeviceAttestation_SubsequentBatches_ReuseContextAndExecutor() {
+        // when
+        sut.getDeviceAttestation(prepareRequests(2));
+        sut.getDeviceAttestation(prepareRequests(2));
+
+        // then
+        assertEquals(1, createdContexts.get());
+        verify(appContext).init();
+        verify(appContext, times(2)).getDeviceSessionExecutor();
+    }
+
+    @Test
+    void close_ClosesSharedContext() {
+        // given
+        sut.getDeviceAttestation(prepareRequests(1));
+
+        // when
+        sut.close();
+
+        // then
+        verify(appContext).close();
+    }
+
+    @Test
+    void getDeviceAttestation_DoesNotExceedMaxConcurrency() {
+        // given
+        final var requests = prepareRequests(8);
+
+        // when
+        sut.getDeviceAttestation(requests);
+
+        // then
+        assertTrue(maxRunning.get() <= MAX_CONCURRENCY);
+    }
+
+    @Test
+    void getDeviceAttestation_SingleDeviceFails_ReturnsErrorOnlyForThisDevice() {
+        // given
+        final var requests = List.of(
+            new DeviceAttestationRequestDTO("device1", REF_MEASUREMENT),
+            new DeviceAttestationRequestDTO("fail", REF_MEASUREMENT)
+        );
+
+        // when
+        final List<VerifierExchangeResponseDTO> result = sut.getDeviceAttestation(requests);
+
+        // then
+        assertEquals(OK.getCode(), result.get(0).getStatus());
+        assertEquals(ERROR.getCode(), result.get(1).getStatus());
+    }
+
+    @Test
+    void getDeviceAttestation_VerifierKeyNotInitialized_ReturnsErrorForAllDevices() {
+        // given
+        final var requests = prepareRequests(2);
+        doThrow(VerifierKeyNotInitializedException.class).when(appContext).init();
+
+        // when
+        final List<VerifierExchangeResponseDTO> result = sut.getDeviceAttestation(requests);
+
+        // then
+        result.forEach(response -> assertEquals(ERROR.getCode(), response.getStatus()));
+        verify(appContext, never()).forDevice();
+        verify(appContext).close();
+    }
+
+    @Test
+    void getDeviceAttestation_EmptyRequests_ReturnsEmptyList() {
+        // when
+        final List<VerifierExchangeResponseDTO> result = sut.getDeviceAttestation(List.of());
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(appContext, never()).init();
+    }
+
+    private static List<DeviceAttestationRequestDTO> prepareRequests(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new DeviceAttestationRequestDTO("device" + i, REF_MEASUREMENT))
+            .toList();
+    }
+
+    @RequiredArgsConstructor
+    private class TrackingVerifierExchange implements VerifierExchange {
+
+        private final Supplier<AppContext> appContextFactory;
+
+        @Override
+        public int createDeviceAttestationSubKey(String transportId, String context, String pufType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public VerifierExchangeResponseDTO getDeviceAttestation(String transportId, String refMeasurementHex) {
+            try (AppContext ignored = appContextFactory.get()) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+
+                if ("fail".equals(transportId)) {
+                    throw new IllegalStateException("Device not responding.");
+                }
+                return new VerifierExchangeResponseDTO(OK.getCode(), transportId);
+            }
+        }
+
+        @Override
+        public int healthCheck(String transportId) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -32,24 +32,31 @@
 
 package com.intel.bkp.verifier.service;
 
+import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
 import com.intel.bkp.protocol.spdm.service.SpdmGetVersionMessageSender;
+import com.intel.bkp.verifier.database.SQLiteHelper;
+import com.intel.bkp.verifier.database.model.DeviceCapabilityEntity;
+import com.intel.bkp.verifier.database.repository.DeviceCapabilityCacheService;
 import com.intel.bkp.verifier.exceptions.InitSessionFailedException;
 import com.intel.bkp.verifier.exceptions.TransportLayerException;
 import com.intel.bkp.verifier.model.VerifierExchangeResponse;
+import com.intel.bkp.verifier.model.VerifierProtocolType;
 import com.intel.bkp.verifier.model.dto.VerifierExchangeResponseDTO;
 import com.intel.bkp.verifier.service.certificate.AppContext;
 import com.intel.bkp.verifier.transport.model.TransportLayer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
+
 import static com.intel.bkp.utils.HexConverter.toHex;
+import static com.intel.bkp.verifier.service.GetDeviceAttestationComponentSpdm.SPDM_SUPPORTED_VERSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -67,22 +74,31 @@ class VerifierExchangeImplSpdmTest {
     @Mock
     private SpdmGetVersionMessageSender spdmGetVersionMessageSender;
 
+    @Mock
+    private SQLiteHelper sqLiteHelper;
+
+    @Mock
+    private DeviceCapabilityCacheService capabilityCacheService;
+
     @Mock
     private InitSessionComponent initSessionComponent;
 
     @Mock
     private GetDeviceAttestationComponentSpdm getAttestationComponentSpdm;
 
-    @InjectMocks
+    @Mock
+    private SpdmProtocol spdmProtocol;
+
     private VerifierExchangeProtocolSpdm verifierExchangeProtocolSpdm;
 
-    @InjectMocks
-    private  VerifierExchangeImpl verifierExchangeImpl;
+    private VerifierExchangeImpl verifierExchangeImpl;
 
     @BeforeEach
     void setUp() {
         this.verifierExchangeProtocolSpdm = spy(new VerifierExchangeProtocolSpdm(initSessionComponent, getAttestationComponentSpdm));
-        this.verifierExchangeImpl = spy(new VerifierExchangeImpl(verifierExchangeProtocolSpdm, null, spdmGetVersionMessageSender));
+        final VerifierExchangeSession session = new VerifierExchangeSession(spdmProtocol,
+            verifierExchangeProtocolSpdm, null, spdmGetVersionMessageSender);
+        this.verifierExchangeImpl = spy(new VerifierExchangeImpl(() -> appContext, context -> session));
     }
 
     @Test
@@ -94,20 +110,17 @@ class VerifierExchangeImplSpdmTest {
         when(getAttestationComponentSpdm.perform(refMeasurement, deviceId))
             .thenThrow(TransportLayerException.class);
 
-        try (MockedStatic<AppContext> app = mockStatic(AppContext.class)) {
-            app.when(AppContext::instance).thenReturn(appContext);
-            doReturn(true).when(verifierExchangeImpl).spdmSupported();
+        doReturn(true).when(verifierExchangeImpl).spdmSupported(spdmGetVersionMessageSender);
 
-            // when
-            VerifierExchangeResponseDTO result = verifierExchangeImpl.getDeviceAttestation(TRANSPORT_ID, refMeasurement);
+        // when
+        VerifierExchangeResponseDTO result = verifierExchangeImpl.getDeviceAttestation(TRANSPORT_ID, refMeasurement);
 
-            // then
-            app.verify(AppContext::instance, times(1));
-            verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
-            assertEquals(VerifierExchangeResponse.ERROR.getCode(), result.getStatus());
-            assertEquals(toHex(deviceId), result.getDeviceId());
-            verify(transportLayer, times(1)).disconnect();
-        }
+        // then
+        verify(appContext).close();
+        verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
+        assertEquals(VerifierExchangeResponse.ERROR.getCode(), result.getStatus());
+        assertEquals(toHex(deviceId), result.getDeviceId());
+        verify(transportLayer, times(1)).disconnect();
     }
 
     @Test
@@ -119,20 +132,18 @@ class VerifierExchangeImplSpdmTest {
         when(getAttestationComponentSpdm.perform(refMeasurement, deviceId))
             .thenReturn(VerifierExchangeResponse.OK);
 
-        try (MockedStatic<AppContext> app = mockStatic(AppContext.class)) {
-            app.when(AppContext::instance).thenReturn(appContext);
-            doReturn(true).when(verifierExchangeImpl).spdmSupported();
+        doReturn(true).when(verifierExchangeImpl).spdmSupported(spdmGetVersionMessageSender);
 
-            //when
-            VerifierExchangeResponseDTO result = verifierExchangeImpl.getDeviceAttestation(TRANSPORT_ID, refMeasurement);
+        //when
+        VerifierExchangeResponseDTO result = verifierExchangeImpl.getDeviceAttestation(TRANSPORT_ID, refMeasurement);
 
-            // then
-            app.verify(AppContext::instance, times(1));
-            verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
-            assertEquals(VerifierExchangeResponse.OK.getCode(), result.getStatus());
-            assertEquals(toHex(deviceId), result.getDeviceId());
-            verify(transportLayer, times(1)).disconnect();
-        }
+        // then
+        verify(appContext).close();
+        verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
+        assertEquals(VerifierExchangeResponse.OK.getCode(), result.getStatus());
+        assertEquals(toHex(deviceId), result.getDeviceId());
+        verify(transportLayer, times(1)).disconnect();
+        verify(spdmProtocol).close();
     }
 
     @Test
@@ -144,18 +155,15 @@ class VerifierExchangeImplSpdmTest {
         when(getAttestationComponentSpdm.perform(refMeasurement, deviceId))
             .thenReturn(VerifierExchangeResponse.OK);
 
-        try (MockedStatic<AppContext> app = mockStatic(AppContext.class)) {
-            app.when(AppContext::instance).thenReturn(appContext);
-            doReturn(true).when(verifierExchangeImpl).spdmSupported();
+        doReturn(true).when(verifierExchangeImpl).spdmSupported(spdmGetVersionMessageSender);
 
-            // when
-            verifierExchangeImpl.getDeviceAttestation(TRANSPORT_ID, refMeasurement);
+        // when
+        verifierExchangeImpl.getDeviceAttestation(TRANSPORT_ID, refMeasurement);
 
-            // then
-            app.verify(AppContext::instance, times(1));
-            verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
-            verify(transportLayer, times(1)).disconnect();
-        }
+        // then
+        verify(appContext).close();
+        verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
+        verify(transportLayer, times(1)).disconnect();
     }
 
     @Test
@@ -164,19 +172,16 @@ class VerifierExchangeImplSpdmTest {
         mockAppContext();
         when(transportLayer.sendCommand(any())).thenThrow(TransportLayerException.class);
 
-        try (MockedStatic<AppContext> app = mockStatic(AppContext.class)) {
-            app.when(AppContext::instance).thenReturn(appContext);
-            doReturn(true).when(verifierExchangeImpl).spdmSupported();
+        doReturn(true).when(verifierExchangeImpl).spdmSupported(spdmGetVersionMessageSender);
 
-            // when
-            int result = verifierExchangeImpl.healthCheck(TRANSPORT_ID);
+        // when
+        int result = verifierExchangeImpl.healthCheck(TRANSPORT_ID);
 
-            // then
-            app.verify(AppContext::instance, times(1));
-            verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
-            assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
-            verify(transportLayer, times(1)).disconnect();
-        }
+        // then
+        verify(appContext).close();
+        verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
+        assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
+        verify(transportLayer, times(1)).disconnect();
     }
 
     @Test
@@ -185,19 +190,16 @@ class VerifierExchangeImplSpdmTest {
         mockAppContext();
         when(transportLayer.sendCommand(any())).thenReturn(new byte[]{0x01, 0x02});
 
-        try (MockedStatic<AppContext> app = mockStatic(AppContext.class)) {
-            app.when(AppContext::instance).thenReturn(appContext);
-            doReturn(true).when(verifierExchangeImpl).spdmSupported();
+        doReturn(true).when(verifierExchangeImpl).spdmSupported(spdmGetVersionMessageSender);
 
-            // when
-            int result = verifierExchangeImpl.healthCheck(TRANSPORT_ID);
+        // when
+        int result = verifierExchangeImpl.healthCheck(TRANSPORT_ID);
 
-            // then
-            app.verify(AppContext::instance, times(1));
-            verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
-            assertEquals(VerifierExchangeResponse.OK.getCode(), result);
-            verify(transportLayer, times(1)).disconnect();
-        }
+        // then
+        verify(appContext).close();
+        verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
+        assertEquals(VerifierExchangeResponse.OK.getCode(), result);
+        verify(transportLayer, times(1)).disconnect();
     }
 
     @Test
@@ -206,19 +208,16 @@ class VerifierExchangeImplSpdmTest {
         mockAppContext();
         when(transportLayer.sendCommand(any())).thenReturn(new byte[0]);
 
-        try (MockedStatic<AppContext> app = mockStatic(AppContext.class)) {
-            app.when(AppContext::instance).thenReturn(appContext);
-            doReturn(true).when(verifierExchangeImpl).spdmSupported();
+        doReturn(true).when(verifierExchangeImpl).spdmSupported(spdmGetVersionMessageSender);
 
-            // when
-            int result = verifierExchangeImpl.healthCheck(TRANSPORT_ID);
+        // when
+        int result = verifierExchangeImpl.healthCheck(TRANSPORT_ID);
 
-            // then
-            app.verify(AppContext::instance, times(1));
-            verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
-            assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
-            verify(transportLayer, times(1)).disconnect();
-        }
+        // then
+        verify(appContext).close();
+        verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
+        assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
+        verify(transportLayer, times(1)).disconnect();
     }
 
     @Test
@@ -227,19 +226,16 @@ class VerifierExchangeImplSpdmTest {
         mockAppContext();
         when(transportLayer.sendCommand(any())).thenReturn(null);
 
-        try (MockedStatic<AppContext> app = mockStatic(AppContext.class)) {
-            app.when(AppContext::instance).thenReturn(appContext);
-            doReturn(true).when(verifierExchangeImpl).spdmSupported();
+        doReturn(true).when(verifierExchangeImpl).spdmSupported(spdmGetVersionMessageSender);
 
-            // when
-            int result = verifierExchangeImpl.healthCheck(TRANSPORT_ID);
+        // when
+        int result = verifierExchangeImpl.healthCheck(TRANSPORT_ID);
 
-            // then
-            app.verify(AppContext::instance, times(1));
-            verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
-            assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
-            verify(transportLayer, times(1)).disconnect();
-        }
+        // then
+        verify(appContext).close();
+        verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
+        assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
+        verify(transportLayer, times(1)).disconnect();
     }
 
     @Test
@@ -248,18 +244,81 @@ class VerifierExchangeImplSpdmTest {
         mockAppContext();
         when(transportLayer.sendCommand(any())).thenReturn(new byte[0]);
 
-        try (MockedStatic<AppContext> app = mockStatic(AppContext.class)) {
-            app.when(AppContext::instance).thenReturn(appContext);
-            doReturn(true).when(verifierExchangeImpl).spdmSupported();
+        doReturn(true).when(verifierExchangeImpl).spdmSupported(spdmGetVersionMessageSender);
+
+        // when
+        verifierExchangeImpl.healthCheck(TRANSPORT_ID);
+
+        // then
+        verify(appContext).close();
+        verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
+        verify(transportLayer, times(1)).disconnect();
+    }
+
+    @Test
+    void getDeviceAttestation_ProtocolCached_SkipsSpdmVersionCheck() throws Exception {
+        // given
+        mockAppContext();
+        String refMeasurement = "some reference measurements";
+        mockInitSessionComponent();
+        when(appContext.getSqLiteHelper()).thenReturn(sqLiteHelper);
+        when(sqLiteHelper.getDeviceCapabilityCacheService()).thenReturn(capabilityCacheService);
+        when(capabilityCacheService.read(TRANSPORT_ID)).thenReturn(Optional.of(
+            new DeviceCapabilityEntity(TRANSPORT_ID, VerifierProtocolType.SPDM.name(), SPDM_SUPPORTED_VERSION, 0L)));
+        when(getAttestationComponentSpdm.perform(refMeasurement, deviceId))
+            .thenReturn(VerifierExchangeResponse.OK);
+
+        // when
+        VerifierExchangeResponseDTO result = verifierExchangeImpl.getDeviceAttestation(TRANSPORT_ID, refMeasurement);
+
+        // then
+        assertEquals(VerifierExchangeResponse.OK.getCode(), result.getStatus());
+        verify(verifierExchangeImpl, never()).spdmSupported(spdmGetVersionMessageSender);
+        verify(capabilityCacheService, never()).remove(any());
+    }
+
+    @Test
+    void getDeviceAttestation_NotCached_StoresDetectedProtocol() throws Exception {
+        // given
+        mockAppContext();
+        String refMeasurement = "some reference measurements";
+        mockInitSessionComponent();
+        when(appContext.getSqLiteHelper()).thenReturn(sqLiteHelper);
+        when(sqLiteHelper.getDeviceCapabilityCacheService()).thenReturn(capabilityCacheService);
+        when(capabilityCacheService.read(TRANSPORT_ID)).thenReturn(Optional.empty());
+        when(getAttestationComponentSpdm.perform(refMeasurement, deviceId))
+            .thenReturn(VerifierExchangeResponse.OK);
+
+        doReturn(true).when(verifierExchangeImpl).spdmSupported(spdmGetVersionMessageSender);
+
+        // when
+        verifierExchangeImpl.getDeviceAttestation(TRANSPORT_ID, refMeasurement);
+
+        // then
+        verify(capabilityCacheService).store(argThat(entity ->
+            TRANSPORT_ID.equals(entity.getTransportId())
+                && VerifierProtocolType.SPDM.name().equals(entity.getProtocol())));
+    }
+
+    @Test
+    void getDeviceAttestation_ErrorWithCachedProtocol_InvalidatesCache() throws Exception {
+        // given
+        mockAppContext();
+        String refMeasurement = "some reference measurements";
+        mockInitSessionComponent();
+        when(appContext.getSqLiteHelper()).thenReturn(sqLiteHelper);
+        when(sqLiteHelper.getDeviceCapabilityCacheService()).thenReturn(capabilityCacheService);
+        when(capabilityCacheService.read(TRANSPORT_ID)).thenReturn(Optional.of(
+            new DeviceCapabilityEntity(TRANSPORT_ID, VerifierProtocolType.SPDM.name(), SPDM_SUPPORTED_VERSION, 0L)));
+        when(getAttestationComponentSpdm.perform(refMeasurement, deviceId))
+            .thenThrow(TransportLayerException.class);
 
-            // when
-            verifierExchangeImpl.healthCheck(TRANSPORT_ID);
+        // when
+        VerifierExchangeResponseDTO result = verifierExchangeImpl.getDeviceAttestation(TRANSPORT_ID, refMeasurement);
 
-            // then
-            app.verify(AppContext::instance, times(1));
-            verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
-            verify(transportLayer, times(1)).disconnect();
-        }
+        // then
+        assertEquals(VerifierExchangeResponse.ERROR.getCode(), result.getStatus());
+        verify(capabilityCacheService).remove(TRANSPORT_ID);
     }
 
     private void mockAppContext() {
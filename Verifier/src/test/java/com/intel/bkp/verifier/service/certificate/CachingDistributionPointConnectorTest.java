@@ -0,0 +1,320 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.service.certificate;
+
+import com.intel.bkp.fpgacerts.dp.DistributionPointConnector;
+import com.intel.bkp.fpgacerts.dp.DistributionPointResponse;
+import com.intel.bkp.verifier.database.model.DistributionPointCacheEntity;
+import com.intel.bkp.verifier.database.repository.DistributionPointCacheService;
+import com.intel.bkp.verifier.exceptions.DatabaseException;
+import com.intel.bkp.verifier.model.DistributionPointCacheParams;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.cert.X509CRL;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static com.intel.bkp.test.X509GeneratorUtil.generateCrl;
+import static com.intel.bkp.test.X509GeneratorUtil.generateCrlWithoutNextUpdate;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingDistributionPointConnectorTest {
+
+    private static final String CER_URL = "https://tsci.intel.com/content/IPCS/certs/IPCS_agilex.cer";
+    private static final String CRL_URL = "https://tsci.intel.com/content/IPCS/crls/IPCS_agilex.crl";
+    private static final int TTL_HOURS = 48;
+    private static final int MAX_STALE_HOURS = 72;
+    private static final Instant NOW = Instant.now();
+    private static final long TTL_EXPIRY = NOW.plus(Duration.ofHours(TTL_HOURS)).toEpochMilli();
+    private static final byte[] CACHED = new byte[]{1, 2, 3};
+    private static final byte[] DOWNLOADED = new byte[]{4, 5, 6};
+    private static final String ETAG = "\"etag\"";
+    private static final String LAST_MODIFIED = "Mon, 01 Jan 2024 00:00:00 GMT";
+
+    @Mock
+    private DistributionPointConnector connector;
+
+    @Mock
+    private DistributionPointCacheService cacheService;
+
+    @Test
+    void tryGetBytes_CachedNotExpired_ReturnsCachedWithoutRequest() {
+        // given
+        final var sut = prepareSut(false);
+        mockCached(CER_URL, CACHED, NOW.toEpochMilli() + 1);
+
+        // when
+        final Optional<byte[]> result = sut.tryGetBytes(CER_URL);
+
+        // then
+        assertArrayEquals(CACHED, result.orElseThrow());
+        verifyNoInteractions(connector);
+    }
+
+    @Test
+    void tryGetBytes_NotCached_DownloadsAndStoresWithTtl() {
+        // given
+        final var sut = prepareSut(false);
+        when(cacheService.read(CER_URL)).thenReturn(Optional.empty());
+        when(connector.tryGetBytesIfModified(CER_URL, null, null))
+            .thenReturn(Optional.of(DistributionPointResponse.modified(DOWNLOADED, ETAG, LAST_MODIFIED)));
+
+        // when
+        final Optional<byte[]> result = sut.tryGetBytes(CER_URL);
+
+        // then
+        assertArrayEquals(DOWNLOADED, result.orElseThrow());
+        final DistributionPointCacheEntity stored = captureStored();
+        assertArrayEquals(DOWNLOADED, stored.getContent());
+        assertEquals(ETAG, stored.getEtag());
+        assertEquals(LAST_MODIFIED, stored.getLastModified());
+        assertEquals(TTL_EXPIRY, stored.getExpiresAt());
+        assertEquals(NOW.toEpochMilli(), stored.getUpdatedAt());
+    }
+
+    @Test
+    void tryGetBytes_CachedExpiredAndNotModified_ReturnsCachedAndExtendsExpiry() {
+        // given
+        final var sut = prepareSut(false);
+        mockCached(CER_URL, CACHED, NOW.toEpochMilli());
+        when(connector.tryGetBytesIfModified(CER_URL, ETAG, LAST_MODIFIED))
+            .thenReturn(Optional.of(DistributionPointResponse.notModified(ETAG, LAST_MODIFIED)));
+
+        // when
+        final Optional<byte[]> result = sut.tryGetBytes(CER_URL);
+
+        // then
+        assertArrayEquals(CACHED, result.orElseThrow());
+        final DistributionPointCacheEntity stored = captureStored();
+        assertArrayEquals(CACHED, stored.getContent());
+        assertEquals(TTL_EXPIRY, stored.getExpiresAt());
+    }
+
+    @Test
+    void tryGetBytes_CachedExpiredAndModified_ReturnsDownloaded() {
+        // given
+        final var sut = prepareSut(false);
+        mockCached(CER_URL, CACHED, NOW.toEpochMilli());
+        when(connector.tryGetBytesIfModified(CER_URL, ETAG, LAST_MODIFIED))
+            .thenReturn(Optional.of(DistributionPointResponse.modified(DOWNLOADED, null, null)));
+
+        // when
+        final Optional<byte[]> result = sut.tryGetBytes(CER_URL);
+
+        // then
+        assertArrayEquals(DOWNLOADED, result.orElseThrow());
+        assertArrayEquals(DOWNLOADED, captureStored().getContent());
+    }
+
+    @Test
+    void tryGetBytes_Crl_ExpiresAtNextUpdate() throws Exception {
+        // given
+        final var sut = prepareSut(false);
+        final X509CRL crl = generateCrl();
+        mockDownload(CRL_URL, crl.getEncoded());
+
+        // when
+        sut.tryGetBytes(CRL_URL);
+
+        // then
+        assertEquals(Math.min(crl.getNextUpdate().getTime(), TTL_EXPIRY), captureStored().getExpiresAt());
+    }
+
+    @Test
+    void tryGetBytes_CrlWithoutNextUpdate_ExpiresImmediately() throws Exception {
+        // given
+        final var sut = prepareSut(false);
+        mockDownload(CRL_URL, generateCrlWithoutNextUpdate().getEncoded());
+
+        // when
+        sut.tryGetBytes(CRL_URL);
+
+        // then
+        assertEquals(NOW.toEpochMilli(), captureStored().getExpiresAt());
+    }
+
+    @Test
+    void tryGetBytes_InvalidCrl_ReturnsContentWithoutCaching() {
+        // given
+        final var sut = prepareSut(false);
+        mockDownload(CRL_URL, DOWNLOADED);
+
+        // when
+        final Optional<byte[]> result = sut.tryGetBytes(CRL_URL);
+
+        // then
+        assertArrayEquals(DOWNLOADED, result.orElseThrow());
+        verify(cacheService, never()).store(any());
+    }
+
+    @Test
+    void tryGetBytes_DownloadFails_ReturnsEmpty() {
+        // given
+        final var sut = prepareSut(false);
+        when(cacheService.read(CER_URL)).thenReturn(Optional.empty());
+        when(connector.tryGetBytesIfModified(CER_URL, null, null)).thenReturn(Optional.empty());
+
+        // when
+        final Optional<byte[]> result = sut.tryGetBytes(CER_URL);
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(cacheService, never()).store(any());
+    }
+
+    @Test
+    void tryGetBytes_CacheFails_StillDownloads() {
+        // given
+        final var sut = prepareSut(false);
+        final var exception = new DatabaseException("error", new SQLException());
+        when(cacheService.read(CER_URL)).thenThrow(exception);
+        when(connector.tryGetBytesIfModified(CER_URL, null, null))
+            .thenReturn(Optional.of(DistributionPointResponse.modified(DOWNLOADED, null, null)));
+        when(cacheService.store(any())).thenThrow(exception);
+
+        // when
+        final Optional<byte[]> result = sut.tryGetBytes(CER_URL);
+
+        // then
+        assertArrayEquals(DOWNLOADED, result.orElseThrow());
+    }
+
+    @Test
+    void tryGetBytes_NoCacheService_Downloads() {
+        // given
+        final var sut = new CachingDistributionPointConnector(connector, null,
+            new DistributionPointCacheParams(false, TTL_HOURS, MAX_STALE_HOURS), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(connector.tryGetBytesIfModified(CER_URL, null, null))
+            .thenReturn(Optional.of(DistributionPointResponse.modified(DOWNLOADED, null, null)));
+
+        // when
+        final Optional<byte[]> result = sut.tryGetBytes(CER_URL);
+
+        // then
+        assertArrayEquals(DOWNLOADED, result.orElseThrow());
+    }
+
+    @Test
+    void tryGetBytes_OfflineMode_ReturnsExpiredCachedWithoutRequest() {
+        // given
+        final var sut = prepareSut(true);
+        mockCached(CER_URL, CACHED, NOW.toEpochMilli() - 1);
+
+        // when
+        final Optional<byte[]> result = sut.tryGetBytes(CER_URL);
+
+        // then
+        assertArrayEquals(CACHED, result.orElseThrow());
+        verifyNoInteractions(connector);
+    }
+
+    @Test
+    void tryGetBytes_OfflineModeAndExpiredBeyondMaxStale_ReturnsEmpty() {
+        // given
+        final var sut = prepareSut(true);
+        mockCached(CER_URL, CACHED, NOW.minus(Duration.ofHours(MAX_STALE_HOURS)).toEpochMilli() - 1);
+
+        // when
+        final Optional<byte[]> result = sut.tryGetBytes(CER_URL);
+
+        // then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(connector);
+    }
+
+    @Test
+    void tryGetBytes_OfflineModeAndNotCached_ReturnsEmpty() {
+        // given
+        final var sut = prepareSut(true);
+        when(cacheService.read(anyString())).thenReturn(Optional.empty());
+
+        // when
+        final Optional<byte[]> result = sut.tryGetBytes(CER_URL);
+
+        // then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(connector);
+    }
+
+    @Test
+    void close_ClosesConnector() {
+        // given
+        final var sut = prepareSut(false);
+
+        // when
+        sut.close();
+
+        // then
+        verify(connector).close();
+    }
+
+    private CachingDistributionPointConnector prepareSut(boolean offlineMode) {
+        return new CachingDistributionPointConnector(connector, cacheService,
+            new DistributionPointCacheParams(offlineMode, TTL_HOURS, MAX_STALE_HOURS), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private void mockCached(String url, byte[] content, long expiresAt) {
+        when(cacheService.read(url)).thenReturn(Optional.of(
+            new DistributionPointCacheEntity(url, content, ETAG, LAST_MODIFIED, expiresAt, NOW.toEpochMilli())));
+    }
+
+    private void mockDownload(String url, byte[] content) {
+        when(cacheService.read(url)).thenReturn(Optional.empty());
+        when(connector.tryGetBytesIfModified(url, null, null))
+            .thenReturn(Optional.of(DistributionPointResponse.modified(content, null, null)));
+    }
+
+    private DistributionPointCacheEntity captureStored() {
+        final ArgumentCaptor<DistributionPointCacheEntity> captor =
+            ArgumentCaptor.forClass(DistributionPointCacheEntity.class);
+        verify(cacheService).store(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -47,8 +47,15 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.DEFAULT_CT_EXPONENT;
+import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_CACHE_TTL_HOURS;
+import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_GROUP;
+import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_OFFLINE_MAX_STALE_HOURS;
 import static com.intel.bkp.verifier.config.Properties.LIB_SPDM_CT_EXPONENT;
 import static com.intel.bkp.verifier.config.Properties.LIB_SPDM_PARAMS_GROUP;
+import static com.intel.bkp.verifier.utils.LibConfigParser.DEFAULT_BATCH_MAX_CONCURRENCY;
+import static com.intel.bkp.verifier.utils.LibConfigParser.DEFAULT_CHAIN_VERIFICATION_THREADS;
+import static com.intel.bkp.verifier.utils.LibConfigParser.DEFAULT_DP_CACHE_TTL_HOURS;
+import static com.intel.bkp.verifier.utils.LibConfigParser.DEFAULT_DP_OFFLINE_MAX_STALE_HOURS;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -94,6 +101,8 @@ class LibConfigParserTest {
         assertEquals(TransportLayerType.HPS, config.getTransportLayerType());
         assertFalse(config.getAttestationCertificateFlow().isRequireIidUds());
         assertTrue(config.isTestModeSecrets());
+        assertEquals(16, config.getBatchMaxConcurrency());
+        assertEquals(2, config.getChainVerificationThreads());
         assertEquals("fake_path", config.getLibSpdmParams().getWrapperLibraryPath());
         assertEquals(0xAA, config.getLibSpdmParams().getCtExponent());
         assertFalse(config.getLibSpdmParams().isMeasurementsRequestSignature());
@@ -112,6 +121,9 @@ class LibConfigParserTest {
             distributionPoint.getTrustedRootHash()[1]);
         assertEquals("proxy.intel.com", distributionPoint.getProxy().getHost());
         assertEquals(912, distributionPoint.getProxy().getPort());
+        assertTrue(config.getDistributionPointCacheParams().isOfflineMode());
+        assertEquals(48, config.getDistributionPointCacheParams().getCacheTtlHours());
+        assertEquals(96, config.getDistributionPointCacheParams().getOfflineMaxStaleHours());
 
         var securityProviderParams = config.getProviderParams();
         assertNotNull(securityProviderParams);
@@ -152,6 +164,12 @@ class LibConfigParserTest {
         assertNull(distributionPoint.getProxy().getPort());
         assertTrue(config.getAttestationCertificateFlow().isRequireIidUds());
         assertFalse(config.isTestModeSecrets());
+        assertEquals(DEFAULT_BATCH_MAX_CONCURRENCY, config.getBatchMaxConcurrency());
+        assertEquals(DEFAULT_CHAIN_VERIFICATION_THREADS, config.getChainVerificationThreads());
+        assertFalse(config.getDistributionPointCacheParams().isOfflineMode());
+        assertEquals(DEFAULT_DP_CACHE_TTL_HOURS, config.getDistributionPointCacheParams().getCacheTtlHours());
+        assertEquals(DEFAULT_DP_OFFLINE_MAX_STALE_HOURS,
+            config.getDistributionPointCacheParams().getOfflineMaxStaleHours());
         assertEquals("", config.getLibSpdmParams().getWrapperLibraryPath());
         assertEquals(DEFAULT_CT_EXPONENT, config.getLibSpdmParams().getCtExponent());
         assertTrue(config.getLibSpdmParams().isMeasurementsRequestSignature());
@@ -219,6 +237,26 @@ class LibConfigParserTest {
         assertEquals(expectedResult, result);
     }
 
+    @Test
+    void getDistributionPointCacheTtlHours_Negative_Throws() {
+        // given
+        final SchemaParams prop = new SchemaParams();
+        prop.setProperty(String.join(".", DISTRIBUTION_POINT_GROUP, DISTRIBUTION_POINT_CACHE_TTL_HOURS), "-1");
+
+        // when - then
+        assertThrows(IllegalArgumentException.class, () -> sut.getDistributionPointCacheTtlHours(prop));
+    }
+
+    @Test
+    void getDistributionPointOfflineMaxStaleHours_Negative_Throws() {
+        // given
+        final SchemaParams prop = new SchemaParams();
+        prop.setProperty(String.join(".", DISTRIBUTION_POINT_GROUP, DISTRIBUTION_POINT_OFFLINE_MAX_STALE_HOURS), "-1");
+
+        // when - then
+        assertThrows(IllegalArgumentException.class, () -> sut.getDistributionPointOfflineMaxStaleHours(prop));
+    }
+
     @Test
     void parseFile_WhitespacesInRootHashArray_Success() throws Exception {
         // given
@@ -0,0 +1,279 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.benchmarks.attestation;
+
+import com.intel.bkp.bkps.attestation.CacheCertificateFetcher;
+import com.intel.bkp.bkps.attestation.CacheChainFetcher;
+import com.intel.bkp.bkps.attestation.CacheCrlFetcher;
+import com.intel.bkp.bkps.attestation.CacheCrlMapFetcher;
+import com.intel.bkp.bkps.attestation.CacheZipFetcher;
+import com.intel.bkp.bkps.attestation.DiceDpFetchService;
+import com.intel.bkp.bkps.attestation.S10DpFetchService;
+import com.intel.bkp.bkps.attestation.ZipDiceFetchService;
+import com.intel.bkp.bkps.config.ApplicationProperties;
+import com.intel.bkp.bkps.connector.DpConnector;
+import com.intel.bkp.bkps.rest.onboarding.model.ZipDiceParamsDTO;
+import com.intel.bkp.bkps.rest.prefetching.service.CertificatePrefetchRepositoryService;
+import com.intel.bkp.bkps.rest.prefetching.service.CrlPrefetchRepositoryService;
+import com.intel.bkp.bkps.rest.prefetching.service.ZipPrefetchRepositoryService;
+import com.intel.bkp.core.properties.DistributionPoint;
+import com.intel.bkp.fpgacerts.dice.iidutils.IidFlowDetector;
+import com.intel.bkp.fpgacerts.model.Family;
+import com.intel.bkp.test.dp.DistributionPointContentPublisher;
+import com.intel.bkp.test.dp.DistributionPointEmulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.web.client.RestTemplate;
+
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.intel.bkp.test.dp.DistributionPointContentPublisher.CERTS_PATH;
+import static com.intel.bkp.test.dp.DistributionPointContentPublisher.ZIP_PATH;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+
+/**
+ * End-to-end prefetching against a local distribution point emulator: S10, DICE and ZIP fetch services download the
+ * device certificate, follow AIA/CDP extensions over HTTP and parse every certificate and CRL on the way.
+ *
+ * <p>Throughput mode reports fetched devices per millisecond for all threads, sample time mode reports latency
+ * percentiles of a single fetch. {@code latencyMs} is the emulated time to first byte of every response,
+ * {@code failureRate} the fraction of responses replaced with 503 (failed fetches are counted as completed
+ * operations). With {@code cache = true} fetched objects are kept in an in-memory prefetch repository, so only
+ * the ZIP (always refreshed) and expired objects are downloaded again.</p>
+ *
+ * <p>Verifier attestation against the same emulator is measured by {@link SpdmDiceAttestationBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class DistributionPointFetchBenchmark {
+
+    private static final int DEVICES = 64;
+
+    @Param({"0", "20"})
+    private int latencyMs;
+
+    @Param({"0.0", "0.01"})
+    private double failureRate;
+
+    @Param({"false", "true"})
+    private boolean cache;
+
+    private DistributionPointEmulator emulator;
+    private ApplicationProperties applicationProperties;
+    private final List<String> s10DeviceIds = new ArrayList<>();
+    private final List<X509Certificate> diceDeviceIdCerts = new ArrayList<>();
+    private final List<ZipDiceParamsDTO> zipParams = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void startEmulator() {
+        emulator = DistributionPointEmulator.start()
+            .withLatency(Duration.ofMillis(latencyMs))
+            .withFailures(failureRate, HTTP_UNAVAILABLE);
+        final var publisher = new DistributionPointContentPublisher(emulator);
+        for (int i = 0; i < DEVICES; i++) {
+            final String deviceIdHex = "%016X".formatted(0x0102030400000000L + i);
+            s10DeviceIds.add(deviceIdHex);
+            diceDeviceIdCerts.add(publisher.publishDiceChain(deviceIdHex));
+            final var zip = publisher.publishZip(deviceIdHex);
+            zipParams.add(new ZipDiceParamsDTO(deviceIdHex, Family.AGILEX, zip.getId()));
+            publisher.publishS10Chain(deviceIdHex);
+        }
+
+        final var dp = new DistributionPoint();
+        dp.setMainPath(publisher.getMainPath());
+        dp.setAttestationCertBasePath(CERTS_PATH);
+        dp.setZipBasePath(ZIP_PATH);
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.setDistributionPoint(dp);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopEmulator() {
+        emulator.close();
+    }
+
+    /**
+     * Fetch services keep per-request state (DICE) and are not shared between threads, as with one request per
+     * thread in the service.
+     */
+    @State(Scope.Thread)
+    public static class Services {
+
+        private S10DpFetchService s10;
+        private DiceDpFetchService dice;
+        private ZipDiceFetchService zip;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp(DistributionPointFetchBenchmark benchmark) {
+            final var connector = new DpConnector(new RestTemplate());
+            final var certFetcher = new CacheCertificateFetcher(new InMemoryCertificates(benchmark.cache), connector);
+            final var chainFetcher = new CacheChainFetcher(certFetcher);
+            final var crlFetcher = new CacheCrlMapFetcher(
+                new CacheCrlFetcher(new InMemoryCrls(benchmark.cache), connector));
+            final var zipFetcher = new CacheZipFetcher(new InMemoryZips(benchmark.cache), connector);
+            final var properties = benchmark.applicationProperties;
+
+            s10 = new S10DpFetchService(properties, chainFetcher, crlFetcher);
+            dice = new DiceDpFetchService(properties, chainFetcher, certFetcher, crlFetcher,
+                new IidFlowDetector().withRequireIidUds(false));
+            zip = new ZipDiceFetchService(properties, zipFetcher, chainFetcher, crlFetcher);
+        }
+
+        int nextDevice() {
+            next = (next + 1) % DEVICES;
+            return next;
+        }
+    }
+
+    @Benchmark
+    public Object s10(Services services) {
+        return fetch(() -> services.s10.fetch(s10DeviceIds.get(services.nextDevice())));
+    }
+
+    @Benchmark
+    public Object dice(Services services) {
+        return fetch(() -> services.dice.fetch(diceDeviceIdCerts.get(services.nextDevice())));
+    }
+
+    @Benchmark
+    public Object zip(Services services) {
+        return fetch(() -> services.zip.fetch(zipParams.get(services.nextDevice())));
+    }
+
+    private static Object fetch(Supplier<Object> fetch) {
+        try {
+            return fetch.get();
+        } catch (RuntimeException e) {
+            // injected distribution point failures surface as prefetching exceptions
+            return e;
+        }
+    }
+
+    private static class InMemoryCertificates extends CertificatePrefetchRepositoryService {
+
+        private final InMemoryStore<X509Certificate> store;
+
+        InMemoryCertificates(boolean enabled) {
+            super(null);
+            this.store = new InMemoryStore<>(enabled);
+        }
+
+        @Override
+        public void save(String path, X509Certificate obj) {
+            store.save(path, obj);
+        }
+
+        @Override
+        public Optional<X509Certificate> find(String path) {
+            return store.find(path);
+        }
+    }
+
+    private static class InMemoryCrls extends CrlPrefetchRepositoryService {
+
+        private final InMemoryStore<X509CRL> store;
+
+        InMemoryCrls(boolean enabled) {
+            super(null);
+            this.store = new InMemoryStore<>(enabled);
+        }
+
+        @Override
+        public void save(String path, X509CRL obj) {
+            store.save(path, obj);
+        }
+
+        @Override
+        public Optional<X509CRL> find(String path) {
+            return store.find(path);
+        }
+    }
+
+    private static class InMemoryZips extends ZipPrefetchRepositoryService {
+
+        private final InMemoryStore<byte[]> store;
+
+        InMemoryZips(boolean enabled) {
+            super(null);
+            this.store = new InMemoryStore<>(enabled);
+        }
+
+        @Override
+        public void save(String path, byte[] obj) {
+            store.save(path, obj);
+        }
+
+        @Override
+        public Optional<byte[]> find(String path) {
+            return store.find(path);
+        }
+    }
+
+    private record InMemoryStore<T>(boolean enabled, Map<String, T> entries) {
+
+        InMemoryStore(boolean enabled) {
+            this(enabled, new ConcurrentHashMap<>());
+        }
+
+        void save(String path, T obj) {
+            if (enabled) {
+                entries.put(path, obj);
+            }
+        }
+
+        Optional<T> find(String path) {
+            return Optional.ofNullable(entries.get(path));
+        }
+    }
+}
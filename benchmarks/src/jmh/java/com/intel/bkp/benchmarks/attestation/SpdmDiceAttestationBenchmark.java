@@ -0,0 +1,236 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.benchmarks.attestation;
+
+import com.intel.bkp.command.header.CommandHeader;
+import com.intel.bkp.command.header.CommandHeaderManager;
+import com.intel.bkp.command.model.CommandIdentifier;
+import com.intel.bkp.crypto.CryptoUtils;
+import com.intel.bkp.fpgacerts.verification.VerificationResult;
+import com.intel.bkp.protocol.spdm.jna.SpdmProtocol12;
+import com.intel.bkp.protocol.spdm.jna.model.LibSpdmLibraryWrapper;
+import com.intel.bkp.protocol.spdm.jna.model.MessageSender;
+import com.intel.bkp.test.dp.DistributionPointContentPublisher;
+import com.intel.bkp.test.dp.DistributionPointEmulator;
+import com.intel.bkp.test.spdm.SimulatedSpdmDevice;
+import com.intel.bkp.verifier.model.LibConfig;
+import com.intel.bkp.verifier.protocol.spdm.jna.LibSpdmLibraryWrapperImpl;
+import com.intel.bkp.verifier.protocol.spdm.jna.SpdmParametersProviderImpl;
+import com.intel.bkp.verifier.protocol.spdm.service.SpdmDiceAttestationComponent;
+import com.intel.bkp.verifier.service.certificate.AppContext;
+import com.intel.bkp.verifier.utils.LibConfigParser;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.intel.bkp.test.dp.DistributionPointContentPublisher.CERTS_PATH;
+import static com.intel.bkp.utils.HexConverter.fromHex;
+
+/**
+ * Verifier SPDM attestation ({@link SpdmDiceAttestationComponent}) of simulated devices against a local distribution
+ * point emulator - the native libspdm requester collects the DICE chain and signed measurements, the chain is
+ * verified (signatures, UEID, SKI, DICE subjects, TcbInfo) and checked against CRLs fetched from the emulator through
+ * the Verifier distribution point cache.
+ *
+ * <p>Requires the SPDM wrapper library, e.g. {@code gradle :benchmarks:jmh -PjmhIncludes=SpdmDiceAttestation
+ * -PspdmWrapperLibraryPath=/path/to/libspdm_wrapper.so}, and is excluded from runs without it. Every JMH thread
+ * attests its own device. {@code latencyMs} is the emulated time to first byte of distribution point responses,
+ * {@code cacheTtlHours = 0} revalidates every CRL with the distribution point (answered with 304), otherwise CRLs are
+ * served from the cache. The reference measurement is empty, so evidence is collected but not compared to a RIM.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class SpdmDiceAttestationBenchmark {
+
+    private static final String CONFIG_FILE_NAME = "config.properties";
+    private static final String DATABASE_NAME = "verifier_core.sqlite";
+    private static final String[] DATABASE_FILE_SUFFIXES = {"", "-wal", "-shm"};
+    private static final String REF_MEASUREMENT_HEX = "";
+
+    @Param({"0", "20"})
+    private int latencyMs;
+
+    @Param({"0", "24"})
+    private int cacheTtlHours;
+
+    private DistributionPointEmulator emulator;
+    private DistributionPointContentPublisher publisher;
+    private AppContext appContext;
+    private LibSpdmLibraryWrapper wrapper;
+    private boolean databaseCreated;
+    private final AtomicInteger devices = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        emulator = DistributionPointEmulator.start()
+            .withLatency(Duration.ofMillis(latencyMs));
+        publisher = new DistributionPointContentPublisher(emulator);
+
+        // distribution point cache needs a writable database - the internal one is read-only
+        databaseCreated = !new File(DATABASE_NAME).exists();
+        appContext = AppContext.create(prepareLibConfig());
+        wrapper = LibSpdmLibraryWrapperImpl.getInstance(appContext);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        appContext.close();
+        emulator.close();
+        if (databaseCreated) {
+            Arrays.stream(DATABASE_FILE_SUFFIXES)
+                .map(suffix -> new File(DATABASE_NAME + suffix))
+                .forEach(File::delete);
+        }
+    }
+
+    private LibConfig prepareLibConfig() {
+        final LibConfig libConfig = new LibConfigParser().parseConfigFile(CONFIG_FILE_NAME);
+        libConfig.setTestModeSecrets(false);
+        libConfig.getAttestationCertificateFlow().setRequireIidUds(false);
+        libConfig.getDatabaseConfiguration().setInternalDatabase(false);
+        libConfig.getLibSpdmParams().setWrapperLibraryPath(System.getProperty("spdmWrapperLibraryPath"));
+        libConfig.getLibSpdmParams().setMeasurementsRequestSignature(true);
+        libConfig.getDistributionPointCacheParams().setCacheTtlHours(cacheTtlHours);
+
+        final var dp = libConfig.getDistributionPoint();
+        dp.setMainPath(publisher.getMainPath());
+        dp.setAttestationCertBasePath(CERTS_PATH);
+        dp.setTrustedRootHash(new String[]{CryptoUtils.generateSha256Fingerprint(encode(publisher))});
+        return libConfig;
+    }
+
+    @SneakyThrows
+    private static byte[] encode(DistributionPointContentPublisher publisher) {
+        return publisher.getRootCert().getEncoded();
+    }
+
+    @State(Scope.Thread)
+    public static class Device {
+
+        private SimulatedSpdmDevice device;
+        private byte[] deviceId;
+
+        @Setup(Level.Trial)
+        public void setUp(SpdmDiceAttestationBenchmark benchmark) throws Exception {
+            final String uidHex = "%016X".formatted(0x0102030400000000L + benchmark.devices.incrementAndGet());
+            device = new SimulatedSpdmDevice(benchmark.publisher.generateSpdmIdentity(uidHex));
+            deviceId = fromHex(uidHex);
+
+            final VerificationResult result = benchmark.attest(this);
+            if (VerificationResult.PASSED != result) {
+                throw new IllegalStateException("Attestation of device %s failed: %s".formatted(uidHex, result));
+            }
+        }
+    }
+
+    @Benchmark
+    public VerificationResult attest(Device device) throws Exception {
+        try (var protocol = new DeviceSpdmProtocol(new DeviceMessageSender(device.device), appContext, wrapper)) {
+            return new SpdmDiceAttestationComponent(appContext, protocol).perform(REF_MEASUREMENT_HEX,
+                device.deviceId);
+        }
+    }
+
+    /**
+     * Verifier SPDM protocol with messages sent to a simulated device instead of the transport layer.
+     */
+    private static class DeviceSpdmProtocol extends SpdmProtocol12 {
+
+        private final AppContext appContext;
+
+        DeviceSpdmProtocol(MessageSender messageSender, AppContext appContext, LibSpdmLibraryWrapper wrapper) {
+            super(messageSender, new SpdmParametersProviderImpl(appContext));
+            this.appContext = appContext;
+            this.jnaInterface = wrapper;
+        }
+
+        @Override
+        protected void initializeLibrary() {
+            // library is loaded once per trial
+        }
+
+        @Override
+        public boolean isMeasurementsRequestSignature() {
+            return appContext.getLibConfig().getLibSpdmParams().isMeasurementsRequestSignature();
+        }
+    }
+
+    /**
+     * Sends MCTP messages in mailbox MCTP commands, as the Verifier does.
+     */
+    @RequiredArgsConstructor
+    private static class DeviceMessageSender implements MessageSender {
+
+        private static final int COMMAND_HEADER_LEN = 4;
+
+        private final SimulatedSpdmDevice device;
+        private byte[] response;
+
+        @Override
+        public void sendMessage(ByteBuffer spdmContext, ByteBuffer buffer) {
+            final byte[] message = new byte[buffer.remaining()];
+            buffer.get(message);
+            final byte[] header = CommandHeaderManager.buildForFw(new CommandHeader(
+                CommandIdentifier.MCTP.getCommandCode(), message.length / Integer.BYTES, 0, 0));
+            response = device.process(ByteBuffer.allocate(header.length + message.length)
+                .put(header)
+                .put(message)
+                .array());
+        }
+
+        @Override
+        public Optional<byte[]> receiveResponse() {
+            return Optional.of(Arrays.copyOfRange(response, COMMAND_HEADER_LEN, response.length));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.benchmarks.cbor;
+
+import com.intel.bkp.fpgacerts.cbor.rim.Comid;
+import com.intel.bkp.fpgacerts.cbor.rim.RimSigned;
+import com.intel.bkp.fpgacerts.cbor.rim.comid.Claims;
+import com.intel.bkp.fpgacerts.cbor.rim.comid.ComidEntity;
+import com.intel.bkp.fpgacerts.cbor.rim.comid.ComidId;
+import com.intel.bkp.fpgacerts.cbor.rim.comid.ReferenceTriple;
+import com.intel.bkp.fpgacerts.cbor.rim.parser.RimSignedParser;
+import com.intel.bkp.fpgacerts.cbor.signer.CborSignatureVerifier;
+import com.intel.bkp.fpgacerts.cbor.xrim.XrimSigned;
+import com.intel.bkp.fpgacerts.cbor.xrim.parser.XrimSignedParser;
+import com.intel.bkp.test.KeyGenUtils;
+import com.intel.bkp.test.rim.RimGenerator;
+import com.intel.bkp.test.rim.XrimGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.KeyPair;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.intel.bkp.test.RandomUtils.generateRandomBytes;
+import static com.intel.bkp.test.rim.ComidBuilderUtils.environmentMap;
+import static com.intel.bkp.test.rim.ComidBuilderUtils.measurementMap;
+import static com.intel.bkp.utils.HexConverter.toHex;
+
+/**
+ * Covers {@code CborParserBase} based parsing and signature verification of signed CoRIM and XCoRIM structures.
+ * Design CoRIMs are generated with {@code referenceTriples} reference triples to show how cost scales with size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CborParserBenchmark {
+
+    private static final CborSignatureVerifier SIGNATURE_VERIFIER = new CborSignatureVerifier();
+
+    @Param({"5", "500", "5000"})
+    private int referenceTriples;
+
+    private KeyPair keyPair;
+    private byte[] corim;
+    private byte[] designCorim;
+    private byte[] xcorim;
+
+    @Setup
+    public void setUp() {
+        keyPair = KeyGenUtils.genEc384();
+        corim = RimGenerator.instance().keyPair(keyPair).generate();
+        designCorim = RimGenerator.instance()
+            .keyPair(keyPair)
+            .design(true)
+            .designComid(prepareDesignComid(referenceTriples))
+            .generate();
+        xcorim = XrimGenerator.instance().keyPair(keyPair).generate();
+    }
+
+    @Benchmark
+    public RimSigned parseCorim() {
+        return RimSignedParser.instance().parse(corim);
+    }
+
+    @Benchmark
+    public RimSigned parseDesignCorim() {
+        return RimSignedParser.instance().parse(designCorim);
+    }
+
+    @Benchmark
+    public boolean verifyDesignCorimSignature() {
+        return SIGNATURE_VERIFIER.verify(keyPair.getPublic(), designCorim);
+    }
+
+    @Benchmark
+    public XrimSigned parseXcorim() {
+        return XrimSignedParser.instance().parse(xcorim);
+    }
+
+    private static Comid prepareDesignComid(int triples) {
+        final List<ReferenceTriple> referenceTriples = IntStream.range(0, triples)
+            .mapToObj(i -> ReferenceTriple.builder()
+                .environmentMap(environmentMap("6086480186F84D010F0402", 2))
+                .measurementMap(measurementMap(7, toHex(generateRandomBytes(48))))
+                .build())
+            .toList();
+
+        return Comid.builder()
+            .id(ComidId.builder().value("5CC21C1EDC37453D8FF559AFB335371C").build())
+            .entities(List.of(ComidEntity.builder()
+                .entityName("Design Author")
+                .regId("")
+                .roles(List.of(0))
+                .build()))
+            .claims(Claims.builder()
+                .referenceTriples(referenceTriples)
+                .endorsedTriples(List.of())
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.benchmarks.command;
+
+import com.intel.bkp.command.MailboxCommandLayer;
+import com.intel.bkp.command.model.CommandIdentifier;
+import com.intel.bkp.utils.interfaces.BytesConvertible;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static com.intel.bkp.test.RandomUtils.generateRandomBytes;
+
+/**
+ * Runs with the command layer logger at INFO (see logback.xml), so gc.alloc.rate.norm should only cover the command
+ * buffers themselves - no hex strings are built for the disabled trace messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MailboxCommandLayerBenchmark {
+
+    private static final int COMMAND_HEADER_LEN = 4;
+
+    @Param({"64", "4096"})
+    private int payloadSize;
+
+    private MailboxCommandLayer commandLayer;
+    private BytesConvertible message;
+    private byte[] response;
+
+    @Setup
+    public void setUp() {
+        commandLayer = new MailboxCommandLayer();
+        final byte[] payload = generateRandomBytes(payloadSize);
+        message = new BytesConvertible() {
+            @Override
+            public byte[] array() {
+                return payload;
+            }
+        };
+        // zeroed header = STATUS_OKAY
+        response = ByteBuffer.allocate(COMMAND_HEADER_LEN + payloadSize)
+            .put(new byte[COMMAND_HEADER_LEN])
+            .put(payload)
+            .array();
+    }
+
+    @Benchmark
+    public byte[] create() {
+        return commandLayer.create(message, CommandIdentifier.MCTP);
+    }
+
+    @Benchmark
+    public byte[] retrieve() {
+        return commandLayer.retrieve(response, CommandIdentifier.MCTP);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.benchmarks.crypto;
+
+import com.intel.bkp.crypto.CryptoUtils;
+import com.intel.bkp.crypto.aesgcm.AesGcmProvider;
+import com.intel.bkp.test.KeyGenUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.ByteOrder;
+import java.security.Provider;
+import java.util.concurrent.TimeUnit;
+
+import static com.intel.bkp.crypto.constants.CryptoConstants.AES_CIPHER_TYPE;
+import static com.intel.bkp.test.RandomUtils.generateRandomBytes;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AesGcmProviderBenchmark {
+
+    @Param({"256", "16384"})
+    private int size;
+
+    private AesGcmProvider provider;
+    private byte[] plainText;
+    private byte[] encrypted;
+
+    @Setup
+    public void setUp() throws Exception {
+        provider = new BenchmarkAesGcmProvider(KeyGenUtils.genAes256());
+        plainText = generateRandomBytes(size);
+        encrypted = provider.encrypt(plainText);
+    }
+
+    @Benchmark
+    public byte[] encrypt() throws Exception {
+        return provider.encrypt(plainText);
+    }
+
+    @Benchmark
+    public byte[] decrypt() throws Exception {
+        return provider.decrypt(encrypted);
+    }
+
+    private static final class BenchmarkAesGcmProvider extends AesGcmProvider {
+
+        private final SecretKey secretKey;
+        private final Provider securityProvider = CryptoUtils.getBouncyCastleProvider();
+
+        BenchmarkAesGcmProvider(SecretKey secretKey) {
+            this.secretKey = secretKey;
+        }
+
+        @Override
+        public SecretKey getSecretKey() {
+            return secretKey;
+        }
+
+        @Override
+        public Provider getProvider() {
+            return securityProvider;
+        }
+
+        @Override
+        public String getCipherType() {
+            return AES_CIPHER_TYPE;
+        }
+
+        @Override
+        public ByteOrder getByteOrder() {
+            return ByteOrder.BIG_ENDIAN;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.benchmarks.crypto;
+
+import com.intel.bkp.crypto.CryptoUtils;
+import com.intel.bkp.crypto.impl.EcUtils;
+import com.intel.bkp.test.KeyGenUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.KeyPair;
+import java.security.Provider;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.util.concurrent.TimeUnit;
+
+import static com.intel.bkp.crypto.constants.CryptoConstants.EC_CURVE_SPEC_384;
+import static com.intel.bkp.crypto.constants.CryptoConstants.EC_KEY;
+import static com.intel.bkp.crypto.constants.CryptoConstants.SHA384_WITH_ECDSA;
+import static com.intel.bkp.test.RandomUtils.generateRandomBytes;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EcUtilsBenchmark {
+
+    private static final int EC_XY_LEN = 96;
+
+    private final Provider provider = CryptoUtils.getBouncyCastleProvider();
+
+    private KeyPair keyPair;
+    private byte[] data;
+    private byte[] signature;
+    private byte[] publicKeyXY;
+
+    @Setup
+    public void setUp() throws Exception {
+        keyPair = KeyGenUtils.genEc384();
+        data = generateRandomBytes(1024);
+        signature = EcUtils.signEcData(keyPair.getPrivate(), data, SHA384_WITH_ECDSA, provider);
+        publicKeyXY = CryptoUtils.getBytesFromPubKey((ECPublicKey) keyPair.getPublic(), EC_XY_LEN);
+    }
+
+    @Benchmark
+    public KeyPair genEc() throws Exception {
+        return EcUtils.genEc(provider, EC_KEY, EC_CURVE_SPEC_384);
+    }
+
+    @Benchmark
+    public byte[] sign() throws Exception {
+        return EcUtils.signEcData(keyPair.getPrivate(), data, SHA384_WITH_ECDSA, provider);
+    }
+
+    @Benchmark
+    public boolean verify() throws Exception {
+        return EcUtils.sigVerify(keyPair.getPublic(), data, signature, SHA384_WITH_ECDSA, provider);
+    }
+
+    @Benchmark
+    public PublicKey toPublic() throws Exception {
+        return EcUtils.toPublic(publicKeyXY, EC_KEY, EC_CURVE_SPEC_384, provider);
+    }
+}
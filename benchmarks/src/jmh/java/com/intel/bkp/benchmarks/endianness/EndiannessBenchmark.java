@@ -0,0 +1,126 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.benchmarks.endianness;
+
+import com.intel.bkp.core.endianness.EndiannessActor;
+import com.intel.bkp.core.psgcertificate.PsgCertificateEntryBuilder;
+import com.intel.bkp.core.psgcertificate.PsgPublicKeyBuilder;
+import com.intel.bkp.core.psgcertificate.PsgSignatureBuilder;
+import com.intel.bkp.core.psgcertificate.model.PsgCurveType;
+import com.intel.bkp.core.psgcertificate.model.PsgPublicKeyMagic;
+import com.intel.bkp.core.psgcertificate.model.PsgSignatureCurveType;
+import com.intel.bkp.test.KeyGenUtils;
+import com.intel.bkp.test.SigningUtils;
+import com.intel.bkp.utils.ByteSwap;
+import com.intel.bkp.utils.ByteSwapOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.KeyPair;
+import java.util.concurrent.TimeUnit;
+
+import static com.intel.bkp.crypto.constants.CryptoConstants.SHA384_WITH_ECDSA;
+import static com.intel.bkp.test.RandomUtils.generateRandomBytes;
+
+/**
+ * Covers {@link ByteSwap} primitives and the {@code EndiannessMapper} based structure builders that use them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EndiannessBenchmark {
+
+    private byte[] array;
+    private byte[] psgCertificateEntry;
+    private int value;
+
+    @Setup
+    public void setUp() {
+        array = generateRandomBytes(96);
+        value = 0x92540917;
+
+        final KeyPair parentKeyPair = KeyGenUtils.genEc384();
+        final KeyPair keyPair = KeyGenUtils.genEc384();
+        psgCertificateEntry = new PsgCertificateEntryBuilder()
+            .withSignature(PsgSignatureBuilder.empty(PsgSignatureCurveType.SECP384R1))
+            .publicKey(new PsgPublicKeyBuilder()
+                .magic(PsgPublicKeyMagic.M1_MAGIC)
+                .publicKey(keyPair.getPublic(), PsgCurveType.SECP384R1))
+            .signData(dataToSign -> SigningUtils.signEcData(dataToSign, parentKeyPair.getPrivate(),
+                SHA384_WITH_ECDSA), PsgSignatureCurveType.SECP384R1)
+            .build()
+            .array();
+    }
+
+    @Benchmark
+    public int swapInt() {
+        return ByteSwap.getSwappedInt(value, ByteSwapOrder.B2L);
+    }
+
+    @Benchmark
+    public byte[] swapIntToArray() {
+        return ByteSwap.getSwappedArray(value, ByteSwapOrder.B2L);
+    }
+
+    @Benchmark
+    public byte[] swapArrayByInt() {
+        return ByteSwap.getSwappedArrayByInt(array, ByteSwapOrder.B2L);
+    }
+
+    @Benchmark
+    public PsgCertificateEntryBuilder newBuilder() {
+        return new PsgCertificateEntryBuilder();
+    }
+
+    @Benchmark
+    public byte[] parseAndBuildPsgCertificateEntry() {
+        return new PsgCertificateEntryBuilder()
+            .parse(psgCertificateEntry)
+            .build()
+            .array();
+    }
+
+    @Benchmark
+    public byte[] parseAndBuildPsgCertificateEntryForFirmware() {
+        return new PsgCertificateEntryBuilder()
+            .parse(psgCertificateEntry)
+            .withActor(EndiannessActor.FIRMWARE)
+            .build()
+            .array();
+    }
+}
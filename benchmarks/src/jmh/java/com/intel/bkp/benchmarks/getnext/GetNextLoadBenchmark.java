@@ -0,0 +1,134 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.benchmarks.getnext;
+
+import com.intel.bkp.test.spdm.SimulatedSpdmDevice;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * N programmers running {@code get_next} transactions against simulated SPDM devices concurrently through a running
+ * service - one JMH thread is one programmer with its own HTTP connection and its own pool of devices.
+ *
+ * <p>This is a load test of the request handling and of the SPDM exchanges that precede a secure session, not of
+ * provisioning: devices answer GET_CHIPID and SPDM VCA, GET_DIGESTS, GET_CERTIFICATE, GET_MEASUREMENTS and
+ * SET_CERTIFICATE, but do not implement KEY_EXCHANGE, FINISH or secured messages and do not advertise KEY_EX_CAP.
+ * Every transaction therefore ends when the service finds KEY_EX_CAP missing - nothing is provisioned, and SPDM
+ * onboarding (SetAuthority) and the secure session part of provisioning are not exercised. Transactions ended by the
+ * service are counted in {@code finished}, transactions rejected with an HTTP error (e.g. while SPDM is busy with
+ * another programmer) in {@code rejected}, next to {@code requests} sent in total. {@code jtagLatencyMs} models the
+ * round trip of every command between programmer and FPGA.</p>
+ *
+ * <p>The service is not started by the benchmark: pass its url with {@code -PbkpsUrl} (and the configuration id with
+ * {@code -PbkpsCfgId}); the client certificate of the programmer is taken from standard {@code javax.net.ssl.*}
+ * properties. Starting the service in-process is deliberately not supported - it would take the whole application
+ * with its database and security provider - so the benchmark is excluded from runs without {@code -PbkpsUrl}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class GetNextLoadBenchmark {
+
+    private static final int DEVICES_PER_PROGRAMMER = 8;
+
+    @Param({"0", "5"})
+    private int jtagLatencyMs;
+
+    private String serviceUrl;
+    private long cfgId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        serviceUrl = System.getProperty("bkps.url", "https://localhost:8082");
+        cfgId = Long.getLong("bkps.cfgId", 1L);
+    }
+
+    @State(Scope.Thread)
+    public static class Programmer {
+
+        private ProgrammerClient client;
+        private final List<SimulatedSpdmDevice> devices = new ArrayList<>();
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp(GetNextLoadBenchmark benchmark) {
+            client = new ProgrammerClient(benchmark.serviceUrl, benchmark.cfgId);
+            final long threadId = Thread.currentThread().getId();
+            for (int i = 0; i < DEVICES_PER_PROGRAMMER; i++) {
+                final String uidHex = "%08x%08x".formatted(threadId, i);
+                devices.add(SimulatedSpdmDevice.generate(uidHex)
+                    .withResponseDelay(Duration.ofMillis(benchmark.jtagLatencyMs)));
+            }
+        }
+
+        SimulatedSpdmDevice nextDevice() {
+            next = (next + 1) % DEVICES_PER_PROGRAMMER;
+            return devices.get(next);
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Outcomes {
+
+        public long finished;
+        public long rejected;
+        public long requests;
+    }
+
+    @Benchmark
+    public void getNext(Programmer programmer, Outcomes outcomes) throws Exception {
+        final var result = programmer.client.runTransaction(programmer.nextDevice());
+        outcomes.requests += result.requests();
+        if (result.isFinished()) {
+            outcomes.finished++;
+        } else {
+            outcomes.rejected++;
+        }
+    }
+}
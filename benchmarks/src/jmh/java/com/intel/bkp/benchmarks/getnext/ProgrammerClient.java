@@ -0,0 +1,149 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.benchmarks.getnext;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intel.bkp.bkps.programmer.model.CommunicationStatus;
+import com.intel.bkp.bkps.programmer.model.MessageType;
+import com.intel.bkp.bkps.programmer.model.ResponseStatus;
+import com.intel.bkp.bkps.rest.provisioning.ProvisioningResource;
+import com.intel.bkp.test.spdm.SimulatedSpdmDevice;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static java.net.HttpURLConnection.HTTP_OK;
+
+/**
+ * Simulated programmer - drives one transaction over {@code get_next} against a running service and executes every
+ * {@code SEND_PACKET} command on a {@link SimulatedSpdmDevice}, as Quartus does with a real FPGA.
+ */
+@RequiredArgsConstructor
+class ProgrammerClient {
+
+    static final String GET_NEXT_PATH = ProvisioningResource.PROVISIONING_NODE + ProvisioningResource.GET_NEXT;
+    private static final int API_VERSION = 1;
+    private static final int MAX_REQUESTS = 1000;
+    // programmer supports SEND_PACKET and all PUSH_* commands
+    private static final int SUPPORTED_COMMANDS = 0x3F;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final URI getNextUri;
+    private final long cfgId;
+
+    ProgrammerClient(String serviceUrl, long cfgId) {
+        this(HttpClient.newHttpClient(), URI.create(serviceUrl + GET_NEXT_PATH), cfgId);
+    }
+
+    /**
+     * Runs {@code get_next} until the service reports {@code done} or rejects a request.
+     *
+     * @return number of {@code get_next} requests sent and HTTP status of the last one
+     */
+    TransactionResult runTransaction(SimulatedSpdmDevice device) throws IOException, InterruptedException {
+        Request request = new Request(new Context(""), cfgId, API_VERSION, SUPPORTED_COMMANDS, List.of());
+        for (int requests = 1; requests <= MAX_REQUESTS; requests++) {
+            final HttpResponse<byte[]> httpResponse = getNext(request);
+            if (HTTP_OK != httpResponse.statusCode()) {
+                return new TransactionResult(requests, httpResponse.statusCode());
+            }
+
+            final Response response = MAPPER.readValue(httpResponse.body(), Response.class);
+            if (CommunicationStatus.DONE.getStatus().equals(response.status())) {
+                return new TransactionResult(requests, HTTP_OK);
+            }
+            request = new Request(response.context(), cfgId, API_VERSION, SUPPORTED_COMMANDS,
+                execute(device, response.jtagCommands()));
+        }
+        throw new IllegalStateException("Transaction not finished after %d requests.".formatted(MAX_REQUESTS));
+    }
+
+    private HttpResponse<byte[]> getNext(Request request) throws IOException, InterruptedException {
+        final HttpRequest httpRequest = HttpRequest.newBuilder(getNextUri)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(request)))
+            .build();
+        return httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static List<JtagResponse> execute(SimulatedSpdmDevice device, List<Command> commands) {
+        final List<JtagResponse> responses = new ArrayList<>();
+        if (commands == null) {
+            return responses;
+        }
+
+        for (Command command : commands) {
+            // PUSH_* commands are stored by the programmer and not answered
+            if (MessageType.SEND_PACKET.getValue() == command.type()) {
+                final byte[] response = device.process(Base64.getDecoder().decode(command.value()));
+                responses.add(new JtagResponse(Base64.getEncoder().encodeToString(response), ResponseStatus.ST_OK));
+            }
+        }
+        return responses;
+    }
+
+    record TransactionResult(int requests, int status) {
+
+        boolean isFinished() {
+            return HTTP_OK == status;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Context(String value) {
+    }
+
+    record Request(Context context, long cfgId, int apiVersion, int supportedCommands,
+                   List<JtagResponse> jtagResponses) {
+    }
+
+    record JtagResponse(String value, ResponseStatus status) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Command(int type, String value) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Response(Context context, String status, List<Command> jtagCommands) {
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.benchmarks.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.intel.bkp.bkps.logging.LoggingAspect;
+import com.intel.bkp.bkps.logging.MethodTracer;
+import com.intel.bkp.bkps.service.BenchmarkProvisioningService;
+import com.intel.bkp.core.properties.Tracing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.intel.bkp.test.RandomUtils.generateRandomBytes;
+
+/**
+ * Compares throughput of a provisioning service call without the logging aspect (production default), with the aspect
+ * registered but tracing disabled for the service class and with tracing enabled for it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoggingAspectBenchmark {
+
+    private static final String TRACING_LOGGER = "tracing";
+
+    @Param({"NO_ASPECT", "TRACING_DISABLED", "TRACING_ENABLED"})
+    private String mode;
+
+    private BenchmarkProvisioningService service;
+    private byte[] request;
+
+    @Setup
+    public void setUp() {
+        request = generateRandomBytes(256);
+        final BenchmarkProvisioningService target = new BenchmarkProvisioningService();
+        if ("NO_ASPECT".equals(mode)) {
+            service = target;
+            return;
+        }
+
+        setTracingLevel("TRACING_ENABLED".equals(mode) ? Level.TRACE : Level.OFF);
+        final AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new LoggingAspect(new StandardEnvironment(), new MethodTracer(new Tracing())));
+        service = proxyFactory.getProxy();
+    }
+
+    @TearDown
+    public void tearDown() {
+        setTracingLevel(Level.OFF);
+    }
+
+    @Benchmark
+    public byte[] provision() {
+        return service.provision(request);
+    }
+
+    private static void setTracingLevel(Level level) {
+        ((Logger) LoggerFactory.getLogger(TRACING_LOGGER)).setLevel(level);
+    }
+}
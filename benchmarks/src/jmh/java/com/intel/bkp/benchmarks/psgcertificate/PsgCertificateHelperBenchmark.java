@@ -0,0 +1,125 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.benchmarks.psgcertificate;
+
+import com.intel.bkp.core.psgcertificate.PsgCertificateEntryBuilder;
+import com.intel.bkp.core.psgcertificate.PsgCertificateHelper;
+import com.intel.bkp.core.psgcertificate.PsgCertificateRootEntryBuilder;
+import com.intel.bkp.core.psgcertificate.PsgPublicKeyBuilder;
+import com.intel.bkp.core.psgcertificate.PsgSignatureBuilder;
+import com.intel.bkp.core.psgcertificate.model.CertificateEntryWrapper;
+import com.intel.bkp.core.psgcertificate.model.PsgCurveType;
+import com.intel.bkp.core.psgcertificate.model.PsgPublicKeyMagic;
+import com.intel.bkp.core.psgcertificate.model.PsgSignatureCurveType;
+import com.intel.bkp.test.KeyGenUtils;
+import com.intel.bkp.test.SigningUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.intel.bkp.crypto.constants.CryptoConstants.SHA384_WITH_ECDSA;
+
+/**
+ * Covers parsing and verification of root - intermediate - leaf PSG certificate chains, as sent by customers
+ * in S10 provisioning requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PsgCertificateHelperBenchmark {
+
+    private final PsgCertificateHelper psgCertificateHelper = new PsgCertificateHelper();
+
+    private String encodedChain;
+    private List<CertificateEntryWrapper> chain;
+
+    @Setup
+    public void setUp() throws Exception {
+        final KeyPair rootKeyPair = KeyGenUtils.genEc384();
+        final KeyPair intermediateKeyPair = KeyGenUtils.genEc384();
+        final KeyPair leafKeyPair = KeyGenUtils.genEc384();
+
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.write(new PsgCertificateRootEntryBuilder()
+            .publicKey(toPsgPublicKey(rootKeyPair))
+            .build()
+            .array());
+        stream.write(toPsgCertificateEntry(intermediateKeyPair, rootKeyPair));
+        stream.write(toPsgCertificateEntry(leafKeyPair, intermediateKeyPair));
+
+        encodedChain = Base64.getEncoder().encodeToString(stream.toByteArray());
+        chain = psgCertificateHelper.getCertificateChainList(encodedChain);
+    }
+
+    @Benchmark
+    public List<CertificateEntryWrapper> getCertificateChainList() {
+        return psgCertificateHelper.getCertificateChainList(encodedChain);
+    }
+
+    @Benchmark
+    public PsgCertificateEntryBuilder findLeafCertificateInChain() throws Exception {
+        return psgCertificateHelper.findLeafCertificateInChain(chain);
+    }
+
+    @Benchmark
+    public List<CertificateEntryWrapper> verifyParentsInChainByPubKey() throws Exception {
+        psgCertificateHelper.verifyParentsInChainByPubKey(chain);
+        return chain;
+    }
+
+    private static byte[] toPsgCertificateEntry(KeyPair keyPair, KeyPair parentKeyPair) {
+        return new PsgCertificateEntryBuilder()
+            .withSignature(PsgSignatureBuilder.empty(PsgSignatureCurveType.SECP384R1))
+            .publicKey(toPsgPublicKey(keyPair))
+            .signData(dataToSign -> SigningUtils.signEcData(dataToSign, parentKeyPair.getPrivate(),
+                SHA384_WITH_ECDSA), PsgSignatureCurveType.SECP384R1)
+            .build()
+            .array();
+    }
+
+    private static PsgPublicKeyBuilder toPsgPublicKey(KeyPair keyPair) {
+        return new PsgPublicKeyBuilder()
+            .magic(PsgPublicKeyMagic.M1_MAGIC)
+            .publicKey(keyPair.getPublic(), PsgCurveType.SECP384R1);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.benchmarks.verification;
+
+import com.intel.bkp.fpgacerts.interfaces.ICrlProvider;
+import com.intel.bkp.test.FileUtils;
+import com.intel.bkp.test.enumeration.ResourceDir;
+
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Map;
+
+import static com.intel.bkp.crypto.x509.parsing.X509CertificateParser.toX509Certificate;
+import static com.intel.bkp.crypto.x509.parsing.X509CrlParser.toX509Crl;
+
+/**
+ * Production EFUSE DICE alias chain (alias, firmware, deviceId, product family, root) with its CRLs,
+ * loaded from TestLibrary resources.
+ */
+final class DiceChainData {
+
+    static final String DICE_ROOT_HASH = "35E08599DD52CB7533764DEE65C915BBAFD0E35E6252BCCD77F3A694390F618B";
+    static final String DEVICE_ID = "70E46B9910824501";
+
+    private static final String CHAIN_FOLDER = "dice/aliasEfuseSpdmChain/";
+    private static final String COMMON_FOLDER = "dice/common/";
+    private static final String DP_URL = "https://tsci.intel.com";
+
+    private DiceChainData() {
+    }
+
+    static byte[] loadDer(String path) {
+        return FileUtils.loadBinary(ResourceDir.CERTS, path);
+    }
+
+    static List<byte[]> loadChainDer() {
+        return List.of(
+            loadDer(CHAIN_FOLDER + "alias_01458210996be470_spdm.cer"),
+            loadDer(CHAIN_FOLDER + "firmware_01458210996be470_spdm.cer"),
+            loadDer(CHAIN_FOLDER + "deviceId_01458210996be470_spdm.cer"),
+            loadDer(COMMON_FOLDER + "IPCS_agilex.cer"),
+            loadDer(COMMON_FOLDER + "DICE_RootCA.cer"));
+    }
+
+    static List<X509Certificate> loadChain() throws Exception {
+        final List<byte[]> ders = loadChainDer();
+        final X509Certificate[] certificates = new X509Certificate[ders.size()];
+        for (int i = 0; i < ders.size(); i++) {
+            certificates[i] = toX509Certificate(ders.get(i));
+        }
+        return List.of(certificates);
+    }
+
+    static ICrlProvider crlProvider() throws Exception {
+        final Map<String, X509CRL> crls = Map.of(
+            DP_URL + "/content/IPCS/crls/IPCS_agilex_L1.crl", toX509Crl(loadDer(COMMON_FOLDER + "IPCS_agilex_L1.crl")),
+            DP_URL + "/content/IPCS/crls/IPCS_agilex.crl", toX509Crl(loadDer(COMMON_FOLDER + "IPCS_agilex.crl")),
+            DP_URL + "/content/DICE/crls/DICE.crl", toX509Crl(loadDer(COMMON_FOLDER + "DICE.crl")));
+        return crls::get;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.benchmarks.verification;
+
+import com.intel.bkp.fpgacerts.interfaces.ICrlProvider;
+import com.intel.bkp.fpgacerts.verification.CrlVerifier;
+import com.intel.bkp.fpgacerts.verification.DiceChainVerifierBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.intel.bkp.fpgacerts.model.Oid.KEY_PURPOSE_ATTEST_INIT;
+import static com.intel.bkp.fpgacerts.model.Oid.KEY_PURPOSE_ATTEST_LOC;
+import static com.intel.bkp.utils.HexConverter.fromHex;
+
+/**
+ * Covers full DICE chain verification ({@link DiceChainVerifierBase}) and its CRL part ({@link CrlVerifier})
+ * on a real 5-certificate EFUSE alias chain, with CRLs served from memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DiceChainVerifierBenchmark {
+
+    private List<X509Certificate> chain;
+    private ICrlProvider crlProvider;
+
+    @Setup
+    public void setUp() throws Exception {
+        chain = DiceChainData.loadChain();
+        crlProvider = DiceChainData.crlProvider();
+    }
+
+    @Benchmark
+    public List<X509Certificate> verifyDiceChain() {
+        final var verifier = new BenchmarkDiceChainVerifier(crlProvider);
+        verifier.setDeviceId(fromHex(DiceChainData.DEVICE_ID));
+        verifier.verifyChain(chain);
+        return chain;
+    }
+
+    @Benchmark
+    public boolean verifyCrl() {
+        return new CrlVerifier(crlProvider)
+            .certificates(chain)
+            .doNotRequireCrlForLeafCertificate()
+            .verify();
+    }
+
+    private static final class BenchmarkDiceChainVerifier extends DiceChainVerifierBase {
+
+        BenchmarkDiceChainVerifier(ICrlProvider crlProvider) {
+            super(crlProvider, new String[]{DiceChainData.DICE_ROOT_HASH}, false);
+        }
+
+        @Override
+        protected String[] getExpectedLeafCertKeyPurposes() {
+            return new String[]{KEY_PURPOSE_ATTEST_INIT.getOid(), KEY_PURPOSE_ATTEST_LOC.getOid()};
+        }
+
+        @Override
+        protected void handleVerificationFailure(String failureDetails) {
+            throw new IllegalStateException(failureDetails);
+        }
+    }
+}
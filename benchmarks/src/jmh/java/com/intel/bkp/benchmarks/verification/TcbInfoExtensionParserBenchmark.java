@@ -0,0 +1,93 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.benchmarks.verification;
+
+import com.intel.bkp.fpgacerts.dice.DiceChainMeasurementsCollector;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Covers collection of TcbInfo measurements from a real EFUSE alias chain, whose alias certificate carries
+ * a MultiTcbInfo extension. The fresh certificate variants decode a new certificate object on every call, as
+ * happens for each attested device, so only extension level reuse applies; they are paired with a baseline that
+ * only decodes the certificate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TcbInfoExtensionParserBenchmark {
+
+    private final DiceChainMeasurementsCollector collector = new DiceChainMeasurementsCollector();
+
+    private List<X509Certificate> chain;
+    private byte[] aliasDer;
+    private CertificateFactory certificateFactory;
+
+    @Setup
+    public void setUp() throws Exception {
+        chain = DiceChainData.loadChain();
+        aliasDer = DiceChainData.loadChainDer().get(0);
+        certificateFactory = CertificateFactory.getInstance("X.509");
+    }
+
+    @Benchmark
+    public List<TcbInfoMeasurement> collectFromChain() {
+        return collector.getMeasurementsFromCertChain(chain);
+    }
+
+    @Benchmark
+    public X509Certificate decodeFreshAliasCertificate() throws Exception {
+        return decodeAlias();
+    }
+
+    @Benchmark
+    public List<TcbInfoMeasurement> collectFromFreshAliasCertificate() throws Exception {
+        return collector.getMeasurementsFromCertChain(List.of(decodeAlias()));
+    }
+
+    private X509Certificate decodeAlias() throws Exception {
+        return (X509Certificate) certificateFactory.generateCertificate(new ByteArrayInputStream(aliasDer));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.benchmarks.x509;
+
+import com.intel.bkp.crypto.x509.parsing.X509CertificateParser;
+import com.intel.bkp.test.CertificateUtils;
+import com.intel.bkp.test.KeyGenUtils;
+import com.intel.bkp.test.X509GeneratorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.KeyPair;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class X509CertificateParserBenchmark {
+
+    // twice as many as intern pool holds, so cycling through them never hits the pool
+    private static final int COLD_CERTIFICATES = 2048;
+
+    private byte[] certificateDer;
+    private String certificatePem;
+    private byte[][] coldCertificatesDer;
+    private int coldIndex;
+
+    @Setup
+    public void setUp() throws Exception {
+        final X509GeneratorUtil generator = new X509GeneratorUtil();
+        certificatePem = generator.generateX509ChainStringArray()[0];
+        certificateDer = generator.generateX509ChainList().get(0).getEncoded();
+
+        final KeyPair keyPair = KeyGenUtils.genEc256();
+        coldCertificatesDer = new byte[COLD_CERTIFICATES][];
+        for (int i = 0; i < COLD_CERTIFICATES; i++) {
+            coldCertificatesDer[i] = CertificateUtils.generateCertificate(keyPair).getEncoded();
+        }
+    }
+
+    @Benchmark
+    public X509Certificate toX509Certificate() throws Exception {
+        return X509CertificateParser.toX509Certificate(certificateDer);
+    }
+
+    @Benchmark
+    public X509Certificate toX509CertificateCold() throws Exception {
+        coldIndex = (coldIndex + 1) % COLD_CERTIFICATES;
+        return X509CertificateParser.toX509Certificate(coldCertificatesDer[coldIndex]);
+    }
+
+    @Benchmark
+    public X509Certificate pemToX509Certificate() throws Exception {
+        return X509CertificateParser.pemToX509Certificate(certificatePem);
+    }
+}
@@ -32,17 +32,17 @@
 
 package com.intel.bkp.bkps.attestation;
 
-import com.intel.bkp.bkps.domain.ServiceConfiguration;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot;
 
 public record AttestationParams(boolean testModeSecrets,
                                 boolean requireIidUds,
                                 String corimUrl) {
 
-    public static AttestationParams from(ServiceConfiguration configuration) {
+    public static AttestationParams from(ServiceConfigurationSnapshot configuration) {
         return new AttestationParams(
-            configuration.isTestModeSecrets(),
-            configuration.isRequireIidUds(),
-            configuration.getCorimUrl()
+            configuration.testModeSecrets(),
+            configuration.requireIidUds(),
+            configuration.corimUrl()
         );
     }
 
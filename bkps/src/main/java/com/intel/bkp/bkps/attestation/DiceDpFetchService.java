@@ -56,7 +56,7 @@ public class DiceDpFetchService extends FetchServiceBase<X509Certificate, Prefet
     private final IpcsCertificateFetcher ipcsCertificateFetcher;
     private final IidFlowDetector iidFlowDetector;
 
-    protected DiceDpFetchService(ApplicationProperties applicationProperties,
+    public DiceDpFetchService(ApplicationProperties applicationProperties,
                                  CacheChainFetcher chainFetcher,
                                  CacheCertificateFetcher certFetcher,
                                  CacheCrlMapFetcher crlFetcher,
@@ -59,7 +59,7 @@ public class ZipDiceFetchService extends FetchServiceBase<ZipDiceParamsDTO, Pref
 
     private final IpcsZipFetcher ipcsZipFetcher;
 
-    protected ZipDiceFetchService(ApplicationProperties applicationProperties,
+    public ZipDiceFetchService(ApplicationProperties applicationProperties,
                                   CacheZipFetcher zipFetcher,
                                   CacheChainFetcher chainFetcher,
                                   CacheCrlMapFetcher crlFetcher) {
@@ -33,6 +33,8 @@
 package com.intel.bkp.bkps.config;
 
 import com.intel.bkp.bkps.logging.LoggingAspect;
+import com.intel.bkp.bkps.logging.MethodTracer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
@@ -43,7 +45,8 @@ import org.springframework.core.env.Environment;
 public class LoggingAspectConfiguration {
 
     @Bean
-    public LoggingAspect loggingAspect(Environment env) {
-        return new LoggingAspect(env);
+    @ConditionalOnProperty(prefix = "application.logging.tracing", name = "enabled")
+    public LoggingAspect loggingAspect(Environment env, ApplicationProperties properties) {
+        return new LoggingAspect(env, new MethodTracer(properties.getLogging().getTracing()));
     }
 }
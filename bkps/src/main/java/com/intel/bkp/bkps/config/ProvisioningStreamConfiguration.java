@@ -0,0 +1,94 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intel.bkp.bkps.rest.provisioning.ProvisioningResource;
+import com.intel.bkp.bkps.rest.provisioning.service.ProvisioningService;
+import com.intel.bkp.bkps.rest.provisioning.stream.ProvisioningStreamHandler;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+import java.time.Duration;
+
+/**
+ * Optional long-lived transport for provisioning sessions.
+ *
+ * <p>Exposes {@link ProvisioningResource#STREAM} as a WebSocket endpoint on the same Undertow server and
+ * behind the same mTLS/authority rules as {@link ProvisioningResource#GET_NEXT}, which stays available as
+ * the REST fallback.</p>
+ */
+@Configuration
+@EnableWebSocket
+@ConditionalOnProperty(prefix = "service.streaming", name = "enabled")
+@Slf4j
+public class ProvisioningStreamConfiguration implements WebSocketConfigurer {
+
+    @Value("${service.streaming.max-message-size}")
+    private Integer maxMessageSize;
+
+    @Value("${service.streaming.idle-timeout}")
+    private Duration idleTimeout;
+
+    private final ProvisioningStreamHandler provisioningStreamHandler;
+
+    ProvisioningStreamConfiguration(ProvisioningService provisioningService, ObjectMapper objectMapper,
+                                    Validator validator) {
+        this.provisioningStreamHandler = new ProvisioningStreamHandler(provisioningService, objectMapper,
+            validator);
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        log.info("Registering provisioning stream endpoint.");
+        registry.addHandler(provisioningStreamHandler,
+            ProvisioningResource.PROVISIONING_NODE + ProvisioningResource.STREAM);
+    }
+
+    @Bean
+    public ServletServerContainerFactoryBean createWebSocketContainer() {
+        final ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxBinaryMessageBufferSize(maxMessageSize);
+        container.setMaxTextMessageBufferSize(maxMessageSize);
+        container.setMaxSessionIdleTimeout(idleTimeout.toMillis());
+        return container;
+    }
+}
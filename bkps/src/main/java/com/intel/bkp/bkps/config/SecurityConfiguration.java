@@ -126,14 +126,26 @@ public class SecurityConfiguration {
                 .requestMatchers(antMatcher(HttpMethod.POST, PrefetchResource.PREFETCH_NODE
                     + PrefetchResource.PREFETCH_DEVICES))
                     .hasAnyAuthority(AuthoritiesConstants.ADMIN, AuthoritiesConstants.SUPER_ADMIN)
+                .requestMatchers(antMatcher(HttpMethod.POST, PrefetchResource.PREFETCH_NODE
+                    + PrefetchResource.PREFETCH_MANIFEST))
+                    .hasAnyAuthority(AuthoritiesConstants.ADMIN, AuthoritiesConstants.SUPER_ADMIN)
+                .requestMatchers(antMatcher(HttpMethod.GET, PrefetchResource.PREFETCH_NODE
+                    + PrefetchResource.PREFETCH_JOBS + "/*"))
+                    .hasAnyAuthority(AuthoritiesConstants.ADMIN, AuthoritiesConstants.SUPER_ADMIN)
                 .requestMatchers(antMatcher(HttpMethod.GET, OnboardingResource.PREFETCH_STATUS))
                     .hasAnyAuthority(AuthoritiesConstants.ADMIN, AuthoritiesConstants.SUPER_ADMIN,
                         AuthoritiesConstants.PROGRAMMER)
+                .requestMatchers(antMatcher(HttpMethod.POST, OnboardingResource.PREFETCH_STATUS_BULK))
+                    .hasAnyAuthority(AuthoritiesConstants.ADMIN, AuthoritiesConstants.SUPER_ADMIN,
+                        AuthoritiesConstants.PROGRAMMER)
                 .requestMatchers(antMatcher(HttpMethod.POST, OnboardingResource.SET_AUTHORITY))
                     .hasAuthority(AuthoritiesConstants.PROGRAMMER)
                 .requestMatchers(antMatcher(HttpMethod.POST, OnboardingResource.PUF_ACTIVATE))
                     .hasAuthority(AuthoritiesConstants.PROGRAMMER)
                 .requestMatchers(antMatcher(HttpMethod.POST, ProvisioningResource.PROVISIONING_NODE + "/**"))
+                    .hasAuthority(AuthoritiesConstants.PROGRAMMER)
+                .requestMatchers(antMatcher(HttpMethod.GET, ProvisioningResource.PROVISIONING_NODE
+                    + ProvisioningResource.STREAM))
                     .hasAuthority(AuthoritiesConstants.PROGRAMMER))
             .x509(cfg -> cfg.x509AuthenticationFilter(x509AuthenticationFilter(authenticationManager)))
             .authorizeHttpRequests(cfg -> cfg.anyRequest().denyAll());
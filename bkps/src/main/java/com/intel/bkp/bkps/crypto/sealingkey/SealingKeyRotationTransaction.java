@@ -36,6 +36,8 @@ import com.intel.bkp.bkps.crypto.aesgcm.AesGcmSealingKeyProviderImpl;
 import com.intel.bkp.bkps.crypto.sealingkey.event.SealingKeyTransactionEvent;
 import com.intel.bkp.bkps.domain.AesKey;
 import com.intel.bkp.bkps.repository.AesKeyRepository;
+import com.intel.bkp.bkps.repository.ServiceConfigurationRepository;
+import com.intel.bkp.bkps.rest.provisioning.service.ServiceConfigurationCache;
 import com.intel.bkp.core.exceptions.BKPInternalRuntimeException;
 import com.intel.bkp.crypto.exceptions.EncryptionProviderException;
 import lombok.RequiredArgsConstructor;
@@ -63,6 +65,8 @@ public class SealingKeyRotationTransaction {
     private final AesGcmSealingKeyProviderImpl encryptionProvider;
     private final SealingKeyManager sealingKeyManager;
     private final ApplicationEventPublisher eventPublisher;
+    private final ServiceConfigurationRepository serviceConfigurationRepository;
+    private final ServiceConfigurationCache serviceConfigurationCache;
 
     @Async("taskExecutor")
     @Transactional(isolation = Isolation.SERIALIZABLE)
@@ -72,6 +76,8 @@ public class SealingKeyRotationTransaction {
 
         try {
             reencryptAllAesKey(activeKey, pendingKey);
+            serviceConfigurationRepository.incrementAllVersions();
+            serviceConfigurationCache.evictAll();
             sealingKeyManager.disableActiveKey();
             sealingKeyManager.activatePendingKey();
         } catch (Exception e) {
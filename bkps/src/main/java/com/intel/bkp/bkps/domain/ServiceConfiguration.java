@@ -79,6 +79,13 @@ public class ServiceConfiguration implements Serializable {
     @Column(nullable = false)
     private PufType pufType;
 
+    /**
+     * Incremented by every change of configuration, see {@link
+     * com.intel.bkp.bkps.repository.ServiceConfigurationRepository#incrementVersion(Long)}.
+     */
+    @Column(name = "config_version", nullable = false, insertable = false, updatable = false)
+    private long version;
+
     @Column
     private int overbuildMax;
 
@@ -52,7 +52,9 @@ import static lombok.AccessLevel.PUBLIC;
 
 /**
  * Aspect for logging execution of service and repository Spring components.
- * By default, it only runs with the "dev" profile.
+ * Registered only when application.logging.tracing.enabled is set, so beans are not proxied otherwise.
+ * Exceptions are always logged, call tracing is delegated to {@link MethodTracer} and is off unless enabled for
+ * the given package or class.
  */
 @Aspect
 @Slf4j
@@ -60,6 +62,7 @@ import static lombok.AccessLevel.PUBLIC;
 public class LoggingAspect {
 
     private final Environment env;
+    private final MethodTracer methodTracer;
 
     /**
      * Pointcut that matches all repositories, services and Web REST endpoints.
@@ -116,7 +119,7 @@ public class LoggingAspect {
     }
 
     /**
-     * Advice that logs when a method is entered and exited.
+     * Advice that traces method duration and outcome, if tracing is enabled for the method's class.
      *
      * @param joinPoint join point for advice
      * @return result
@@ -124,16 +127,8 @@ public class LoggingAspect {
      */
     @Around("applicationPackagePointcut() && springBeanPointcut() && notHealthPointcut()")
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
-        if (log.isDebugEnabled()) {
-            log.debug("Enter: {} with argument[s] = {}", getFullMethodName(joinPoint.getSignature()),
-                Arrays.toString(joinPoint.getArgs()));
-        }
         try {
-            Object result = joinPoint.proceed();
-            if (log.isDebugEnabled()) {
-                log.debug("Exit: {} with result = {}", getFullMethodName(joinPoint.getSignature()), result);
-            }
-            return result;
+            return methodTracer.trace(joinPoint);
         } catch (IllegalArgumentException e) {
             log.error("Illegal argument: {} in {}", Arrays.toString(joinPoint.getArgs()),
                 getFullMethodName(joinPoint.getSignature()));
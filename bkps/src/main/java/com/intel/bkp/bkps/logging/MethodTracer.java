@@ -0,0 +1,102 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.logging;
+
+import com.intel.bkp.core.properties.Tracing;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records method name, duration and outcome of traced calls.
+ *
+ * <p>Tracing is selected per package or class through the logger hierarchy rooted at {@value #LOGGER_PREFIX}, e.g.
+ * {@code logging.level.tracing.com.intel.bkp.bkps.repository=TRACE} or the equivalent entry in logback-spring.xml,
+ * which is rescanned at runtime. When the logger for a class is not at TRACE, a call costs one map lookup and one
+ * level check.</p>
+ */
+public class MethodTracer {
+
+    static final String LOGGER_PREFIX = "tracing.";
+
+    private static final String OUTCOME_OK = "OK";
+
+    private final Map<Class<?>, Logger> loggers = new ConcurrentHashMap<>();
+    private final double sampleRate;
+    private final boolean logArguments;
+
+    public MethodTracer(Tracing tracing) {
+        this.sampleRate = tracing.getSampleRate();
+        this.logArguments = tracing.isLogArguments();
+    }
+
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        final Signature signature = joinPoint.getSignature();
+        final Logger logger = getLogger(signature.getDeclaringType());
+        if (!logger.isTraceEnabled() || !isSampled()) {
+            return joinPoint.proceed();
+        }
+
+        final long start = System.nanoTime();
+        String outcome = OUTCOME_OK;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            final long durationMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            if (logArguments) {
+                logger.trace("{}() took {} us, outcome: {}, argument[s] = {}", signature.getName(), durationMicros,
+                    outcome, Arrays.toString(joinPoint.getArgs()));
+            } else {
+                logger.trace("{}() took {} us, outcome: {}", signature.getName(), durationMicros, outcome);
+            }
+        }
+    }
+
+    private Logger getLogger(Class<?> declaringType) {
+        return loggers.computeIfAbsent(declaringType, type -> LoggerFactory.getLogger(LOGGER_PREFIX + type.getName()));
+    }
+
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
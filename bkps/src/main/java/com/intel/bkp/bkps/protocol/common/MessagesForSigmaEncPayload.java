@@ -36,10 +36,10 @@ import com.intel.bkp.bkps.command.CommandLayerService;
 import com.intel.bkp.bkps.crypto.aesctr.AesCtrEncryptionKeyProviderImpl;
 import com.intel.bkp.bkps.crypto.aesgcm.AesGcmSealingKeyProviderImpl;
 import com.intel.bkp.bkps.crypto.sealingkey.SealingKeyManager;
-import com.intel.bkp.bkps.domain.AesKey;
-import com.intel.bkp.bkps.domain.Qek;
-import com.intel.bkp.bkps.domain.ServiceConfiguration;
 import com.intel.bkp.bkps.exception.ProvisioningGenericException;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot.AesKeySnapshot;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot.QekSnapshot;
 import com.intel.bkp.command.logger.CommandLogger;
 import com.intel.bkp.command.messages.common.CertificateBuilder;
 import com.intel.bkp.command.model.CommandIdentifier;
@@ -75,19 +75,18 @@ public class MessagesForSigmaEncPayload {
     private final PsgAesKeyBuilderFactory psgAesKeyBuilderFactory = new PsgAesKeyBuilderFactory();
     private IPsgAesKeyBuilder<? extends StructureBuilder<?, ? extends IStructure>> aesKeyBuilder;
 
-    public byte[] prepareFrom(ServiceConfiguration configuration) {
-        final var confidentialData = configuration.getConfidentialData();
-        final var aesKey = confidentialData.getAesKey();
+    public byte[] prepareFrom(ServiceConfigurationSnapshot configuration) {
+        final var aesKey = configuration.aesKey();
         var aesKeyBytes = decryptConfidentialData(aesKey);
         verifyAesKeyCanBeParsed(aesKeyBytes);
         CommandIdentifier cmd = CommandIdentifier.CERTIFICATE;
         if (PsgAesKeyType.SDM_1_5.equals(aesKeyBuilder.getAesKeyType())) {
             cmd = CommandIdentifier.USER_AES_ROOT_KEY_PROVISION;
-            aesKeyBytes = parseQekAppendCcert(confidentialData.getQek(), aesKeyBytes);
+            aesKeyBytes = parseQekAppendCcert(configuration.qek(), aesKeyBytes);
         }
 
         final var certificate = new CertificateBuilder(aesKeyBytes)
-            .testProgram(aesKey.getTestProgram())
+            .testProgram(aesKey.testProgram())
             .build();
         final byte[] certificateBytes = commandLayer.create(certificate, cmd);
         CommandLogger.log(certificate, CERTIFICATE_MESSAGE, this.getClass());
@@ -95,12 +94,12 @@ public class MessagesForSigmaEncPayload {
         return certificateBytes;
     }
 
-    public byte[] decryptConfidentialData(AesKey aesKey) {
-        return decryptConfidentialData(fromHex(aesKey.getValue()));
+    public byte[] decryptConfidentialData(AesKeySnapshot aesKey) {
+        return decryptConfidentialData(fromHex(aesKey.value()));
     }
 
-    public byte[] decryptConfidentialData(Qek qek) {
-        return decryptConfidentialData(fromHex(qek.getValue()));
+    public byte[] decryptConfidentialData(QekSnapshot qek) {
+        return decryptConfidentialData(fromHex(qek.value()));
     }
 
     private byte[] decryptConfidentialData(byte[] encryptedData) {
@@ -125,14 +124,14 @@ public class MessagesForSigmaEncPayload {
         }
     }
 
-    private byte[] parseQekAppendCcert(Qek qek, byte[] aesKey) {
+    private byte[] parseQekAppendCcert(QekSnapshot qek, byte[] aesKey) {
         try {
             // Parse QEK content
             PsgQekBuilderHSM qekBuilder = new PsgQekBuilderHSM();
             final byte[] decryptedData = decryptConfidentialData(qek);
             qekBuilder.withActor(EndiannessActor.FIRMWARE).parse(decryptedData);
             // Append AES ccert with AES root key
-            aesCtrEncryptionKeyProvider.initialize(new AesCtrQekIvProvider(qekBuilder.getIvData()), qek.getKeyName());
+            aesCtrEncryptionKeyProvider.initialize(new AesCtrQekIvProvider(qekBuilder.getIvData()), qek.keyName());
             final byte[] aesRootKey = aesCtrEncryptionKeyProvider.decrypt(qekBuilder.getEncryptedAESKey());
             ByteBuffer buffer = ByteBuffer.allocate(aesKey.length + aesRootKey.length);
             buffer.order(ByteOrder.LITTLE_ENDIAN).put(aesKey);
@@ -32,13 +32,12 @@
 
 package com.intel.bkp.bkps.protocol.common.handler;
 
-import com.intel.bkp.bkps.domain.AesKey;
-import com.intel.bkp.bkps.domain.ConfidentialData;
-import com.intel.bkp.bkps.domain.ServiceConfiguration;
 import com.intel.bkp.bkps.exception.CommandNotSupportedException;
 import com.intel.bkp.bkps.exception.InvalidConfigurationException;
 import com.intel.bkp.bkps.programmer.model.MessageType;
 import com.intel.bkp.bkps.programmer.sigma.SupportedMessageTypesFactory;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot.AesKeySnapshot;
 import com.intel.bkp.bkps.rest.provisioning.model.dto.ProvisioningRequestDTO;
 import com.intel.bkp.bkps.rest.provisioning.model.dto.ProvisioningResponseDTO;
 import com.intel.bkp.bkps.rest.provisioning.model.dto.ProvisioningTransferObject;
@@ -69,9 +68,9 @@ public class ProvSupportedCommandsComponent extends ProvisioningHandler {
             return false;
         }
 
-        final AesKey aesKey = getAesKey(cfgId, configurationCallback);
-        final StorageType aesKeyStorage = aesKey.getStorage();
-        final KeyWrappingType keyWrappingType = aesKey.getKeyWrappingType();
+        final AesKeySnapshot aesKey = getAesKey(cfgId, configurationCallback);
+        final StorageType aesKeyStorage = aesKey.storage();
+        final KeyWrappingType keyWrappingType = aesKey.keyWrappingType();
 
         final boolean required = MessageType.areSetIn(
             SupportedMessageTypesFactory.getRequired(), supportedCommands);
@@ -86,11 +85,10 @@ public class ProvSupportedCommandsComponent extends ProvisioningHandler {
         return 0 == supportedCommands;
     }
 
-    private AesKey getAesKey(Long cfgId, IServiceConfiguration configurationCallback) {
+    private AesKeySnapshot getAesKey(Long cfgId, IServiceConfiguration configurationCallback) {
         return Optional.ofNullable(configurationCallback)
             .map(c -> c.getConfiguration(cfgId))
-            .map(ServiceConfiguration::getConfidentialData)
-            .map(ConfidentialData::getAesKey)
+            .map(ServiceConfigurationSnapshot::aesKey)
             .orElseThrow(() -> new InvalidConfigurationException(cfgId));
     }
 }
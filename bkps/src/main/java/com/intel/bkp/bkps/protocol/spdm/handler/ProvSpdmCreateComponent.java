@@ -33,7 +33,6 @@
 package com.intel.bkp.bkps.protocol.spdm.handler;
 
 import com.intel.bkp.bkps.crypto.aesgcm.AesGcmContextProviderImpl;
-import com.intel.bkp.bkps.domain.ServiceConfiguration;
 import com.intel.bkp.bkps.exception.ExceededOvebuildException;
 import com.intel.bkp.bkps.exception.ProgrammerResponseNumberException;
 import com.intel.bkp.bkps.exception.ProvisioningConverterException;
@@ -46,6 +45,7 @@ import com.intel.bkp.bkps.protocol.common.model.FlowStage;
 import com.intel.bkp.bkps.protocol.common.service.GetChipIdMessageSender;
 import com.intel.bkp.bkps.protocol.spdm.model.ProvSpdmContext;
 import com.intel.bkp.bkps.rest.onboarding.model.SpdmMessageDTO;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot;
 import com.intel.bkp.bkps.rest.provisioning.model.dto.ProvisioningRequestDTOReader;
 import com.intel.bkp.bkps.rest.provisioning.model.dto.ProvisioningResponseDTO;
 import com.intel.bkp.bkps.rest.provisioning.model.dto.ProvisioningResponseDTOBuilder;
@@ -113,9 +113,9 @@ public class ProvSpdmCreateComponent extends ProvisioningHandler {
         final IServiceConfiguration configurationCallback = transferObject.getConfigurationCallback();
         final Long cfgId = dtoReader.getCfgId();
         log.info(prepareLogEntry("Fetch configuration data for cfg id: " + cfgId));
-        final ServiceConfiguration configuration = configurationCallback.getConfiguration(cfgId);
+        final ServiceConfigurationSnapshot configuration = configurationCallback.getConfiguration(cfgId);
 
-        ensureOverbuildCounterNotExceeded(deviceIdHex, configuration);
+        ensureOverbuildCounterNotExceeded(configurationCallback, deviceIdHex, configuration);
         ensureCorimUrlProvided(configuration);
 
         spdmBackgroundService.startSecureSessionThread(deviceIdHex, cfgId, configurationCallback);
@@ -139,18 +139,19 @@ public class ProvSpdmCreateComponent extends ProvisioningHandler {
         }
     }
 
-    private void ensureOverbuildCounterNotExceeded(String deviceIdHex, ServiceConfiguration configuration) {
+    private void ensureOverbuildCounterNotExceeded(IServiceConfiguration configurationCallback, String deviceIdHex,
+                                                   ServiceConfigurationSnapshot configuration) {
         log.info(prepareLogEntry("Verify overbuild counter"));
         try {
-            overbuildCounterManager.verifyOverbuildCounter(configuration, deviceIdHex);
+            overbuildCounterManager.verifyOverbuildCounter(configurationCallback, configuration, deviceIdHex);
         } catch (ExceededOvebuildException e) {
             throw new ProvisioningGenericException(e);
         }
     }
 
-    private void ensureCorimUrlProvided(ServiceConfiguration configuration) {
+    private void ensureCorimUrlProvided(ServiceConfigurationSnapshot configuration) {
         log.info(prepareLogEntry("Verify CoRIM url provided in configuration"));
-        if (isBlank(configuration.getCorimUrl())) {
+        if (isBlank(configuration.corimUrl())) {
             throw new ProvisioningGenericException("Missing CoRIM URL in configuration - required for attestation.");
         }
     }
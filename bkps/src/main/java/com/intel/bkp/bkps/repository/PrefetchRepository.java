@@ -43,7 +43,7 @@ import java.util.UUID;
 
 @Repository
 public interface PrefetchRepository extends JpaRepository<PrefetchEntity, UUID>,
-    JpaSpecificationExecutor<PrefetchEntity> {
+    JpaSpecificationExecutor<PrefetchEntity>, PrefetchRepositoryCustom {
 
     Optional<PrefetchEntity> findByPathAndType(String path, PrefetchEntityType type);
 
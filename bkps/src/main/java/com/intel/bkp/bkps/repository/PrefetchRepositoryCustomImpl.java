@@ -0,0 +1,89 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.repository;
+
+import com.intel.bkp.bkps.domain.PrefetchEntity;
+import com.intel.bkp.bkps.domain.enumeration.PrefetchEntityType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+class PrefetchRepositoryCustomImpl implements PrefetchRepositoryCustom {
+
+    static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<String> findPathsContainingAnyIgnoreCase(Collection<String> pathParts, PrefetchEntityType type) {
+        if (pathParts.isEmpty()) {
+            return List.of();
+        }
+
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<String> query = cb.createQuery(String.class);
+        final Root<PrefetchEntity> root = query.from(PrefetchEntity.class);
+        final Expression<String> path = root.get("path");
+        final Expression<String> lowerPath = cb.lower(path);
+        final Predicate[] anyPart = pathParts.stream()
+            .map(part -> cb.like(lowerPath, "%" + escapeLike(part.toLowerCase(Locale.ROOT)) + "%", LIKE_ESCAPE))
+            .toArray(Predicate[]::new);
+
+        query.select(path).where(cb.equal(root.get("type"), type), cb.or(anyPart));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * Escapes LIKE wildcards in a value taken from the request, so it is matched literally - as Spring Data does for
+     * derived {@code Containing} queries.
+     */
+    static String escapeLike(String value) {
+        final StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
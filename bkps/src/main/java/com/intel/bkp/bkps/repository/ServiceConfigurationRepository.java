@@ -38,6 +38,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 /**
  * Spring Data  repository for the ServiceConfiguration entity.
  */
@@ -49,4 +51,19 @@ public interface ServiceConfigurationRepository extends JpaRepository<ServiceCon
     @Query(value = "UPDATE service_configuration SET overbuild_current = overbuild_current + 1 "
         + "WHERE id = ? AND  (overbuild_current < overbuild_max OR overbuild_max = -1)", nativeQuery = true)
     int updateServiceConfigurationSetOverbuildCurrent(Long cfgId);
+
+    @Query("SELECT s.version FROM ServiceConfiguration s WHERE s.id = ?1")
+    Optional<Long> findVersionById(Long cfgId);
+
+    @Query("SELECT s.overbuildCurrent FROM ServiceConfiguration s WHERE s.id = ?1")
+    Optional<Integer> findOverbuildCurrentById(Long cfgId);
+
+    @Modifying
+    @Query(value = "UPDATE service_configuration SET config_version = config_version + 1 WHERE id = ?",
+        nativeQuery = true)
+    int incrementVersion(Long cfgId);
+
+    @Modifying
+    @Query(value = "UPDATE service_configuration SET config_version = config_version + 1", nativeQuery = true)
+    int incrementAllVersions();
 }
@@ -48,6 +48,7 @@ import com.intel.bkp.bkps.rest.configuration.model.dto.ServiceConfigurationRespo
 import com.intel.bkp.bkps.rest.configuration.model.mapper.ServiceConfigurationDetailsMapper;
 import com.intel.bkp.bkps.rest.configuration.model.mapper.ServiceConfigurationMapper;
 import com.intel.bkp.bkps.rest.errors.enums.ErrorCodeMap;
+import com.intel.bkp.bkps.rest.provisioning.service.ServiceConfigurationCache;
 import com.intel.bkp.core.endianness.EndiannessActor;
 import com.intel.bkp.core.endianness.StructureBuilder;
 import com.intel.bkp.core.exceptions.BKPBadRequestException;
@@ -101,6 +102,7 @@ public class ServiceConfigurationService {
     private final AesCtrEncryptionKeyProviderImpl aesCtrEncryptionKeyProvider;
     private final SealingKeyManager sealingKeyManager;
     private final ServiceConfigurationImportManager serviceConfigurationImportManager;
+    private final ServiceConfigurationCache serviceConfigurationCache;
 
     @Setter(AccessLevel.PACKAGE)
     private PsgAesKeyBuilderFactory psgAesKeyBuilderFactory = new PsgAesKeyBuilderFactory();
@@ -132,7 +134,11 @@ public class ServiceConfigurationService {
 
         encryptConfidentialData(config.getConfidentialData());
 
+        final boolean existingConfig = config.getId() != null;
         final var savedConfig = serviceConfigurationRepository.save(config);
+        if (existingConfig) {
+            invalidateCachedConfiguration(savedConfig.getId());
+        }
         log.info("Configuration {} saved.", savedConfig.getId());
         return serviceConfigurationMapper.toDto(savedConfig);
     }
@@ -282,12 +288,18 @@ public class ServiceConfigurationService {
         }
 
         serviceConfigurationRepository.deleteById(id);
+        serviceConfigurationCache.evict(id);
     }
 
     public boolean exists(Long id) {
         return serviceConfigurationRepository.existsById(id);
     }
 
+    private void invalidateCachedConfiguration(Long id) {
+        serviceConfigurationRepository.incrementVersion(id);
+        serviceConfigurationCache.evict(id);
+    }
+
     private void encryptConfidentialData(ConfidentialData confidentialData) {
         aesGcmSealingKeyProvider.initialize(sealingKeyManager.getActiveKey());
 
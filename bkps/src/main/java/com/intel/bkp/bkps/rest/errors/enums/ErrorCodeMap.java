@@ -111,6 +111,8 @@ public enum ErrorCodeMap implements IErrorCode {
     FAMILY_NOT_SUPPORTED_FOR_PUF_ACTIVATION(2308, "Family other than %s are not supported for Puf Activation."),
     FAMILY_NOT_SUPPORTED_FOR_SET_AUTHORITY(2309, "Family other than %s are not supported for Set Authority."),
     GET_ATTESTATION_CERT_FAILED(2310, "Get Attestation Certificate command failed: %s"),
+    PREFETCH_JOB_NOT_FOUND(2311, "Prefetch job not found."),
+    PREFETCH_MANIFEST_TOO_LARGE(2312, "Prefetch manifest exceeds maximum allowed size."),
 
     /* =========== Initialization Endpoint Group =========== */
     FAILED_TO_SAVE_SEALING_KEY_IN_SECURITY_ENCLAVE(2350, "Failed to save Sealing Key in security enclave."),
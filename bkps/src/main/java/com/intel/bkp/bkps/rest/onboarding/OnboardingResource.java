@@ -42,6 +42,7 @@ public class OnboardingResource {
     private static final String ONBOARDING_NODE = "/prov" + VERSION;
     public static final String PREFETCH_NEXT = ONBOARDING_NODE + "/prefetch/next";
     public static final String PREFETCH_STATUS = ONBOARDING_NODE + "/prefetch/status";
+    public static final String PREFETCH_STATUS_BULK = PREFETCH_STATUS + "/bulk";
     public static final String PUF_ACTIVATE = ONBOARDING_NODE + "/puf_activate";
     public static final String SET_AUTHORITY = ONBOARDING_NODE + "/set_authority";
 }
@@ -39,6 +39,8 @@ import com.intel.bkp.bkps.exception.SetAuthorityGenericException;
 import com.intel.bkp.bkps.rest.onboarding.OnboardingResource;
 import com.intel.bkp.bkps.rest.onboarding.model.DirectPrefetchRequestDTO;
 import com.intel.bkp.bkps.rest.onboarding.model.DirectPrefetchResponseDTO;
+import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusBulkRequestDTO;
+import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusBulkResponseDTO;
 import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusRequestDTO;
 import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusResponseDTO;
 import com.intel.bkp.bkps.rest.onboarding.model.PufActivateRequestDTO;
@@ -135,6 +137,34 @@ public class OnboardingController {
         }
     }
 
+    @Operation(
+        summary = "This request returns prefetching statuses of many devices at once",
+        description = """
+            Request body:
+                "devices"     : list of devices, each with "familyId" and "uid" as in single device status request
+                "waitSeconds" : optional, 0-30; if set, the response is held until status of any listed device \
+            changes or the wait elapses
+            """,
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Operation successful."),
+            @ApiResponse(responseCode = "400", description = "Client error. See response body for details.",
+                         content = @Content(schema = @Schema(implementation = ApplicationError.class))),
+            @ApiResponse(responseCode = "500", description = "Internal error occurred.",
+                         content = @Content(schema = @Schema(implementation = ApplicationError.class)))})
+    @PostMapping(OnboardingResource.PREFETCH_STATUS_BULK)
+    public ResponseEntity<PrefetchStatusBulkResponseDTO> prefetchStatusBulk(
+        @Valid @RequestBody PrefetchStatusBulkRequestDTO dto) {
+        log.debug("Query prefetching status of {} devices.", dto.devices().size());
+
+        try {
+            return ResponseEntity.ok(onboardingService.prefetchStatusBulk(dto));
+        } catch (BKPRuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new PrefetchingStatusFailed(e);
+        }
+    }
+
     @Operation(
         summary = "Issue PUF Activate.",
         description =
@@ -0,0 +1,97 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.onboarding.event;
+
+import com.intel.bkp.bkps.rest.onboarding.event.PrefetchEventQueueService.QueueKey;
+import com.intel.bkp.bkps.rest.onboarding.model.DeviceId;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Collects prefetch queue changes of a fixed set of devices, so that a long-polling request wakes up only when one of
+ * its own devices is added to or removed from the queue. Must be closed to stop receiving changes.
+ */
+public class PrefetchDeviceWatch implements AutoCloseable {
+
+    private final Map<QueueKey, List<DeviceId>> devices;
+    private final Consumer<PrefetchDeviceWatch> onClose;
+    private final Set<DeviceId> changed = new HashSet<>();
+
+    PrefetchDeviceWatch(Collection<DeviceId> deviceIds, Consumer<PrefetchDeviceWatch> onClose) {
+        this.devices = deviceIds.stream()
+            .distinct()
+            .collect(Collectors.groupingBy(QueueKey::of));
+        this.onClose = onClose;
+    }
+
+    Set<QueueKey> getKeys() {
+        return devices.keySet();
+    }
+
+    synchronized void signal(QueueKey key) {
+        changed.addAll(devices.getOrDefault(key, List.of()));
+        notifyAll();
+    }
+
+    /**
+     * Blocks until any of the watched devices changes or the timeout elapses.
+     *
+     * @return devices changed since the previous call, empty on timeout
+     */
+    public synchronized Set<DeviceId> awaitChanges(Duration timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        while (changed.isEmpty()) {
+            final long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return Set.of();
+            }
+            wait(Math.max(1, remainingNanos / 1_000_000));
+        }
+
+        final Set<DeviceId> result = Set.copyOf(changed);
+        changed.clear();
+        return result;
+    }
+
+    @Override
+    public void close() {
+        onClose.accept(this);
+    }
+}
@@ -33,11 +33,18 @@
 package com.intel.bkp.bkps.rest.onboarding.event;
 
 import com.intel.bkp.bkps.rest.onboarding.model.DeviceId;
+import com.intel.bkp.fpgacerts.model.Family;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -46,20 +53,28 @@ public class PrefetchEventQueueService {
 
     private final Queue<PrefetchEvent> prefetchEventQueue;
 
+    private final Map<QueueKey, Set<PrefetchDeviceWatch>> watches = new ConcurrentHashMap<>();
+
     public boolean isEmpty() {
         log.debug("Prefetching event queue size: {}", prefetchEventQueue.size());
         log.debug("Prefetching event queue content: {}", prefetchEventQueue);
         return prefetchEventQueue.isEmpty();
     }
 
+    public int size() {
+        return prefetchEventQueue.size();
+    }
+
     public void add(PrefetchEvent event) {
         log.debug("Adding prefetch event to queue: {}", event);
         prefetchEventQueue.add(event);
+        signalChange(event);
     }
 
     public void remove(PrefetchEvent event) {
         log.debug("Removing prefetch event from queue: {}", event);
         prefetchEventQueue.remove(event);
+        signalChange(event);
     }
 
     public boolean isInProgress(DeviceId deviceId) {
@@ -67,4 +82,52 @@ public class PrefetchEventQueueService {
             .anyMatch(event -> event.getDeviceId().getFamily() == deviceId.getFamily()
                 && event.getDeviceId().getDpUid().equalsIgnoreCase(deviceId.getDpUid()));
     }
+
+    public Set<DeviceId> findInProgress(Collection<DeviceId> deviceIds) {
+        final Set<QueueKey> queued = prefetchEventQueue.stream()
+            .map(event -> QueueKey.of(event.getDeviceId()))
+            .collect(Collectors.toSet());
+        return deviceIds.stream()
+            .filter(deviceId -> queued.contains(QueueKey.of(deviceId)))
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Starts watching queue changes of the given devices. Changes of other devices do not wake the watch.
+     */
+    public PrefetchDeviceWatch watch(Collection<DeviceId> deviceIds) {
+        final PrefetchDeviceWatch watch = new PrefetchDeviceWatch(deviceIds, this::unwatch);
+        watch.getKeys().forEach(key -> watches.compute(key, (k, watching) -> {
+            final Set<PrefetchDeviceWatch> result = watching == null ? ConcurrentHashMap.newKeySet() : watching;
+            result.add(watch);
+            return result;
+        }));
+        return watch;
+    }
+
+    private void unwatch(PrefetchDeviceWatch watch) {
+        watch.getKeys().forEach(key -> watches.computeIfPresent(key, (k, watching) -> {
+            watching.remove(watch);
+            return watching.isEmpty() ? null : watching;
+        }));
+    }
+
+    private void signalChange(PrefetchEvent event) {
+        if (watches.isEmpty()) {
+            return;
+        }
+
+        final QueueKey key = QueueKey.of(event.getDeviceId());
+        final Set<PrefetchDeviceWatch> watching = watches.get(key);
+        if (watching != null) {
+            watching.forEach(watch -> watch.signal(key));
+        }
+    }
+
+    record QueueKey(Family family, String dpUid) {
+
+        static QueueKey of(DeviceId deviceId) {
+            return new QueueKey(deviceId.getFamily(), deviceId.getDpUid().toLowerCase(Locale.ROOT));
+        }
+    }
 }
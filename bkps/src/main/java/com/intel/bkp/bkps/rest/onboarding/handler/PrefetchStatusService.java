@@ -34,16 +34,29 @@ package com.intel.bkp.bkps.rest.onboarding.handler;
 
 import com.intel.bkp.bkps.exception.PrefetchingStatusFailed;
 import com.intel.bkp.bkps.rest.errors.enums.ErrorCodeMap;
+import com.intel.bkp.bkps.rest.onboarding.event.PrefetchDeviceWatch;
 import com.intel.bkp.bkps.rest.onboarding.event.PrefetchEventQueueService;
 import com.intel.bkp.bkps.rest.onboarding.model.DeviceId;
+import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusBulkRequestDTO;
+import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusBulkResponseDTO;
+import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusBulkResponseDTO.DeviceStatus;
 import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusRequestDTO;
 import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusResponseDTO;
+import com.intel.bkp.bkps.rest.onboarding.model.PrefetchingStatus;
 import com.intel.bkp.bkps.rest.prefetching.service.ZipPrefetchRepositoryService;
 import com.intel.bkp.fpgacerts.model.Family;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.apache.commons.lang3.StringUtils.isAllBlank;
 import static org.apache.commons.lang3.StringUtils.isNoneBlank;
 
@@ -88,6 +101,95 @@ public class PrefetchStatusService {
         throw new PrefetchingStatusFailed(ErrorCodeMap.PREFETCHING_STATUS_FAILED_INVALID_PARAMS);
     }
 
+    /**
+     * Returns statuses of all listed devices using set-based lookups. If a wait is requested and none of
+     * the devices changed state yet, blocks until prefetch queue changes of any of them or the wait elapses -
+     * only the devices that changed are looked up again.
+     */
+    public PrefetchStatusBulkResponseDTO getStatuses(PrefetchStatusBulkRequestDTO dto) {
+        final List<PrefetchStatusRequestDTO> devices = dto.devices();
+        final List<DeviceId> deviceIds = devices.stream()
+            .map(PrefetchStatusService::toDeviceId)
+            .toList();
+
+        final Duration wait = dto.getWait();
+        if (wait.isZero()) {
+            return toResponse(devices, getStatuses(deviceIds));
+        }
+
+        try (PrefetchDeviceWatch watch = prefetchEventQueueService.watch(deviceIds)) {
+            final List<PrefetchingStatus> initial = getStatuses(deviceIds);
+            return toResponse(devices, awaitStatusChange(watch, deviceIds, initial, wait));
+        }
+    }
+
+    private List<PrefetchingStatus> awaitStatusChange(PrefetchDeviceWatch watch, List<DeviceId> deviceIds,
+                                                      List<PrefetchingStatus> initial, Duration wait) {
+        final List<PrefetchingStatus> current = new ArrayList<>(initial);
+        final long deadline = System.nanoTime() + wait.toNanos();
+        try {
+            Set<DeviceId> changed = watch.awaitChanges(remaining(deadline));
+            while (!changed.isEmpty()) {
+                update(current, deviceIds, changed);
+                if (!current.equals(initial)) {
+                    return current;
+                }
+                changed = watch.awaitChanges(remaining(deadline));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return initial;
+    }
+
+    private void update(List<PrefetchingStatus> statuses, List<DeviceId> deviceIds, Set<DeviceId> changed) {
+        final List<DeviceId> changedIds = List.copyOf(changed);
+        final List<PrefetchingStatus> changedStatuses = getStatuses(changedIds);
+        final Map<DeviceId, PrefetchingStatus> statusById = IntStream.range(0, changedIds.size())
+            .boxed()
+            .collect(Collectors.toMap(changedIds::get, changedStatuses::get));
+        for (int i = 0; i < deviceIds.size(); i++) {
+            final PrefetchingStatus status = statusById.get(deviceIds.get(i));
+            if (status != null) {
+                statuses.set(i, status);
+            }
+        }
+    }
+
+    private List<PrefetchingStatus> getStatuses(List<DeviceId> deviceIds) {
+        final Set<DeviceId> prefetched = prefetchRepositoryService.findPrefetched(deviceIds);
+        final Set<DeviceId> inProgress = prefetchEventQueueService.findInProgress(deviceIds);
+        log.debug("Bulk prefetching status: {} devices, {} prefetched, {} in progress.",
+            deviceIds.size(), prefetched.size(), inProgress.size());
+
+        return deviceIds.stream()
+            .map(deviceId -> {
+                if (prefetched.contains(deviceId)) {
+                    return PrefetchingStatus.DONE;
+                }
+                return inProgress.contains(deviceId) ? PrefetchingStatus.IN_PROGRESS : PrefetchingStatus.NOT_FOUND;
+            })
+            .toList();
+    }
+
+    private static Duration remaining(long deadline) {
+        return Duration.ofNanos(deadline - System.nanoTime());
+    }
+
+    private static PrefetchStatusBulkResponseDTO toResponse(List<PrefetchStatusRequestDTO> devices,
+                                                            List<PrefetchingStatus> statuses) {
+        return new PrefetchStatusBulkResponseDTO(IntStream.range(0, devices.size())
+            .mapToObj(i -> new DeviceStatus(devices.get(i).familyId(), devices.get(i).uid(), statuses.get(i)))
+            .toList());
+    }
+
+    private static DeviceId toDeviceId(PrefetchStatusRequestDTO dto) {
+        if (!isNoneBlank(dto.familyId(), dto.uid())) {
+            throw new PrefetchingStatusFailed(ErrorCodeMap.PREFETCHING_STATUS_FAILED_INVALID_PARAMS);
+        }
+        return DeviceId.instance(getFamily(dto.familyId()), dto.uid());
+    }
+
     private static Family getFamily(String familyId) {
         try {
             return Family.from(familyId);
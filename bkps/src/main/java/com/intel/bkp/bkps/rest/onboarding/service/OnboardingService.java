@@ -35,6 +35,8 @@ package com.intel.bkp.bkps.rest.onboarding.service;
 import com.intel.bkp.bkps.rest.onboarding.handler.PrefetchStatusService;
 import com.intel.bkp.bkps.rest.onboarding.model.DirectPrefetchRequestDTO;
 import com.intel.bkp.bkps.rest.onboarding.model.DirectPrefetchResponseDTO;
+import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusBulkRequestDTO;
+import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusBulkResponseDTO;
 import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusRequestDTO;
 import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusResponseDTO;
 import com.intel.bkp.bkps.rest.onboarding.model.PufActivateRequestDTO;
@@ -64,6 +66,10 @@ public class OnboardingService {
         return prefetchStatusService.isPrefetched(dto);
     }
 
+    public PrefetchStatusBulkResponseDTO prefetchStatusBulk(PrefetchStatusBulkRequestDTO dto) {
+        return prefetchStatusService.getStatuses(dto);
+    }
+
     public PufActivateResponseDTO pufActivate(PufActivateRequestDTO dto) {
         return pufActivationService.perform(dto);
     }
@@ -43,4 +43,8 @@ public class PrefetchResource {
     public static final String PREFETCH_NODE = PROV_NODE + "/prefetch";
     public static final String PREFETCH_DEVICES = "/devices";
     public static final String PREFETCH_DEVICES_NODE = PREFETCH_NODE + PREFETCH_DEVICES;
+    public static final String PREFETCH_MANIFEST = PREFETCH_DEVICES + "/manifest";
+    public static final String PREFETCH_MANIFEST_NODE = PREFETCH_NODE + PREFETCH_MANIFEST;
+    public static final String PREFETCH_JOBS = "/jobs";
+    public static final String PREFETCH_JOB_NODE = PREFETCH_NODE + PREFETCH_JOBS + "/{jobId}";
 }
@@ -34,8 +34,11 @@ package com.intel.bkp.bkps.rest.prefetching.controller;
 
 import com.intel.bkp.bkps.rest.prefetching.PrefetchResource;
 import com.intel.bkp.bkps.rest.prefetching.model.IndirectPrefetchRequestDTO;
+import com.intel.bkp.bkps.rest.prefetching.model.ManifestFormat;
+import com.intel.bkp.bkps.rest.prefetching.model.PrefetchJobDTO;
 import com.intel.bkp.bkps.rest.prefetching.model.PrefetchStatusDTO;
 import com.intel.bkp.bkps.rest.prefetching.service.IndirectPrefetchService;
+import com.intel.bkp.bkps.rest.prefetching.service.PrefetchManifestService;
 import com.intel.bkp.core.exceptions.ApplicationError;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -44,12 +47,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
 import java.util.List;
 
 import static lombok.AccessLevel.PACKAGE;
@@ -61,6 +70,7 @@ import static lombok.AccessLevel.PACKAGE;
 public class PrefetchController {
 
     private final IndirectPrefetchService indirectPrefetchService;
+    private final PrefetchManifestService prefetchManifestService;
 
     @Operation(
         summary = "Prefetch devices using device id hex, optional DeviceIdEr certificate and optional PDI",
@@ -78,4 +88,40 @@ public class PrefetchController {
                                                                            payload) {
         return ResponseEntity.ok(indirectPrefetchService.prefetchDevices(payload));
     }
+
+    @Operation(
+        summary = "Prefetch devices listed in a streamed manifest",
+        description = """
+            Accepts device manifest of any size and returns ID of a job that validates and enqueues it in background.
+            Supported formats (Content-Type):
+                application/x-ndjson : one JSON entry per line, same fields as in /prefetch/devices request
+                text/csv             : familyId,uid[,pdi[,deviceIdEr]] per line, deviceIdEr as Base64 encoded DER
+            Invalid entries are rejected individually and reported in job status.
+            """,
+        responses = {
+            @ApiResponse(responseCode = "202", description = "Manifest accepted."),
+            @ApiResponse(responseCode = "400", description = "Client error. See response body for details.",
+                         content = @Content(schema = @Schema(implementation = ApplicationError.class))),
+            @ApiResponse(responseCode = "500", description = "Internal error occurred.",
+                         content = @Content(schema = @Schema(implementation = ApplicationError.class)))})
+    @PostMapping(value = PrefetchResource.PREFETCH_MANIFEST_NODE,
+                 consumes = {ManifestFormat.NDJSON_VALUE, ManifestFormat.CSV_VALUE})
+    public ResponseEntity<PrefetchJobDTO> prefetchManifest(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream manifest) {
+        final PrefetchJobDTO job = prefetchManifestService.submit(manifest, ManifestFormat.from(contentType));
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @Operation(
+        summary = "Get progress of manifest prefetch job",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Operation successful."),
+            @ApiResponse(responseCode = "404", description = "Job not found.",
+                         content = @Content(schema = @Schema(implementation = ApplicationError.class))),
+            @ApiResponse(responseCode = "500", description = "Internal error occurred.",
+                         content = @Content(schema = @Schema(implementation = ApplicationError.class)))})
+    @GetMapping(PrefetchResource.PREFETCH_JOB_NODE)
+    public ResponseEntity<PrefetchJobDTO> prefetchJob(@PathVariable("jobId") String jobId) {
+        return ResponseEntity.ok(prefetchManifestService.getJob(jobId));
+    }
 }
@@ -42,8 +42,6 @@ import com.intel.bkp.fpgacerts.model.Family;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.util.List;
@@ -56,7 +54,6 @@ import static lombok.AccessLevel.PACKAGE;
 @Service
 @RequiredArgsConstructor(access = PACKAGE)
 @Slf4j
-@Transactional(isolation = Isolation.SERIALIZABLE)
 public class IndirectPrefetchService {
 
     private final PrefetchService prefetchService;
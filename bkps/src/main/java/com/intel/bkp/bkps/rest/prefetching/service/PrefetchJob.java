@@ -0,0 +1,106 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.prefetching.service;
+
+import com.intel.bkp.bkps.rest.prefetching.model.ManifestFormat;
+import com.intel.bkp.bkps.rest.prefetching.model.PrefetchJobDTO;
+import com.intel.bkp.bkps.rest.prefetching.model.PrefetchJobState;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Progress of a single manifest ingestion. Updated by the processing thread and read by status requests.
+ */
+@RequiredArgsConstructor
+class PrefetchJob {
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    @Getter
+    private final String id;
+    private final ManifestFormat format;
+
+    private PrefetchJobState state = PrefetchJobState.QUEUED;
+    private int processed;
+    private int enqueued;
+    private int rejected;
+    private int failed;
+    private final List<String> errors = new ArrayList<>();
+
+    synchronized void start() {
+        state = PrefetchJobState.RUNNING;
+    }
+
+    synchronized void finish() {
+        state = PrefetchJobState.DONE;
+    }
+
+    synchronized void fail(String reason) {
+        state = PrefetchJobState.FAILED;
+        addError(reason);
+    }
+
+    synchronized boolean isFinished() {
+        return state == PrefetchJobState.DONE || state == PrefetchJobState.FAILED;
+    }
+
+    synchronized void rejected(int lineNumber, String reason) {
+        processed++;
+        rejected++;
+        addError("line %d: %s".formatted(lineNumber, reason));
+    }
+
+    synchronized void enqueued(int count) {
+        processed += count;
+        enqueued += count;
+    }
+
+    synchronized void failed(int lineNumber, String label) {
+        processed++;
+        failed++;
+        addError("line %d: failed to enqueue prefetch for %s".formatted(lineNumber, label));
+    }
+
+    synchronized PrefetchJobDTO toDto() {
+        return new PrefetchJobDTO(id, format, state, processed, enqueued, rejected, failed, List.copyOf(errors));
+    }
+
+    private void addError(String error) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(error);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.prefetching.service;
+
+import com.intel.bkp.bkps.exception.PrefetchJobNotFound;
+import com.intel.bkp.bkps.rest.prefetching.model.ManifestFormat;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps the most recent manifest ingestion jobs in memory, so their progress can be queried.
+ * Only finished jobs are evicted, so a queued or running job stays reachable until it completes.
+ */
+@Component
+class PrefetchJobRegistry {
+
+    static final int MAX_JOBS = 256;
+
+    private final Map<String, PrefetchJob> jobs = new LinkedHashMap<>();
+
+    synchronized PrefetchJob create(ManifestFormat format) {
+        final PrefetchJob job = new PrefetchJob(UUID.randomUUID().toString(), format);
+        jobs.put(job.getId(), job);
+        evictOldestFinished();
+        return job;
+    }
+
+    synchronized PrefetchJob get(String jobId) {
+        final PrefetchJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new PrefetchJobNotFound();
+        }
+        return job;
+    }
+
+    synchronized int size() {
+        return jobs.size();
+    }
+
+    private void evictOldestFinished() {
+        final Iterator<PrefetchJob> iterator = jobs.values().iterator();
+        while (jobs.size() > MAX_JOBS && iterator.hasNext()) {
+            if (iterator.next().isFinished()) {
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.prefetching.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intel.bkp.bkps.domain.enumeration.PrefetchStatus;
+import com.intel.bkp.bkps.rest.onboarding.event.PrefetchEventQueueService;
+import com.intel.bkp.bkps.rest.prefetching.model.IndirectPrefetchRequestDTO;
+import com.intel.bkp.bkps.rest.prefetching.model.ManifestFormat;
+import com.intel.bkp.bkps.rest.prefetching.model.PrefetchStatusDTO;
+import com.intel.bkp.bkps.rest.prefetching.service.PrefetchManifestReader.Entry;
+import com.intel.bkp.bkps.utils.MdcHelper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class PrefetchManifestProcessor {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_IN_FLIGHT = 2 * CHUNK_SIZE;
+    static final long BACKPRESSURE_POLL_MILLIS = 100;
+
+    private final IndirectPrefetchService indirectPrefetchService;
+    private final PrefetchEventQueueService prefetchEventQueueService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Async("taskExecutor")
+    public void process(String mainThreadTxId, PrefetchJob job, Path manifest, ManifestFormat format) {
+        MdcHelper.add(mainThreadTxId);
+        job.start();
+
+        try (PrefetchManifestReader reader = new PrefetchManifestReader(
+            Files.newBufferedReader(manifest, UTF_8), format, objectMapper)) {
+            List<Entry> chunk;
+            while (!(chunk = reader.readChunk(CHUNK_SIZE)).isEmpty()) {
+                processChunk(job, chunk);
+            }
+            job.finish();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Prefetch manifest job {} interrupted.", job.getId());
+            job.fail("processing interrupted");
+        } catch (Exception e) {
+            log.error("Prefetch manifest job {} failed.", job.getId(), e);
+            job.fail("processing stopped: " + e.getMessage());
+        } finally {
+            deleteQuietly(manifest);
+        }
+        log.info("Prefetch manifest job finished: {}", job.toDto());
+    }
+
+    void processChunk(PrefetchJob job, List<Entry> chunk) throws InterruptedException {
+        final List<Entry> accepted = new ArrayList<>(chunk.size());
+        for (Entry entry : chunk) {
+            validate(entry).ifPresentOrElse(error -> job.rejected(entry.lineNumber(), error),
+                () -> accepted.add(entry));
+        }
+
+        final List<IndirectPrefetchRequestDTO> dtos = accepted.stream().map(Entry::dto).toList();
+        awaitCapacity();
+        final List<PrefetchStatusDTO> statuses = indirectPrefetchService.prefetchDevices(dtos);
+        int enqueued = 0;
+        for (int i = 0; i < statuses.size(); i++) {
+            if (PrefetchStatus.ERROR == statuses.get(i).getStatus()) {
+                job.failed(accepted.get(i).lineNumber(), accepted.get(i).dto().getUid());
+            } else {
+                enqueued++;
+            }
+        }
+        job.enqueued(enqueued);
+    }
+
+    /**
+     * Prefetch events are handled on an unbounded async executor, so enqueueing chunks back to back would start
+     * a thread per device of the whole manifest. Wait until earlier chunks drain below the bound instead.
+     * Events join the queue on their listener thread, so at most one more chunk may still be on its way.
+     */
+    private void awaitCapacity() throws InterruptedException {
+        int inFlight;
+        while ((inFlight = prefetchEventQueueService.size()) >= MAX_IN_FLIGHT) {
+            log.debug("Waiting for in-flight prefetch events to drain: {}", inFlight);
+            Thread.sleep(BACKPRESSURE_POLL_MILLIS);
+        }
+    }
+
+    private Optional<String> validate(Entry entry) {
+        if (!entry.isValid()) {
+            return Optional.of(entry.error());
+        }
+
+        try {
+            final Set<ConstraintViolation<IndirectPrefetchRequestDTO>> violations = validator.validate(entry.dto());
+            return violations.isEmpty() ? Optional.empty() : Optional.of(describe(violations));
+        } catch (Exception e) {
+            log.debug("Validation of manifest entry failed.", e);
+            return Optional.of("invalid entry");
+        }
+    }
+
+    private static String describe(Set<ConstraintViolation<IndirectPrefetchRequestDTO>> violations) {
+        return violations.stream()
+            .map(v -> StringUtils.defaultIfEmpty(v.getPropertyPath().toString(), "entry") + " " + v.getMessage())
+            .sorted()
+            .collect(Collectors.joining(", "));
+    }
+
+    private static void deleteQuietly(Path manifest) {
+        try {
+            Files.deleteIfExists(manifest);
+        } catch (IOException e) {
+            log.warn("Failed to delete prefetch manifest {}: {}", manifest, e.getMessage());
+        }
+    }
+}
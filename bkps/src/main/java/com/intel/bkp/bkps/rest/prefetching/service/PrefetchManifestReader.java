@@ -0,0 +1,165 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.prefetching.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.intel.bkp.bkps.rest.prefetching.model.IndirectPrefetchRequestDTO;
+import com.intel.bkp.bkps.rest.prefetching.model.ManifestFormat;
+import com.intel.bkp.crypto.pem.PemFormatEncoder;
+import com.intel.bkp.crypto.pem.PemFormatHeader;
+import com.intel.bkp.fpgacerts.model.Family;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads device manifest line by line, so only a single chunk of entries is kept in memory.
+ *
+ * <p>NDJSON: one {@link IndirectPrefetchRequestDTO} JSON object per line.</p>
+ * <p>CSV: {@code familyId,uid[,pdi[,deviceIdEr]]} per line, where deviceIdEr is Base64 encoded DER certificate.
+ * Optional header line starting with {@code familyId} is skipped.</p>
+ */
+class PrefetchManifestReader implements Closeable {
+
+    private static final String CSV_HEADER_PREFIX = "familyId";
+    private static final int CSV_MIN_COLUMNS = 2;
+    private static final int CSV_MAX_COLUMNS = 4;
+
+    record Entry(int lineNumber, IndirectPrefetchRequestDTO dto, String error) {
+
+        static Entry valid(int lineNumber, IndirectPrefetchRequestDTO dto) {
+            return new Entry(lineNumber, dto, null);
+        }
+
+        static Entry invalid(int lineNumber, String error) {
+            return new Entry(lineNumber, null, error);
+        }
+
+        boolean isValid() {
+            return error == null;
+        }
+    }
+
+    private final BufferedReader reader;
+    private final ManifestFormat format;
+    private final ObjectReader jsonReader;
+    private int lineNumber;
+
+    PrefetchManifestReader(Reader reader, ManifestFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(reader);
+        this.format = format;
+        this.jsonReader = objectMapper.readerFor(IndirectPrefetchRequestDTO.class);
+    }
+
+    /**
+     * @return up to maxEntries next entries, empty list when manifest is fully read
+     */
+    List<Entry> readChunk(int maxEntries) throws IOException {
+        final List<Entry> entries = new ArrayList<>(maxEntries);
+        String line;
+        while (entries.size() < maxEntries && (line = reader.readLine()) != null) {
+            lineNumber++;
+            parse(line).ifPresent(entries::add);
+        }
+        return entries;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Optional<Entry> parse(String line) {
+        final String trimmed = line.strip();
+        if (trimmed.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return switch (format) {
+            case NDJSON -> Optional.of(parseJson(trimmed));
+            case CSV -> isCsvHeader(trimmed) ? Optional.empty() : Optional.of(parseCsv(trimmed));
+        };
+    }
+
+    private Entry parseJson(String line) {
+        try {
+            return Optional.<IndirectPrefetchRequestDTO>ofNullable(jsonReader.readValue(line))
+                .map(dto -> Entry.valid(lineNumber, dto))
+                .orElseGet(() -> Entry.invalid(lineNumber, "empty JSON entry"));
+        } catch (JsonProcessingException e) {
+            return Entry.invalid(lineNumber, "invalid JSON entry");
+        }
+    }
+
+    private boolean isCsvHeader(String line) {
+        return lineNumber == 1 && StringUtils.startsWithIgnoreCase(line, CSV_HEADER_PREFIX);
+    }
+
+    private Entry parseCsv(String line) {
+        final String[] columns = line.split(",", -1);
+        if (columns.length < CSV_MIN_COLUMNS || columns.length > CSV_MAX_COLUMNS) {
+            return Entry.invalid(lineNumber, "expected %d to %d columns but got %d"
+                .formatted(CSV_MIN_COLUMNS, CSV_MAX_COLUMNS, columns.length));
+        }
+
+        final IndirectPrefetchRequestDTO dto = new IndirectPrefetchRequestDTO();
+        getColumn(columns, 0).ifPresentOrElse(dto::setFamilyId, () -> dto.setFamilyId(Family.S10.getAsHex()));
+        getColumn(columns, 1).ifPresent(dto::setUid);
+        getColumn(columns, 2).ifPresent(dto::setPdi);
+        try {
+            getColumn(columns, 3).map(PrefetchManifestReader::toPem).ifPresent(dto::setDeviceIdEr);
+        } catch (IllegalArgumentException e) {
+            return Entry.invalid(lineNumber, "deviceIdEr is not valid Base64");
+        }
+        return Entry.valid(lineNumber, dto);
+    }
+
+    private static Optional<String> getColumn(String[] columns, int index) {
+        return index < columns.length
+               ? Optional.of(columns[index].strip()).filter(StringUtils::isNotEmpty)
+               : Optional.empty();
+    }
+
+    private static String toPem(String base64Der) {
+        return PemFormatEncoder.encode(PemFormatHeader.CERTIFICATE, Base64.getDecoder().decode(base64Der));
+    }
+}
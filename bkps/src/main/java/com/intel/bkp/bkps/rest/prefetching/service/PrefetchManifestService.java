@@ -0,0 +1,128 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.prefetching.service;
+
+import com.intel.bkp.bkps.exception.PrefetchManifestTooLarge;
+import com.intel.bkp.bkps.exception.PrefetchingGenericException;
+import com.intel.bkp.bkps.rest.prefetching.model.ManifestFormat;
+import com.intel.bkp.bkps.rest.prefetching.model.PrefetchJobDTO;
+import com.intel.bkp.bkps.utils.MdcHelper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static lombok.AccessLevel.PACKAGE;
+
+/**
+ * Accepts device manifests of any size: the request body is streamed to a temporary file and then
+ * validated and enqueued chunk by chunk in background, so the request returns as soon as upload completes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor(access = PACKAGE)
+public class PrefetchManifestService {
+
+    static final long MAX_MANIFEST_SIZE = 256L * 1024 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final PrefetchJobRegistry jobRegistry;
+    private final PrefetchManifestProcessor manifestProcessor;
+
+    public PrefetchJobDTO submit(InputStream manifest, ManifestFormat format) {
+        final Path spooled = spool(manifest);
+        final PrefetchJob job = jobRegistry.create(format);
+        log.info("Created prefetch manifest job {} for {} manifest.", job.getId(), format);
+
+        try {
+            manifestProcessor.process(MdcHelper.get(), job, spooled, format);
+        } catch (RuntimeException e) {
+            deleteQuietly(spooled);
+            job.fail("could not be scheduled");
+            throw new PrefetchingGenericException("Failed to schedule prefetch manifest job.", e);
+        }
+        return job.toDto();
+    }
+
+    public PrefetchJobDTO getJob(String jobId) {
+        return jobRegistry.get(jobId).toDto();
+    }
+
+    private static Path spool(InputStream manifest) {
+        final Path spooled = createTempFile();
+        try (OutputStream out = Files.newOutputStream(spooled)) {
+            copy(manifest, out);
+            return spooled;
+        } catch (PrefetchManifestTooLarge e) {
+            deleteQuietly(spooled);
+            throw e;
+        } catch (IOException e) {
+            deleteQuietly(spooled);
+            throw new PrefetchingGenericException("Failed to read prefetch manifest.", e);
+        }
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        long total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            total += read;
+            if (total > MAX_MANIFEST_SIZE) {
+                throw new PrefetchManifestTooLarge(MAX_MANIFEST_SIZE);
+            }
+            out.write(buffer, 0, read);
+        }
+    }
+
+    private static Path createTempFile() {
+        try {
+            return Files.createTempFile("bkps-prefetch-manifest-", ".tmp");
+        } catch (IOException e) {
+            throw new PrefetchingGenericException("Failed to create temporary file for prefetch manifest.", e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete prefetch manifest {}: {}", path, e.getMessage());
+        }
+    }
+}
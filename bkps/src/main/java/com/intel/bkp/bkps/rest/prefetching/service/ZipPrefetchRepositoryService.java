@@ -34,12 +34,23 @@ package com.intel.bkp.bkps.rest.prefetching.service;
 
 import com.intel.bkp.bkps.attestation.mapping.CacheBytesMapper;
 import com.intel.bkp.bkps.domain.PrefetchEntity;
+import com.intel.bkp.bkps.domain.enumeration.PrefetchEntityType;
 import com.intel.bkp.bkps.repository.PrefetchRepository;
 import com.intel.bkp.bkps.rest.onboarding.model.DeviceId;
+import com.intel.bkp.fpgacerts.model.Family;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.intel.bkp.bkps.domain.enumeration.PrefetchEntityType.CERT;
 import static com.intel.bkp.bkps.domain.enumeration.PrefetchEntityType.ZIP;
@@ -48,6 +59,8 @@ import static com.intel.bkp.bkps.domain.enumeration.PrefetchEntityType.ZIP;
 @Service
 public class ZipPrefetchRepositoryService extends PrefetchRepositoryServiceBase<byte[]> {
 
+    static final int PATTERNS_PER_QUERY = 500;
+
     public ZipPrefetchRepositoryService(PrefetchRepository prefetchRepository) {
         super(ZIP, prefetchRepository, new CacheBytesMapper());
     }
@@ -65,6 +78,32 @@ public class ZipPrefetchRepositoryService extends PrefetchRepositoryServiceBase<
             .existsByPathContainingIgnoreCaseAndType(getS10CertPattern(deviceId), CERT);
     }
 
+    /**
+     * Set-based counterpart of {@link #isS10Prefetched(DeviceId)} and {@link #isZipPrefetched(DeviceId)}.
+     * Issues one path-only query per device family (and per {@value #PATTERNS_PER_QUERY} devices)
+     * instead of one query per device.
+     *
+     * @return subset of given devices that are already prefetched
+     */
+    public Set<DeviceId> findPrefetched(Collection<DeviceId> deviceIds) {
+        final Set<DeviceId> prefetched = new HashSet<>();
+        final Map<Family, List<DeviceId>> byFamily = deviceIds.stream()
+            .collect(Collectors.groupingBy(DeviceId::getFamily));
+
+        byFamily.forEach((family, familyDeviceIds) -> {
+            if (Family.S10 == family) {
+                prefetched.addAll(findExisting(familyDeviceIds,
+                    ZipPrefetchRepositoryService::getS10CertPattern, CERT));
+            }
+            final List<DeviceId> remaining = familyDeviceIds.stream()
+                .filter(deviceId -> !prefetched.contains(deviceId))
+                .toList();
+            prefetched.addAll(findExisting(remaining, ZipPrefetchRepositoryService::getZipPattern, getType()));
+        });
+
+        return prefetched;
+    }
+
     public Optional<byte[]> find(DeviceId deviceId) {
         final String pathPattern = getZipPattern(deviceId);
         log.debug("Looking for ZIP in DB using path: {}", pathPattern);
@@ -74,6 +113,27 @@ public class ZipPrefetchRepositoryService extends PrefetchRepositoryServiceBase<
             .map(getMapper()::decode);
     }
 
+    private Set<DeviceId> findExisting(List<DeviceId> deviceIds, Function<DeviceId, String> patternProvider,
+                                       PrefetchEntityType type) {
+        final Map<String, List<DeviceId>> byPattern = deviceIds.stream()
+            .collect(Collectors.groupingBy(deviceId -> patternProvider.apply(deviceId).toLowerCase(Locale.ROOT)));
+        final List<String> patterns = new ArrayList<>(byPattern.keySet());
+        final Set<DeviceId> existing = new HashSet<>();
+
+        for (int from = 0; from < patterns.size(); from += PATTERNS_PER_QUERY) {
+            final List<String> chunk = patterns.subList(from, Math.min(from + PATTERNS_PER_QUERY, patterns.size()));
+            log.debug("Checking existence of {} paths of type {} in DB.", chunk.size(), type);
+            // LIKE treats '_' as a wildcard, so each returned path is matched again against exact patterns
+            getPrefetchRepository().findPathsContainingAnyIgnoreCase(chunk, type).stream()
+                .map(path -> path.toLowerCase(Locale.ROOT))
+                .forEach(path -> chunk.stream()
+                    .filter(path::contains)
+                    .forEach(pattern -> existing.addAll(byPattern.get(pattern))));
+        }
+
+        return existing;
+    }
+
     private static String getZipPattern(DeviceId deviceId) {
         return "%s_%s".formatted(deviceId.getFamily().getAsHex(), deviceId.getDpUid());
     }
@@ -41,4 +41,5 @@ public class ProvisioningResource {
     private static final String VERSION = "/v1";
     public static final String PROVISIONING_NODE = "/prov" + VERSION;
     public static final String GET_NEXT = "/get_next";
+    public static final String STREAM = "/stream";
 }
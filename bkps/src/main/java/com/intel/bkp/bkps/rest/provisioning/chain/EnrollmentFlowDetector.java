@@ -71,9 +71,12 @@ public class EnrollmentFlowDetector implements IEnrollmentFlowDetector {
 
         final byte[] firmwareAki = getAuthorityKeyIdentifier(firmwareCert);
 
-        log.debug(String.format("Comparing firmware certificate AKI with SKI of first certificate downloaded from "
-                + "distribution point (%s), if they match, it's not enrollment flow. %nAKI: %s%nSKI:%s",
-            firstCertFromDp.getSubjectX500Principal(), toHex(firmwareAki), toHex(firstCertFromDpSki)));
+        log.atDebug()
+            .addArgument(firstCertFromDp.getSubjectX500Principal())
+            .addArgument(() -> toHex(firmwareAki))
+            .addArgument(() -> toHex(firstCertFromDpSki))
+            .log("Comparing firmware certificate AKI with SKI of first certificate downloaded from "
+                + "distribution point ({}), if they match, it's not enrollment flow.\nAKI: {}\nSKI:{}");
 
         return !Arrays.equals(firmwareAki, firstCertFromDpSki);
     }
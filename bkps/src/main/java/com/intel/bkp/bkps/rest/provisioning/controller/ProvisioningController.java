@@ -80,7 +80,7 @@ public class ProvisioningController {
                          content = @Content(schema = @Schema(implementation = ApplicationError.class)))})
     @PostMapping(ProvisioningResource.GET_NEXT)
     public ResponseEntity<ProvisioningResponseDTO> getNext(@Valid @RequestBody ProvisioningRequestDTO dto) {
-        log.debug("Query get_next() with request body: " + dto.toString());
+        log.debug("Query get_next() with request body: {}", dto);
         try {
             return ResponseEntity.ok(provisioningService.getNext(dto));
         } catch (ProvisioningGenericException | CommandNotSupportedException | SpdmProcessIsStillRunning e) {
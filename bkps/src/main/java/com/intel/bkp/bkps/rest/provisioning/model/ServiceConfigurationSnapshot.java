@@ -0,0 +1,107 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.provisioning.model;
+
+import com.intel.bkp.bkps.domain.AesKey;
+import com.intel.bkp.bkps.domain.ConfidentialData;
+import com.intel.bkp.bkps.domain.Qek;
+import com.intel.bkp.bkps.domain.ServiceConfiguration;
+import com.intel.bkp.core.manufacturing.model.PufType;
+import com.intel.bkp.core.psgcertificate.enumerations.KeyWrappingType;
+import com.intel.bkp.core.psgcertificate.enumerations.StorageType;
+import lombok.Builder;
+
+import java.util.Optional;
+
+/**
+ * Read-only copy of {@link ServiceConfiguration} used during provisioning.
+ *
+ * <p>Contains only values required by provisioning flow. Overbuild current counter is intentionally not part of it,
+ * as it changes with every provisioned device - it is always read directly from database.</p>
+ */
+@Builder
+public record ServiceConfigurationSnapshot(Long id,
+                                           long version,
+                                           PufType pufType,
+                                           int overbuildMax,
+                                           boolean requireIidUds,
+                                           boolean testModeSecrets,
+                                           String corimUrl,
+                                           AesKeySnapshot aesKey,
+                                           QekSnapshot qek) {
+
+    public static ServiceConfigurationSnapshot from(ServiceConfiguration configuration) {
+        final Optional<ConfidentialData> confidentialData = Optional.ofNullable(configuration.getConfidentialData());
+        return ServiceConfigurationSnapshot.builder()
+            .id(configuration.getId())
+            .version(configuration.getVersion())
+            .pufType(configuration.getPufType())
+            .overbuildMax(configuration.getOverbuildMax())
+            .requireIidUds(configuration.isRequireIidUds())
+            .testModeSecrets(configuration.isTestModeSecrets())
+            .corimUrl(configuration.getCorimUrl())
+            .aesKey(confidentialData.map(ConfidentialData::getAesKey).map(AesKeySnapshot::from).orElse(null))
+            .qek(confidentialData.map(ConfidentialData::getQek).map(QekSnapshot::from).orElse(null))
+            .build();
+    }
+
+    @Builder
+    public record AesKeySnapshot(StorageType storage,
+                                 KeyWrappingType keyWrappingType,
+                                 String value,
+                                 boolean testProgram) {
+
+        public static AesKeySnapshot from(AesKey aesKey) {
+            return new AesKeySnapshot(aesKey.getStorage(), aesKey.getKeyWrappingType(), aesKey.getValue(),
+                Boolean.TRUE.equals(aesKey.getTestProgram()));
+        }
+
+        @Override
+        public String toString() {
+            return "AesKeySnapshot(storage=%s, keyWrappingType=%s, testProgram=%s)"
+                .formatted(storage, keyWrappingType, testProgram);
+        }
+    }
+
+    public record QekSnapshot(String keyName, String value) {
+
+        public static QekSnapshot from(Qek qek) {
+            return new QekSnapshot(qek.getKeyName(), qek.getValue());
+        }
+
+        @Override
+        public String toString() {
+            return "QekSnapshot(keyName=%s)".formatted(keyName);
+        }
+    }
+}
@@ -32,11 +32,13 @@
 
 package com.intel.bkp.bkps.rest.provisioning.service;
 
-import com.intel.bkp.bkps.domain.ServiceConfiguration;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot;
 
 public interface IServiceConfiguration {
 
-    ServiceConfiguration getConfiguration(Long cfgId);
+    ServiceConfigurationSnapshot getConfiguration(Long cfgId);
+
+    int getOverbuildCurrent(Long cfgId);
 
     int getConfigurationAndUpdate(Long cfgId);
 }
@@ -34,6 +34,7 @@ package com.intel.bkp.bkps.rest.provisioning.service;
 
 import com.intel.bkp.bkps.domain.ServiceConfiguration;
 import com.intel.bkp.bkps.exception.ExceededOvebuildException;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -57,15 +58,18 @@ public class OverbuildCounterManager {
         }
     }
 
-    public void verifyOverbuildCounter(final ServiceConfiguration configuration, String deviceIdHex)
+    public void verifyOverbuildCounter(IServiceConfiguration configurationCallback,
+                                       final ServiceConfigurationSnapshot configuration, String deviceIdHex)
         throws ExceededOvebuildException {
 
-        final int overbuildMax = configuration.getOverbuildMax();
-        final int overbuildCurrent = configuration.getOverbuildCurrent();
+        final int overbuildMax = configuration.overbuildMax();
+        if (overbuildMax == ServiceConfiguration.OVERBUILD_MAX_INFINITE) {
+            return;
+        }
 
-        if (overbuildMax != ServiceConfiguration.OVERBUILD_MAX_INFINITE
-            && overbuildCurrent >= overbuildMax
-            && !provisioningHistoryService.isProvisioned(deviceIdHex, configuration.getPufType())) {
+        final int overbuildCurrent = configurationCallback.getOverbuildCurrent(configuration.id());
+        if (overbuildCurrent >= overbuildMax
+            && !provisioningHistoryService.isProvisioned(deviceIdHex, configuration.pufType())) {
             throw new ExceededOvebuildException(overbuildMax, overbuildCurrent);
         }
     }
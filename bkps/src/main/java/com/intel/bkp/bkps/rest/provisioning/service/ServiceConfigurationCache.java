@@ -0,0 +1,90 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.provisioning.service;
+
+import com.intel.bkp.bkps.exception.ServiceConfigurationNotFound;
+import com.intel.bkp.bkps.repository.ServiceConfigurationRepository;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static lombok.AccessLevel.PACKAGE;
+
+/**
+ * Cache of service configuration snapshots.
+ *
+ * <p>Before cached snapshot is returned, its version is compared with version stored in database, so changes made
+ * by any node are visible on next read. Only the version column is queried when snapshot is up to date.</p>
+ */
+@Component
+@RequiredArgsConstructor(access = PACKAGE)
+@Slf4j
+public class ServiceConfigurationCache {
+
+    private final ServiceConfigurationRepository serviceConfigurationRepository;
+    private final Map<Long, ServiceConfigurationSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public ServiceConfigurationSnapshot get(Long cfgId) {
+        final long currentVersion = serviceConfigurationRepository.findVersionById(cfgId)
+            .orElseThrow(() -> {
+                evict(cfgId);
+                return new ServiceConfigurationNotFound();
+            });
+
+        final ServiceConfigurationSnapshot cached = snapshots.get(cfgId);
+        if (cached != null && cached.version() == currentVersion) {
+            return cached;
+        }
+
+        log.debug("Loading configuration snapshot for cfg id: {}, version: {}", cfgId, currentVersion);
+        final ServiceConfigurationSnapshot snapshot = serviceConfigurationRepository.findById(cfgId)
+            .map(ServiceConfigurationSnapshot::from)
+            .orElseThrow(ServiceConfigurationNotFound::new);
+        snapshots.merge(cfgId, snapshot, (old, loaded) -> loaded.version() >= old.version() ? loaded : old);
+        return snapshot;
+    }
+
+    public void evict(Long cfgId) {
+        if (cfgId != null) {
+            snapshots.remove(cfgId);
+        }
+    }
+
+    public void evictAll() {
+        snapshots.clear();
+    }
+}
@@ -32,9 +32,9 @@
 
 package com.intel.bkp.bkps.rest.provisioning.service;
 
-import com.intel.bkp.bkps.domain.ServiceConfiguration;
 import com.intel.bkp.bkps.exception.ServiceConfigurationNotFound;
 import com.intel.bkp.bkps.repository.ServiceConfigurationRepository;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -47,9 +47,15 @@ import static lombok.AccessLevel.PACKAGE;
 public class ServiceConfigurationProvider implements IServiceConfiguration {
 
     private final ServiceConfigurationRepository serviceConfigurationRepository;
+    private final ServiceConfigurationCache serviceConfigurationCache;
 
-    public ServiceConfiguration getConfiguration(Long cfgId) {
-        return serviceConfigurationRepository.findById(cfgId).orElseThrow(ServiceConfigurationNotFound::new);
+    public ServiceConfigurationSnapshot getConfiguration(Long cfgId) {
+        return serviceConfigurationCache.get(cfgId);
+    }
+
+    public int getOverbuildCurrent(Long cfgId) {
+        return serviceConfigurationRepository.findOverbuildCurrentById(cfgId)
+            .orElseThrow(ServiceConfigurationNotFound::new);
     }
 
     public int getConfigurationAndUpdate(Long cfgId) {
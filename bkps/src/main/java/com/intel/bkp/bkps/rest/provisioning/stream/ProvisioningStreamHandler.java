@@ -0,0 +1,177 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.provisioning.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.intel.bkp.bkps.rest.errors.enums.ErrorCodeMap;
+import com.intel.bkp.bkps.rest.provisioning.model.dto.ContextDTO;
+import com.intel.bkp.bkps.rest.provisioning.model.dto.ProvisioningRequestDTO;
+import com.intel.bkp.bkps.rest.provisioning.model.dto.ProvisioningResponseDTO;
+import com.intel.bkp.bkps.rest.provisioning.service.ProvisioningService;
+import com.intel.bkp.bkps.utils.MdcHelper;
+import com.intel.bkp.core.exceptions.ApplicationError;
+import com.intel.bkp.core.exceptions.BKPBadRequestException;
+import com.intel.bkp.core.exceptions.BKPRuntimeException;
+import com.intel.bkp.core.utils.ApplicationConstants;
+import com.intel.bkp.core.utils.SecurityLogType;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.Principal;
+import java.security.cert.CertificateExpiredException;
+import java.security.cert.CertificateNotYetValidException;
+import java.security.cert.X509Certificate;
+import java.util.Set;
+
+/**
+ * Handles provisioning messages sent over a persistent WebSocket connection.
+ *
+ * <p>Every binary frame carries one UTF-8 JSON encoded {@link ProvisioningRequestDTO} and is answered with one
+ * frame carrying either {@link ProvisioningResponseDTO} or {@link ApplicationError}. Each frame is processed
+ * exactly like a {@code get_next} request, in its own provisioning transaction.</p>
+ *
+ * <p>The provisioning context returned in the last response is kept server-side for the lifetime of the
+ * connection, so clients may omit {@code context} in subsequent frames instead of echoing it back.
+ * The mTLS principal authenticated during handshake is bound to the session and its certificate validity
+ * is re-checked for every frame.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ProvisioningStreamHandler extends BinaryWebSocketHandler {
+
+    static final String CONTEXT_ATTRIBUTE = "provisioningContext";
+
+    private final ProvisioningService provisioningService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        if (!(session.getPrincipal() instanceof Authentication)) {
+            MdcHelper.addSecurityTag(SecurityLogType.SECURITY_AUTH);
+            log.error("Provisioning stream opened without authenticated principal.");
+            MdcHelper.removeSecurityTag();
+            session.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+        log.debug("Provisioning stream opened: {}", session.getId());
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+        final String transactionId = MdcHelper.create();
+        try {
+            verifyPrincipalCertificate(session.getPrincipal());
+            final ProvisioningRequestDTO dto = read(message);
+            applyStoredContext(session, dto);
+            validate(dto);
+            final ProvisioningResponseDTO response = provisioningService.getNext(dto);
+            session.getAttributes().put(CONTEXT_ATTRIBUTE, response.getContext());
+            send(session, response);
+        } catch (BKPRuntimeException e) {
+            session.getAttributes().remove(CONTEXT_ATTRIBUTE);
+            send(session, new ApplicationError(e.getErrorCode(), transactionId));
+            if (ErrorCodeMap.USER_CERTIFICATE_EXPIRED == e.getErrorCode()) {
+                session.close(CloseStatus.POLICY_VIOLATION);
+            }
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+            session.getAttributes().remove(CONTEXT_ATTRIBUTE);
+            send(session, new ApplicationError(ErrorCodeMap.UNKNOWN_ERROR, transactionId));
+        } finally {
+            MDC.remove(ApplicationConstants.TX_ID_KEY);
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        session.getAttributes().remove(CONTEXT_ATTRIBUTE);
+        log.debug("Provisioning stream closed: {}, status: {}", session.getId(), status);
+    }
+
+    private void verifyPrincipalCertificate(Principal principal) {
+        if (principal instanceof Authentication authentication
+            && authentication.getCredentials() instanceof X509Certificate x509Certificate) {
+            try {
+                x509Certificate.checkValidity();
+            } catch (CertificateExpiredException | CertificateNotYetValidException e) {
+                throw new BKPBadRequestException(ErrorCodeMap.USER_CERTIFICATE_EXPIRED);
+            }
+        }
+    }
+
+    private ProvisioningRequestDTO read(BinaryMessage message) {
+        try (InputStream payload = new ByteBufferBackedInputStream(message.getPayload())) {
+            return objectMapper.readValue(payload, ProvisioningRequestDTO.class);
+        } catch (IOException e) {
+            throw invalidPayload(e.getMessage());
+        }
+    }
+
+    private void applyStoredContext(WebSocketSession session, ProvisioningRequestDTO dto) {
+        if (dto.getContext() == null && session.getAttributes().get(CONTEXT_ATTRIBUTE) instanceof ContextDTO ctx) {
+            dto.setContext(ctx);
+        }
+    }
+
+    private void validate(ProvisioningRequestDTO dto) {
+        final Set<ConstraintViolation<ProvisioningRequestDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw invalidPayload(violations.toString());
+        }
+    }
+
+    private BKPBadRequestException invalidPayload(String reason) {
+        MdcHelper.addSecurityTag(SecurityLogType.SECURITY_VALIDATION);
+        log.error("Invalid request data: {}", reason);
+        MdcHelper.removeSecurityTag();
+        return new BKPBadRequestException(ErrorCodeMap.INVALID_FIELDS_IN_PAYLOAD);
+    }
+
+    private void send(WebSocketSession session, Object payload) throws IOException {
+        session.sendMessage(new BinaryMessage(objectMapper.writeValueAsBytes(payload)));
+    }
+}
@@ -46,12 +46,20 @@ public class SpdmMessageResponseHandler implements MessageLogger {
 
     @Override
     public void logMessage(ByteBuffer buffer) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+
         final MctpMessage mctp = parseMctpMessage(buffer);
         log.debug("MCTP Header: {}, SPDM Message: {}", mctp, parseSpdmMessageResponse(mctp.getPayloadBuffer()));
     }
 
     @Override
     public void logResponse(ByteBuffer buffer) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+
         final MctpMessage mctp = parseMctpMessage(buffer);
         log.debug("MCTP Header: {}, SPDM Response: {}", mctp, parseSpdmMessageResponse(mctp.getPayloadBuffer()));
     }
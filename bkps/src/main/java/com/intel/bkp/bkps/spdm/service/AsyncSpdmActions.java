@@ -34,15 +34,14 @@ package com.intel.bkp.bkps.spdm.service;
 
 import com.intel.bkp.bkps.attestation.AttestationParams;
 import com.intel.bkp.bkps.attestation.SpdmDiceAttestationService;
-import com.intel.bkp.bkps.domain.AesKey;
-import com.intel.bkp.bkps.domain.ConfidentialData;
-import com.intel.bkp.bkps.domain.ServiceConfiguration;
 import com.intel.bkp.bkps.exception.ExceededOvebuildException;
 import com.intel.bkp.bkps.exception.InvalidConfigurationException;
 import com.intel.bkp.bkps.exception.ProvisioningGenericException;
 import com.intel.bkp.bkps.protocol.common.MessagesForSigmaEncPayload;
 import com.intel.bkp.bkps.protocol.common.model.RootChainType;
 import com.intel.bkp.bkps.protocol.common.service.BkpsDHCertBuilder;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot.AesKeySnapshot;
 import com.intel.bkp.bkps.rest.provisioning.service.IServiceConfiguration;
 import com.intel.bkp.bkps.rest.provisioning.service.OverbuildCounterManager;
 import com.intel.bkp.bkps.rest.provisioning.service.ProvisioningHistoryService;
@@ -221,7 +220,7 @@ public class AsyncSpdmActions {
             log.info("SPDM Responder initialized for Secure Session.");
 
             log.info("Fetch configuration data for cfg id: " + cfgId);
-            final ServiceConfiguration configuration = configurationCallback.getConfiguration(cfgId);
+            final ServiceConfigurationSnapshot configuration = configurationCallback.getConfiguration(cfgId);
 
             final var attestationParams = AttestationParams.from(configuration);
             final var slotId = attestationService.performAttestationAndGetSlotId(spdmProtocol, uid, attestationParams);
@@ -245,7 +244,7 @@ public class AsyncSpdmActions {
             }
 
             final byte[] certificateToBeProvisioned = messagesForSigmaEncPayload.prepareFrom(configuration);
-            incrementOverbuildCounter(configurationCallback, uid, cfgId, configuration.getPufType());
+            incrementOverbuildCounter(configurationCallback, uid, cfgId, configuration.pufType());
 
             log.debug("Sending CERTIFICATE with User AES Root Key Certificate ... ");
             final byte[] provisioningResponse = spdmSecureSessionMessageSender.sendData(certificateToBeProvisioned);
@@ -272,15 +271,14 @@ public class AsyncSpdmActions {
         }
     }
 
-    private boolean isClearBbramApplicable(Long cfgId, ServiceConfiguration configuration) {
+    private boolean isClearBbramApplicable(Long cfgId, ServiceConfigurationSnapshot configuration) {
         return StorageType.BBRAM.equals(getStorageType(cfgId, configuration));
     }
 
-    private StorageType getStorageType(Long cfgId, ServiceConfiguration configuration) {
+    private StorageType getStorageType(Long cfgId, ServiceConfigurationSnapshot configuration) {
         return Optional.ofNullable(configuration)
-            .map(ServiceConfiguration::getConfidentialData)
-            .map(ConfidentialData::getAesKey)
-            .map(AesKey::getStorage)
+            .map(ServiceConfigurationSnapshot::aesKey)
+            .map(AesKeySnapshot::storage)
             .orElseThrow(() -> new InvalidConfigurationException(cfgId));
     }
 
@@ -78,11 +78,15 @@ public class FinishMessageSigner implements SignatureProvider {
         }
 
         final byte[] combinedSpdmPrefix = SpdmSigningPrefix.getPrefix(SPDM_SIGNATURE_FINISH_SIGNING_CONTEXT);
-        log.trace("SPDM FINISH - combined SPDM prefix: {}", HexConverter.toHex(combinedSpdmPrefix));
+        log.atTrace()
+            .addArgument(() -> HexConverter.toHex(combinedSpdmPrefix))
+            .log("SPDM FINISH - combined SPDM prefix: {}");
 
         final byte[] messageHash = DigestUtils.sha384(data);
 
-        log.trace("SPDM FINISH - message hash: {}", toHex(messageHash));
+        log.atTrace()
+            .addArgument(() -> toHex(messageHash))
+            .log("SPDM FINISH - message hash: {}");
 
         final byte[] dataToSign = ByteBuffer.allocate(combinedSpdmPrefix.length + messageHash.length)
             .put(combinedSpdmPrefix)
@@ -95,8 +99,11 @@ public class FinishMessageSigner implements SignatureProvider {
         final CurvePoint curvePoint = CurvePoint.fromSignature(signature, SECP384R1);
         final byte[] signatureForSpdm = curvePoint.getAlignedDataToSize();
 
-        log.trace("Data to sign:\n{}\nSignature full:\n{}\nSignature RAW RS:\n{}\n",
-            toHex(dataToSign), toHex(signature), toHex(signatureForSpdm));
+        log.atTrace()
+            .addArgument(() -> toHex(dataToSign))
+            .addArgument(() -> toHex(signature))
+            .addArgument(() -> toHex(signatureForSpdm))
+            .log("Data to sign:\n{}\nSignature full:\n{}\nSignature RAW RS:\n{}\n");
 
         return signatureForSpdm;
     }
@@ -36,6 +36,8 @@ import com.intel.bkp.bkps.crypto.aesgcm.AesGcmSealingKeyProviderImpl;
 import com.intel.bkp.bkps.crypto.sealingkey.event.SealingKeyTransactionEvent;
 import com.intel.bkp.bkps.domain.AesKey;
 import com.intel.bkp.bkps.repository.AesKeyRepository;
+import com.intel.bkp.bkps.repository.ServiceConfigurationRepository;
+import com.intel.bkp.bkps.rest.provisioning.service.ServiceConfigurationCache;
 import com.intel.bkp.crypto.exceptions.EncryptionProviderException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -82,6 +84,12 @@ public class SealingKeyRotationTransactionTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private ServiceConfigurationRepository serviceConfigurationRepository;
+
+    @Mock
+    private ServiceConfigurationCache serviceConfigurationCache;
+
     @InjectMocks
     private SealingKeyRotationTransaction sut;
 
@@ -133,6 +141,8 @@ public class SealingKeyRotationTransactionTest {
         verify(eventPublisher).publishEvent(any(SealingKeyTransactionEvent.class));
         verify(sealingKeyManager).disableActiveKey();
         verify(sealingKeyManager).activatePendingKey();
+        verify(serviceConfigurationRepository).incrementAllVersions();
+        verify(serviceConfigurationCache).evictAll();
     }
 
     private void mockConfigurations() {
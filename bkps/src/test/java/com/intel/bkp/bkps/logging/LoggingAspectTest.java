@@ -74,11 +74,14 @@ public class LoggingAspectTest {
     @Mock
     private Environment environment;
 
+    @Mock
+    private MethodTracer methodTracer;
+
     private LoggingAspect sut;
 
     @BeforeEach
     void setUp() {
-        sut = new LoggingAspect(environment);
+        sut = new LoggingAspect(environment, methodTracer);
     }
 
     @Test
@@ -118,7 +121,7 @@ public class LoggingAspectTest {
         // given
         when(proceedingJoinPoint.getArgs()).thenReturn(new String[]{});
         when(proceedingJoinPoint.getSignature()).thenReturn(signature);
-        when(proceedingJoinPoint.proceed()).thenReturn("proceedObj");
+        when(methodTracer.trace(proceedingJoinPoint)).thenReturn("proceedObj");
         when(signature.getDeclaringTypeName()).thenReturn("test");
         when(signature.getName()).thenReturn("test");
 
@@ -126,7 +129,7 @@ public class LoggingAspectTest {
         Object resultObject = sut.logAround(proceedingJoinPoint);
 
         // then
-        verify(proceedingJoinPoint, times(1)).proceed();
+        verify(methodTracer, times(1)).trace(proceedingJoinPoint);
         assertEquals("proceedObj", resultObject);
     }
 
@@ -135,7 +138,7 @@ public class LoggingAspectTest {
         // given
         when(proceedingJoinPoint.getArgs()).thenReturn(new String[]{});
         when(proceedingJoinPoint.getSignature()).thenReturn(signature);
-        when(proceedingJoinPoint.proceed()).thenThrow(new IllegalArgumentException());
+        when(methodTracer.trace(proceedingJoinPoint)).thenThrow(new IllegalArgumentException());
         when(signature.getDeclaringTypeName()).thenReturn("test");
         when(signature.getName()).thenReturn("test");
 
@@ -0,0 +1,151 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.intel.bkp.core.properties.Tracing;
+import com.intel.bkp.test.LoggerTestUtil;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+
+import static com.intel.bkp.bkps.logging.MethodTracer.LOGGER_PREFIX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MethodTracerTest {
+
+    private static final String LOGGER_NAME = LOGGER_PREFIX + MethodTracerTest.class.getName();
+    private static final String METHOD_NAME = "provision";
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private LoggerTestUtil loggerTestUtil;
+
+    private final Tracing tracing = new Tracing();
+
+    @BeforeEach
+    void setUp() {
+        loggerTestUtil = LoggerTestUtil.instance(LOGGER_NAME);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getDeclaringType()).thenReturn(MethodTracerTest.class);
+        lenient().when(signature.getName()).thenReturn(METHOD_NAME);
+    }
+
+    @AfterEach
+    void clearLogs() {
+        loggerTestUtil.reset();
+    }
+
+    @Test
+    void trace_LoggerEnabled_LogsDurationAndOutcome() throws Throwable {
+        // given
+        when(joinPoint.proceed()).thenReturn("result");
+
+        // when
+        final Object result = new MethodTracer(tracing).trace(joinPoint);
+
+        // then
+        assertEquals("result", result);
+        assertTrue(loggerTestUtil.contains(METHOD_NAME + "() took", Level.TRACE));
+        assertTrue(loggerTestUtil.contains("outcome: OK", Level.TRACE));
+        verify(joinPoint, never()).getArgs();
+    }
+
+    @Test
+    void trace_LoggerEnabledAndMethodThrows_LogsExceptionAsOutcome() throws Throwable {
+        // given
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException());
+        final MethodTracer sut = new MethodTracer(tracing);
+
+        // when-then
+        assertThrows(IllegalStateException.class, () -> sut.trace(joinPoint));
+        assertTrue(loggerTestUtil.contains("outcome: IllegalStateException", Level.TRACE));
+    }
+
+    @Test
+    void trace_LogArgumentsEnabled_LogsArguments() throws Throwable {
+        // given
+        tracing.setLogArguments(true);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{"arg"});
+
+        // when
+        new MethodTracer(tracing).trace(joinPoint);
+
+        // then
+        assertTrue(loggerTestUtil.contains("argument[s] = [arg]", Level.TRACE));
+    }
+
+    @Test
+    void trace_LoggerDisabled_OnlyProceeds() throws Throwable {
+        // given
+        ((Logger) LoggerFactory.getLogger(LOGGER_NAME)).setLevel(Level.INFO);
+        when(joinPoint.proceed()).thenReturn("result");
+
+        // when
+        final Object result = new MethodTracer(tracing).trace(joinPoint);
+
+        // then
+        assertEquals("result", result);
+        assertEquals(0, loggerTestUtil.getSize());
+    }
+
+    @Test
+    void trace_ZeroSampleRate_DoesNotLog() throws Throwable {
+        // given
+        tracing.setSampleRate(0);
+
+        // when
+        new MethodTracer(tracing).trace(joinPoint);
+
+        // then
+        assertEquals(0, loggerTestUtil.getSize());
+    }
+}
@@ -44,6 +44,7 @@ import com.intel.bkp.bkps.domain.Qek;
 import com.intel.bkp.bkps.domain.ServiceConfiguration;
 import com.intel.bkp.bkps.domain.enumeration.ImportMode;
 import com.intel.bkp.bkps.exception.ProvisioningGenericException;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot;
 import com.intel.bkp.command.messages.common.Certificate;
 import com.intel.bkp.command.model.CommandIdentifier;
 import com.intel.bkp.core.endianness.EndiannessActor;
@@ -125,11 +126,11 @@ public class MessagesForSigmaEncPayloadTest {
         final byte[] qekContent = loadBinary(ResourceDir.ROOT, "aes_testmode1.qek");
         qek.setValue(toHex(qekContent));
         aesKeyBytes = loadBinary(ResourceDir.ROOT, "signed_UDS_intelpuf_wrapped_aes_testmode1.ccert");
-        ServiceConfiguration serviceConfiguration = prepareServiceConfiguration(StorageType.PUFSS, false, qek);
+        ServiceConfigurationSnapshot serviceConfiguration = prepareServiceConfiguration(StorageType.PUFSS, false, qek);
 
         // when
-        when(sut.decryptConfidentialData(serviceConfiguration.getConfidentialData().getAesKey())).thenReturn(aesKeyBytes); // Return unencrypted AES ccert
-        when(sut.decryptConfidentialData(serviceConfiguration.getConfidentialData().getQek())).thenReturn(qekContent); // Return unencrypted QEK
+        when(sut.decryptConfidentialData(serviceConfiguration.aesKey())).thenReturn(aesKeyBytes); // Return unencrypted AES ccert
+        when(sut.decryptConfidentialData(serviceConfiguration.qek())).thenReturn(qekContent); // Return unencrypted QEK
         PsgQekBuilderHSM qekBuilderHSM = new PsgQekBuilderHSM();
         qekBuilderHSM.withActor(EndiannessActor.FIRMWARE).parse(qekContent);
         when(aesCtrEncryptionKeyProvider.decrypt(qekBuilderHSM.getEncryptedAESKey())).thenReturn(encryptionKey); // Return unencrypted QEK encryption key
@@ -149,7 +150,7 @@ public class MessagesForSigmaEncPayloadTest {
     @Test
     void prepareFrom_WithPufssStorageType_Success() throws Exception {
         // given
-        ServiceConfiguration serviceConfiguration = prepareServiceConfigurationProduction(StorageType.PUFSS);
+        ServiceConfigurationSnapshot serviceConfiguration = prepareServiceConfigurationProduction(StorageType.PUFSS);
         mockBehavior();
 
         // when
@@ -164,7 +165,7 @@ public class MessagesForSigmaEncPayloadTest {
     @Test
     void prepareFrom_WithBBRAMStorageType_Success() throws Exception {
         // given
-        ServiceConfiguration serviceConfiguration = prepareServiceConfigurationProduction(StorageType.BBRAM);
+        ServiceConfigurationSnapshot serviceConfiguration = prepareServiceConfigurationProduction(StorageType.BBRAM);
         mockBehavior();
 
         // when
@@ -179,11 +180,10 @@ public class MessagesForSigmaEncPayloadTest {
     @Test
     void prepareFrom_WithEFUSEStorageType_Success() throws Exception {
         // given
-        ServiceConfiguration serviceConfiguration = prepareServiceConfigurationProduction(StorageType.EFUSES);
+        ServiceConfigurationSnapshot serviceConfiguration =
+            prepareServiceConfigurationWithTestProgram(StorageType.EFUSES);
         mockBehavior();
 
-        serviceConfiguration.getConfidentialData().getAesKey().setTestProgram(true);
-
         // when
         final byte[] baseMessage = sut.prepareFrom(serviceConfiguration);
 
@@ -197,7 +197,8 @@ public class MessagesForSigmaEncPayloadTest {
     void prepareFrom_WithEFUSEStorageTypeTestProgram_ReturnsCorrectMessage() throws Exception {
         // given
         final String expectedHexStringWhenTestProgramIsSet = "00000080";
-        ServiceConfiguration serviceConfiguration = prepareServiceConfigurationWithTestProgram(StorageType.EFUSES);
+        ServiceConfigurationSnapshot serviceConfiguration =
+            prepareServiceConfigurationWithTestProgram(StorageType.EFUSES);
         mockBehavior();
 
         // when
@@ -210,7 +211,7 @@ public class MessagesForSigmaEncPayloadTest {
     @Test
     void prepareFrom_WithEFUSEStorageTypeAndAESDecryptException_ThrowsException() throws Exception {
         // given
-        ServiceConfiguration serviceConfiguration = prepareServiceConfigurationProduction(StorageType.EFUSES);
+        ServiceConfigurationSnapshot serviceConfiguration = prepareServiceConfigurationProduction(StorageType.EFUSES);
         when(aesGcmSealingKeyProvider.decrypt(any()))
             .thenThrow(EncryptionProviderException.class);
 
@@ -218,15 +219,16 @@ public class MessagesForSigmaEncPayloadTest {
         assertThrows(ProvisioningGenericException.class, () -> sut.prepareFrom(serviceConfiguration));
     }
 
-    private ServiceConfiguration prepareServiceConfigurationWithTestProgram(StorageType aesKeyStorage) {
+    private ServiceConfigurationSnapshot prepareServiceConfigurationWithTestProgram(StorageType aesKeyStorage) {
         return prepareServiceConfiguration(aesKeyStorage, true, null);
     }
 
-    private ServiceConfiguration prepareServiceConfigurationProduction(StorageType aesKeyStorage) {
+    private ServiceConfigurationSnapshot prepareServiceConfigurationProduction(StorageType aesKeyStorage) {
         return prepareServiceConfiguration(aesKeyStorage, false, null);
     }
 
-    private ServiceConfiguration prepareServiceConfiguration(StorageType aesKeyStorage, boolean testProgram, Qek qek) {
+    private ServiceConfigurationSnapshot prepareServiceConfiguration(StorageType aesKeyStorage, boolean testProgram,
+                                                                     Qek qek) {
         AesKey aesKey = new AesKey();
         aesKey.setStorage(aesKeyStorage);
         aesKey.setValue(toHex(aesKeyBytes));
@@ -246,13 +248,13 @@ public class MessagesForSigmaEncPayloadTest {
         AttestationConfiguration attestationConfig = new AttestationConfiguration();
         attestationConfig.setEfusesPublic(efusesPub);
 
-        return new ServiceConfiguration()
+        return ServiceConfigurationSnapshot.from(new ServiceConfiguration()
             .name(DEFAULT_NAME)
             .pufType(DEFAULT_PUF_TYPE)
             .overbuildMax(DEFAULT_OVERBUILD_MAX)
             .overbuildCurrent(2)
             .confidentialData(confidentialData)
-            .attestationConfig(attestationConfig);
+            .attestationConfig(attestationConfig));
     }
 
     private void mockBehavior() throws EncryptionProviderException {
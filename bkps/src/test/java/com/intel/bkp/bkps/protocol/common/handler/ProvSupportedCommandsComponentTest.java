@@ -32,11 +32,10 @@
 
 package com.intel.bkp.bkps.protocol.common.handler;
 
-import com.intel.bkp.bkps.domain.AesKey;
-import com.intel.bkp.bkps.domain.ConfidentialData;
-import com.intel.bkp.bkps.domain.ServiceConfiguration;
 import com.intel.bkp.bkps.exception.CommandNotSupportedException;
 import com.intel.bkp.bkps.exception.InvalidConfigurationException;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot.AesKeySnapshot;
 import com.intel.bkp.bkps.rest.provisioning.model.dto.ProvisioningRequestDTO;
 import com.intel.bkp.bkps.rest.provisioning.model.dto.ProvisioningTransferObject;
 import com.intel.bkp.bkps.rest.provisioning.service.IServiceConfiguration;
@@ -63,13 +62,10 @@ public class ProvSupportedCommandsComponentTest {
     private ProvisioningRequestDTO dto;
 
     @Mock
-    private ServiceConfiguration configuration;
+    private ServiceConfigurationSnapshot configuration;
 
     @Mock
-    private ConfidentialData confidentialData;
-
-    @Mock
-    private AesKey aesKey;
+    private AesKeySnapshot aesKey;
 
     @Mock
     private ProvisioningHandler successor;
@@ -79,10 +75,15 @@ public class ProvSupportedCommandsComponentTest {
 
     private final IServiceConfiguration CONFIGURATION = new IServiceConfiguration() {
         @Override
-        public ServiceConfiguration getConfiguration(Long cfgId) {
+        public ServiceConfigurationSnapshot getConfiguration(Long cfgId) {
             return configuration;
         }
 
+        @Override
+        public int getOverbuildCurrent(Long cfgId) {
+            return 0;
+        }
+
         @Override
         public int getConfigurationAndUpdate(Long cfgId) {
             return 0;
@@ -90,10 +91,15 @@ public class ProvSupportedCommandsComponentTest {
     };
     private final IServiceConfiguration NULL_CONFIGURATION = new IServiceConfiguration() {
         @Override
-        public ServiceConfiguration getConfiguration(Long cfgId) {
+        public ServiceConfigurationSnapshot getConfiguration(Long cfgId) {
             return null;
         }
 
+        @Override
+        public int getOverbuildCurrent(Long cfgId) {
+            return 0;
+        }
+
         @Override
         public int getConfigurationAndUpdate(Long cfgId) {
             return 0;
@@ -164,27 +170,25 @@ public class ProvSupportedCommandsComponentTest {
     }
 
     @Test
-    void verify_ConfidentialDataIsNull_Fail() {
+    void verify_AesKeyIsNull_Fail() {
         // given
         mockGetSupportedCommands();
-        when(configuration.getConfidentialData()).thenReturn(null);
+        when(configuration.aesKey()).thenReturn(null);
 
         // when-then
         runAndVerifyInvalidConfiguration();
     }
 
     private void mockAesKeyEfuses() {
-        when(configuration.getConfidentialData()).thenReturn(confidentialData);
-        when(confidentialData.getAesKey()).thenReturn(aesKey);
-        when(aesKey.getStorage()).thenReturn(StorageType.EFUSES);
-        when(aesKey.getKeyWrappingType()).thenReturn(KeyWrappingType.INTERNAL);
+        when(configuration.aesKey()).thenReturn(aesKey);
+        when(aesKey.storage()).thenReturn(StorageType.EFUSES);
+        when(aesKey.keyWrappingType()).thenReturn(KeyWrappingType.INTERNAL);
     }
 
     private void mockAesKeyPufss() {
-        when(configuration.getConfidentialData()).thenReturn(confidentialData);
-        when(confidentialData.getAesKey()).thenReturn(aesKey);
-        when(aesKey.getStorage()).thenReturn(StorageType.PUFSS);
-        when(aesKey.getKeyWrappingType()).thenReturn(KeyWrappingType.UDS_IID_PUF);
+        when(configuration.aesKey()).thenReturn(aesKey);
+        when(aesKey.storage()).thenReturn(StorageType.PUFSS);
+        when(aesKey.keyWrappingType()).thenReturn(KeyWrappingType.UDS_IID_PUF);
     }
 
     private void runAndVerifyCommandNotSupported() {
@@ -46,6 +46,7 @@ import com.intel.bkp.bkps.rest.configuration.model.dto.ServiceConfigurationRespo
 import com.intel.bkp.bkps.rest.configuration.model.mapper.ServiceConfigurationDetailsMapper;
 import com.intel.bkp.bkps.rest.configuration.model.mapper.ServiceConfigurationMapper;
 import com.intel.bkp.bkps.rest.errors.enums.ErrorCodeMap;
+import com.intel.bkp.bkps.rest.provisioning.service.ServiceConfigurationCache;
 import com.intel.bkp.core.exceptions.BKPBadRequestException;
 import com.intel.bkp.core.exceptions.BKPInternalServerException;
 import com.intel.bkp.core.manufacturing.model.PufType;
@@ -109,6 +110,9 @@ public class ServiceConfigurationServiceTest {
     @Mock
     private ServiceConfigurationImportManager serviceConfigurationImportManager;
 
+    @Mock
+    private ServiceConfigurationCache serviceConfigurationCache;
+
     @Mock
     private ServiceConfiguration serviceConfiguration;
 
@@ -186,6 +190,28 @@ public class ServiceConfigurationServiceTest {
         verify(serviceConfigurationRepository).save(serviceConfiguration);
     }
 
+    @Test
+    void save_WithExistingConfiguration_InvalidatesCachedSnapshot() {
+        // when
+        sut.save(serviceConfigurationDTO);
+
+        // then
+        verify(serviceConfigurationRepository).incrementVersion(1L);
+        verify(serviceConfigurationCache).evict(1L);
+    }
+
+    @Test
+    void save_WithNewConfiguration_DoesNotIncrementVersion() {
+        // given
+        when(serviceConfiguration.getId()).thenReturn(null);
+
+        // when
+        sut.save(serviceConfigurationDTO);
+
+        // then
+        verify(serviceConfigurationRepository, never()).incrementVersion(any());
+    }
+
     @Test
     void save_ReturnsProperDto() {
         // when
@@ -329,6 +355,7 @@ public class ServiceConfigurationServiceTest {
 
         // then
         verify(serviceConfigurationRepository).deleteById(id);
+        verify(serviceConfigurationCache).evict(id);
     }
 
     @Test
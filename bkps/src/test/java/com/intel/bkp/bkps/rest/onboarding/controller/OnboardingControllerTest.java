@@ -36,6 +36,8 @@ import com.intel.bkp.bkps.exception.PrefetchingGenericException;
 import com.intel.bkp.bkps.rest.RestUtil;
 import com.intel.bkp.bkps.rest.onboarding.OnboardingResource;
 import com.intel.bkp.bkps.rest.onboarding.model.DirectPrefetchRequestDTO;
+import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusBulkRequestDTO;
+import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusRequestDTO;
 import com.intel.bkp.bkps.rest.onboarding.service.OnboardingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,6 +50,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -106,6 +109,29 @@ class OnboardingControllerTest {
         assertThrows(PrefetchingGenericException.class, this::performPrefetchDirect);
     }
 
+    @Test
+    void prefetchStatusBulk_Success() throws Exception {
+        // given
+        final var dto = new PrefetchStatusBulkRequestDTO(List.of(new PrefetchStatusRequestDTO("34", "0102")), 1);
+
+        // when
+        perform(OnboardingResource.PREFETCH_STATUS_BULK, dto)
+            .andExpect(status().isOk());
+
+        // then
+        verify(onboardingService).prefetchStatusBulk(eq(dto));
+    }
+
+    @Test
+    void prefetchStatusBulk_WaitTooLong_ReturnsBadRequest() throws Exception {
+        // given
+        final var dto = new PrefetchStatusBulkRequestDTO(List.of(), 31);
+
+        // when-then
+        perform(OnboardingResource.PREFETCH_STATUS_BULK, dto)
+            .andExpect(status().isBadRequest());
+    }
+
     private ResultActions performPrefetchingMvc() throws Exception {
         return perform(OnboardingResource.PREFETCH_NEXT, prefetchingRequestDto);
     }
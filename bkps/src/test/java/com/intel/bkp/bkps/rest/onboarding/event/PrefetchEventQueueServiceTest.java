@@ -32,19 +32,31 @@
 
 package com.intel.bkp.bkps.rest.onboarding.event;
 
+import com.intel.bkp.bkps.rest.onboarding.model.DeviceId;
+import com.intel.bkp.fpgacerts.model.Family;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class PrefetchEventQueueServiceTest {
 
+    private static final DeviceId DEVICE_ID = DeviceId.instance(Family.AGILEX, "0102030405060708");
+    private static final DeviceId OTHER_DEVICE_ID = DeviceId.instance(Family.AGILEX, "1112131415161718");
+
     @Mock
     private PrefetchEvent prefetchEvent;
 
@@ -63,6 +75,18 @@ class PrefetchEventQueueServiceTest {
         verify(prefetchEventQueue).isEmpty();
     }
 
+    @Test
+    void size_ReturnsQueueSize() {
+        // given
+        when(prefetchEventQueue.size()).thenReturn(3);
+
+        // when
+        final int result = sut.size();
+
+        // then
+        assertEquals(3, result);
+    }
+
     @Test
     void add_CallsAdd() {
         // when
@@ -80,4 +104,93 @@ class PrefetchEventQueueServiceTest {
         // then
         verify(prefetchEventQueue).remove(prefetchEvent);
     }
+
+    @Test
+    void findInProgress_ReturnsQueuedDevicesIgnoringUidCase() {
+        // given
+        final DeviceId queued = DeviceId.instance(Family.AGILEX, "0102030405060708");
+        final DeviceId queuedUpperCase = DeviceId.instance(Family.AGILEX, "01020304050607AB");
+        final DeviceId notQueued = DeviceId.instance(Family.AGILEX, "1112131415161718");
+        final PrefetchEvent otherEvent = new PrefetchEvent(this, DeviceId.instance(Family.AGILEX, "01020304050607ab"));
+        when(prefetchEvent.getDeviceId()).thenReturn(queued);
+        when(prefetchEventQueue.stream()).thenReturn(Stream.of(prefetchEvent, otherEvent));
+
+        // when
+        final Set<DeviceId> result = sut.findInProgress(List.of(queued, queuedUpperCase, notQueued));
+
+        // then
+        assertEquals(Set.of(queued, queuedUpperCase), result);
+    }
+
+    @Test
+    void watch_AfterAddOfWatchedDevice_ReturnsChangedDevice() throws Exception {
+        // given
+        try (PrefetchDeviceWatch watch = sut.watch(List.of(DEVICE_ID, OTHER_DEVICE_ID))) {
+            sut.add(new PrefetchEvent(this, DEVICE_ID));
+
+            // when
+            final Set<DeviceId> result = watch.awaitChanges(Duration.ofSeconds(5));
+
+            // then
+            assertEquals(Set.of(DEVICE_ID), result);
+        }
+    }
+
+    @Test
+    void watch_AfterRemoveOfDeviceWithOtherUidCase_ReturnsWatchedDevice() throws Exception {
+        // given
+        final DeviceId upperCase = DeviceId.instance(Family.AGILEX, "01020304050607AB");
+        try (PrefetchDeviceWatch watch = sut.watch(List.of(upperCase))) {
+            sut.remove(new PrefetchEvent(this, DeviceId.instance(Family.AGILEX, "01020304050607ab")));
+
+            // when
+            final Set<DeviceId> result = watch.awaitChanges(Duration.ofSeconds(5));
+
+            // then
+            assertEquals(Set.of(upperCase), result);
+        }
+    }
+
+    @Test
+    void watch_AfterAddOfOtherDevice_ReturnsEmptyAfterTimeout() throws Exception {
+        // given
+        try (PrefetchDeviceWatch watch = sut.watch(List.of(DEVICE_ID))) {
+            sut.add(new PrefetchEvent(this, OTHER_DEVICE_ID));
+
+            // when
+            final Set<DeviceId> result = watch.awaitChanges(Duration.ofMillis(10));
+
+            // then
+            assertTrue(result.isEmpty());
+        }
+    }
+
+    @Test
+    void watch_ReturnsEachChangeOnce() throws Exception {
+        // given
+        try (PrefetchDeviceWatch watch = sut.watch(List.of(DEVICE_ID))) {
+            sut.add(new PrefetchEvent(this, DEVICE_ID));
+            watch.awaitChanges(Duration.ofSeconds(5));
+
+            // when
+            final Set<DeviceId> result = watch.awaitChanges(Duration.ofMillis(10));
+
+            // then
+            assertTrue(result.isEmpty());
+        }
+    }
+
+    @Test
+    void watch_AfterClose_DoesNotReceiveChanges() throws Exception {
+        // given
+        final PrefetchDeviceWatch watch = sut.watch(List.of(DEVICE_ID));
+        watch.close();
+        sut.add(new PrefetchEvent(this, DEVICE_ID));
+
+        // when
+        final Set<DeviceId> result = watch.awaitChanges(Duration.ofMillis(10));
+
+        // then
+        assertTrue(result.isEmpty());
+    }
 }
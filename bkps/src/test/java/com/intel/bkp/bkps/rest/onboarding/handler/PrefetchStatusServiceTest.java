@@ -33,10 +33,15 @@
 package com.intel.bkp.bkps.rest.onboarding.handler;
 
 import com.intel.bkp.bkps.exception.PrefetchingStatusFailed;
+import com.intel.bkp.bkps.rest.onboarding.event.PrefetchDeviceWatch;
 import com.intel.bkp.bkps.rest.onboarding.event.PrefetchEventQueueService;
 import com.intel.bkp.bkps.rest.onboarding.model.DeviceId;
+import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusBulkRequestDTO;
+import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusBulkResponseDTO;
+import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusBulkResponseDTO.DeviceStatus;
 import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusRequestDTO;
 import com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusResponseDTO;
+import com.intel.bkp.bkps.rest.onboarding.model.PrefetchingStatus;
 import com.intel.bkp.bkps.rest.prefetching.service.ZipPrefetchRepositoryService;
 import com.intel.bkp.fpgacerts.model.Family;
 import com.intel.bkp.test.RandomUtils;
@@ -49,17 +54,25 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static com.intel.bkp.bkps.rest.errors.enums.ErrorCodeMap.PREFETCHING_STATUS_FAILED_INVALID_PARAMS;
 import static com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusResponseDTO.PREFETCH_DONE;
 import static com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusResponseDTO.PREFETCH_IN_PROGRESS;
 import static com.intel.bkp.bkps.rest.onboarding.model.PrefetchStatusResponseDTO.PREFETCH_NOT_FOUND;
+import static com.intel.bkp.bkps.rest.onboarding.model.PrefetchingStatus.DONE;
+import static com.intel.bkp.bkps.rest.onboarding.model.PrefetchingStatus.IN_PROGRESS;
+import static com.intel.bkp.bkps.rest.onboarding.model.PrefetchingStatus.NOT_FOUND;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -79,11 +92,14 @@ class PrefetchStatusServiceTest {
 
     private static final DeviceId DEVICE_ID_AGILEX = DeviceId.instance(FAMILY, UID);
     private static final DeviceId DEVICE_ID_S10 = DeviceId.instance(FAMILY_S10, UID);
+    private static final List<DeviceId> BULK_DEVICE_IDS = List.of(DEVICE_ID_AGILEX, DEVICE_ID_S10);
 
     @Mock
     private ZipPrefetchRepositoryService zipPrefetchRepositoryService;
     @Mock
     private PrefetchEventQueueService prefetchEventQueueService;
+    @Mock
+    private PrefetchDeviceWatch deviceWatch;
 
     @InjectMocks
     private PrefetchStatusService sut;
@@ -193,4 +209,95 @@ class PrefetchStatusServiceTest {
 
         assertEquals(PREFETCHING_STATUS_FAILED_INVALID_PARAMS.getExternalMessage(), ex.getMessage());
     }
+
+    @Test
+    void getStatuses_WithoutWait_ReturnsStatusPerDevice() {
+        // given
+        when(zipPrefetchRepositoryService.findPrefetched(BULK_DEVICE_IDS)).thenReturn(Set.of(DEVICE_ID_S10));
+        when(prefetchEventQueueService.findInProgress(BULK_DEVICE_IDS)).thenReturn(Set.of());
+
+        // when
+        final PrefetchStatusBulkResponseDTO result = sut.getStatuses(bulkRequest(null));
+
+        // then
+        assertEquals(List.of(NOT_FOUND, DONE), getStatuses(result));
+        assertEquals(VALID_PARAMS.uid(), result.devices().get(0).uid());
+        verify(prefetchEventQueueService, never()).watch(any());
+    }
+
+    @Test
+    void getStatuses_WithWaitAndDeviceChange_ReturnsChangedStatusesQueryingOnlyChangedDevice() throws Exception {
+        // given
+        final List<DeviceId> changed = List.of(DEVICE_ID_AGILEX);
+        when(prefetchEventQueueService.watch(BULK_DEVICE_IDS)).thenReturn(deviceWatch);
+        when(deviceWatch.awaitChanges(any())).thenReturn(Set.of(DEVICE_ID_AGILEX));
+        when(zipPrefetchRepositoryService.findPrefetched(BULK_DEVICE_IDS)).thenReturn(Set.of());
+        when(prefetchEventQueueService.findInProgress(BULK_DEVICE_IDS)).thenReturn(Set.of(DEVICE_ID_AGILEX));
+        when(zipPrefetchRepositoryService.findPrefetched(changed)).thenReturn(Set.of(DEVICE_ID_AGILEX));
+        when(prefetchEventQueueService.findInProgress(changed)).thenReturn(Set.of());
+
+        // when
+        final PrefetchStatusBulkResponseDTO result = sut.getStatuses(bulkRequest(5));
+
+        // then
+        assertEquals(List.of(DONE, NOT_FOUND), getStatuses(result));
+        verify(zipPrefetchRepositoryService).findPrefetched(BULK_DEVICE_IDS);
+        verify(deviceWatch).close();
+    }
+
+    @Test
+    void getStatuses_WithWaitAndDeviceChangeWithoutStatusChange_KeepsWaiting() throws Exception {
+        // given
+        final List<DeviceId> changed = List.of(DEVICE_ID_AGILEX);
+        when(prefetchEventQueueService.watch(BULK_DEVICE_IDS)).thenReturn(deviceWatch);
+        when(deviceWatch.awaitChanges(any())).thenReturn(Set.of(DEVICE_ID_AGILEX), Set.of());
+        when(zipPrefetchRepositoryService.findPrefetched(BULK_DEVICE_IDS)).thenReturn(Set.of());
+        when(prefetchEventQueueService.findInProgress(BULK_DEVICE_IDS)).thenReturn(Set.of(DEVICE_ID_AGILEX));
+        when(zipPrefetchRepositoryService.findPrefetched(changed)).thenReturn(Set.of());
+        when(prefetchEventQueueService.findInProgress(changed)).thenReturn(Set.of(DEVICE_ID_AGILEX));
+
+        // when
+        final PrefetchStatusBulkResponseDTO result = sut.getStatuses(bulkRequest(5));
+
+        // then
+        assertEquals(List.of(IN_PROGRESS, NOT_FOUND), getStatuses(result));
+        verify(deviceWatch, times(2)).awaitChanges(any());
+        verify(deviceWatch).close();
+    }
+
+    @Test
+    void getStatuses_WithWaitAndNoDeviceChange_ReturnsInitialStatuses() throws Exception {
+        // given
+        when(prefetchEventQueueService.watch(BULK_DEVICE_IDS)).thenReturn(deviceWatch);
+        when(deviceWatch.awaitChanges(any())).thenReturn(Set.of());
+        when(zipPrefetchRepositoryService.findPrefetched(BULK_DEVICE_IDS)).thenReturn(Set.of());
+        when(prefetchEventQueueService.findInProgress(BULK_DEVICE_IDS)).thenReturn(Set.of(DEVICE_ID_AGILEX));
+
+        // when
+        final PrefetchStatusBulkResponseDTO result = sut.getStatuses(bulkRequest(5));
+
+        // then
+        assertEquals(List.of(IN_PROGRESS, NOT_FOUND), getStatuses(result));
+        verify(deviceWatch).close();
+    }
+
+    @ParameterizedTest
+    @MethodSource("getInvalidParams")
+    void getStatuses_ForInvalidParams_Throws(PrefetchStatusRequestDTO dto) {
+        // given
+        final var request = new PrefetchStatusBulkRequestDTO(List.of(VALID_PARAMS, dto), null);
+
+        // when-then
+        final var ex = assertThrows(PrefetchingStatusFailed.class, () -> sut.getStatuses(request));
+
+        assertEquals(PREFETCHING_STATUS_FAILED_INVALID_PARAMS.getExternalMessage(), ex.getMessage());
+    }
+
+    private static PrefetchStatusBulkRequestDTO bulkRequest(Integer waitSeconds) {
+        return new PrefetchStatusBulkRequestDTO(List.of(VALID_PARAMS, VALID_PARAMS_S10), waitSeconds);
+    }
+
+    private static List<PrefetchingStatus> getStatuses(PrefetchStatusBulkResponseDTO response) {
+        return response.devices().stream().map(DeviceStatus::status).toList();
+    }
 }
@@ -35,7 +35,11 @@ package com.intel.bkp.bkps.rest.prefetching.controller;
 import com.intel.bkp.bkps.rest.RestUtil;
 import com.intel.bkp.bkps.rest.prefetching.PrefetchResource;
 import com.intel.bkp.bkps.rest.prefetching.model.IndirectPrefetchRequestDTO;
+import com.intel.bkp.bkps.rest.prefetching.model.ManifestFormat;
+import com.intel.bkp.bkps.rest.prefetching.model.PrefetchJobDTO;
+import com.intel.bkp.bkps.rest.prefetching.model.PrefetchJobState;
 import com.intel.bkp.bkps.rest.prefetching.service.IndirectPrefetchService;
+import com.intel.bkp.bkps.rest.prefetching.service.PrefetchManifestService;
 import com.intel.bkp.test.RandomUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,8 +55,13 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -60,9 +69,16 @@ class PrefetchControllerTest {
 
     private static final String ENDPOINT = PrefetchResource.PREFETCH_DEVICES_NODE;
 
+    private static final String JOB_ID = "job-id";
+    private static final PrefetchJobDTO JOB =
+        new PrefetchJobDTO(JOB_ID, ManifestFormat.CSV, PrefetchJobState.QUEUED, 0, 0, 0, 0, List.of());
+
     @Mock
     private IndirectPrefetchService indirectPrefetchService;
 
+    @Mock
+    private PrefetchManifestService prefetchManifestService;
+
     @InjectMocks
     private PrefetchController prefetchController;
 
@@ -105,4 +121,37 @@ class PrefetchControllerTest {
         mockMvc.perform(requestBuilder)
             .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void prefetchManifest_WithCsv_RespondsWithAcceptedJob() throws Exception {
+        // given
+        when(prefetchManifestService.submit(any(), eq(ManifestFormat.CSV))).thenReturn(JOB);
+
+        // when-then
+        mockMvc.perform(post(PrefetchResource.PREFETCH_MANIFEST_NODE)
+                .contentType(ManifestFormat.CSV_VALUE)
+                .content("34,0102030405060708"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.jobId").value(JOB_ID));
+    }
+
+    @Test
+    void prefetchManifest_WithJson_RespondsWithUnsupportedMediaType() throws Exception {
+        // when-then
+        mockMvc.perform(post(PrefetchResource.PREFETCH_MANIFEST_NODE)
+                .contentType(RestUtil.APPLICATION_JSON_UTF8)
+                .content("[]"))
+            .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    void prefetchJob_ReturnsJob() throws Exception {
+        // given
+        when(prefetchManifestService.getJob(JOB_ID)).thenReturn(JOB);
+
+        // when-then
+        mockMvc.perform(get(PrefetchResource.PREFETCH_JOB_NODE, JOB_ID))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value(PrefetchJobState.QUEUED.name()));
+    }
 }
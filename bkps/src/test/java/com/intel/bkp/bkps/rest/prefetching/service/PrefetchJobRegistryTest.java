@@ -0,0 +1,96 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.prefetching.service;
+
+import com.intel.bkp.bkps.exception.PrefetchJobNotFound;
+import com.intel.bkp.bkps.rest.prefetching.model.ManifestFormat;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PrefetchJobRegistryTest {
+
+    private final PrefetchJobRegistry sut = new PrefetchJobRegistry();
+
+    @Test
+    void get_ReturnsCreatedJob() {
+        // given
+        final PrefetchJob job = sut.create(ManifestFormat.NDJSON);
+
+        // when
+        final PrefetchJob result = sut.get(job.getId());
+
+        // then
+        assertSame(job, result);
+    }
+
+    @Test
+    void create_AboveLimit_EvictsOldestFinishedJob() {
+        // given
+        final PrefetchJob running = sut.create(ManifestFormat.CSV);
+        running.start();
+        final PrefetchJob queued = sut.create(ManifestFormat.CSV);
+        final PrefetchJob oldestFinished = sut.create(ManifestFormat.CSV);
+        oldestFinished.finish();
+        final PrefetchJob failed = sut.create(ManifestFormat.CSV);
+        failed.fail("error");
+
+        // when
+        IntStream.range(0, PrefetchJobRegistry.MAX_JOBS - 3).forEach(i -> sut.create(ManifestFormat.CSV));
+
+        // then
+        assertEquals(PrefetchJobRegistry.MAX_JOBS, sut.size());
+        assertThrows(PrefetchJobNotFound.class, () -> sut.get(oldestFinished.getId()));
+        assertSame(running, sut.get(running.getId()));
+        assertSame(queued, sut.get(queued.getId()));
+        assertSame(failed, sut.get(failed.getId()));
+    }
+
+    @Test
+    void create_AboveLimitWithoutFinishedJobs_KeepsAllJobs() {
+        // given
+        final PrefetchJob running = sut.create(ManifestFormat.CSV);
+        running.start();
+
+        // when
+        IntStream.range(0, PrefetchJobRegistry.MAX_JOBS).forEach(i -> sut.create(ManifestFormat.CSV));
+
+        // then
+        assertEquals(PrefetchJobRegistry.MAX_JOBS + 1, sut.size());
+        assertSame(running, sut.get(running.getId()));
+    }
+}
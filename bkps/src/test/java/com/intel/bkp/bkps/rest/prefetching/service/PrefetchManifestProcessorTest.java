@@ -0,0 +1,208 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.prefetching.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intel.bkp.bkps.rest.onboarding.event.PrefetchEventQueueService;
+import com.intel.bkp.bkps.rest.prefetching.model.IndirectPrefetchRequestDTO;
+import com.intel.bkp.bkps.rest.prefetching.model.ManifestFormat;
+import com.intel.bkp.bkps.rest.prefetching.model.PrefetchJobDTO;
+import com.intel.bkp.bkps.rest.prefetching.model.PrefetchJobState;
+import com.intel.bkp.bkps.rest.prefetching.model.PrefetchStatusDTO;
+import com.intel.bkp.bkps.rest.prefetching.service.PrefetchManifestReader.Entry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static com.intel.bkp.bkps.domain.enumeration.PrefetchStatus.ERROR;
+import static com.intel.bkp.bkps.domain.enumeration.PrefetchStatus.PROGRESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static com.intel.bkp.bkps.rest.prefetching.service.PrefetchManifestProcessor.MAX_IN_FLIGHT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PrefetchManifestProcessorTest {
+
+    private static final String TX_ID = "tx";
+
+    @Mock
+    private IndirectPrefetchService indirectPrefetchService;
+
+    @Mock
+    private PrefetchEventQueueService prefetchEventQueueService;
+
+    @Mock
+    private Validator validator;
+
+    private PrefetchManifestProcessor sut;
+
+    private final PrefetchJob job = new PrefetchJob("id", ManifestFormat.CSV);
+
+    @BeforeEach
+    void setUp() {
+        sut = new PrefetchManifestProcessor(indirectPrefetchService, prefetchEventQueueService, validator,
+            new ObjectMapper());
+    }
+
+    @Test
+    void processChunk_RejectsInvalidEntriesAndEnqueuesValidOnes() throws Exception {
+        // given
+        final IndirectPrefetchRequestDTO valid = dto("0102030405060708");
+        final IndirectPrefetchRequestDTO violating = dto("01");
+        final IndirectPrefetchRequestDTO failing = dto("1112131415161718");
+        mockViolation(violating);
+        when(indirectPrefetchService.prefetchDevices(List.of(valid, failing))).thenReturn(List.of(
+            new PrefetchStatusDTO(valid.getUid(), PROGRESS), new PrefetchStatusDTO(failing.getUid(), ERROR)));
+
+        final List<Entry> chunk = List.of(Entry.valid(1, valid), Entry.invalid(2, "invalid JSON entry"),
+            Entry.valid(3, violating), Entry.valid(4, failing));
+
+        // when
+        sut.processChunk(job, chunk);
+
+        // then
+        final PrefetchJobDTO result = job.toDto();
+        assertEquals(4, result.processed());
+        assertEquals(1, result.enqueued());
+        assertEquals(2, result.rejected());
+        assertEquals(1, result.failed());
+        assertEquals(List.of("line 2: invalid JSON entry", "line 3: uid size must be 16",
+            "line 4: failed to enqueue prefetch for 1112131415161718"), result.errors());
+    }
+
+    @Test
+    void processChunk_WithTooManyEventsInFlight_WaitsBeforeEnqueueing() throws Exception {
+        // given
+        final IndirectPrefetchRequestDTO valid = dto("0102030405060708");
+        when(prefetchEventQueueService.size()).thenReturn(MAX_IN_FLIGHT, MAX_IN_FLIGHT - 1);
+        when(indirectPrefetchService.prefetchDevices(List.of(valid)))
+            .thenReturn(List.of(new PrefetchStatusDTO(valid.getUid(), PROGRESS)));
+
+        // when
+        sut.processChunk(job, List.of(Entry.valid(1, valid)));
+
+        // then
+        final InOrder inOrder = inOrder(prefetchEventQueueService, indirectPrefetchService);
+        inOrder.verify(prefetchEventQueueService, times(2)).size();
+        inOrder.verify(indirectPrefetchService).prefetchDevices(List.of(valid));
+        assertEquals(1, job.toDto().enqueued());
+    }
+
+    @Test
+    void process_WhenInterruptedWhileWaiting_FailsJob(@TempDir Path tempDir) throws Exception {
+        // given
+        final Path manifest = tempDir.resolve("manifest.csv");
+        Files.writeString(manifest, "34,0102030405060708\n");
+        when(prefetchEventQueueService.size()).thenAnswer(invocation -> {
+            Thread.currentThread().interrupt();
+            return MAX_IN_FLIGHT;
+        });
+
+        try {
+            // when
+            sut.process(TX_ID, job, manifest, ManifestFormat.CSV);
+
+            // then
+            final PrefetchJobDTO result = job.toDto();
+            assertEquals(PrefetchJobState.FAILED, result.state());
+            assertEquals(List.of("processing interrupted"), result.errors());
+            assertTrue(Thread.currentThread().isInterrupted());
+            verifyNoInteractions(indirectPrefetchService);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void process_ReadsWholeManifestAndDeletesIt(@TempDir Path tempDir) throws Exception {
+        // given
+        final Path manifest = tempDir.resolve("manifest.csv");
+        Files.writeString(manifest, "34,0102030405060708\n34,1112131415161718\n");
+        when(indirectPrefetchService.prefetchDevices(any())).thenReturn(List.of(
+            new PrefetchStatusDTO("a", PROGRESS), new PrefetchStatusDTO("b", PROGRESS)));
+
+        // when
+        sut.process(TX_ID, job, manifest, ManifestFormat.CSV);
+
+        // then
+        final PrefetchJobDTO result = job.toDto();
+        assertEquals(PrefetchJobState.DONE, result.state());
+        assertEquals(2, result.enqueued());
+        assertFalse(Files.exists(manifest));
+        verify(indirectPrefetchService).prefetchDevices(any());
+    }
+
+    @Test
+    void process_WithMissingManifest_FailsJob(@TempDir Path tempDir) {
+        // when
+        sut.process(TX_ID, job, tempDir.resolve("missing.csv"), ManifestFormat.CSV);
+
+        // then
+        assertEquals(PrefetchJobState.FAILED, job.toDto().state());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockViolation(IndirectPrefetchRequestDTO dto) {
+        final ConstraintViolation<IndirectPrefetchRequestDTO> violation = mock(ConstraintViolation.class);
+        final jakarta.validation.Path path = mock(jakarta.validation.Path.class);
+        when(path.toString()).thenReturn("uid");
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(violation.getMessage()).thenReturn("size must be 16");
+        when(validator.validate(dto)).thenReturn(Set.of(violation));
+    }
+
+    private static IndirectPrefetchRequestDTO dto(String uid) {
+        final IndirectPrefetchRequestDTO dto = new IndirectPrefetchRequestDTO();
+        dto.setUid(uid);
+        return dto;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.prefetching.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intel.bkp.bkps.rest.prefetching.model.ManifestFormat;
+import com.intel.bkp.bkps.rest.prefetching.service.PrefetchManifestReader.Entry;
+import com.intel.bkp.crypto.pem.PemFormatEncoder;
+import com.intel.bkp.fpgacerts.model.Family;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefetchManifestReaderTest {
+
+    private static final String UID = "0102030405060708";
+    private static final byte[] CERT_DER = {1, 2, 3, 4};
+
+    @Test
+    void readChunk_WithNdjson_ParsesEntriesAndReportsInvalidLines() throws IOException {
+        // given
+        final String manifest = """
+            {"familyId":"34","uid":"%s"}
+
+            not a json
+            """.formatted(UID);
+
+        // when
+        final List<Entry> result = read(manifest, ManifestFormat.NDJSON, 10);
+
+        // then
+        assertEquals(2, result.size());
+        assertTrue(result.get(0).isValid());
+        assertEquals(UID, result.get(0).dto().getUid());
+        assertFalse(result.get(1).isValid());
+        assertEquals(3, result.get(1).lineNumber());
+    }
+
+    @Test
+    void readChunk_WithCsv_SkipsHeaderAndParsesColumns() throws Exception {
+        // given
+        final String manifest = """
+            familyId,uid,pdi,deviceIdEr
+            ,%s
+            34,%s,,%s
+            """.formatted(UID, UID, Base64.getEncoder().encodeToString(CERT_DER));
+
+        // when
+        final List<Entry> result = read(manifest, ManifestFormat.CSV, 10);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(Family.S10.getAsHex(), result.get(0).dto().getFamilyId());
+        assertNull(result.get(0).dto().getDeviceIdEr());
+        assertNull(result.get(1).dto().getPdi());
+        assertArrayEquals(CERT_DER, PemFormatEncoder.decode(result.get(1).dto().getDeviceIdEr()));
+    }
+
+    @Test
+    void readChunk_WithInvalidCsvLines_ReportsErrors() throws IOException {
+        // given
+        final String manifest = """
+            34
+            34,%s,,not-base64!
+            """.formatted(UID);
+
+        // when
+        final List<Entry> result = read(manifest, ManifestFormat.CSV, 10);
+
+        // then
+        assertEquals(2, result.size());
+        assertTrue(result.stream().noneMatch(Entry::isValid));
+    }
+
+    @Test
+    void readChunk_ReturnsAtMostChunkSizeEntries() throws IOException {
+        // given
+        final String manifest = "34,%s%n34,%s%n34,%s%n".formatted(UID, UID, UID);
+
+        try (var reader = new PrefetchManifestReader(new StringReader(manifest), ManifestFormat.CSV,
+            new ObjectMapper())) {
+            // when-then
+            assertEquals(2, reader.readChunk(2).size());
+            assertEquals(1, reader.readChunk(2).size());
+            assertTrue(reader.readChunk(2).isEmpty());
+        }
+    }
+
+    private static List<Entry> read(String manifest, ManifestFormat format, int chunkSize) throws IOException {
+        try (var reader = new PrefetchManifestReader(new StringReader(manifest), format, new ObjectMapper())) {
+            return reader.readChunk(chunkSize);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.prefetching.service;
+
+import com.intel.bkp.bkps.exception.PrefetchJobNotFound;
+import com.intel.bkp.bkps.exception.PrefetchingGenericException;
+import com.intel.bkp.bkps.rest.prefetching.model.ManifestFormat;
+import com.intel.bkp.bkps.rest.prefetching.model.PrefetchJobDTO;
+import com.intel.bkp.bkps.rest.prefetching.model.PrefetchJobState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PrefetchManifestServiceTest {
+
+    private static final String MANIFEST = "34,0102030405060708\n";
+
+    @Mock
+    private PrefetchManifestProcessor manifestProcessor;
+
+    private final PrefetchJobRegistry jobRegistry = new PrefetchJobRegistry();
+
+    private PrefetchManifestService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new PrefetchManifestService(jobRegistry, manifestProcessor);
+    }
+
+    @Test
+    void submit_SpoolsManifestAndSchedulesJob() throws Exception {
+        // given
+        final ArgumentCaptor<Path> spooled = ArgumentCaptor.forClass(Path.class);
+
+        // when
+        final PrefetchJobDTO result = sut.submit(manifestStream(), ManifestFormat.CSV);
+
+        // then
+        verify(manifestProcessor).process(anyString(), any(), spooled.capture(), eq(ManifestFormat.CSV));
+        assertEquals(MANIFEST, Files.readString(spooled.getValue()));
+        assertEquals(PrefetchJobState.QUEUED, result.state());
+        assertEquals(result, sut.getJob(result.jobId()));
+        Files.delete(spooled.getValue());
+    }
+
+    @Test
+    void submit_WhenSchedulingRejected_FailsJobAndThrows() {
+        // given
+        doThrow(new TaskRejectedException("full")).when(manifestProcessor)
+            .process(anyString(), any(), any(), any());
+
+        // when-then
+        assertThrows(PrefetchingGenericException.class, () -> sut.submit(manifestStream(), ManifestFormat.CSV));
+        assertEquals(1, jobRegistry.size());
+    }
+
+    @Test
+    void getJob_WithUnknownId_Throws() {
+        // when-then
+        assertThrows(PrefetchJobNotFound.class, () -> sut.getJob("unknown"));
+    }
+
+    private static ByteArrayInputStream manifestStream() {
+        return new ByteArrayInputStream(MANIFEST.getBytes(UTF_8));
+    }
+}
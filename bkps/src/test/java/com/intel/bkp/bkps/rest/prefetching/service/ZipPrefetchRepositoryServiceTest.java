@@ -44,13 +44,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.intel.bkp.bkps.domain.enumeration.PrefetchEntityType.CERT;
 import static com.intel.bkp.bkps.domain.enumeration.PrefetchEntityType.ZIP;
 import static com.intel.bkp.utils.HexConverter.toHex;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -120,4 +127,47 @@ class ZipPrefetchRepositoryServiceTest {
         // then
         assertEquals(Optional.empty(), result);
     }
+
+    @Test
+    void findPrefetched_ReturnsOnlyDevicesWithMatchingPaths() {
+        // given
+        final DeviceId notPrefetched = DeviceId.instance(Family.AGILEX, "1112131415161718");
+        when(prefetchRepository.findPathsContainingAnyIgnoreCase(
+            argThat(parts -> parts.size() == 2 && parts.contains(ZIP_PATH_PATTERN)), eq(ZIP)))
+            .thenReturn(List.of("some/dir/" + ZIP_PATH_PATTERN.toUpperCase() + ".zip", "34X0807060504030201"));
+
+        // when
+        final Set<DeviceId> result = sut.findPrefetched(List.of(DEVICE_ID, notPrefetched));
+
+        // then
+        assertEquals(Set.of(DEVICE_ID), result);
+        verify(prefetchRepository, never()).findPathsContainingAnyIgnoreCase(any(), eq(CERT));
+    }
+
+    @Test
+    void findPrefetched_WithS10_ChecksZipOnlyForDevicesWithoutCertificate() {
+        // given
+        final DeviceId s10WithCert = DeviceId.instance(Family.S10, UID);
+        final DeviceId s10WithZip = DeviceId.instance(Family.S10, "1112131415161718");
+        when(prefetchRepository.findPathsContainingAnyIgnoreCase(argThat(parts -> parts.size() == 2), eq(CERT)))
+            .thenReturn(List.of("attestation_" + s10WithCert.getDpUid()));
+        when(prefetchRepository.findPathsContainingAnyIgnoreCase(argThat(parts -> parts.size() == 1), eq(ZIP)))
+            .thenReturn(List.of("%s_%s".formatted(Family.S10.getAsHex(), s10WithZip.getDpUid())));
+
+        // when
+        final Set<DeviceId> result = sut.findPrefetched(List.of(s10WithCert, s10WithZip));
+
+        // then
+        assertEquals(Set.of(s10WithCert, s10WithZip), result);
+    }
+
+    @Test
+    void findPrefetched_WithEmptyList_ReturnsEmpty() {
+        // when
+        final Set<DeviceId> result = sut.findPrefetched(List.of());
+
+        // then
+        assertEquals(Set.of(), result);
+        verify(prefetchRepository, never()).findPathsContainingAnyIgnoreCase(any(), any());
+    }
 }
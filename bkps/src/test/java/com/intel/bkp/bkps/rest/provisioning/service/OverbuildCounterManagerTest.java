@@ -34,6 +34,7 @@ package com.intel.bkp.bkps.rest.provisioning.service;
 
 import com.intel.bkp.bkps.domain.ServiceConfiguration;
 import com.intel.bkp.bkps.exception.ExceededOvebuildException;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot;
 import com.intel.bkp.test.RandomUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -44,6 +45,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,7 +59,7 @@ public class OverbuildCounterManagerTest {
     private IServiceConfiguration configurationCallback;
 
     @Mock
-    private ServiceConfiguration configuration;
+    private ServiceConfigurationSnapshot configuration;
 
     @Mock
     private ProvisioningHistoryService provisioningHistoryService;
@@ -85,64 +88,69 @@ public class OverbuildCounterManagerTest {
     @Test
     void verifyOverbuildCounter_WithOverbuildMax1AndCurrentOverbuild0_Success() {
         //given
-        when(configuration.getOverbuildMax()).thenReturn(1);
-        when(configuration.getOverbuildCurrent()).thenReturn(0);
+        when(configuration.overbuildMax()).thenReturn(1);
+        when(configuration.id()).thenReturn(CFG_ID);
+        when(configurationCallback.getOverbuildCurrent(CFG_ID)).thenReturn(0);
 
         // when-then
-        assertDoesNotThrow(() -> sut.verifyOverbuildCounter(configuration, DEVICE_ID));
+        assertDoesNotThrow(() -> sut.verifyOverbuildCounter(configurationCallback, configuration, DEVICE_ID));
     }
 
     @Test
     void verifyOverbuildCounter_WithOverbuildMax1AndCurrentOverbuild1_WithReProvisionedDevice_Success() {
         // given
-        when(configuration.getOverbuildMax()).thenReturn(1);
-        when(configuration.getOverbuildCurrent()).thenReturn(1);
+        when(configuration.overbuildMax()).thenReturn(1);
+        when(configuration.id()).thenReturn(CFG_ID);
+        when(configurationCallback.getOverbuildCurrent(CFG_ID)).thenReturn(1);
         when(provisioningHistoryService.isProvisioned(any(), any())).thenReturn(true);
 
         // when-then
-        assertDoesNotThrow(() -> sut.verifyOverbuildCounter(configuration, DEVICE_ID));
+        assertDoesNotThrow(() -> sut.verifyOverbuildCounter(configurationCallback, configuration, DEVICE_ID));
     }
 
     @Test
     void verifyOverbuildCounter_WithOverbuildMaxINTMAXAndCurrentOverbuild1_Success() {
         // given
-        when(configuration.getOverbuildMax()).thenReturn(Integer.MAX_VALUE);
-        when(configuration.getOverbuildCurrent()).thenReturn(1);
+        when(configuration.overbuildMax()).thenReturn(Integer.MAX_VALUE);
+        when(configuration.id()).thenReturn(CFG_ID);
+        when(configurationCallback.getOverbuildCurrent(CFG_ID)).thenReturn(1);
 
         // when-then
-        assertDoesNotThrow(() -> sut.verifyOverbuildCounter(configuration, DEVICE_ID));
+        assertDoesNotThrow(() -> sut.verifyOverbuildCounter(configurationCallback, configuration, DEVICE_ID));
     }
 
     @Test
     void verifyOverbuildCounter_WithOverbuildMaxInfinite_Success() {
         // given
-        when(configuration.getOverbuildMax()).thenReturn(ServiceConfiguration.OVERBUILD_MAX_INFINITE);
-        when(configuration.getOverbuildCurrent()).thenReturn(100);
+        when(configuration.overbuildMax()).thenReturn(ServiceConfiguration.OVERBUILD_MAX_INFINITE);
 
         // when-then
-        assertDoesNotThrow(() -> sut.verifyOverbuildCounter(configuration, DEVICE_ID));
+        assertDoesNotThrow(() -> sut.verifyOverbuildCounter(configurationCallback, configuration, DEVICE_ID));
+        verify(configurationCallback, never()).getOverbuildCurrent(any());
     }
 
     @Test
     void verifyOverbuildCounter_WithOverbuildMax1AndCurrentOverbuild1_WithNotProvisionedDevice_Throws() {
         // given
-        when(configuration.getOverbuildMax()).thenReturn(1);
-        when(configuration.getOverbuildCurrent()).thenReturn(1);
+        when(configuration.overbuildMax()).thenReturn(1);
+        when(configuration.id()).thenReturn(CFG_ID);
+        when(configurationCallback.getOverbuildCurrent(CFG_ID)).thenReturn(1);
         when(provisioningHistoryService.isProvisioned(any(), any())).thenReturn(false);
 
         // when-then
         assertThrows(ExceededOvebuildException.class, () ->
-            sut.verifyOverbuildCounter(configuration, DEVICE_ID));
+            sut.verifyOverbuildCounter(configurationCallback, configuration, DEVICE_ID));
     }
 
     @Test
     void verifyOverbuildCounter_ExceededOverbuildCounter_Throws() {
         // given
-        when(configuration.getOverbuildMax()).thenReturn(0);
-        when(configuration.getOverbuildCurrent()).thenReturn(1);
+        when(configuration.overbuildMax()).thenReturn(0);
+        when(configuration.id()).thenReturn(CFG_ID);
+        when(configurationCallback.getOverbuildCurrent(CFG_ID)).thenReturn(1);
 
         // when-then
         assertThrows(ExceededOvebuildException.class, () ->
-            sut.verifyOverbuildCounter(configuration, DEVICE_ID));
+            sut.verifyOverbuildCounter(configurationCallback, configuration, DEVICE_ID));
     }
 }
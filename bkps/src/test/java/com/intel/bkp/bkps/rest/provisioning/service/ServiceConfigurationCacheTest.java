@@ -0,0 +1,142 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.provisioning.service;
+
+import com.intel.bkp.bkps.domain.ServiceConfiguration;
+import com.intel.bkp.bkps.exception.ServiceConfigurationNotFound;
+import com.intel.bkp.bkps.repository.ServiceConfigurationRepository;
+import com.intel.bkp.bkps.rest.provisioning.model.ServiceConfigurationSnapshot;
+import com.intel.bkp.core.manufacturing.model.PufType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceConfigurationCacheTest {
+
+    private static final Long CFG_ID = 1L;
+
+    @Mock
+    private ServiceConfigurationRepository serviceConfigurationRepository;
+
+    @Mock
+    private ServiceConfiguration configuration;
+
+    @InjectMocks
+    private ServiceConfigurationCache sut;
+
+    @Test
+    void get_NotCached_LoadsSnapshot() {
+        // given
+        mockConfigurationInVersion(0L);
+
+        // when
+        final ServiceConfigurationSnapshot result = sut.get(CFG_ID);
+
+        // then
+        assertEquals(CFG_ID, result.id());
+        assertEquals(PufType.EFUSE, result.pufType());
+    }
+
+    @Test
+    void get_SameVersion_ReturnsCachedSnapshotWithoutLoadingEntity() {
+        // given
+        mockConfigurationInVersion(0L);
+        final ServiceConfigurationSnapshot first = sut.get(CFG_ID);
+
+        // when
+        final ServiceConfigurationSnapshot result = sut.get(CFG_ID);
+
+        // then
+        assertSame(first, result);
+        verify(serviceConfigurationRepository, times(1)).findById(CFG_ID);
+    }
+
+    @Test
+    void get_VersionChanged_ReloadsSnapshot() {
+        // given
+        mockConfigurationInVersion(0L);
+        final ServiceConfigurationSnapshot first = sut.get(CFG_ID);
+        mockConfigurationInVersion(1L);
+
+        // when
+        final ServiceConfigurationSnapshot result = sut.get(CFG_ID);
+
+        // then
+        assertNotSame(first, result);
+        assertEquals(1L, result.version());
+    }
+
+    @Test
+    void get_Evicted_ReloadsSnapshot() {
+        // given
+        mockConfigurationInVersion(0L);
+        sut.get(CFG_ID);
+        sut.evict(CFG_ID);
+
+        // when
+        sut.get(CFG_ID);
+
+        // then
+        verify(serviceConfigurationRepository, times(2)).findById(CFG_ID);
+    }
+
+    @Test
+    void get_ConfigurationDoesNotExist_Throws() {
+        // given
+        when(serviceConfigurationRepository.findVersionById(CFG_ID)).thenReturn(Optional.empty());
+
+        // when-then
+        assertThrows(ServiceConfigurationNotFound.class, () -> sut.get(CFG_ID));
+    }
+
+    private void mockConfigurationInVersion(long version) {
+        when(serviceConfigurationRepository.findVersionById(CFG_ID)).thenReturn(Optional.of(version));
+        when(serviceConfigurationRepository.findById(CFG_ID)).thenReturn(Optional.of(configuration));
+        when(configuration.getId()).thenReturn(CFG_ID);
+        when(configuration.getVersion()).thenReturn(version);
+        when(configuration.getPufType()).thenReturn(PufType.EFUSE);
+    }
+}
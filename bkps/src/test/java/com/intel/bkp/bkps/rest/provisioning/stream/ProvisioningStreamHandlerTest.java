@@ -0,0 +1,233 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.provisioning.stream;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intel.bkp.bkps.exception.ProvisioningGenericException;
+import com.intel.bkp.bkps.rest.errors.enums.ErrorCodeMap;
+import com.intel.bkp.bkps.rest.provisioning.model.dto.ContextDTO;
+import com.intel.bkp.bkps.rest.provisioning.model.dto.ProvisioningRequestDTO;
+import com.intel.bkp.bkps.rest.provisioning.model.dto.ProvisioningResponseDTO;
+import com.intel.bkp.bkps.rest.provisioning.service.ProvisioningService;
+import com.intel.bkp.core.exceptions.ApplicationError;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.ByteBuffer;
+import java.security.cert.CertificateExpiredException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProvisioningStreamHandlerTest {
+
+    private static final ContextDTO RESPONSE_CONTEXT = new ContextDTO("AQID");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    @Mock
+    private ProvisioningService provisioningService;
+
+    @Mock
+    private WebSocketSession session;
+
+    @Mock
+    private Authentication authentication;
+
+    @Mock
+    private X509Certificate certificate;
+
+    private ProvisioningStreamHandler sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ProvisioningStreamHandler(provisioningService, objectMapper,
+            Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Test
+    void afterConnectionEstablished_WithoutPrincipal_ClosesSession() throws Exception {
+        // when
+        sut.afterConnectionEstablished(session);
+
+        // then
+        verify(session).close(CloseStatus.POLICY_VIOLATION);
+    }
+
+    @Test
+    void handleBinaryMessage_Success_SendsResponseAndStoresContext() throws Exception {
+        // given
+        mockAuthenticatedSession();
+        when(provisioningService.getNext(any())).thenReturn(prepareResponse());
+
+        // when
+        sut.handleBinaryMessage(session, toMessage(prepareRequest(ContextDTO.empty())));
+
+        // then
+        final ProvisioningResponseDTO response = readSent(ProvisioningResponseDTO.class);
+        assertEquals(RESPONSE_CONTEXT.getValue(), response.getContext().getValue());
+        assertEquals(RESPONSE_CONTEXT, attributes.get(ProvisioningStreamHandler.CONTEXT_ATTRIBUTE));
+    }
+
+    @Test
+    void handleBinaryMessage_WithoutContext_UsesStoredContext() throws Exception {
+        // given
+        mockAuthenticatedSession();
+        attributes.put(ProvisioningStreamHandler.CONTEXT_ATTRIBUTE, RESPONSE_CONTEXT);
+        when(provisioningService.getNext(any())).thenReturn(prepareResponse());
+
+        // when
+        sut.handleBinaryMessage(session, toMessage(prepareRequest(null)));
+
+        // then
+        final ArgumentCaptor<ProvisioningRequestDTO> captor = ArgumentCaptor.forClass(ProvisioningRequestDTO.class);
+        verify(provisioningService).getNext(captor.capture());
+        assertEquals(RESPONSE_CONTEXT.getValue(), captor.getValue().getContext().getValue());
+    }
+
+    @Test
+    void handleBinaryMessage_WithoutContextAndNothingStored_SendsInvalidPayloadError() throws Exception {
+        // given
+        mockAuthenticatedSession();
+
+        // when
+        sut.handleBinaryMessage(session, toMessage(prepareRequest(null)));
+
+        // then
+        verify(provisioningService, never()).getNext(any());
+        assertEquals(ErrorCodeMap.INVALID_FIELDS_IN_PAYLOAD.getCode(),
+            readSent(ApplicationError.class).getStatus().getCode());
+    }
+
+    @Test
+    void handleBinaryMessage_NotJson_SendsInvalidPayloadError() throws Exception {
+        // given
+        mockAuthenticatedSession();
+
+        // when
+        sut.handleBinaryMessage(session, new BinaryMessage(new byte[]{1, 2, 3}));
+
+        // then
+        assertEquals(ErrorCodeMap.INVALID_FIELDS_IN_PAYLOAD.getCode(),
+            readSent(ApplicationError.class).getStatus().getCode());
+    }
+
+    @Test
+    void handleBinaryMessage_ServiceThrows_SendsErrorAndDropsContext() throws Exception {
+        // given
+        mockAuthenticatedSession();
+        attributes.put(ProvisioningStreamHandler.CONTEXT_ATTRIBUTE, RESPONSE_CONTEXT);
+        when(provisioningService.getNext(any())).thenThrow(new ProvisioningGenericException("test"));
+
+        // when
+        sut.handleBinaryMessage(session, toMessage(prepareRequest(ContextDTO.empty())));
+
+        // then
+        assertEquals(ErrorCodeMap.PROVISIONING_GENERIC_EXCEPTION.getCode(),
+            readSent(ApplicationError.class).getStatus().getCode());
+        assertFalse(attributes.containsKey(ProvisioningStreamHandler.CONTEXT_ATTRIBUTE));
+    }
+
+    @Test
+    void handleBinaryMessage_ExpiredCertificate_SendsErrorAndClosesSession() throws Exception {
+        // given
+        mockAuthenticatedSession();
+        doThrow(new CertificateExpiredException()).when(certificate).checkValidity();
+
+        // when
+        sut.handleBinaryMessage(session, toMessage(prepareRequest(ContextDTO.empty())));
+
+        // then
+        verify(provisioningService, never()).getNext(any());
+        assertEquals(ErrorCodeMap.USER_CERTIFICATE_EXPIRED.getCode(),
+            readSent(ApplicationError.class).getStatus().getCode());
+        verify(session).close(CloseStatus.POLICY_VIOLATION);
+    }
+
+    private void mockAuthenticatedSession() {
+        when(session.getPrincipal()).thenReturn(authentication);
+        when(authentication.getCredentials()).thenReturn(certificate);
+        when(session.getAttributes()).thenReturn(attributes);
+    }
+
+    private Map<String, Object> prepareRequest(ContextDTO context) {
+        final Map<String, Object> request = new HashMap<>();
+        if (context != null) {
+            request.put("context", Map.of("value", context.getValue()));
+        }
+        request.put("cfgId", 1L);
+        request.put("apiVersion", 1);
+        request.put("supportedCommands", 1);
+        request.put("jtagResponses", new ArrayList<>());
+        return request;
+    }
+
+    private ProvisioningResponseDTO prepareResponse() {
+        return new ProvisioningResponseDTO(RESPONSE_CONTEXT, "continue", 1, new ArrayList<>());
+    }
+
+    private BinaryMessage toMessage(Map<String, Object> request) throws Exception {
+        return new BinaryMessage(objectMapper.writeValueAsBytes(request));
+    }
+
+    private <T> T readSent(Class<T> clazz) throws Exception {
+        final ArgumentCaptor<BinaryMessage> captor = ArgumentCaptor.forClass(BinaryMessage.class);
+        verify(session).sendMessage(captor.capture());
+        final ByteBuffer payload = captor.getValue().getPayload();
+        final byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        return objectMapper.readValue(bytes, clazz);
+    }
+}
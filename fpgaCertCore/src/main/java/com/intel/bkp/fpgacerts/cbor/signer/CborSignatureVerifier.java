@@ -64,13 +64,12 @@ public class CborSignatureVerifier {
     }
 
     private boolean verifySignature(CborKeyPair keyPair, CBORObject rawSignedCbor) {
-        return CoseMessage1Signer.instance().verify(keyPair, untagTwiceAndEncode(rawSignedCbor));
+        return CoseMessage1Signer.instance().verify(keyPair, untagTwice(rawSignedCbor));
     }
 
-    private byte[] untagTwiceAndEncode(CBORObject cborObject) {
+    private CBORObject untagTwice(CBORObject cborObject) {
         return cborObject
             .UntagOne() // 500 FOR SIGNED RIM
-            .UntagOne() // 502 FOR SIGNED RIM
-            .EncodeToBytes();
+            .UntagOne(); // 502 FOR SIGNED RIM
     }
 }
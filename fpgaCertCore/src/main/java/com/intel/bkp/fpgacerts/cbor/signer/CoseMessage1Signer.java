@@ -40,6 +40,7 @@ import com.intel.bkp.fpgacerts.cbor.signer.cose.Sign1Message;
 import com.intel.bkp.fpgacerts.cbor.signer.cose.exception.CoseException;
 import com.intel.bkp.fpgacerts.cbor.signer.cose.model.MessageTag;
 import com.intel.bkp.fpgacerts.cbor.xrim.XrimProtectedHeader;
+import com.upokecenter.cbor.CBORObject;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -87,9 +88,15 @@ public class CoseMessage1Signer extends CoseSignerBase {
 
     @Override
     public boolean verify(CborKeyPair cborKeyPair, byte[] data) {
-        log.trace("Verifying data: " + toHex(data));
+        log.atTrace()
+            .addArgument(() -> toHex(data))
+            .log("Verifying data: {}");
+        return verify(cborKeyPair, CBORObject.DecodeFromBytes(data));
+    }
+
+    public boolean verify(CborKeyPair cborKeyPair, CBORObject message) {
         try {
-            final var msg = (Sign1Message) Message.decodeFromBytes(data, MessageTag.SIGN_1);
+            final var msg = (Sign1Message) Message.decodeFromCbor(message, MessageTag.SIGN_1);
             return msg.validate(cborKeyPair);
         } catch (CoseException e) {
             log.error("Failed to verify signature1 " + e.getMessage(), e);
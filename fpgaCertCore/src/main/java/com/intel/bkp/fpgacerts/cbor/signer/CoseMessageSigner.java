@@ -78,7 +78,9 @@ public class CoseMessageSigner extends CoseSignerBase {
 
     @Override
     public boolean verify(CborKeyPair cborKeyPair, byte[] data) {
-        log.debug("Verifying data: " + toHex(data));
+        log.atDebug()
+            .addArgument(() -> toHex(data))
+            .log("Verifying data: {}");
         try {
             SignMessage msg = (SignMessage) Message.decodeFromBytes(data, MessageTag.SIGN);
             Signer signer = msg.getSignerList().get(0);
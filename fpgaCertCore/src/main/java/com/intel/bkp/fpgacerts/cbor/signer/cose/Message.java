@@ -55,7 +55,14 @@ public abstract class Message extends Attribute {
     protected abstract CBORObject encode() throws CoseException;
 
     public static Message decodeFromBytes(byte[] data, MessageTag defaultTag) throws CoseException {
-        CBORObject messageObject = Optional.ofNullable(CBORObject.DecodeFromBytes(data))
+        return decodeFromCbor(CBORObject.DecodeFromBytes(data), defaultTag);
+    }
+
+    /**
+     * Decodes message from already parsed CBOR, avoiding encode/decode round trip of the whole message.
+     */
+    public static Message decodeFromCbor(CBORObject cbor, MessageTag defaultTag) throws CoseException {
+        final CBORObject messageObject = Optional.ofNullable(cbor)
             .orElseThrow(() -> new CoseException("Cannot decode empty data"));
 
         if (CBORType.Array != messageObject.getType()) {
@@ -0,0 +1,85 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.fpgacerts.cbor.signer.cose;
+
+import com.upokecenter.cbor.CBORObject;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Encodes the COSE Sig_structure (RFC 9052, section 4.4) of a COSE_Sign1 message without copying the payload.
+ *
+ * <p>The payload is the last element of the structure, so everything up to and including the payload byte string
+ * header is encoded here. Feeding this prefix followed by the original payload bytes to the signature engine gives
+ * the same input as encoding the whole array.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SigStructure {
+
+    private static final int ARRAY_OF_FOUR = 0x84;
+    private static final int BYTE_STRING_MAJOR_TYPE = 0x40;
+    private static final int ONE_BYTE_LENGTH = 24;
+    private static final int TWO_BYTES_LENGTH = 25;
+    private static final int FOUR_BYTES_LENGTH = 26;
+
+    static byte[] encodePrefix(String context, CBORObject bodyProtected, byte[] externalData, int payloadLength) {
+        final var out = new ByteArrayOutputStream();
+        out.write(ARRAY_OF_FOUR);
+        out.writeBytes(CBORObject.FromObject(context).EncodeToBytes());
+        out.writeBytes(bodyProtected.EncodeToBytes());
+        out.writeBytes(CBORObject.FromObject(externalData).EncodeToBytes());
+        writeByteStringHeader(out, payloadLength);
+        return out.toByteArray();
+    }
+
+    private static void writeByteStringHeader(ByteArrayOutputStream out, int length) {
+        if (length < ONE_BYTE_LENGTH) {
+            out.write(BYTE_STRING_MAJOR_TYPE | length);
+        } else if (length <= 0xFF) {
+            out.write(BYTE_STRING_MAJOR_TYPE | ONE_BYTE_LENGTH);
+            out.write(length);
+        } else if (length <= 0xFFFF) {
+            out.write(BYTE_STRING_MAJOR_TYPE | TWO_BYTES_LENGTH);
+            out.write(length >>> 8);
+            out.write(length);
+        } else {
+            out.write(BYTE_STRING_MAJOR_TYPE | FOUR_BYTES_LENGTH);
+            out.write(length >>> 24);
+            out.write(length >>> 16);
+            out.write(length >>> 8);
+            out.write(length);
+        }
+    }
+}
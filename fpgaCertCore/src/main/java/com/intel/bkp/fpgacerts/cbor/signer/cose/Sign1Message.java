@@ -44,6 +44,8 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
+
 import static com.intel.bkp.utils.HexConverter.toHex;
 
 @Getter
@@ -90,17 +92,28 @@ public class Sign1Message extends Message {
     }
 
     public boolean validate(CborKeyPair cborKeyPair) throws CoseException {
-        final var payload = CBORObject.NewArray()
-            .Add(getContextField())
-            .Add(getProtectedMap().size() > 0 ? getProtectedField() : CBORObject.FromObject(new byte[0]))
-            .Add(getExternalDataField())
-            .Add(getContentField())
-            .EncodeToBytes();
+        final var bodyProtected = CBORObject.FromObject(
+            getProtectedMap().size() > 0 ? getProtectedField() : new byte[0]);
+        final var alg = AlgorithmId.fromCbor(findAttribute(HeaderKeys.ALGORITHM));
 
-        log.trace("Cbor signature payload: {}", toHex(payload));
+        if (getContentField() == null) {
+            final var payload = CBORObject.NewArray()
+                .Add(getContextField())
+                .Add(bodyProtected)
+                .Add(getExternalDataField())
+                .Add(getContentField())
+                .EncodeToBytes();
+            return SignatureVerifier.verify(alg, payload, getSignature(), cborKeyPair);
+        }
 
-        final var alg = AlgorithmId.fromCbor(findAttribute(HeaderKeys.ALGORITHM));
-        return SignatureVerifier.verify(alg, payload, getSignature(), cborKeyPair);
+        final var prefix = SigStructure.encodePrefix(getContextField(), bodyProtected, getExternalDataField(),
+            getContentField().length);
+
+        log.atTrace()
+            .addArgument(() -> toHex(prefix) + toHex(getContentField()))
+            .log("Cbor signature payload: {}");
+
+        return SignatureVerifier.verify(alg, List.of(prefix, getContentField()), getSignature(), cborKeyPair);
     }
 
     @Override
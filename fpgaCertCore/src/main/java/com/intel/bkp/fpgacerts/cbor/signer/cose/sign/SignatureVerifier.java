@@ -37,12 +37,15 @@ import com.intel.bkp.fpgacerts.cbor.signer.cose.CborKeyPair;
 import com.intel.bkp.fpgacerts.cbor.signer.cose.RimAsn1;
 import com.intel.bkp.fpgacerts.cbor.signer.cose.exception.CoseException;
 import com.intel.bkp.fpgacerts.cbor.signer.cose.model.AlgorithmId;
+import com.intel.bkp.utils.HexConverter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.PublicKey;
 import java.security.Signature;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static com.intel.bkp.crypto.constants.CryptoConstants.SHA256_WITH_ECDSA;
 import static com.intel.bkp.crypto.constants.CryptoConstants.SHA384_WITH_ECDSA;
@@ -54,6 +57,14 @@ public class SignatureVerifier {
 
     public static boolean verify(AlgorithmId algorithm, byte[] payload, byte[] signature, CborKeyPair cborKeyPair)
         throws CoseException {
+        return verify(algorithm, List.of(payload), signature, cborKeyPair);
+    }
+
+    /**
+     * Verifies signature over concatenation of payload parts, so callers do not have to join them into one array.
+     */
+    public static boolean verify(AlgorithmId algorithm, List<byte[]> payloadParts, byte[] signature,
+                                 CborKeyPair cborKeyPair) throws CoseException {
 
         final String algName = switch (algorithm) {
             case ECDSA_256 -> SHA256_WITH_ECDSA;
@@ -64,24 +75,34 @@ public class SignatureVerifier {
         final var publicKey = Optional.ofNullable(cborKeyPair.getPublicKey())
             .orElseThrow(() -> new CoseException("Public key required to verify"));
 
-        return verify(payload, signature, algName, publicKey);
+        return verify(payloadParts, signature, algName, publicKey);
     }
 
-    private static boolean verify(byte[] payload, byte[] signature, String algName,
+    private static boolean verify(List<byte[]> payloadParts, byte[] signature, String algName,
                                   PublicKey pubKey) throws CoseException {
         try {
             final var sig = Signature.getInstance(algName, CryptoUtils.getBouncyCastleProvider());
             sig.initVerify(pubKey);
-            sig.update(payload);
-            log.trace("PubKey: {}", toHex(pubKey.getEncoded()));
-            log.trace("Payload: {}", toHex(payload));
-            log.trace("Signature before convert: {}", toHex(signature));
+            for (byte[] part : payloadParts) {
+                sig.update(part);
+            }
+            log.atTrace()
+                .addArgument(() -> toHex(pubKey.getEncoded()))
+                .log("PubKey: {}");
+            log.atTrace()
+                .addArgument(() -> payloadParts.stream().map(HexConverter::toHex).collect(Collectors.joining()))
+                .log("Payload: {}");
+            log.atTrace()
+                .addArgument(() -> toHex(signature))
+                .log("Signature before convert: {}");
 
-            signature = convertConcatToDer(signature);
+            final byte[] derSignature = convertConcatToDer(signature);
 
-            log.trace("Signature: {}", toHex(signature));
+            log.atTrace()
+                .addArgument(() -> toHex(derSignature))
+                .log("Signature: {}");
 
-            return sig.verify(signature);
+            return sig.verify(derSignature);
         } catch (Exception ex) {
             throw new CoseException("Signature verification failure", ex);
         }
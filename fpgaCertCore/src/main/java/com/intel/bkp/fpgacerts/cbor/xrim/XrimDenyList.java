@@ -0,0 +1,120 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.fpgacerts.cbor.xrim;
+
+import com.intel.bkp.fpgacerts.cbor.CborBroker;
+import com.intel.bkp.fpgacerts.cbor.exception.XrimVerificationException;
+import com.intel.bkp.fpgacerts.cbor.xrim.parser.XrimSignedParser;
+import com.intel.bkp.fpgacerts.cbor.xrim.parser.XrimUnsignedParser;
+import com.upokecenter.cbor.CBORObject;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.security.PublicKey;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.intel.bkp.crypto.impl.HashUtils.generateSha256Fingerprint;
+import static com.intel.bkp.fpgacerts.cbor.CborConverter.XRIM_SIGNED;
+import static com.intel.bkp.fpgacerts.cbor.CborConverter.XRIM_UNSIGNED;
+
+/**
+ * Parsed XCoRIM reduced to what revocation checks need: a hashed set of denied manifest IDs.
+ *
+ * <p>One instance represents one version of the XCoRIM, identified by the SHA-256 of its content. Public keys
+ * that already verified the signature of this version are remembered, so the signature is checked once per key
+ * and version rather than once per CoRIM.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class XrimDenyList {
+
+    @Getter
+    private final String version;
+    @Getter(AccessLevel.PACKAGE)
+    private final CBORObject cbor;
+    @Getter
+    private final boolean signed;
+    private final Set<String> deniedManifestIds;
+    private final Set<String> verifiedKeys = ConcurrentHashMap.newKeySet();
+    @Getter(AccessLevel.PACKAGE)
+    private volatile Instant fetchedAt;
+
+    static XrimDenyList from(String version, CBORObject cbor, Instant fetchedAt) {
+        return switch (CborBroker.detectCborType(cbor)) {
+            case XRIM_SIGNED -> {
+                final var xrim = ((XrimSignedParser) XRIM_SIGNED.getParser()).parse(cbor);
+                yield create(version, cbor, true, xrim.getPayload(), fetchedAt);
+            }
+            case XRIM_UNSIGNED -> {
+                final var xrim = ((XrimUnsignedParser) XRIM_UNSIGNED.getParser()).parse(cbor);
+                yield create(version, cbor, false, xrim, fetchedAt);
+            }
+            default -> throw new XrimVerificationException("not a XCoRIM object.");
+        };
+    }
+
+    static XrimDenyList create(String version, CBORObject cbor, boolean signed, XrimUnsigned payload,
+                               Instant fetchedAt) {
+        final Set<String> deniedManifestIds = Optional.ofNullable(payload.getDenyList())
+            .map(ids -> ids.stream().filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet()))
+            .orElseGet(Set::of);
+        final var denyList = new XrimDenyList(version, cbor, signed, deniedManifestIds);
+        denyList.fetchedAt = fetchedAt;
+        return denyList;
+    }
+
+    public boolean isDenied(String manifestId) {
+        return manifestId != null && deniedManifestIds.contains(manifestId);
+    }
+
+    boolean isVerifiedWith(PublicKey publicKey) {
+        return publicKey != null && verifiedKeys.contains(keyId(publicKey));
+    }
+
+    void markVerifiedWith(PublicKey publicKey) {
+        verifiedKeys.add(keyId(publicKey));
+    }
+
+    void refreshed(Instant now) {
+        fetchedAt = now;
+    }
+
+    private static String keyId(PublicKey publicKey) {
+        return generateSha256Fingerprint(publicKey.getEncoded());
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.fpgacerts.cbor.xrim;
+
+import com.intel.bkp.fpgacerts.cbor.CborObjectParser;
+import com.intel.bkp.fpgacerts.dp.IDistributionPointConnector;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+import static com.intel.bkp.crypto.impl.HashUtils.generateSha256Fingerprint;
+
+/**
+ * XCoRIM deny lists shared by every CoRIM that points to the same XCoRIM URL through the same connector.
+ *
+ * <p>An entry younger than the maximum age is served without contacting the distribution point. An older entry
+ * is revalidated by downloading the XCoRIM again: if the content is unchanged, the parsed deny list and the keys
+ * that already verified its signature are kept, otherwise the new content is parsed. Failed downloads and parsing
+ * errors are never cached.</p>
+ *
+ * <p>Deny lists are shared per distribution point connector, so content downloaded through one connector (e.g. with
+ * its own proxy or offline cache) is never served to another one. Connectors are referenced weakly.</p>
+ */
+@Slf4j
+public class XrimDenyListCache {
+
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofMinutes(1);
+    static final int MAX_SIZE = 256;
+
+    private static final Map<IDistributionPointConnector, XrimDenyListCache> PER_CONNECTOR = new WeakHashMap<>();
+
+    private final Duration maxAge;
+    private final Clock clock;
+    private final Map<String, XrimDenyList> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, XrimDenyList> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    public XrimDenyListCache(Duration maxAge, Clock clock) {
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cache shared by all users of given connector.
+     */
+    public static XrimDenyListCache forConnector(IDistributionPointConnector connector) {
+        synchronized (PER_CONNECTOR) {
+            return PER_CONNECTOR.computeIfAbsent(connector,
+                key -> new XrimDenyListCache(DEFAULT_MAX_AGE, Clock.systemUTC()));
+        }
+    }
+
+    /**
+     * Returns deny list for given XCoRIM URL, downloading it only if there is no fresh entry.
+     *
+     * @param url XCoRIM URL used as the cache key
+     * @param downloader supplies XCoRIM content; expected to throw if the content is not available
+     * @return deny list of the current XCoRIM version
+     */
+    public XrimDenyList get(String url, Supplier<byte[]> downloader) {
+        final XrimDenyList cached = find(url);
+        final Instant now = clock.instant();
+        if (cached != null && isFresh(cached, now)) {
+            log.debug("Using cached XCoRIM deny list from: {}", url);
+            return cached;
+        }
+
+        final byte[] content = downloader.get();
+        final String version = generateSha256Fingerprint(content);
+        if (cached != null && cached.getVersion().equals(version)) {
+            log.debug("XCoRIM content unchanged, reusing parsed deny list from: {}", url);
+            cached.refreshed(now);
+            return cached;
+        }
+
+        final var denyList = XrimDenyList.from(version, CborObjectParser.instance().parse(content), now);
+        store(url, denyList);
+        return denyList;
+    }
+
+    public void evictAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private boolean isFresh(XrimDenyList denyList, Instant now) {
+        return now.isBefore(denyList.getFetchedAt().plus(maxAge));
+    }
+
+    private XrimDenyList find(String url) {
+        synchronized (entries) {
+            return entries.get(url);
+        }
+    }
+
+    private void store(String url, XrimDenyList denyList) {
+        synchronized (entries) {
+            entries.put(url, denyList);
+        }
+    }
+}
@@ -32,34 +32,32 @@
 
 package com.intel.bkp.fpgacerts.cbor.xrim;
 
-import com.intel.bkp.fpgacerts.cbor.CborBroker;
-import com.intel.bkp.fpgacerts.cbor.CborConverter;
-import com.intel.bkp.fpgacerts.cbor.CborObjectParser;
 import com.intel.bkp.fpgacerts.cbor.LocatorType;
 import com.intel.bkp.fpgacerts.cbor.exception.XrimVerificationException;
 import com.intel.bkp.fpgacerts.cbor.rim.RimUnsigned;
 import com.intel.bkp.fpgacerts.cbor.signer.CborSignatureVerifier;
-import com.intel.bkp.fpgacerts.cbor.xrim.parser.XrimSignedParser;
-import com.intel.bkp.fpgacerts.cbor.xrim.parser.XrimUnsignedParser;
 import com.intel.bkp.fpgacerts.dp.IDistributionPointConnector;
 import com.intel.bkp.fpgacerts.url.FetchDataSchemeBroker;
 import com.intel.bkp.fpgacerts.utils.VerificationStatusLogger;
 import com.upokecenter.cbor.CBORObject;
+import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.PublicKey;
 import java.util.Optional;
 
-import static com.intel.bkp.fpgacerts.cbor.CborConverter.XRIM_SIGNED;
-import static com.intel.bkp.fpgacerts.cbor.CborConverter.XRIM_UNSIGNED;
-
-@RequiredArgsConstructor
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 @Slf4j
 public class XrimService {
 
     private final IDistributionPointConnector dpConnector;
     private final CborSignatureVerifier cborSignatureVerifier;
+    private final XrimDenyListCache denyListCache;
+
+    public XrimService(IDistributionPointConnector dpConnector, CborSignatureVerifier cborSignatureVerifier) {
+        this(dpConnector, cborSignatureVerifier, XrimDenyListCache.forConnector(dpConnector));
+    }
 
     public void verifyXRimAndEnsureRimIsNotRevoked(RimUnsigned coRim, PublicKey rimSigPubkey, boolean acceptUnsigned) {
         log.info("Verifying XCoRIM with accept unsigned flag set to: {}", acceptUnsigned);
@@ -71,10 +69,9 @@ public class XrimService {
     }
 
     private void handlePresentLocator(RimUnsigned coRim, PublicKey rimSigPubkey, boolean acceptUnsigned, String url) {
-        log.info("Downloading XCoRIM data from: {}", url);
-        final var xCorRimCbor = downloadXCoRim(url);
-        final var xCoRimUnsigned = getValidStructure(rimSigPubkey, xCorRimCbor, acceptUnsigned);
-        verifyCoRimIsNotRevokedOnXCoRim(coRim, xCoRimUnsigned);
+        final var denyList = denyListCache.get(url, () -> downloadXCoRim(url));
+        ensureValidStructure(rimSigPubkey, denyList, acceptUnsigned);
+        verifyCoRimIsNotRevokedOnXCoRim(coRim, denyList);
     }
 
     private static void handleEmptyLocator(boolean acceptUnsigned) {
@@ -85,36 +82,30 @@ public class XrimService {
         }
     }
 
-    private XrimUnsigned getValidStructure(PublicKey rimSigPubkey, CBORObject cbor, boolean acceptUnsigned) {
-        final CborConverter cborConverter = CborBroker.detectCborType(cbor);
-        return switch (cborConverter) {
-            case XRIM_SIGNED -> handleSigned(rimSigPubkey, cbor);
-            case XRIM_UNSIGNED -> handleUnsigned(cbor, acceptUnsigned);
-            default -> throw new XrimVerificationException("not a XCoRIM object.");
-        };
-    }
-
-    private static XrimUnsigned handleUnsigned(CBORObject cbor, boolean acceptUnsigned) {
-        if (acceptUnsigned) {
-            return ((XrimUnsignedParser) XRIM_UNSIGNED.getParser()).parse(cbor);
-        } else {
+    private void ensureValidStructure(PublicKey rimSigPubkey, XrimDenyList denyList, boolean acceptUnsigned) {
+        if (denyList.isSigned()) {
+            handleSigned(rimSigPubkey, denyList);
+        } else if (!acceptUnsigned) {
             throw new XrimVerificationException("XCoRIM not signed. Signature cannot be verified.");
         }
     }
 
-    private XrimUnsigned handleSigned(PublicKey rimSigPubkey, CBORObject cbor) {
-        final var signed = ((XrimSignedParser) XRIM_SIGNED.getParser()).parse(cbor);
-        verifySignature(cbor, rimSigPubkey);
-        return signed.getPayload();
+    private void handleSigned(PublicKey rimSigPubkey, XrimDenyList denyList) {
+        if (denyList.isVerifiedWith(rimSigPubkey)) {
+            log.info(VerificationStatusLogger.success("Verified XCoRIM signature (cached)"));
+            return;
+        }
+        verifySignature(denyList.getCbor(), rimSigPubkey);
+        denyList.markVerifiedWith(rimSigPubkey);
     }
 
     private Optional<String> findXCoRimUrl(RimUnsigned unsignedRim) {
         return unsignedRim.getLocatorLink(LocatorType.XCORIM);
     }
 
-    private CBORObject downloadXCoRim(String url) {
+    private byte[] downloadXCoRim(String url) {
+        log.info("Downloading XCoRIM data from: {}", url);
         return FetchDataSchemeBroker.fetchData(url, dpConnector)
-            .map(content -> CborObjectParser.instance().parse(content))
             .orElseThrow(
                 () -> new XrimVerificationException("unable to download or parse XCoRIM from path: %s".formatted(url))
             );
@@ -127,9 +118,8 @@ public class XrimService {
         log.info(VerificationStatusLogger.success("Verified XCoRIM signature"));
     }
 
-    private void verifyCoRimIsNotRevokedOnXCoRim(RimUnsigned coRim, XrimUnsigned xrimUnsigned) {
-        final boolean revoked = xrimUnsigned.getDenyList().contains(coRim.getManifestId());
-        if (revoked) {
+    private void verifyCoRimIsNotRevokedOnXCoRim(RimUnsigned coRim, XrimDenyList denyList) {
+        if (denyList.isDenied(coRim.getManifestId())) {
             throw new XrimVerificationException("provided CoRIM is revoked.");
         }
         log.info(VerificationStatusLogger.success("Verified CoRIM revocation status"));
@@ -39,7 +39,6 @@ import com.upokecenter.cbor.CBORObject;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
-import static com.intel.bkp.utils.HexConverter.fromHex;
 import static com.intel.bkp.utils.HexConverter.toHex;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -51,14 +50,14 @@ public class XrimSignedParser extends CborParserBase<XrimSigned> {
 
     @Override
     public XrimSigned parse(CBORObject cbor) {
-        final var protectedDataRaw = toHex(cbor.get(CborSignedBase.CBOR_PROTECTED_DATA_KEY).GetByteString());
+        final var protectedDataRaw = cbor.get(CborSignedBase.CBOR_PROTECTED_DATA_KEY).GetByteString();
         final String unprotectedData = null; // cbor.get(RimSigned.CBOR_UNPROTECTED_DATA_KEY).get(0)
-        final var payload = toHex(cbor.get(CborSignedBase.CBOR_PAYLOAD_KEY).GetByteString());
+        final var payload = cbor.get(CborSignedBase.CBOR_PAYLOAD_KEY).GetByteString();
         final var signature = toHex(cbor.get(CborSignedBase.CBOR_SIGNATURE_KEY).GetByteString());
         return XrimSigned.builder()
-            .protectedData(XrimProtectedParser.instance().parse(fromHex(protectedDataRaw)))
+            .protectedData(XrimProtectedParser.instance().parse(protectedDataRaw))
             .unprotectedData(unprotectedData)
-            .payload(XrimUnsignedParser.instance().parse(fromHex(payload)))
+            .payload(XrimUnsignedParser.instance().parse(payload))
             .signature(signature)
             .build();
     }
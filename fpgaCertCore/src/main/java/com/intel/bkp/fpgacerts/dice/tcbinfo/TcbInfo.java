@@ -36,41 +36,68 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bouncycastle.asn1.ASN1TaggedObject;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.Optional;
 
+/**
+ * TcbInfo fields added from ASN.1 are validated structurally when added, but kept as their DER encoding and decoded
+ * on first access, so fields nobody reads are never decoded and parsed extensions do not retain ASN.1 object trees.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class TcbInfo {
 
     private final Map<TcbInfoField, Object> tcbInfoMap;
+    private final Map<TcbInfoField, byte[]> encodedFields = new EnumMap<>(TcbInfoField.class);
 
     public TcbInfo() {
         this(new EnumMap<>(TcbInfoField.class));
     }
 
     @SuppressWarnings("unchecked")
-    public <T> Optional<T> get(TcbInfoField field) {
+    public synchronized <T> Optional<T> get(TcbInfoField field) {
+        if (!tcbInfoMap.containsKey(field) && encodedFields.containsKey(field)) {
+            tcbInfoMap.put(field, decode(field, encodedFields.remove(field)));
+        }
         return tcbInfoMap.containsKey(field)
                ? Optional.of((T) tcbInfoMap.get(field))
                : Optional.empty();
     }
 
-    public void add(TcbInfoField tcbInfoField, ASN1TaggedObject object) {
-        addInternal(tcbInfoField, tcbInfoField.getParser().parse(object));
-    }
-
-    private void addInternal(TcbInfoField tcbInfoFieldType, Object value) {
-        if (!tcbInfoMap.containsKey(tcbInfoFieldType)) {
-            tcbInfoMap.put(tcbInfoFieldType, value);
+    public synchronized void add(TcbInfoField tcbInfoField, ASN1TaggedObject object) {
+        tcbInfoField.getParser().validate(object);
+        final byte[] encoded = encode(object);
+        if (tcbInfoMap.containsKey(tcbInfoField) || encodedFields.containsKey(tcbInfoField)) {
+            final byte[] existing = encodedFields.get(tcbInfoField);
+            if (existing == null || !Arrays.equals(existing, encoded)) {
+                addInternal(tcbInfoField, decode(tcbInfoField, encoded));
+            }
             return;
         }
+        encodedFields.put(tcbInfoField, encoded);
+    }
 
-        if (!tcbInfoMap.get(tcbInfoFieldType).equals(value)) {
+    private void addInternal(TcbInfoField tcbInfoFieldType, Object value) {
+        final Object existing = get(tcbInfoFieldType).orElseThrow();
+        if (!existing.equals(value)) {
             log.error("Object {} already exists but value mismatch.\nExisting: {}\nNew: {}",
-                    tcbInfoFieldType.name(), tcbInfoMap.get(tcbInfoFieldType), value);
+                    tcbInfoFieldType.name(), existing, value);
             throw new IllegalArgumentException("Object already exists but values mismatch.");
         }
     }
+
+    private static byte[] encode(ASN1TaggedObject object) {
+        try {
+            return object.getEncoded();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to encode TcbInfo field: " + object, e);
+        }
+    }
+
+    private static Object decode(TcbInfoField field, byte[] encoded) {
+        return field.getParser().parse(ASN1TaggedObject.getInstance(encoded));
+    }
 }
@@ -36,24 +36,47 @@ import com.intel.bkp.fpgacerts.utils.BaseExtensionParser;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.asn1.ASN1Encodable;
 
 import java.security.cert.X509CRLEntry;
 import java.security.cert.X509Certificate;
 import java.security.cert.X509Extension;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
+import static com.intel.bkp.crypto.impl.HashUtils.generateSha256Fingerprint;
 import static com.intel.bkp.crypto.x509.utils.X509ExtensionUtils.containsExtension;
+import static com.intel.bkp.crypto.x509.utils.X509ExtensionUtils.getExtensionBytes;
 import static com.intel.bkp.fpgacerts.model.Oid.TCG_DICE_MULTI_TCB_INFO;
 import static com.intel.bkp.fpgacerts.model.Oid.TCG_DICE_TCB_INFO;
 
+/**
+ * Parses TcbInfo and MultiTcbInfo extensions.
+ *
+ * <p>Family and firmware certificates, as well as alias certificates of devices running the same firmware, carry
+ * identical extensions. Parsed extensions are therefore shared in a bounded LRU map of {@value #MAX_SIZE} entries,
+ * keyed by extension OID and SHA-256 of the extension value.</p>
+ */
 @Slf4j
 @Getter
 public class TcbInfoExtensionParser extends BaseExtensionParser<List<TcbInfo>> {
 
+    static final int MAX_SIZE = 512;
+
     private static final String EXTENSION_NAME = "TcbInfo";
 
+    private static final Map<String, List<TcbInfo>> PARSED_EXTENSIONS =
+        new LinkedHashMap<>(MAX_SIZE, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<TcbInfo>> eldest) {
+                return size() > MAX_SIZE;
+            }
+        };
+
     public TcbInfoExtensionParser() {
         super(EXTENSION_NAME);
     }
@@ -75,20 +98,56 @@ public class TcbInfoExtensionParser extends BaseExtensionParser<List<TcbInfo>> {
     @Override
     protected List<TcbInfo> parse(@NonNull final X509Extension x509Obj) {
         logExtensionParsingStart(x509Obj, EXTENSION_NAME);
+        return new ArrayList<>(parseOnce(x509Obj, this::parseTcbInfos));
+    }
+
+    static int size() {
+        synchronized (PARSED_EXTENSIONS) {
+            return PARSED_EXTENSIONS.size();
+        }
+    }
 
+    static void clear() {
+        synchronized (PARSED_EXTENSIONS) {
+            PARSED_EXTENSIONS.clear();
+        }
+    }
+
+    private List<TcbInfo> parseTcbInfos(final X509Extension x509Obj) {
         final var tcbInfos = new ArrayList<TcbInfo>();
-        parseSingleTcbInfoExtension(x509Obj).ifPresent(tcbInfos::add);
+        parseSingleTcbInfoExtension(x509Obj).ifPresent(tcbInfos::addAll);
         parseMultiTbInfoExtension(x509Obj).ifPresent(tcbInfos::addAll);
-        return tcbInfos;
+        return List.copyOf(tcbInfos);
     }
 
     private Optional<List<TcbInfo>> parseMultiTbInfoExtension(final X509Extension x509Obj) {
-        return getExtension(x509Obj, TCG_DICE_MULTI_TCB_INFO.getOid())
-            .map(TcbInfoParser::parseMultiTcbInfo);
+        return parseExtension(x509Obj, TCG_DICE_MULTI_TCB_INFO.getOid(), TcbInfoParser::parseMultiTcbInfo);
+    }
+
+    private Optional<List<TcbInfo>> parseSingleTcbInfoExtension(final X509Extension x509Obj) {
+        return parseExtension(x509Obj, TCG_DICE_TCB_INFO.getOid(),
+            extension -> List.of(TcbInfoParser.parseTcbInfo(extension)));
     }
 
-    private Optional<TcbInfo> parseSingleTcbInfoExtension(final X509Extension x509Obj) {
-        return getExtension(x509Obj, TCG_DICE_TCB_INFO.getOid())
-            .map(TcbInfoParser::parseTcbInfo);
+    private Optional<List<TcbInfo>> parseExtension(final X509Extension x509Obj, final String oid,
+                                                   final Function<ASN1Encodable, List<TcbInfo>> parser) {
+        return getExtensionBytes(x509Obj, oid)
+            .map(bytes -> parseMemoized(x509Obj, oid, bytes, parser));
+    }
+
+    private List<TcbInfo> parseMemoized(final X509Extension x509Obj, final String oid, final byte[] bytes,
+                                        final Function<ASN1Encodable, List<TcbInfo>> parser) {
+        final String key = oid + ":" + generateSha256Fingerprint(bytes);
+        synchronized (PARSED_EXTENSIONS) {
+            final List<TcbInfo> parsed = PARSED_EXTENSIONS.get(key);
+            if (parsed != null) {
+                return parsed;
+            }
+        }
+
+        final List<TcbInfo> parsed = List.copyOf(parser.apply(toAsn1(x509Obj, bytes)));
+        synchronized (PARSED_EXTENSIONS) {
+            return PARSED_EXTENSIONS.computeIfAbsent(key, k -> parsed);
+        }
     }
 }
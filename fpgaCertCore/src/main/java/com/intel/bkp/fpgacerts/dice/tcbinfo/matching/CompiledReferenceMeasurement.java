@@ -0,0 +1,113 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.fpgacerts.dice.tcbinfo.matching;
+
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoKey;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reference measurement from RIM compiled for matching against device measurements.
+ *
+ * <p>Compiled measurements are shared in a bounded LRU map of {@value #MAX_SIZE} entries, keyed by exact values of
+ * the reference measurement. The same RIM is usually verified for many devices, so decoding is done once per
+ * reference measurement, not once per verification.</p>
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledReferenceMeasurement {
+
+    static final int MAX_SIZE = 1024;
+
+    private static final Map<Key, CompiledReferenceMeasurement> COMPILED =
+        new LinkedHashMap<>(MAX_SIZE, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CompiledReferenceMeasurement> eldest) {
+                return size() > MAX_SIZE;
+            }
+        };
+
+    private final TcbInfoKey key;
+    private final DecodedTcbInfoValue value;
+
+    public static CompiledReferenceMeasurement compile(TcbInfoMeasurement measurement) {
+        final TcbInfoKey key = copyOf(measurement.getKey());
+        final Key cacheKey = new Key(key, DecodedTcbInfoValue.CacheKey.of(measurement.getValue()));
+
+        synchronized (COMPILED) {
+            final CompiledReferenceMeasurement compiled = COMPILED.get(cacheKey);
+            if (compiled != null) {
+                return compiled;
+            }
+        }
+
+        final var compiled = new CompiledReferenceMeasurement(key, DecodedTcbInfoValue.from(measurement.getValue()));
+        synchronized (COMPILED) {
+            return COMPILED.computeIfAbsent(cacheKey, k -> compiled);
+        }
+    }
+
+    public boolean matches(DecodedTcbInfoValue deviceValue) {
+        return deviceValue.matchesReference(value);
+    }
+
+    static int size() {
+        synchronized (COMPILED) {
+            return COMPILED.size();
+        }
+    }
+
+    static void clear() {
+        synchronized (COMPILED) {
+            COMPILED.clear();
+        }
+    }
+
+    private static TcbInfoKey copyOf(TcbInfoKey key) {
+        return TcbInfoKey.builder()
+            .vendor(key.getVendor())
+            .model(key.getModel())
+            .layer(key.getLayer())
+            .index(key.getIndex())
+            .type(key.getType())
+            .build();
+    }
+
+    private record Key(TcbInfoKey tcbInfoKey, DecodedTcbInfoValue.CacheKey value) {
+    }
+}
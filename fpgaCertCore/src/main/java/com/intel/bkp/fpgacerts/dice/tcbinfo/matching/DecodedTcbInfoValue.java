@@ -0,0 +1,119 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.fpgacerts.dice.tcbinfo.matching;
+
+import com.intel.bkp.fpgacerts.dice.tcbinfo.FwIdField;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoValue;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.vendorinfo.MaskedVendorInfo;
+
+import java.util.Objects;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Immutable copy of {@link TcbInfoValue} prepared for repeated matching - vendor info and its mask are decoded to
+ * bytes once. Fields absent in the source value are null.
+ *
+ * <p>{@link #matchesReference(DecodedTcbInfoValue)} is equivalent to
+ * {@link TcbInfoValue#matchesReferenceValue(TcbInfoValue)}. FWID digests are still compared as strings, as FWIDs are
+ * matched with case-sensitive equality.</p>
+ */
+public final class DecodedTcbInfoValue {
+
+    private final String version;
+    private final Integer svn;
+    private final String fwidHashAlg;
+    private final String fwidDigest;
+    private final boolean fwidPresent;
+    private final DecodedVendorInfo vendorInfo;
+    private final String flags;
+
+    private DecodedTcbInfoValue(TcbInfoValue value) {
+        this.version = value.getVersion().orElse(null);
+        this.svn = value.getSvn().orElse(null);
+        final FwIdField fwid = value.getFwid().orElse(null);
+        this.fwidPresent = fwid != null;
+        this.fwidHashAlg = fwidPresent ? fwid.getHashAlg() : null;
+        this.fwidDigest = fwidPresent ? fwid.getDigest() : null;
+        this.vendorInfo = value.getMaskedVendorInfo().map(DecodedVendorInfo::from).orElse(null);
+        this.flags = value.getFlags().orElse(null);
+    }
+
+    public static DecodedTcbInfoValue from(TcbInfoValue value) {
+        return new DecodedTcbInfoValue(value);
+    }
+
+    public boolean matchesReference(DecodedTcbInfoValue reference) {
+        return matches(version, reference.version)
+            && matches(svn, reference.svn)
+            && matchesFwid(reference)
+            && matchesVendorInfo(reference)
+            && matches(flags, reference.flags);
+    }
+
+    private static boolean matches(Object actual, Object reference) {
+        return isNull(reference) || reference.equals(actual);
+    }
+
+    private boolean matchesFwid(DecodedTcbInfoValue reference) {
+        if (!reference.fwidPresent) {
+            return true;
+        }
+        return fwidPresent
+            && Objects.equals(fwidHashAlg, reference.fwidHashAlg)
+            && Objects.equals(fwidDigest, reference.fwidDigest);
+    }
+
+    private boolean matchesVendorInfo(DecodedTcbInfoValue reference) {
+        if (isNull(reference.vendorInfo)) {
+            return true;
+        }
+        return vendorInfo != null && vendorInfo.matchesReference(reference.vendorInfo);
+    }
+
+    /**
+     * Exact, field by field identity of a value - used to share compiled reference values.
+     */
+    record CacheKey(String version, Integer svn, boolean fwidPresent, String fwidHashAlg, String fwidDigest,
+                    boolean vendorInfoPresent, String vendorInfo, String vendorInfoMask, String flags) {
+
+        static CacheKey of(TcbInfoValue value) {
+            final FwIdField fwid = value.getFwid().orElse(null);
+            final MaskedVendorInfo vendorInfo = value.getMaskedVendorInfo().orElse(null);
+            return new CacheKey(value.getVersion().orElse(null), value.getSvn().orElse(null),
+                fwid != null, fwid == null ? null : fwid.getHashAlg(), fwid == null ? null : fwid.getDigest(),
+                vendorInfo != null, vendorInfo == null ? null : vendorInfo.getVendorInfo(),
+                vendorInfo == null ? null : vendorInfo.getVendorInfoMask(), value.getFlags().orElse(null));
+        }
+    }
+}
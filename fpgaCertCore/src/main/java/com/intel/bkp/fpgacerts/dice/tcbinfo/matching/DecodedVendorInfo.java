@@ -0,0 +1,118 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.fpgacerts.dice.tcbinfo.matching;
+
+import com.intel.bkp.fpgacerts.dice.tcbinfo.vendorinfo.MaskedVendorInfo;
+import com.intel.bkp.utils.MaskHelper;
+
+import java.util.Objects;
+
+import static com.intel.bkp.utils.HexConverter.fromHex;
+import static com.intel.bkp.utils.StringHelper.zeroExtendEndingToEvenLength;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Vendor info with value and mask decoded to bytes once.
+ *
+ * <p>Matching follows {@link com.intel.bkp.fpgacerts.dice.tcbinfo.vendorinfo.MaskedVendorInfoComparator}. When only
+ * one side has a mask, values are compared under that mask byte by byte - value shorter than mask is treated as zero
+ * extended and value longer than mask is truncated, exactly as {@link MaskHelper#applyMask(String, String)} does.
+ * If value or mask is not a valid hex string, comparison falls back to {@link MaskHelper} to keep its behavior.</p>
+ */
+final class DecodedVendorInfo {
+
+    private final String vendorInfo;
+    private final String vendorInfoMask;
+    private final byte[] value;
+    private final byte[] mask;
+    private final boolean decoded;
+
+    private DecodedVendorInfo(String vendorInfo, String vendorInfoMask) {
+        this.vendorInfo = vendorInfo;
+        this.vendorInfoMask = vendorInfoMask;
+        this.value = decode(vendorInfo);
+        this.mask = decode(vendorInfoMask);
+        this.decoded = (isNull(vendorInfo) || nonNull(value)) && (isNull(vendorInfoMask) || nonNull(mask));
+    }
+
+    static DecodedVendorInfo from(MaskedVendorInfo maskedVendorInfo) {
+        return new DecodedVendorInfo(maskedVendorInfo.getVendorInfo(), maskedVendorInfo.getVendorInfoMask());
+    }
+
+    boolean matchesReference(DecodedVendorInfo reference) {
+        final boolean bothVendorInfoSet = nonNull(vendorInfo) && nonNull(reference.vendorInfo);
+        final boolean oneMaskSetWhenOtherIsNull = hasMask() != reference.hasMask();
+        if (!bothVendorInfoSet || !oneMaskSetWhenOtherIsNull) {
+            return Objects.equals(vendorInfo, reference.vendorInfo)
+                && Objects.equals(vendorInfoMask, reference.vendorInfoMask);
+        }
+
+        final DecodedVendorInfo maskOwner = hasMask() ? this : reference;
+        if (!decoded || !reference.decoded) {
+            return MaskHelper.applyMask(vendorInfo, maskOwner.vendorInfoMask)
+                .equals(MaskHelper.applyMask(reference.vendorInfo, maskOwner.vendorInfoMask));
+        }
+
+        return equalsUnderMask(value, reference.value, maskOwner.mask);
+    }
+
+    private boolean hasMask() {
+        return nonNull(vendorInfoMask);
+    }
+
+    private static boolean equalsUnderMask(byte[] left, byte[] right, byte[] mask) {
+        for (int i = 0; i < mask.length; i++) {
+            if (((byteAt(left, i) ^ byteAt(right, i)) & mask[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int byteAt(byte[] bytes, int index) {
+        return index < bytes.length ? bytes[index] : 0;
+    }
+
+    private static byte[] decode(String hex) {
+        if (isNull(hex)) {
+            return null;
+        }
+
+        try {
+            return fromHex(zeroExtendEndingToEvenLength(hex));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -53,9 +53,29 @@ public class FwidFieldParser implements ITcbInfoFieldParser<FwIdField> {
 
     private static final int ELEM_COUNT = 2;
 
+    @Override
+    public void validate(ASN1TaggedObject object) {
+        final ASN1Sequence fwIdSequence = getFwIdSequence(object);
+        if (!containsHashAlgAndDigest(fwIdSequence)) {
+            throw missingHashAlgOrDigest(fwIdSequence);
+        }
+    }
+
     @Override
     public FwIdField parse(ASN1TaggedObject object) {
         final FwIdField field = new FwIdField();
+        final ASN1Sequence fwIdSequence = getFwIdSequence(object);
+
+        fwIdSequence.forEach(obj -> mapToField(field, obj));
+
+        if (!field.isSet()) {
+            throw missingHashAlgOrDigest(fwIdSequence);
+        }
+
+        return field;
+    }
+
+    private ASN1Sequence getFwIdSequence(ASN1TaggedObject object) {
         final ASN1Sequence fwIdsSequence = parseSequence(object.getBaseUniversal(false, SEQUENCE));
 
         if (containsElementThatIsNotASequence(fwIdsSequence)) {
@@ -71,14 +91,18 @@ public class FwidFieldParser implements ITcbInfoFieldParser<FwIdField> {
             throw new IllegalArgumentException("FwId contains too many elements: " + fwIdSequence);
         }
 
-        fwIdSequence.forEach(obj -> mapToField(field, obj));
+        return fwIdSequence;
+    }
 
-        if (!field.isSet()) {
-            throw new IllegalArgumentException(String.format(
-                "FwIds field does not contain hashAlg or digest: %s", fwIdSequence));
-        }
+    private boolean containsHashAlgAndDigest(ASN1Sequence sequence) {
+        return Arrays.stream(sequence.toArray()).anyMatch(obj -> obj instanceof ASN1ObjectIdentifier)
+            && Arrays.stream(sequence.toArray())
+            .anyMatch(obj -> obj instanceof DEROctetString octets && octets.getOctets().length > 0);
+    }
 
-        return field;
+    private static IllegalArgumentException missingHashAlgOrDigest(ASN1Sequence fwIdSequence) {
+        return new IllegalArgumentException(String.format(
+            "FwIds field does not contain hashAlg or digest: %s", fwIdSequence));
     }
 
     private boolean containsElementThatIsNotASequence(ASN1Sequence sequence) {
@@ -36,5 +36,13 @@ import org.bouncycastle.asn1.ASN1TaggedObject;
 
 public interface ITcbInfoFieldParser<T> {
 
+    /**
+     * Checks structure of the field, without decoding its value, so that malformed fields are rejected when TcbInfo
+     * is parsed even though values are decoded on first access.
+     *
+     * @throws IllegalArgumentException if the field is malformed
+     */
+    void validate(ASN1TaggedObject object);
+
     T parse(ASN1TaggedObject object);
 }
@@ -40,6 +40,11 @@ import static com.intel.bkp.crypto.asn1.Asn1ParsingUtils.parseImplicitlyTaggedOc
 
 public class IntegerFieldParser implements ITcbInfoFieldParser<Integer> {
 
+    @Override
+    public void validate(ASN1TaggedObject object) {
+        parse(object);
+    }
+
     @Override
     public Integer parse(ASN1TaggedObject object) {
         try {
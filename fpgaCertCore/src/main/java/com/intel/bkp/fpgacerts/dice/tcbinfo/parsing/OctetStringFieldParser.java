@@ -41,6 +41,11 @@ import static com.intel.bkp.utils.HexConverter.toHex;
 
 public class OctetStringFieldParser implements ITcbInfoFieldParser<String> {
 
+    @Override
+    public void validate(ASN1TaggedObject object) {
+        parseImplicitlyTaggedOctetString(object);
+    }
+
     @Override
     public String parse(ASN1TaggedObject object) {
         return toHex(parseImplicitlyTaggedOctetString(object)).toLowerCase(Locale.ROOT);
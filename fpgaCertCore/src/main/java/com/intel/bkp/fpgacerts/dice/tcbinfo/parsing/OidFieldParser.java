@@ -39,6 +39,11 @@ import java.util.Locale;
 
 public class OidFieldParser implements ITcbInfoFieldParser<String> {
 
+    @Override
+    public void validate(ASN1TaggedObject object) {
+        ASN1ObjectIdentifier.getInstance(object, false);
+    }
+
     @Override
     public String parse(ASN1TaggedObject object) {
         return ASN1ObjectIdentifier.getInstance(object, false).getId().toUpperCase(Locale.ROOT);
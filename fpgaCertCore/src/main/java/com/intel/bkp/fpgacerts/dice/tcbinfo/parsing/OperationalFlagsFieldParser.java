@@ -39,6 +39,11 @@ import static com.intel.bkp.utils.HexConverter.toHex;
 
 public class OperationalFlagsFieldParser implements ITcbInfoFieldParser<String> {
 
+    @Override
+    public void validate(ASN1TaggedObject object) {
+        parseBitString(object);
+    }
+
     @Override
     public String parse(ASN1TaggedObject object) {
         return toHex(parseBitString(object));
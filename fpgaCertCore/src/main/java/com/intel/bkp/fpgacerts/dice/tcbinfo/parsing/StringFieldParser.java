@@ -40,6 +40,11 @@ import static com.intel.bkp.crypto.asn1.Asn1ParsingUtils.parseImplicitlyTaggedOc
 
 public class StringFieldParser implements ITcbInfoFieldParser<String> {
 
+    @Override
+    public void validate(ASN1TaggedObject object) {
+        parseImplicitlyTaggedOctetString(object);
+    }
+
     @Override
     public String parse(ASN1TaggedObject object) {
         return new String(parseImplicitlyTaggedOctetString(object), StandardCharsets.UTF_8);
@@ -65,6 +65,16 @@ public class UeidExtensionParser extends BaseExtensionParser<UeidExtension> {
     protected UeidExtension parse(@NonNull final X509Extension x509Obj) {
         logExtensionParsingStart(x509Obj, "UEID");
 
+        final UeidExtension ueid = parseOnce(x509Obj, this::parseUeid);
+        log.atTrace()
+            .addArgument(ueid.getFamilyName())
+            .addArgument(() -> toHex(ueid.getUid()))
+            .log("Parsed UEID Extension. FAMILY_NAME = {}, UID = {}");
+
+        return ueid;
+    }
+
+    private UeidExtension parseUeid(final X509Extension x509Obj) {
         final var familyId = new byte[1];
         final var uid = new byte[8];
         ByteBufferSafe.wrap(getUeidExtensionValue(x509Obj))
@@ -76,10 +86,6 @@ public class UeidExtensionParser extends BaseExtensionParser<UeidExtension> {
             .get(uid);
 
         final var attFamily = AttFamily.from(familyId[0]);
-
-        log.trace("Parsed UEID Extension. FAMILY_NAME = {}, UID = {}",
-            attFamily.getFamilyName(), toHex(uid));
-
         return new UeidExtension(attFamily.getFamilyId(), attFamily.getFamilyName(), uid);
     }
 
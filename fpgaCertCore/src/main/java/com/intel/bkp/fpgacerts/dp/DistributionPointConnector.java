@@ -57,6 +57,10 @@ public class DistributionPointConnector implements IDistributionPointConnector,
 
     private static final int CONNECTION_TIMEOUT_SECONDS = 10;
     private static final int REQUEST_TIMEOUT_SECONDS = 15;
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_LAST_MODIFIED = "Last-Modified";
+    private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+    private static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
     private HttpClient client;
     private ExecutorService executor;
 
@@ -106,6 +110,35 @@ public class DistributionPointConnector implements IDistributionPointConnector,
         return responseBody;
     }
 
+    /**
+     * Performs conditional GET request using validators returned by previous response.
+     * Validators may be null, in which case regular GET request is performed.
+     */
+    public Optional<DistributionPointResponse> tryGetBytesIfModified(String url, String etag, String lastModified) {
+        try {
+            final HttpResponse<byte[]> response = client.send(getHttpRequest(url, etag, lastModified),
+                HttpResponse.BodyHandlers.ofByteArray());
+            final String newEtag = response.headers().firstValue(HEADER_ETAG).orElse(etag);
+            final String newLastModified = response.headers().firstValue(HEADER_LAST_MODIFIED).orElse(lastModified);
+            if (HttpURLConnection.HTTP_NOT_MODIFIED == response.statusCode()) {
+                log.debug("Content not modified: {}", url);
+                return Optional.of(DistributionPointResponse.notModified(newEtag, newLastModified));
+            }
+            if (HttpURLConnection.HTTP_OK == response.statusCode()) {
+                return Optional.of(DistributionPointResponse.modified(response.body(), newEtag, newLastModified));
+            }
+            log.error("Received unexpected response: {}", response);
+        } catch (InterruptedException e) {
+            log.error("Failed to get http response: {}", e.getMessage());
+            log.debug("Stacktrace: ", e);
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Failed to get http response: {}", e.getMessage());
+            log.debug("Stacktrace: ", e);
+        }
+        return Optional.empty();
+    }
+
     private <T> T getHttpResponseBody(String url, HttpResponse.BodyHandler<T> bodyHandler) {
         try {
             final HttpResponse<T> response = tryGetHttpResponse(url, bodyHandler);
@@ -129,9 +162,16 @@ public class DistributionPointConnector implements IDistributionPointConnector,
     }
 
     private HttpRequest getHttpRequest(String url) {
+        return getHttpRequest(url, null, null);
+    }
+
+    private HttpRequest getHttpRequest(String url, String etag, String lastModified) {
         log.debug("Performing request to: {}", url);
-        return HttpRequest.newBuilder(URI.create(url))
-                .timeout(Duration.ofSeconds(REQUEST_TIMEOUT_SECONDS))
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(REQUEST_TIMEOUT_SECONDS));
+        Optional.ofNullable(etag).ifPresent(value -> builder.header(HEADER_IF_NONE_MATCH, value));
+        Optional.ofNullable(lastModified).ifPresent(value -> builder.header(HEADER_IF_MODIFIED_SINCE, value));
+        return builder
                 .GET()
                 .build();
     }
@@ -32,6 +32,7 @@
 
 package com.intel.bkp.fpgacerts.utils;
 
+import com.intel.bkp.crypto.x509.parsing.X509CertificateInternPool;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -39,8 +40,10 @@ import org.bouncycastle.asn1.ASN1Encodable;
 import org.bouncycastle.asn1.ASN1Primitive;
 
 import java.io.IOException;
+import java.security.cert.X509Certificate;
 import java.security.cert.X509Extension;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static com.intel.bkp.crypto.x509.utils.X509ExtensionUtils.getExtensionBytes;
 import static com.intel.bkp.crypto.x509.utils.X509ExtensionUtils.getObjDescription;
@@ -64,16 +67,27 @@ public abstract class BaseExtensionParser<T> {
         log.trace(START_LOG_MESSAGE, extensionName, getObjDescription(x509Obj));
     }
 
+    /**
+     * Parses extension once per certificate object, repeated calls for the same certificate reuse the result.
+     */
+    protected T parseOnce(final X509Extension x509Obj, final Function<X509Extension, T> parser) {
+        return x509Obj instanceof final X509Certificate certificate
+               ? X509CertificateInternPool.derive(certificate, getClass().getName(), parser::apply)
+               : parser.apply(x509Obj);
+    }
+
     protected Optional<ASN1Encodable> getExtension(@NonNull final X509Extension x509Obj,
                                                    final String extensionOid) {
         return getExtensionBytes(x509Obj, extensionOid)
-            .map(bytes -> {
-                try {
-                    return ASN1Primitive.fromByteArray(bytes);
-                } catch (IOException e) {
-                    throw new IllegalArgumentException(getExtensionParsingError(x509Obj));
-                }
-            });
+            .map(bytes -> toAsn1(x509Obj, bytes));
+    }
+
+    protected ASN1Encodable toAsn1(final X509Extension x509Obj, final byte[] extensionBytes) {
+        try {
+            return ASN1Primitive.fromByteArray(extensionBytes);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(getExtensionParsingError(x509Obj));
+        }
     }
 
     protected String getExtensionParsingError(final X509Extension x509Obj) {
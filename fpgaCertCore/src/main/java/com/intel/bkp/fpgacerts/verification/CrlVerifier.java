@@ -32,6 +32,7 @@
 
 package com.intel.bkp.fpgacerts.verification;
 
+import com.intel.bkp.crypto.x509.validation.ParallelLinkVerifier;
 import com.intel.bkp.crypto.x509.validation.SignatureVerifier;
 import com.intel.bkp.fpgacerts.exceptions.CrlSignatureException;
 import com.intel.bkp.fpgacerts.interfaces.ICrlProvider;
@@ -44,10 +45,13 @@ import java.security.Principal;
 import java.security.cert.X509CRL;
 import java.security.cert.X509Certificate;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
 
 import static com.intel.bkp.crypto.x509.utils.CrlDistributionPointsUtils.getCrlUrl;
 import static com.intel.bkp.crypto.x509.utils.X509CrlUtils.isRevoked;
@@ -78,6 +82,7 @@ public class CrlVerifier {
 
     private List<X509Certificate> certificates;
     private boolean requireCrlForLeafCertificate = true;
+    private Executor executor;
 
     public CrlVerifier(ICrlProvider crlProvider) {
         this(new SignatureVerifier(), crlProvider);
@@ -93,7 +98,20 @@ public class CrlVerifier {
         return this;
     }
 
+    /**
+     * Verifies certificates of the chain concurrently on given executor. Passing null restores sequential
+     * verification. CRL provider must be thread-safe when an executor is set.
+     */
+    public CrlVerifier parallel(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
     public boolean verify() {
+        if (executor != null) {
+            return verifyParallel();
+        }
+
         ListIterator<X509Certificate> certificateChainIterator = this.certificates.listIterator();
         return verifyRecursive(certificateChainIterator.next(), certificateChainIterator, requireCrlForLeafCertificate);
     }
@@ -110,27 +128,58 @@ public class CrlVerifier {
             .orElseGet(() -> handleNoCrl(requireCrl, cert.getSubjectX500Principal(), certificateChainIterator));
     }
 
+    private boolean verifyParallel() {
+        final List<X509Certificate> chain = new ArrayList<>(certificates);
+        final List<BooleanSupplier> checks = new ArrayList<>(chain.size());
+        for (int i = 0; i < chain.size() - 1; i++) {
+            final X509Certificate cert = chain.get(i);
+            final int issuerCertIndex = i + 1;
+            final boolean requireCrl = i > 0 || requireCrlForLeafCertificate;
+            checks.add(() -> verifyCertificate(cert, issuerCertIndex, requireCrl));
+        }
+        return new ParallelLinkVerifier(executor).verifyAll(checks);
+    }
+
+    private boolean verifyCertificate(X509Certificate cert, int issuerCertIndex, boolean requireCrl) {
+        log.debug(CHECKING_REVOCATION_LOG_FORMAT, cert.getSubjectX500Principal());
+        return getCrlUrl(cert)
+            .map(crlUrl -> isNotRevoked(crlUrl, cert, issuerCertIndex))
+            .orElseGet(() -> isMissingCrlAccepted(requireCrl, cert.getSubjectX500Principal()));
+    }
+
     private boolean handleNoCrl(boolean requireCrl, Principal certSubject,
                                 ListIterator<X509Certificate> certificateChainIterator) {
-        if (requireCrl) {
-            log.error(NO_EXTENSION_WHEN_REQUIRED_LOG_FORMAT, certSubject);
+        if (!isMissingCrlAccepted(requireCrl, certSubject)) {
             return false;
         }
-        log.debug(NO_EXTENSION_WHEN_NOT_REQUIRED_LOG_FORMAT, certSubject);
 
         final X509Certificate nextCert = certificateChainIterator.next();
         return verifyRecursive(nextCert, certificateChainIterator, true);
     }
 
+    private boolean isMissingCrlAccepted(boolean requireCrl, Principal certSubject) {
+        if (requireCrl) {
+            log.error(NO_EXTENSION_WHEN_REQUIRED_LOG_FORMAT, certSubject);
+            return false;
+        }
+        log.debug(NO_EXTENSION_WHEN_NOT_REQUIRED_LOG_FORMAT, certSubject);
+        return true;
+    }
+
     private boolean handleCrl(String crlUrl, X509Certificate certificate,
                               ListIterator<X509Certificate> certificateChainIterator) {
+        return isNotRevoked(crlUrl, certificate, certificateChainIterator.nextIndex())
+            && verifyRecursive(certificateChainIterator.next(), certificateChainIterator, true);
+    }
+
+    private boolean isNotRevoked(String crlUrl, X509Certificate certificate, int issuerCertIndex) {
         final X509CRL crl = crlProvider.getCrl(crlUrl);
-        verifyCrlSignature(crl, certificateChainIterator.nextIndex());
+        verifyCrlSignature(crl, issuerCertIndex);
         verifyNextUpdate(crl);
 
         return getRevocationReason(crl, certificate)
             .map(revocationReason -> handleRevokedCertificate(certificate, revocationReason))
-            .orElseGet(() -> verifyRecursive(certificateChainIterator.next(), certificateChainIterator, true));
+            .orElse(true);
     }
 
     private void verifyCrlSignature(final X509CRL crl, final int issuerCertIndex) {
@@ -49,6 +49,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.security.cert.X509Certificate;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import static com.intel.bkp.fpgacerts.model.Oid.TCG_DICE_MULTI_TCB_INFO;
 import static com.intel.bkp.fpgacerts.model.Oid.TCG_DICE_TCB_INFO;
@@ -76,6 +77,12 @@ public abstract class DiceChainVerifierBase implements DiceChainVerifier {
     @Setter
     private byte[] deviceId;
 
+    /**
+     * Optional executor for verifying chain links concurrently - null keeps verification sequential.
+     */
+    @Setter
+    private Executor verificationExecutor;
+
     protected DiceChainVerifierBase(ICrlProvider crlProvider, String[] trustedRootHash, boolean testModeSecrets) {
         this(new ExtendedKeyUsageVerifier(), new ChainVerifier(), new DiceCrlVerifier(crlProvider),
             new RootHashVerifier(),
@@ -96,6 +103,7 @@ public abstract class DiceChainVerifierBase implements DiceChainVerifier {
         log.info("Performing standard X509 validation of certificate chain.");
         final var certificates = toLinkedList(certs);
         if (!certificateChainVerifier.certificates(certificates)
+            .parallel(verificationExecutor)
             .knownExtensionOids(DICE_EXTENSION_OIDS).verify()) {
             handleVerificationFailure("Parent signature verification in X509 attestation chain failed.");
         }
@@ -121,7 +129,8 @@ public abstract class DiceChainVerifierBase implements DiceChainVerifier {
             handleVerificationFailure("DICE subject validation failed.");
         }
 
-        if (!crlVerifier.certificates(certificates).doNotRequireCrlForLeafCertificate().verify()) {
+        if (!crlVerifier.certificates(certificates).doNotRequireCrlForLeafCertificate()
+            .parallel(verificationExecutor).verify()) {
             handleVerificationFailure("One of the certificates in chain is revoked.");
         }
     }
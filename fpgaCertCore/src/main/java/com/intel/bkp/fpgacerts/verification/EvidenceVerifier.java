@@ -37,6 +37,8 @@ import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoKey;
 import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement;
 import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurementsAggregator;
 import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoValue;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.matching.CompiledReferenceMeasurement;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.matching.DeviceMeasurements;
 import com.intel.bkp.fpgacerts.rim.IRimHandlersProvider;
 import com.intel.bkp.fpgacerts.rim.RimService;
 import com.intel.bkp.fpgacerts.utils.VerificationStatusLogger;
@@ -109,6 +111,7 @@ public class EvidenceVerifier {
         log.info("*** VERIFYING EVIDENCE AGAINST RIM ***");
 
         final Map<TcbInfoKey, TcbInfoValue> tcbInfoResponseMap = tcbInfoMeasurementsAggregator.getMap();
+        final DeviceMeasurements deviceMeasurements = new DeviceMeasurements(tcbInfoResponseMap);
 
         for (TcbInfoMeasurement measurement : expectedTcbInfoMeasurements) {
             log.info("Verification of measurement: {}", measurement.getKey());
@@ -123,7 +126,8 @@ public class EvidenceVerifier {
             final TcbInfoValue responseValue = tcbInfoResponseMap.get(measurement.getKey());
             log.debug("Received value: {}", responseValue);
 
-            if (!responseValue.matchesReferenceValue(measurement.getValue())) {
+            final CompiledReferenceMeasurement reference = CompiledReferenceMeasurement.compile(measurement);
+            if (!deviceMeasurements.get(measurement.getKey()).map(reference::matches).orElse(false)) {
                 log.error("""
                     Evidence verification failed.
                     Reference: {}
@@ -44,6 +44,7 @@ import java.security.KeyPair;
 import java.security.PublicKey;
 
 import static com.intel.bkp.test.FileUtils.TEST_FOLDER;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CborSignatureVerifierTest {
@@ -91,6 +92,20 @@ class CborSignatureVerifierTest {
         assertTrue(verified);
     }
 
+    @Test
+    void verify_WithTamperedSignature_ReturnsFalse() {
+        // given
+        final KeyPair keyPair = KeyGenUtils.genEc384();
+        final byte[] signed = XrimGenerator.instance().keyPair(keyPair).generate();
+        signed[signed.length - 1] ^= 0x01;
+
+        // when
+        final boolean verified = sut.verify(keyPair.getPublic(), signed);
+
+        // then
+        assertFalse(verified);
+    }
+
     private static CborKeyPair prepareOneKey() throws Exception {
         byte[] pubKeyPem = FileUtils.readFromResources(TEST_FOLDER, "design_signed_rim_signing_public.pem");
         final PublicKey publicKey = EcKeyLoader.getPublicKey(new ByteArrayInputStream(pubKeyPem));
@@ -0,0 +1,71 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.fpgacerts.cbor.signer.cose;
+
+import com.upokecenter.cbor.CBORObject;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+
+import static com.intel.bkp.test.RandomUtils.generateRandomBytes;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class SigStructureTest {
+
+    private static final String CONTEXT = "Signature1";
+    private static final byte[] EXTERNAL_DATA = new byte[0];
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 23, 24, 255, 256, 65535, 65536, 100000})
+    void encodePrefix_FollowedByPayload_MatchesEncodedArray(int payloadLength) {
+        // given
+        final CBORObject bodyProtected = CBORObject.FromObject(generateRandomBytes(40));
+        final byte[] payload = generateRandomBytes(payloadLength);
+        final byte[] expected = CBORObject.NewArray()
+            .Add(CONTEXT)
+            .Add(bodyProtected)
+            .Add(EXTERNAL_DATA)
+            .Add(payload)
+            .EncodeToBytes();
+
+        // when
+        final byte[] prefix = SigStructure.encodePrefix(CONTEXT, bodyProtected, EXTERNAL_DATA, payload.length);
+
+        // then
+        final var result = new ByteArrayOutputStream();
+        result.writeBytes(prefix);
+        result.writeBytes(payload);
+        assertArrayEquals(expected, result.toByteArray());
+    }
+}
@@ -48,12 +48,14 @@ import com.upokecenter.cbor.CBORObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.KeyPair;
 import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -66,6 +68,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -79,6 +85,8 @@ class XrimServiceTest {
         .generateUnsignedEntity();
     private static final boolean ALLOW_UNSIGNED = true;
     private static final boolean RESTRICT_UNSIGNED = false;
+    private static final Duration MAX_AGE = Duration.ofMinutes(1);
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
 
     private LoggerTestUtil loggerTestUtil;
 
@@ -88,11 +96,14 @@ class XrimServiceTest {
     @Mock
     private CborSignatureVerifier cborSignatureVerifier;
 
-    @InjectMocks
+    @Mock
+    private Clock clock;
+
     private XrimService sut;
 
     @BeforeEach
     void setup() {
+        sut = new XrimService(dpConnector, cborSignatureVerifier, new XrimDenyListCache(MAX_AGE, clock));
         loggerTestUtil = LoggerTestUtil.instance(sut.getClass());
     }
 
@@ -269,6 +280,101 @@ class XrimServiceTest {
         assertEquals("Unexpected CoRIM/XCoRIM outer tag.", ex.getMessage());
     }
 
+    @Test
+    void verifyXRimAndEnsureRimIsNotRevoked_CalledTwiceWithinMaxAge_DownloadsAndVerifiesOnce() {
+        // given
+        final byte[] xrimResponse = XrimGenerator.instance().keyPair(KEY_PAIR).generate();
+        mockDistributionPointResult(xrimResponse);
+        mockSignatureVerification(true);
+        mockClock(NOW, NOW.plus(MAX_AGE).minusSeconds(1));
+
+        // when
+        sut.verifyXRimAndEnsureRimIsNotRevoked(UNSIGNED_RIM, KEY_PAIR.getPublic(), RESTRICT_UNSIGNED);
+        sut.verifyXRimAndEnsureRimIsNotRevoked(UNSIGNED_RIM, KEY_PAIR.getPublic(), RESTRICT_UNSIGNED);
+
+        // then
+        verify(dpConnector).tryGetBytes(anyString());
+        verify(cborSignatureVerifier).verify(any(PublicKey.class), any(CBORObject.class));
+    }
+
+    @Test
+    void verifyXRimAndEnsureRimIsNotRevoked_CachedWithDifferentKey_VerifiesSignatureAgain() {
+        // given
+        final KeyPair otherKeyPair = KeyGenUtils.genEc384();
+        final byte[] xrimResponse = XrimGenerator.instance().keyPair(KEY_PAIR).generate();
+        mockDistributionPointResult(xrimResponse);
+        mockSignatureVerification(true);
+        mockClock(NOW, NOW);
+
+        // when
+        sut.verifyXRimAndEnsureRimIsNotRevoked(UNSIGNED_RIM, KEY_PAIR.getPublic(), RESTRICT_UNSIGNED);
+        sut.verifyXRimAndEnsureRimIsNotRevoked(UNSIGNED_RIM, otherKeyPair.getPublic(), RESTRICT_UNSIGNED);
+
+        // then
+        verify(dpConnector).tryGetBytes(anyString());
+        verify(cborSignatureVerifier, times(2)).verify(any(PublicKey.class), any(CBORObject.class));
+    }
+
+    @Test
+    void verifyXRimAndEnsureRimIsNotRevoked_InvalidSignature_IsNotCached() {
+        // given
+        final byte[] xrimResponse = XrimGenerator.instance().keyPair(KEY_PAIR).generate();
+        mockDistributionPointResult(xrimResponse);
+        mockSignatureVerification(false);
+        mockClock(NOW, NOW);
+
+        // when
+        assertThrows(XrimVerificationException.class,
+            () -> sut.verifyXRimAndEnsureRimIsNotRevoked(UNSIGNED_RIM, KEY_PAIR.getPublic(), RESTRICT_UNSIGNED));
+        assertThrows(XrimVerificationException.class,
+            () -> sut.verifyXRimAndEnsureRimIsNotRevoked(UNSIGNED_RIM, KEY_PAIR.getPublic(), RESTRICT_UNSIGNED));
+
+        // then
+        verify(cborSignatureVerifier, times(2)).verify(any(PublicKey.class), any(CBORObject.class));
+    }
+
+    @Test
+    void verifyXRimAndEnsureRimIsNotRevoked_AfterMaxAgeWithUnchangedContent_DoesNotVerifySignatureAgain() {
+        // given
+        final byte[] xrimResponse = XrimGenerator.instance().keyPair(KEY_PAIR).generate();
+        mockDistributionPointResult(xrimResponse);
+        mockSignatureVerification(true);
+        mockClock(NOW, NOW.plus(MAX_AGE));
+
+        // when
+        sut.verifyXRimAndEnsureRimIsNotRevoked(UNSIGNED_RIM, KEY_PAIR.getPublic(), RESTRICT_UNSIGNED);
+        sut.verifyXRimAndEnsureRimIsNotRevoked(UNSIGNED_RIM, KEY_PAIR.getPublic(), RESTRICT_UNSIGNED);
+
+        // then
+        verify(dpConnector, times(2)).tryGetBytes(anyString());
+        verify(cborSignatureVerifier).verify(any(PublicKey.class), any(CBORObject.class));
+    }
+
+    @Test
+    void verifyXRimAndEnsureRimIsNotRevoked_AfterMaxAgeWithChangedContent_UsesNewDenyList() {
+        // given
+        final byte[] xrimResponse = XrimGenerator.instance()
+            .signed(false)
+            .denyItemId(DENY_MANIFEST_KEY_ID)
+            .generate();
+        final byte[] revokingXrimResponse = XrimGenerator.instance()
+            .signed(false)
+            .denyItemId(UNSIGNED_RIM.getManifestId())
+            .generate();
+        when(dpConnector.tryGetBytes(anyString()))
+            .thenReturn(Optional.of(xrimResponse), Optional.of(revokingXrimResponse));
+        mockClock(NOW, NOW.plus(MAX_AGE));
+
+        // when
+        sut.verifyXRimAndEnsureRimIsNotRevoked(UNSIGNED_RIM, KEY_PAIR.getPublic(), ALLOW_UNSIGNED);
+        final var ex = assertThrows(XrimVerificationException.class,
+            () -> sut.verifyXRimAndEnsureRimIsNotRevoked(UNSIGNED_RIM, KEY_PAIR.getPublic(), ALLOW_UNSIGNED));
+
+        // then
+        assertEquals("XCoRIM verification failed: provided CoRIM is revoked.", ex.getMessage());
+        verify(cborSignatureVerifier, never()).verify(any(PublicKey.class), any(CBORObject.class));
+    }
+
     private void mockDistributionPointResult(byte[] response) {
         when(dpConnector.tryGetBytes(anyString())).thenReturn(Optional.ofNullable(response));
     }
@@ -276,4 +382,8 @@ class XrimServiceTest {
     private void mockSignatureVerification(boolean valid) {
         when(cborSignatureVerifier.verify(any(PublicKey.class), any(CBORObject.class))).thenReturn(valid);
     }
+
+    private void mockClock(Instant first, Instant... next) {
+        lenient().when(clock.instant()).thenReturn(first, next);
+    }
 }
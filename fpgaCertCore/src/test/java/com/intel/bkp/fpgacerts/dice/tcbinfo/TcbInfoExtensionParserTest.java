@@ -47,6 +47,7 @@ import static com.intel.bkp.fpgacerts.model.Oid.MEASUREMENT_TYPES;
 import static com.intel.bkp.test.CertificateUtils.readCertificate;
 import static com.intel.bkp.test.CertificateUtils.readCrl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class TcbInfoExtensionParserTest {
 
@@ -197,6 +198,28 @@ class TcbInfoExtensionParserTest {
         assertFwId(tcbInfo, CRLENTRY_EXPECTED_DIGEST);
     }
 
+    @Test
+    void parse_WithSameExtensionInDifferentObjects_SharesParsedTcbInfo() throws Exception {
+        // given
+        TcbInfoExtensionParser.clear();
+        final var crlEntry = getX509CRLEntries(crl)
+            .filter(TcbInfoExtensionParser::containsTcbInfoExtension)
+            .findFirst()
+            .orElseThrow();
+        final var sameCrlEntry = getX509CRLEntries(readCrl(TEST_FOLDER, CRL))
+            .filter(TcbInfoExtensionParser::containsTcbInfoExtension)
+            .findFirst()
+            .orElseThrow();
+
+        // when
+        final List<TcbInfo> tcbInfos = sut.parse(crlEntry);
+        final List<TcbInfo> sameTcbInfos = new TcbInfoExtensionParser().parse(sameCrlEntry);
+
+        // then
+        assertSame(tcbInfos.get(0), sameTcbInfos.get(0));
+        assertEquals(1, TcbInfoExtensionParser.size());
+    }
+
     private void assertFwId(TcbInfo tcbInfo, String expectedDigest) {
         final FwIdField fwId = (FwIdField) tcbInfo.get(TcbInfoField.FWIDS)
             .orElseThrow(() -> new RuntimeException("Expected FwId field in TcbInfo, but it does not exist."));
@@ -0,0 +1,105 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.fpgacerts.dice.tcbinfo.matching;
+
+import com.intel.bkp.fpgacerts.dice.tcbinfo.MeasurementType;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoKey;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledReferenceMeasurementTest {
+
+    @AfterEach
+    void tearDown() {
+        CompiledReferenceMeasurement.clear();
+    }
+
+    @Test
+    void compile_EqualMeasurements_ReturnsSameInstance() {
+        // when
+        final var first = CompiledReferenceMeasurement.compile(measurement(MeasurementType.CMF, 1));
+        final var second = CompiledReferenceMeasurement.compile(measurement(MeasurementType.CMF, 1));
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, CompiledReferenceMeasurement.size());
+    }
+
+    @Test
+    void compile_DifferentValues_ReturnsDifferentInstances() {
+        // when
+        final var first = CompiledReferenceMeasurement.compile(measurement(MeasurementType.CMF, 1));
+        final var second = CompiledReferenceMeasurement.compile(measurement(MeasurementType.CMF, 2));
+
+        // then
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void compile_DifferentKeys_ReturnsDifferentInstances() {
+        // when
+        final var first = CompiledReferenceMeasurement.compile(measurement(MeasurementType.CMF, 1));
+        final var second = CompiledReferenceMeasurement.compile(measurement(MeasurementType.ROM_EXTENSION, 1));
+
+        // then
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void matches_DeviceMeasurement_ComparesValues() {
+        // given
+        final var compiled = CompiledReferenceMeasurement.compile(measurement(MeasurementType.CMF, 1));
+
+        // when-then
+        assertTrue(compiled.matches(DecodedTcbInfoValue.from(value(1))));
+        assertFalse(compiled.matches(DecodedTcbInfoValue.from(value(2))));
+    }
+
+    private static TcbInfoMeasurement measurement(MeasurementType type, int svn) {
+        return new TcbInfoMeasurement(TcbInfoKey.from(type), value(svn));
+    }
+
+    private static TcbInfoValue value(int svn) {
+        return TcbInfoValue.builder().svn(Optional.of(svn)).build();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.fpgacerts.dice.tcbinfo.matching;
+
+import com.intel.bkp.fpgacerts.dice.tcbinfo.FwIdField;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoValue;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.vendorinfo.MaskedVendorInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecodedTcbInfoValueTest {
+
+    private static final FwIdField FWID = new FwIdField("HASH_ALG", "ABCD");
+
+    static Stream<Arguments> vendorInfos() {
+        return Stream.of(
+            Arguments.of("0102", null, "0102", null),
+            Arguments.of("0102", null, "0103", null),
+            Arguments.of("0102", null, "0102", "FF00"),
+            Arguments.of("0102", null, "0103", "FF00"),
+            Arguments.of("0102", null, "0103", "FF01"),
+            Arguments.of("0102", "FF00", "0103", null),
+            Arguments.of("0102", "FF00", "0103", "FF00"),
+            Arguments.of("0102", "FF00", "0102", "FFFF"),
+            Arguments.of("abcd", null, "ABCD", "FFFF"),
+            Arguments.of("abcd", null, "ABCD", null),
+            Arguments.of("01020304", null, "0102", "FFFF"),
+            Arguments.of("0102", null, "01020000", "FFFFFFFF"),
+            Arguments.of("0102", null, "01020001", "FFFFFFFF"),
+            Arguments.of("012", null, "0120", "FFF"),
+            Arguments.of("0121", null, "0120", "FFF"),
+            Arguments.of("01", null, "01", ""),
+            Arguments.of("", null, "00", "FF"),
+            Arguments.of("01ZZ", null, "0100", "FF"),
+            Arguments.of("01", null, "01", "F")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("vendorInfos")
+    void matchesReference_VendorInfo_SameResultAsTcbInfoValue(String actualVendorInfo, String actualMask,
+                                                              String referenceVendorInfo, String referenceMask) {
+        // given
+        final TcbInfoValue actual = valueWithVendorInfo(actualVendorInfo, actualMask);
+        final TcbInfoValue reference = valueWithVendorInfo(referenceVendorInfo, referenceMask);
+
+        // when
+        final boolean result = DecodedTcbInfoValue.from(actual).matchesReference(DecodedTcbInfoValue.from(reference));
+
+        // then
+        assertEquals(actual.matchesReferenceValue(reference), result);
+    }
+
+    @Test
+    void matchesReference_FieldMissingInReference_Matches() {
+        // given
+        final TcbInfoValue actual = TcbInfoValue.builder()
+            .version(Optional.of("1"))
+            .svn(Optional.of(2))
+            .fwid(Optional.of(FWID))
+            .flags(Optional.of("80"))
+            .build();
+        final TcbInfoValue reference = TcbInfoValue.builder().svn(Optional.of(2)).build();
+
+        // when-then
+        assertTrue(DecodedTcbInfoValue.from(actual).matchesReference(DecodedTcbInfoValue.from(reference)));
+    }
+
+    @Test
+    void matchesReference_FieldMissingInActual_DoesNotMatch() {
+        // given
+        final TcbInfoValue actual = TcbInfoValue.builder().svn(Optional.of(2)).build();
+        final TcbInfoValue reference = TcbInfoValue.builder().fwid(Optional.of(FWID)).build();
+
+        // when-then
+        assertFalse(DecodedTcbInfoValue.from(actual).matchesReference(DecodedTcbInfoValue.from(reference)));
+    }
+
+    @Test
+    void matchesReference_FwidDifferentCase_DoesNotMatch() {
+        // given
+        final TcbInfoValue actual = TcbInfoValue.builder()
+            .fwid(Optional.of(new FwIdField("HASH_ALG", "abcd")))
+            .build();
+        final TcbInfoValue reference = TcbInfoValue.builder().fwid(Optional.of(FWID)).build();
+
+        // when-then
+        assertFalse(DecodedTcbInfoValue.from(actual).matchesReference(DecodedTcbInfoValue.from(reference)));
+    }
+
+    @Test
+    void matchesReference_DifferentSvn_DoesNotMatch() {
+        // given
+        final TcbInfoValue actual = TcbInfoValue.builder().svn(Optional.of(1)).build();
+        final TcbInfoValue reference = TcbInfoValue.builder().svn(Optional.of(2)).build();
+
+        // when-then
+        assertFalse(DecodedTcbInfoValue.from(actual).matchesReference(DecodedTcbInfoValue.from(reference)));
+    }
+
+    private static TcbInfoValue valueWithVendorInfo(String vendorInfo, String mask) {
+        final MaskedVendorInfo maskedVendorInfo = new MaskedVendorInfo(vendorInfo);
+        maskedVendorInfo.setVendorInfoMask(mask);
+        return TcbInfoValue.builder()
+            .maskedVendorInfo(Optional.of(maskedVendorInfo))
+            .build();
+    }
+}
@@ -44,6 +44,7 @@ import static com.intel.bkp.fpgacerts.dice.tcbinfo.parsing.FieldParserTestUtils.
 import static com.intel.bkp.fpgacerts.dice.tcbinfo.parsing.FieldParserTestUtils.getOctetString;
 import static com.intel.bkp.fpgacerts.dice.tcbinfo.parsing.FieldParserTestUtils.getSequence;
 import static com.intel.bkp.fpgacerts.dice.tcbinfo.parsing.FieldParserTestUtils.getTaggedSequence;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -72,6 +73,39 @@ class FwidFieldParserTest {
         assertEquals(EXPECTED, result);
     }
 
+    @Test
+    void validate_Valid_DoesNotThrow() {
+        // given
+        final ASN1TaggedObject taggedObj = getFwIdsSequence(getFwIdSequence(HASH_ALG_OBJ, DIGEST_OBJ));
+
+        // when-then
+        assertDoesNotThrow(() -> sut.validate(taggedObj));
+    }
+
+    @Test
+    void validate_WithMultipleFwId_ThrowsException() {
+        // given
+        final ASN1TaggedObject taggedObj = getFwIdsSequence(
+            getFwIdSequence(HASH_ALG_OBJ, DIGEST_OBJ),
+            getFwIdSequence(HASH_ALG_OBJ, DIGEST_OBJ)
+        );
+
+        // when-then
+        assertThrows(IllegalArgumentException.class, () -> sut.validate(taggedObj));
+    }
+
+    @Test
+    void validate_DigestNotSet_ThrowsException() {
+        // given
+        final String expectedMessage = "FwIds field does not contain hashAlg or digest: [1.2.3.4]";
+        final ASN1TaggedObject taggedObj = getFwIdsSequence(getSequence(HASH_ALG_OBJ));
+
+        // when-then
+        final IllegalArgumentException exception =
+            assertThrows(IllegalArgumentException.class, () -> sut.validate(taggedObj));
+        assertEquals(expectedMessage, exception.getMessage());
+    }
+
     @Test
     void parse_WithMultipleFwId_ThrowsException() {
         // given
@@ -313,6 +313,39 @@ class CrlVerifierTest {
         verifyNoInteractions(signatureVerifier);
     }
 
+    @Test
+    void verify_Parallel_NotRevokedChain_Success() {
+        // given
+        sut.certificates(List.of(leafCertificate, parentCertificate, rootCertificate));
+        mockLeafCrlOnDp();
+        mockParentCrlOnDp();
+        when(signatureVerifier.verify(leafCRL, parentCertificate)).thenReturn(true);
+        when(signatureVerifier.verify(parentCRL, rootCertificate)).thenReturn(true);
+        mockLeafCertIsNotRevoked();
+
+        // when-then
+        assertTrue(() -> sut.parallel(Runnable::run).verify());
+
+        // then
+        verify(crlProvider).getCrl(LEAF_CRL_PATH);
+        verify(crlProvider).getCrl(PARENT_CRL_PATH);
+    }
+
+    @Test
+    void verify_Parallel_WithRevokedIntermediateCert_ReturnsFalse() {
+        // given
+        sut.certificates(List.of(leafCertificate, parentCertificate, rootCertificate));
+        mockLeafCrlOnDp();
+        mockParentCrlOnDp();
+        when(signatureVerifier.verify(leafCRL, parentCertificate)).thenReturn(true);
+        when(signatureVerifier.verify(parentCRL, rootCertificate)).thenReturn(true);
+        mockLeafCertIsNotRevoked();
+        mockParentCertIsRevoked();
+
+        // when-then
+        assertFalse(() -> sut.parallel(Runnable::run).verify());
+    }
+
     private void mockChainWith3Certs() {
         when(certificates.listIterator()).thenReturn(certificateChainIterator);
         when(certificateChainIterator.hasNext()).thenReturn(true, true, false);
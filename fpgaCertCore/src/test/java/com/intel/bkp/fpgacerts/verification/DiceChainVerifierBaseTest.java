@@ -274,6 +274,7 @@ class DiceChainVerifierBaseTest {
 
     private void mockCertificateParentVerification(boolean verificationPassed) {
         when(chainVerifier.certificates(certificates)).thenReturn(chainVerifier);
+        when(chainVerifier.parallel(any())).thenReturn(chainVerifier);
         when(chainVerifier.knownExtensionOids(any())).thenReturn(chainVerifier);
         when(chainVerifier.verify()).thenReturn(verificationPassed);
     }
@@ -300,6 +301,7 @@ class DiceChainVerifierBaseTest {
     private void mockCrlVerification(boolean verificationPassed) {
         when(crlVerifier.certificates(certificates)).thenReturn(crlVerifier);
         when(crlVerifier.doNotRequireCrlForLeafCertificate()).thenReturn(crlVerifier);
+        when(crlVerifier.parallel(any())).thenReturn(crlVerifier);
         when(crlVerifier.verify()).thenReturn(verificationPassed);
     }
 
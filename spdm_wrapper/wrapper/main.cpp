@@ -33,42 +33,107 @@
 
 #include "main.h"
 
+#include <memory>
+#include <mutex>
+#include <unordered_map>
+
 session_callbacks_t *cb;
 
+namespace {
+
+const size_t SEND_RECEIVE_BUFFER_SIZE = 20064;
+
 bool m_send_receive_buffer_acquired = false;
-uint8_t m_send_receive_buffer[20064];
-size_t m_send_receive_buffer_size = 20064;
+uint8_t m_send_receive_buffer[SEND_RECEIVE_BUFFER_SIZE];
+
+// Callbacks and default transport buffer of a single context, so that contexts used concurrently by different
+// sessions never call into each other's callbacks nor share a buffer.
+typedef struct {
+    session_callbacks_t *callbacks;
+    bool buffer_acquired;
+    uint8_t buffer[SEND_RECEIVE_BUFFER_SIZE];
+} context_binding_t;
+
+std::mutex m_bindings_mutex;
+std::unordered_map<void *, std::unique_ptr<context_binding_t>> m_bindings;
+
+// libspdm invokes callbacks synchronously on the thread that called the wrapper. Data sign callback does not get
+// the context, so callbacks of the context in use are also kept per thread for the duration of the wrapper call.
+thread_local session_callbacks_t *m_current_callbacks = nullptr;
+
+context_binding_t *binding_of(void *spdm_context) {
+    std::lock_guard<std::mutex> lock(m_bindings_mutex);
+    auto binding = m_bindings.find(spdm_context);
+    return binding == m_bindings.end() ? nullptr : binding->second.get();
+}
 
-libspdm_return_t spdm_device_acquire_sender_buffer(
-        void *context, void **msg_buf_ptr) {
-    if (m_send_receive_buffer_acquired) {
+// Contexts without own binding fall back to callbacks registered with set_callbacks.
+session_callbacks_t *callbacks_of(void *spdm_context) {
+    context_binding_t *binding = binding_of(spdm_context);
+    return binding != nullptr ? binding->callbacks : cb;
+}
+
+class callbacks_scope {
+public:
+    explicit callbacks_scope(void *spdm_context) : previous(m_current_callbacks) {
+        m_current_callbacks = callbacks_of(spdm_context);
+    }
+
+    ~callbacks_scope() {
+        m_current_callbacks = previous;
+    }
+
+    session_callbacks_t *operator->() const {
+        return m_current_callbacks;
+    }
+
+private:
+    session_callbacks_t *previous;
+};
+
+libspdm_return_t acquire_buffer(void *context, void **msg_buf_ptr) {
+    context_binding_t *binding = binding_of(context);
+    bool *acquired = binding != nullptr ? &binding->buffer_acquired : &m_send_receive_buffer_acquired;
+    uint8_t *buffer = binding != nullptr ? binding->buffer : m_send_receive_buffer;
+
+    if (*acquired) {
         return LIBSPDM_STATUS_ACQUIRE_FAIL;
     }
-    *msg_buf_ptr = m_send_receive_buffer;
-    libspdm_zero_mem(m_send_receive_buffer, m_send_receive_buffer_size);
-    m_send_receive_buffer_acquired = true;
+    *msg_buf_ptr = buffer;
+    libspdm_zero_mem(buffer, SEND_RECEIVE_BUFFER_SIZE);
+    *acquired = true;
     return LIBSPDM_STATUS_SUCCESS;
 }
 
+void release_buffer(void *context) {
+    context_binding_t *binding = binding_of(context);
+    if (binding != nullptr) {
+        binding->buffer_acquired = false;
+    } else {
+        m_send_receive_buffer_acquired = false;
+    }
+}
+
+}
+
+libspdm_return_t spdm_device_acquire_sender_buffer(
+        void *context, void **msg_buf_ptr) {
+    return acquire_buffer(context, msg_buf_ptr);
+}
+
 void spdm_device_release_sender_buffer(
         void *context, const void *msg_buf_ptr) {
-    m_send_receive_buffer_acquired = false;
+    release_buffer(context);
 }
 
 libspdm_return_t spdm_device_acquire_receiver_buffer(
         void *context, void **msg_buf_ptr) {
-    if (m_send_receive_buffer_acquired) {
-        return LIBSPDM_STATUS_ACQUIRE_FAIL;
-    }
-    *msg_buf_ptr = m_send_receive_buffer;
-    libspdm_zero_mem(m_send_receive_buffer, m_send_receive_buffer_size);
-    m_send_receive_buffer_acquired = true;
-    return LIBSPDM_STATUS_SUCCESS;
+    return acquire_buffer(context, msg_buf_ptr);
 }
 
 void spdm_device_release_receiver_buffer(
         void *context, const void *msg_buf_ptr) {
-    m_send_receive_buffer_acquired = false;
+    release_buffer(context);
 }
 
 bool libspdm_requester_data_sign(
@@ -77,10 +142,11 @@ bool libspdm_requester_data_sign(
         uint32_t base_hash_algo, bool is_data_hash,
         const uint8_t *message, size_t message_size,
         uint8_t *signature, size_t *sig_size) {
-    cb->printCallback("Called libspdm_requester_data_sign.");
+    session_callbacks_t *callbacks = m_current_callbacks != nullptr ? m_current_callbacks : cb;
+    callbacks->printCallback("Called libspdm_requester_data_sign.");
 
-    return cb->spdmRequesterDataSignCallback != nullptr &&
-           cb->spdmRequesterDataSignCallback(spdm_version, op_code, req_base_asym_alg, base_hash_algo, is_data_hash,
+    return callbacks->spdmRequesterDataSignCallback != nullptr &&
+           callbacks->spdmRequesterDataSignCallback(spdm_version, op_code, req_base_asym_alg, base_hash_algo, is_data_hash,
                                              message, message_size, signature, sig_size);
 }
 
@@ -88,7 +154,8 @@ libspdm_return_t libspdm_transport_mctp_encode_message_w(
         void *spdm_context, const uint32_t *session_id, bool is_app_message,
         bool is_request_message, size_t message_size, void *message,
         size_t *transport_message_size, void **transport_message) {
-    cb->printCallback("Called libspdm_transport_mctp_encode_message_w.");
+    session_callbacks_t *callbacks = callbacks_of(spdm_context);
+    callbacks->printCallback("Called libspdm_transport_mctp_encode_message_w.");
 
     libspdm_return_t encode_result = libspdm_transport_mctp_encode_message(spdm_context, session_id, is_app_message,
                                                                            is_request_message, message_size,
@@ -96,7 +163,7 @@ libspdm_return_t libspdm_transport_mctp_encode_message_w(
                                                                            transport_message);
 
     if (encode_result != LIBSPDM_STATUS_SUCCESS || *transport_message_size == 0) {
-        cb->printCallback("MCTP encode failed.");
+        callbacks->printCallback("MCTP encode failed.");
         return encode_result;
     }
 
@@ -108,8 +175,8 @@ libspdm_return_t libspdm_transport_mctp_encode_message_w(
 
     uint8_t mctp_encapsulation_type = tmp_buffer_with_mctp_header[3] == SECURE_MCTP_MESSAGE_TYPE
                                       ? MCTP_ENCAPSULATION_TYPE_0
-                                      : (cb->mctpEncapsulationTypeCallback != nullptr)
-                                        ? cb->mctpEncapsulationTypeCallback()
+                                      : (callbacks->mctpEncapsulationTypeCallback != nullptr)
+                                        ? callbacks->mctpEncapsulationTypeCallback()
                                         : MCTP_ENCAPSULATION_TYPE_1;
     tmp_buffer_with_mctp_header[2] = MCTP_MSG_TAG << 5 | MCTP_TO << 4 | MCTP_RSVD << 1 | mctp_encapsulation_type;
 
@@ -128,10 +195,11 @@ libspdm_return_t libspdm_transport_mctp_decode_message_w(
         bool *is_app_message, bool is_request_message,
         size_t transport_message_size, void *transport_message,
         size_t *message_size, void **message) {
-    cb->printCallback("Called libspdm_transport_mctp_decode_message_w.");
+    session_callbacks_t *callbacks = callbacks_of(spdm_context);
+    callbacks->printCallback("Called libspdm_transport_mctp_decode_message_w.");
 
     if (transport_message_size < MCTP_ALIGNMENT_LEN) {
-        cb->printCallback("MCTP decode failed.");
+        callbacks->printCallback("MCTP decode failed.");
         return LIBSPDM_STATUS_INVALID_PARAMETER;
     }
 
@@ -147,6 +215,25 @@ void set_callbacks(session_callbacks_t *callbacks) {
     cb = callbacks;
 }
 
+void libspdm_bind_callbacks_w(void *spdm_context, session_callbacks_t *callbacks) {
+    std::unique_ptr<context_binding_t> binding(new context_binding_t());
+    binding->callbacks = callbacks;
+    binding->buffer_acquired = false;
+    libspdm_zero_mem(binding->buffer, SEND_RECEIVE_BUFFER_SIZE);
+
+    std::lock_guard<std::mutex> lock(m_bindings_mutex);
+    m_bindings[spdm_context] = std::move(binding);
+}
+
+void libspdm_unbind_callbacks_w(void *spdm_context) {
+    std::lock_guard<std::mutex> lock(m_bindings_mutex);
+    auto binding = m_bindings.find(spdm_context);
+    if (binding != m_bindings.end()) {
+        libspdm_zero_mem(binding->second->buffer, SEND_RECEIVE_BUFFER_SIZE);
+        m_bindings.erase(binding);
+    }
+}
+
 bool verify_spdm_cert_chain_func(void *spdm_context,
                                  uint8_t slot_id,
                                  size_t cert_chain_size,
@@ -158,7 +245,8 @@ bool verify_spdm_cert_chain_func(void *spdm_context,
 }
 
 void libspdm_get_version_w(void *spdm_context, uint8_t *version_p) {
-    cb->printCallback("Called libspdm_get_version_w.");
+    callbacks_scope callbacks(spdm_context);
+    callbacks->printCallback("Called libspdm_get_version_w.");
 
     spdm_version_number_t spdm_version_number_entry;
     libspdm_data_parameter_t parameter;
@@ -184,13 +272,15 @@ size_t libspdm_get_context_size_w() {
 }
 
 void libspdm_deinit_context_w(void *spdm_context) {
-    cb->printCallback("Called libspdm_deinit_context_w.");
+    callbacks_scope callbacks(spdm_context);
+    callbacks->printCallback("Called libspdm_deinit_context_w.");
     libspdm_deinit_context(spdm_context);
 }
 
 bool libspdm_is_capabilities_flag_supported_by_responder(void *spdm_context,
                                                          uint32_t responder_capabilities_flag) {
-    cb->printCallback("Called libspdm_is_capabilities_flag_supported_by_responder.");
+    callbacks_scope callbacks(spdm_context);
+    callbacks->printCallback("Called libspdm_is_capabilities_flag_supported_by_responder.");
 
     libspdm_data_parameter_t parameter;
     parameter.location = LIBSPDM_DATA_LOCATION_CONNECTION;
@@ -206,7 +296,7 @@ bool libspdm_is_capabilities_flag_supported_by_responder(void *spdm_context,
     }
 
     if (data_size != sizeof(uint32_t)) {
-        cb->printCallback("Returned data_size is invalid.");
+        callbacks->printCallback("Returned data_size is invalid.");
         return false;
     }
 
@@ -221,6 +311,7 @@ libspdm_return_t libspdm_prepare_context_w(void *spdm_context,
     uint32_t maxSpdmMessageSize = bufferSize
                                   - LIBSPDM_MCTP_TRANSPORT_HEADER_SIZE - MCTP_ALIGNMENT_LEN -
                                   LIBSPDM_MCTP_TRANSPORT_TAIL_SIZE;
+    callbacks_scope callbacks(spdm_context);
 
     libspdm_return_t status = libspdm_init_context(spdm_context);
 
@@ -233,31 +324,31 @@ libspdm_return_t libspdm_prepare_context_w(void *spdm_context,
     libspdm_register_device_buffer_func(spdm_context,
                                         senderBufferSize,
                                         receiverBufferSize,
-                                        cb->spdmDeviceAcquireSenderBufferCallback != nullptr
-                                        ? cb->spdmDeviceAcquireSenderBufferCallback
+                                        callbacks->spdmDeviceAcquireSenderBufferCallback != nullptr
+                                        ? callbacks->spdmDeviceAcquireSenderBufferCallback
                                         : spdm_device_acquire_sender_buffer,
-                                        cb->spdmDeviceReleaseSenderBufferCallback != nullptr
-                                        ? cb->spdmDeviceReleaseSenderBufferCallback
+                                        callbacks->spdmDeviceReleaseSenderBufferCallback != nullptr
+                                        ? callbacks->spdmDeviceReleaseSenderBufferCallback
                                         : spdm_device_release_sender_buffer,
-                                        cb->spdmDeviceAcquireReceiverBufferCallback != nullptr
-                                        ? cb->spdmDeviceAcquireReceiverBufferCallback
+                                        callbacks->spdmDeviceAcquireReceiverBufferCallback != nullptr
+                                        ? callbacks->spdmDeviceAcquireReceiverBufferCallback
                                         : spdm_device_acquire_receiver_buffer,
-                                        cb->spdmDeviceReleaseReceiverBufferCallback != nullptr
-                                        ? cb->spdmDeviceReleaseReceiverBufferCallback
+                                        callbacks->spdmDeviceReleaseReceiverBufferCallback != nullptr
+                                        ? callbacks->spdmDeviceReleaseReceiverBufferCallback
                                         : spdm_device_release_receiver_buffer);
 
-    libspdm_register_device_io_func(spdm_context, cb->spdmDeviceSendMessageCallback,
-                                    cb->spdmDeviceReceiveMessageCallback);
+    libspdm_register_device_io_func(spdm_context, callbacks->spdmDeviceSendMessageCallback,
+                                    callbacks->spdmDeviceReceiveMessageCallback);
 
     libspdm_register_transport_layer_func(spdm_context,
                                           maxSpdmMessageSize,
                                           LIBSPDM_MCTP_TRANSPORT_HEADER_SIZE + MCTP_ALIGNMENT_LEN,
                                           LIBSPDM_MCTP_TRANSPORT_TAIL_SIZE,
-                                          cb->mctpEncodeCallback != nullptr
-                                          ? cb->mctpEncodeCallback
+                                          callbacks->mctpEncodeCallback != nullptr
+                                          ? callbacks->mctpEncodeCallback
                                           : libspdm_transport_mctp_encode_message_w,
-                                          cb->mctpDecodeCallback != nullptr
-                                          ? cb->mctpDecodeCallback
+                                          callbacks->mctpDecodeCallback != nullptr
+                                          ? callbacks->mctpDecodeCallback
                                           : libspdm_transport_mctp_decode_message_w);
     return LIBSPDM_STATUS_SUCCESS;
 }
@@ -274,7 +365,8 @@ void libspdm_set_scratch_buffer_w(void *spdm_context,
 
 libspdm_return_t libspdm_init_connection_w(void *spdm_context,
                                            bool get_version_only) {
-    cb->printCallback("Called libspdm_init_connection_w.");
+    callbacks_scope callbacks(spdm_context);
+    callbacks->printCallback("Called libspdm_init_connection_w.");
     return libspdm_init_connection(spdm_context, get_version_only);
 }
 
@@ -282,7 +374,8 @@ libspdm_return_t libspdm_get_digest_w(void *spdm_context,
                                       const uint32_t *session_id,
                                       uint8_t *slot_mask,
                                       void *total_digest_buffer) {
-    cb->printCallback("Called libspdm_get_digest_w.");
+    callbacks_scope callbacks(spdm_context);
+    callbacks->printCallback("Called libspdm_get_digest_w.");
     return libspdm_get_digest(spdm_context, session_id, slot_mask, total_digest_buffer);
 }
 
@@ -291,7 +384,8 @@ libspdm_return_t libspdm_get_certificate_w(void *spdm_context,
                                            uint8_t slot_id,
                                            size_t *cert_chain_size,
                                            void *cert_chain) {
-    cb->printCallback("Called libspdm_get_certificate_w.");
+    callbacks_scope callbacks(spdm_context);
+    callbacks->printCallback("Called libspdm_get_certificate_w.");
     return libspdm_get_certificate(spdm_context, session_id, slot_id, cert_chain_size, cert_chain);
 }
 
@@ -304,7 +398,8 @@ libspdm_return_t libspdm_get_measurement_w(void *spdm_context,
                                            uint8_t *number_of_blocks,
                                            uint32_t *measurement_record_length,
                                            void *measurement_record) {
-    cb->printCallback("Called libspdm_get_measurement_w.");
+    callbacks_scope callbacks(spdm_context);
+    callbacks->printCallback("Called libspdm_get_measurement_w.");
     return libspdm_get_measurement(spdm_context, session_id, request_attribute, measurement_operation,
                                    slot_id, content_changed, number_of_blocks, measurement_record_length,
                                    measurement_record);
@@ -315,7 +410,8 @@ libspdm_return_t libspdm_set_certificate_w(void *spdm_context,
                                            uint8_t slot_id,
                                            void *cert_chain,
                                            size_t cert_chain_size) {
-    cb->printCallback("Called libspdm_set_certificate_w.");
+    callbacks_scope callbacks(spdm_context);
+    callbacks->printCallback("Called libspdm_set_certificate_w.");
     return libspdm_set_certificate(spdm_context, session_id, slot_id, cert_chain, cert_chain_size);
 }
 
@@ -329,7 +425,8 @@ libspdm_return_t libspdm_start_session_w(void *spdm_context,
                                          uint32_t *session_id,
                                          uint8_t *heartbeat_period,
                                          void *measurement_hash) {
-    cb->printCallback("Called libspdm_start_session_w.");
+    callbacks_scope callbacks(spdm_context);
+    callbacks->printCallback("Called libspdm_start_session_w.");
     return libspdm_start_session(spdm_context, use_psk, psk_hint, psk_hint_size, measurement_hash_type,
                                  slot_id, session_policy, session_id, heartbeat_period, measurement_hash);
 }
@@ -337,7 +434,8 @@ libspdm_return_t libspdm_start_session_w(void *spdm_context,
 libspdm_return_t libspdm_stop_session_w(void *spdm_context,
                                         uint32_t session_id,
                                         uint8_t end_session_attributes) {
-    cb->printCallback("Called libspdm_stop_session_w.");
+    callbacks_scope callbacks(spdm_context);
+    callbacks->printCallback("Called libspdm_stop_session_w.");
     return libspdm_stop_session(spdm_context, session_id, end_session_attributes);
 }
 
@@ -348,7 +446,8 @@ libspdm_return_t libspdm_send_receive_data_w(void *spdm_context,
                                              size_t request_size,
                                              void *response,
                                              size_t *response_size) {
-    cb->printCallback("Called libspdm_send_receive_data_w.");
+    callbacks_scope callbacks(spdm_context);
+    callbacks->printCallback("Called libspdm_send_receive_data_w.");
     return libspdm_send_receive_data(spdm_context, session_id, is_app_message, request,
                                      request_size, response, response_size);
 }
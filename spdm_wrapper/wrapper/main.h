@@ -201,9 +201,19 @@ bool libspdm_requester_data_sign(
         const uint8_t *message, size_t message_size,
         uint8_t *signature, size_t *sig_size);
 
+// Callbacks used by contexts that have no callbacks bound with libspdm_bind_callbacks_w.
 LIBRARY_EXPORT_ATTRIBUTE
 void set_callbacks(session_callbacks_t *callbacks);
 
+// Binds callbacks to a context, so that concurrent sessions never use callbacks of each other.
+// Must be called before libspdm_prepare_context_w. Callbacks must stay valid until the context is unbound.
+LIBRARY_EXPORT_ATTRIBUTE
+void libspdm_bind_callbacks_w(void *spdm_context, session_callbacks_t *callbacks);
+
+// Removes callbacks bound to a context and clears its default transport buffer, e.g. before the context is reused.
+LIBRARY_EXPORT_ATTRIBUTE
+void libspdm_unbind_callbacks_w(void *spdm_context);
+
 LIBRARY_EXPORT_ATTRIBUTE
 void libspdm_get_version_w(void *spdm_context_p,
                            uint8_t *version_p);
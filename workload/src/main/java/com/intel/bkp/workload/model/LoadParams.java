@@ -0,0 +1,70 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.workload.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parameters of load-generation mode - commands are sent to the devices in a loop, by concurrent workers, until
+ * the duration elapses.
+ */
+@Getter
+@Builder
+@ToString
+public class LoadParams {
+
+    public static final int DEFAULT_CONCURRENCY = 4;
+    public static final Duration DEFAULT_DURATION = Duration.ofSeconds(60);
+
+    private final List<String> transportIds;
+    @Builder.Default
+    private final int concurrency = DEFAULT_CONCURRENCY;
+    @Builder.Default
+    private final Duration duration = DEFAULT_DURATION;
+    @Builder.Default
+    private final Duration rampUp = Duration.ZERO;
+    /**
+     * Relative weights of commands, e.g. GET=8, HEALTH=2 sends GET in 80% of requests.
+     */
+    private final Map<CommandType, Integer> commandMix;
+    /**
+     * Path of JSON report file. If not set, report is logged.
+     */
+    private final String reportPath;
+}
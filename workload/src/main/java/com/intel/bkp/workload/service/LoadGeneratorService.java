@@ -0,0 +1,372 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.workload.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.intel.bkp.verifier.interfaces.VerifierExchange;
+import com.intel.bkp.verifier.model.VerifierExchangeResponse;
+import com.intel.bkp.verifier.service.VerifierExchangeImpl;
+import com.intel.bkp.verifier.service.certificate.AppContext;
+import com.intel.bkp.workload.exceptions.WorkloadAppException;
+import com.intel.bkp.workload.model.CommandType;
+import com.intel.bkp.workload.model.LoadParams;
+import com.intel.bkp.workload.model.LoadReport;
+import com.intel.bkp.workload.model.LoadStatistics;
+import com.intel.bkp.workload.util.AppArgument;
+import com.intel.bkp.workload.util.LatencyHistogram;
+import com.intel.bkp.workload.util.WorkloadFileReader;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.intel.bkp.verifier.model.VerifierExchangeResponse.ERROR;
+import static com.intel.bkp.verifier.model.VerifierExchangeResponse.OK;
+
+/**
+ * Load-generation mode of the workload app.
+ *
+ * <p>All requests share one initialized {@link AppContext}; each request runs in its own device session, the same
+ * way {@code VerifierBatchExchangeImpl} does it. Devices are used in round-robin order, commands are drawn randomly
+ * according to configured mix. Latency percentiles, throughput and error breakdown are reported as JSON.</p>
+ *
+ * <p>Requests started during ramp-up are a warm-up - they are sent, but not included in the report, so throughput
+ * and latency describe the steady state with all workers running.</p>
+ *
+ * <p>Load is sent to real devices through the configured transport. Simulated devices are not supported here - an
+ * in-process transport would bring TestLibrary into the production jar and TCP transport waits a second per packet,
+ * so {@code SimulatedSpdmDevice} from TestLibrary is used by the benchmarks and tests instead.</p>
+ */
+@Slf4j
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class LoadGeneratorService {
+
+    private static final String INVALID_DEVICES = "Provide at least one device to run load mode.";
+    private static final String INVALID_CONCURRENCY = "Load mode concurrency must be a positive number.";
+    private static final String INVALID_DURATION = "Load mode duration must be positive.";
+    private static final String INVALID_COMMAND_MIX = "Load mode command mix must contain a positive weight.";
+    private static final String INVALID_REF_MEASUREMENT
+        = "Provide valid --ref-measurement parameter to invoke GET command.";
+    private static final String INVALID_CONTEXT = "Provide valid --context parameter to invoke CREATE command.";
+    private static final String INVALID_PUF_TYPE = "Provide valid --puf-type parameter to invoke CREATE command.";
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final Supplier<AppContext> appContextFactory;
+    private final Function<Supplier<AppContext>, VerifierExchange> verifierExchangeFactory;
+    private final WorkloadFileReader fileReader;
+
+    public LoadGeneratorService() {
+        this(AppContext::create, VerifierExchangeImpl::new, new WorkloadFileReader());
+    }
+
+    public int generateLoad(AppArgument appArgs) {
+        final LoadParams params = appArgs.getLoad();
+        verifyParams(params);
+        final Map<CommandType, LoadCommand> commands = prepareCommands(appArgs, params.getCommandMix());
+
+        final LoadReport report;
+        try (AppContext appContext = appContextFactory.get()) {
+            appContext.init();
+            report = run(appContext, params, commands);
+        }
+
+        writeReport(report, params.getReportPath());
+        return report.getTotal().getErrors() == 0 ? OK.getCode() : ERROR.getCode();
+    }
+
+    interface LoadCommand {
+
+        int perform(VerifierExchange verifierExchange, String transportId);
+    }
+
+    private void verifyParams(LoadParams params) {
+        verifyParam(params.getTransportIds() != null && !params.getTransportIds().isEmpty(), INVALID_DEVICES);
+        verifyParam(params.getConcurrency() > 0, INVALID_CONCURRENCY);
+        verifyParam(!params.getDuration().isNegative() && !params.getDuration().isZero(), INVALID_DURATION);
+        verifyParam(params.getCommandMix() != null
+            && params.getCommandMix().values().stream().anyMatch(weight -> weight > 0), INVALID_COMMAND_MIX);
+    }
+
+    private Map<CommandType, LoadCommand> prepareCommands(AppArgument appArgs, Map<CommandType, Integer> mix) {
+        final Map<CommandType, LoadCommand> commands = new EnumMap<>(CommandType.class);
+        mix.forEach((commandType, weight) -> {
+            if (weight > 0) {
+                commands.put(commandType, prepareCommand(appArgs, commandType));
+            }
+        });
+        return commands;
+    }
+
+    private LoadCommand prepareCommand(AppArgument appArgs, CommandType commandType) {
+        return switch (commandType) {
+            case GET -> prepareGet(appArgs);
+            case CREATE -> prepareCreate(appArgs);
+            case HEALTH -> VerifierExchange::healthCheck;
+        };
+    }
+
+    private LoadCommand prepareGet(AppArgument appArgs) {
+        final String refMeasurementFilePath = appArgs.getRefMeasurement();
+        verifyParam(refMeasurementFilePath != null
+            && fileReader.exists(refMeasurementFilePath), INVALID_REF_MEASUREMENT);
+
+        final String refMeasurementHex = fileReader.readFile(refMeasurementFilePath);
+        return (verifierExchange, transportId) ->
+            verifierExchange.getDeviceAttestation(transportId, refMeasurementHex).getStatus();
+    }
+
+    private LoadCommand prepareCreate(AppArgument appArgs) {
+        verifyParam(appArgs.getContext() != null, INVALID_CONTEXT);
+        verifyParam(appArgs.getPufType() != null, INVALID_PUF_TYPE);
+
+        final String context = appArgs.getContext();
+        final String pufType = appArgs.getPufType();
+        return (verifierExchange, transportId) ->
+            verifierExchange.createDeviceAttestationSubKey(transportId, context, pufType);
+    }
+
+    private LoadReport run(AppContext appContext, LoadParams params, Map<CommandType, LoadCommand> commands) {
+        final CommandPicker picker = new CommandPicker(params.getCommandMix());
+        final Map<CommandType, StatisticsRecorder> recorders = new EnumMap<>(CommandType.class);
+        commands.keySet().forEach(commandType -> recorders.put(commandType, new StatisticsRecorder()));
+        final StatisticsRecorder totalRecorder = new StatisticsRecorder();
+        final AtomicLong requestCounter = new AtomicLong();
+        final List<String> transportIds = params.getTransportIds();
+        final VerifierExchange verifierExchange = verifierExchangeFactory.apply(appContext::forDevice);
+
+        log.info("[WORKLOAD] Starting load: {} devices, {} workers, ramp-up {}, duration {}, mix {}.",
+            transportIds.size(), params.getConcurrency(), params.getRampUp(), params.getDuration(),
+            params.getCommandMix());
+
+        final long startNanos = System.nanoTime();
+        final long measureFromNanos = startNanos + params.getRampUp().toNanos();
+        final long deadlineNanos = measureFromNanos + params.getDuration().toNanos();
+        final ExecutorService executor = Executors.newFixedThreadPool(params.getConcurrency());
+        try {
+            for (int worker = 0; worker < params.getConcurrency(); worker++) {
+                final long startDelayNanos = params.getRampUp().toNanos() * worker / params.getConcurrency();
+                executor.execute(() -> {
+                    sleepNanos(startDelayNanos);
+                    while (System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted()) {
+                        final String transportId = transportIds.get(
+                            (int) (requestCounter.getAndIncrement() % transportIds.size()));
+                        final CommandType commandType = picker.next();
+                        perform(verifierExchange, commands.get(commandType), transportId, measureFromNanos,
+                            recorders.get(commandType), totalRecorder);
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        awaitTermination(executor, deadlineNanos);
+        final double measuredSeconds = Math.max(0, System.nanoTime() - measureFromNanos)
+            / (double) TimeUnit.SECONDS.toNanos(1);
+
+        final Map<CommandType, LoadStatistics> commandStatistics = new EnumMap<>(CommandType.class);
+        recorders.forEach((commandType, recorder) ->
+            commandStatistics.put(commandType, recorder.toStatistics(measuredSeconds)));
+        return new LoadReport(transportIds.size(), params.getConcurrency(), measuredSeconds,
+            totalRecorder.toStatistics(measuredSeconds), commandStatistics);
+    }
+
+    private void perform(VerifierExchange verifierExchange, LoadCommand command, String transportId,
+                         long measureFromNanos, StatisticsRecorder commandRecorder,
+                         StatisticsRecorder totalRecorder) {
+        final long start = System.nanoTime();
+        String outcome;
+        try {
+            outcome = toOutcome(command.perform(verifierExchange, transportId));
+        } catch (Exception e) {
+            log.debug("[WORKLOAD] Request to {} failed: {}", transportId, e.getMessage());
+            outcome = e.getClass().getSimpleName();
+        }
+        if (start < measureFromNanos) {
+            return;
+        }
+
+        final long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        commandRecorder.record(latencyMicros, outcome);
+        totalRecorder.record(latencyMicros, outcome);
+    }
+
+    private static String toOutcome(int returnCode) {
+        try {
+            return VerifierExchangeResponse.from(returnCode).name();
+        } catch (IllegalArgumentException e) {
+            return "UNKNOWN_" + returnCode;
+        }
+    }
+
+    private static void sleepNanos(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor, long deadlineNanos) {
+        try {
+            // In-flight requests are allowed to finish, but not to hang forever.
+            final long graceNanos = TimeUnit.MINUTES.toNanos(1);
+            final long waitNanos = Math.max(0, deadlineNanos - System.nanoTime()) + graceNanos;
+            if (!executor.awaitTermination(waitNanos, TimeUnit.NANOSECONDS)) {
+                log.warn("[WORKLOAD] Some requests did not finish in time - stopping workers.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    private void writeReport(LoadReport report, String reportPath) {
+        final String json = toJson(report);
+        if (reportPath == null) {
+            log.info("[WORKLOAD] Load report:\n{}", json);
+            return;
+        }
+
+        try {
+            Files.writeString(Path.of(reportPath), json);
+            log.info("[WORKLOAD] Load report saved to: {}", reportPath);
+        } catch (IOException e) {
+            throw new WorkloadAppException("Failed to write load report: " + reportPath, e);
+        }
+    }
+
+    static String toJson(LoadReport report) {
+        try {
+            return new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValueAsString(report);
+        } catch (JsonProcessingException e) {
+            throw new WorkloadAppException("Failed to serialize load report.", e);
+        }
+    }
+
+    private void verifyParam(boolean isValid, String errorMsg) {
+        if (!isValid) {
+            throw new WorkloadAppException(errorMsg);
+        }
+    }
+
+    private static class CommandPicker {
+
+        private final List<CommandType> commandTypes = new ArrayList<>();
+        private final List<Integer> cumulativeWeights = new ArrayList<>();
+        private final int totalWeight;
+
+        CommandPicker(Map<CommandType, Integer> mix) {
+            int total = 0;
+            for (Map.Entry<CommandType, Integer> entry : mix.entrySet()) {
+                if (entry.getValue() > 0) {
+                    total += entry.getValue();
+                    commandTypes.add(entry.getKey());
+                    cumulativeWeights.add(total);
+                }
+            }
+            this.totalWeight = total;
+        }
+
+        CommandType next() {
+            final int drawn = ThreadLocalRandom.current().nextInt(totalWeight);
+            for (int i = 0; i < commandTypes.size(); i++) {
+                if (drawn < cumulativeWeights.get(i)) {
+                    return commandTypes.get(i);
+                }
+            }
+            return commandTypes.get(commandTypes.size() - 1);
+        }
+    }
+
+    private static class StatisticsRecorder {
+
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final Map<String, LongAdder> errorBreakdown = new ConcurrentHashMap<>();
+
+        void record(long latencyMicros, String outcome) {
+            histogram.record(latencyMicros);
+            if (!OK.name().equals(outcome)) {
+                errors.increment();
+                errorBreakdown.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+            }
+        }
+
+        LoadStatistics toStatistics(double measuredSeconds) {
+            final long requests = histogram.getTotalCount();
+            final Map<String, Long> latency = new LinkedHashMap<>();
+            for (double percentile : PERCENTILES) {
+                latency.put("p" + formatPercentile(percentile), histogram.getValueAtPercentile(percentile));
+            }
+            latency.put("max", histogram.getMax());
+            latency.put("mean", histogram.getMean());
+
+            final Map<String, Long> breakdown = new LinkedHashMap<>();
+            errorBreakdown.forEach((outcome, count) -> breakdown.put(outcome, count.sum()));
+            return new LoadStatistics(requests, errors.sum(),
+                measuredSeconds > 0 ? requests / measuredSeconds : 0, latency, breakdown);
+        }
+
+        private static String formatPercentile(double percentile) {
+            return percentile == Math.rint(percentile)
+                   ? String.valueOf((long) percentile)
+                   : String.valueOf(percentile).replace(".", "_");
+        }
+    }
+}
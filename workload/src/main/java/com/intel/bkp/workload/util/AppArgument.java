@@ -33,6 +33,7 @@
 package com.intel.bkp.workload.util;
 
 import com.intel.bkp.workload.model.CommandType;
+import com.intel.bkp.workload.model.LoadParams;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -56,10 +57,16 @@ public class AppArgument {
     private String pufType;
     private String refMeasurement;
     private String logLevel;
+    private LoadParams load;
 
     public static class AppArgumentBuilder {
 
         public AppArgumentBuilder command(String command) {
+            if (command == null) {
+                this.command = null;
+                return this;
+            }
+
             final String name = command.trim().toUpperCase();
             try {
                 this.command = CommandType.valueOf(name);
@@ -32,6 +32,9 @@
 
 package com.intel.bkp.workload.util;
 
+import com.intel.bkp.workload.exceptions.WorkloadAppException;
+import com.intel.bkp.workload.model.CommandType;
+import com.intel.bkp.workload.model.LoadParams;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,10 +42,18 @@ import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.MissingOptionException;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class AppArgumentParser {
@@ -50,6 +61,15 @@ public class AppArgumentParser {
     private static final String WORKLOAD_APP_DESC =
         "WorkloadApp --command GET --transport-id \"host:127.0.0.1;port:50001\" "
             + "--ref-measurement /path/to/reference.rim";
+    private static final String TRANSPORT_ID = "transport-id";
+    private static final String COMMAND = "command";
+    private static final String LOAD = "load";
+    private static final String DEVICES = "devices";
+    private static final String CONCURRENCY = "concurrency";
+    private static final String DURATION = "duration";
+    private static final String RAMP_UP = "ramp-up";
+    private static final String MIX = "mix";
+    private static final String REPORT = "report";
 
     public static AppArgument parseArguments(String[] args) {
         Options options = getOptions();
@@ -60,6 +80,7 @@ public class AppArgumentParser {
 
         try {
             cmd = parser.parse(options, args);
+            verifyRequiredOptions(cmd);
         } catch (ParseException e) {
             log.error("[WORKLOAD] Failed to parse arguments: {}", e.getMessage());
             log.debug("Stacktrace: ", e);
@@ -67,26 +88,99 @@ public class AppArgumentParser {
             System.exit(1);
         }
 
-        return AppArgument.instance()
-            .transportId(cmd.getOptionValue("transport-id").trim())
+        final AppArgument appArgument = AppArgument.instance()
+            .transportId(Optional.ofNullable(cmd.getOptionValue(TRANSPORT_ID)).map(String::trim).orElse(null))
             .context(cmd.getOptionValue("context"))
             .pufType(cmd.getOptionValue("puf-type"))
             .refMeasurement(cmd.getOptionValue("ref-measurement"))
-            .command(cmd.getOptionValue("command").trim())
+            .command(cmd.getOptionValue(COMMAND))
             .logLevel(cmd.getOptionValue("log-level"))
             .build();
+
+        if (cmd.hasOption(LOAD)) {
+            appArgument.setLoad(parseLoadParams(cmd, appArgument));
+        }
+        return appArgument;
+    }
+
+    private static void verifyRequiredOptions(CommandLine cmd) throws MissingOptionException {
+        final List<String> missing = new ArrayList<>();
+        if (!cmd.hasOption(TRANSPORT_ID) && !(cmd.hasOption(LOAD) && cmd.hasOption(DEVICES))) {
+            missing.add(TRANSPORT_ID);
+        }
+        if (!cmd.hasOption(COMMAND) && !(cmd.hasOption(LOAD) && cmd.hasOption(MIX))) {
+            missing.add(COMMAND);
+        }
+        if (!missing.isEmpty()) {
+            throw new MissingOptionException(missing);
+        }
+    }
+
+    private static LoadParams parseLoadParams(CommandLine cmd, AppArgument appArgument) {
+        final List<String> transportIds = cmd.hasOption(DEVICES)
+                                          ? new WorkloadFileReader().readLines(cmd.getOptionValue(DEVICES))
+                                          : List.of(appArgument.getTransportId());
+        final Map<CommandType, Integer> commandMix = cmd.hasOption(MIX)
+                                                     ? parseCommandMix(cmd.getOptionValue(MIX))
+                                                     : singleCommandMix(appArgument.getCommand());
+
+        final LoadParams.LoadParamsBuilder builder = LoadParams.builder()
+            .transportIds(transportIds)
+            .commandMix(commandMix)
+            .reportPath(cmd.getOptionValue(REPORT));
+        Optional.ofNullable(cmd.getOptionValue(CONCURRENCY))
+            .map(value -> parseNumber(value, CONCURRENCY))
+            .ifPresent(value -> builder.concurrency(value.intValue()));
+        Optional.ofNullable(cmd.getOptionValue(DURATION))
+            .map(value -> parseNumber(value, DURATION))
+            .ifPresent(value -> builder.duration(Duration.ofSeconds(value)));
+        Optional.ofNullable(cmd.getOptionValue(RAMP_UP))
+            .map(value -> parseNumber(value, RAMP_UP))
+            .ifPresent(value -> builder.rampUp(Duration.ofSeconds(value)));
+        return builder.build();
+    }
+
+    static Map<CommandType, Integer> parseCommandMix(String mix) {
+        final Map<CommandType, Integer> commandMix = new EnumMap<>(CommandType.class);
+        for (String entry : mix.split(",")) {
+            final String[] parts = entry.split("=");
+            try {
+                final CommandType commandType = CommandType.valueOf(parts[0].trim().toUpperCase());
+                final int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+                commandMix.merge(commandType, weight, Integer::sum);
+            } catch (IllegalArgumentException e) {
+                throw new WorkloadAppException("Invalid --%s entry: %s".formatted(MIX, entry), e);
+            }
+        }
+        return commandMix;
+    }
+
+    private static Map<CommandType, Integer> singleCommandMix(CommandType commandType) {
+        if (commandType == null) {
+            throw new WorkloadAppException("Not supported command type");
+        }
+        final Map<CommandType, Integer> commandMix = new EnumMap<>(CommandType.class);
+        commandMix.put(commandType, 1);
+        return commandMix;
+    }
+
+    private static long parseNumber(String value, String param) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new WorkloadAppException("Invalid --%s value: %s".formatted(param, value), e);
+        }
     }
 
     private static Options getOptions() {
         Options options = new Options();
 
-        Option transportId = new Option("i", "transport-id", true, "JTAG Identifier");
-        transportId.setRequired(true);
+        Option transportId = new Option("i", TRANSPORT_ID, true, "JTAG Identifier. "
+            + "Not required in load mode if --devices is set");
         options.addOption(transportId);
 
-        Option command = new Option("c", "command", true, "Command which should be invoked. "
-            + "Possible values: CREATE, GET, HEALTH");
-        command.setRequired(true);
+        Option command = new Option("c", COMMAND, true, "Command which should be invoked. "
+            + "Possible values: CREATE, GET, HEALTH. Not required in load mode if --mix is set");
         options.addOption(command);
 
         Option context = new Option(null, "context", true, "Random HEX value provided as seed, max 28 bytes. "
@@ -104,6 +198,21 @@ public class AppArgumentParser {
             + "Possible values: OFF, ERROR, WARN, INFO (default), DEBUG, TRACE");
         options.addOption(logLevel);
 
+        options.addOption(new Option(null, LOAD, false, "Run in load-generation mode: send commands "
+            + "in a loop until duration elapses and report latency, throughput and errors as JSON"));
+        options.addOption(new Option(null, DEVICES, true, "Load mode: path to file with one transport ID "
+            + "per line. Devices are used in round-robin order"));
+        options.addOption(new Option(null, CONCURRENCY, true, "Load mode: number of concurrent workers. "
+            + "Default: " + LoadParams.DEFAULT_CONCURRENCY));
+        options.addOption(new Option(null, DURATION, true, "Load mode: duration of the load in seconds "
+            + "(after ramp-up). Default: " + LoadParams.DEFAULT_DURATION.toSeconds()));
+        options.addOption(new Option(null, RAMP_UP, true, "Load mode: time in seconds over which workers "
+            + "are started. Default: 0"));
+        options.addOption(new Option(null, MIX, true, "Load mode: weighted command mix. "
+            + "Example: GET=8,HEALTH=2. Default: --command with weight 1"));
+        options.addOption(new Option(null, REPORT, true, "Load mode: path to JSON report file. "
+            + "If not set, report is logged"));
+
         return options;
     }
 }
@@ -40,6 +40,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HexFormat;
+import java.util.List;
 
 @Slf4j
 public class WorkloadFileReader {
@@ -58,4 +59,20 @@ public class WorkloadFileReader {
             throw new WorkloadAppException("Failed to read file: " + filePath, e);
         }
     }
+
+    /**
+     * Returns trimmed, non-empty lines of text file, skipping comments starting with '#'.
+     */
+    public List<String> readLines(String fileName) {
+        log.debug("[WORKLOAD] Reading file: {}", fileName);
+        final Path filePath = Paths.get(fileName);
+        try {
+            return Files.readAllLines(filePath).stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .toList();
+        } catch (IOException e) {
+            throw new WorkloadAppException("Failed to read file: " + filePath, e);
+        }
+    }
 }
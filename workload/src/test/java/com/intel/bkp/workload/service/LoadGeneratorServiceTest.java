@@ -0,0 +1,218 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.workload.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intel.bkp.verifier.interfaces.VerifierExchange;
+import com.intel.bkp.verifier.service.certificate.AppContext;
+import com.intel.bkp.workload.exceptions.WorkloadAppException;
+import com.intel.bkp.workload.model.CommandType;
+import com.intel.bkp.workload.model.LoadParams;
+import com.intel.bkp.workload.util.AppArgument;
+import com.intel.bkp.workload.util.WorkloadFileReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.intel.bkp.verifier.model.VerifierExchangeResponse.ERROR;
+import static com.intel.bkp.verifier.model.VerifierExchangeResponse.FAIL;
+import static com.intel.bkp.verifier.model.VerifierExchangeResponse.OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoadGeneratorServiceTest {
+
+    private static final String TRANSPORT_ID_1 = "host:127.0.0.1; port:50001";
+    private static final String TRANSPORT_ID_2 = "host:127.0.0.1; port:50002";
+    private static final long REQUEST_MILLIS = 10;
+
+    @Mock
+    private AppContext appContext;
+
+    @Mock
+    private AppContext deviceContext;
+
+    @Mock
+    private VerifierExchange verifierExchange;
+
+    @Mock
+    private WorkloadFileReader fileReader;
+
+    @TempDir
+    private Path tempDir;
+
+    private Supplier<AppContext> deviceSessionFactory;
+
+    private LoadGeneratorService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new LoadGeneratorService(() -> appContext, sessionFactory -> {
+            deviceSessionFactory = sessionFactory;
+            return verifierExchange;
+        }, fileReader);
+    }
+
+    @Test
+    void generateLoad_AllRequestsSucceed_ReturnsOkAndWritesReport() throws Exception {
+        // given
+        final Path report = tempDir.resolve("report.json");
+        when(verifierExchange.healthCheck(anyString())).thenReturn(OK.getCode());
+        final AppArgument appArgs = prepareArgs(Map.of(CommandType.HEALTH, 1), report.toString());
+
+        // when
+        final int result = sut.generateLoad(appArgs);
+
+        // then
+        assertEquals(OK.getCode(), result);
+        verify(appContext).init();
+        verify(appContext).close();
+        verify(verifierExchange, atLeastOnce()).healthCheck(TRANSPORT_ID_1);
+        verify(verifierExchange, atLeastOnce()).healthCheck(TRANSPORT_ID_2);
+        assertDeviceSessionsDerivedFromSharedContext();
+        final String json = Files.readString(report);
+        assertTrue(json.contains("\"HEALTH\""));
+        assertTrue(json.contains("\"p99\""));
+        assertTrue(json.contains("\"errors\" : 0"));
+    }
+
+    @Test
+    void generateLoad_RequestsFail_ReturnsErrorWithBreakdown() throws Exception {
+        // given
+        final Path report = tempDir.resolve("report.json");
+        when(verifierExchange.healthCheck(anyString())).thenReturn(FAIL.getCode());
+        final AppArgument appArgs = prepareArgs(Map.of(CommandType.HEALTH, 1), report.toString());
+
+        // when
+        final int result = sut.generateLoad(appArgs);
+
+        // then
+        assertEquals(ERROR.getCode(), result);
+        assertTrue(Files.readString(report).contains("\"FAIL\""));
+    }
+
+    @Test
+    void generateLoad_WithRampUp_ReportsOnlyRequestsAfterRampUp() throws Exception {
+        // given
+        final Path report = tempDir.resolve("report.json");
+        final AtomicInteger sent = new AtomicInteger();
+        when(verifierExchange.healthCheck(anyString())).thenAnswer(invocation -> {
+            sent.incrementAndGet();
+            Thread.sleep(REQUEST_MILLIS);
+            return OK.getCode();
+        });
+        final AppArgument appArgs = AppArgument.instance()
+            .load(LoadParams.builder()
+                .transportIds(List.of(TRANSPORT_ID_1))
+                .concurrency(1)
+                .rampUp(Duration.ofMillis(200))
+                .duration(Duration.ofMillis(200))
+                .commandMix(Map.of(CommandType.HEALTH, 1))
+                .reportPath(report.toString())
+                .build())
+            .build();
+
+        // when
+        sut.generateLoad(appArgs);
+
+        // then
+        final JsonNode json = new ObjectMapper().readTree(report.toFile());
+        final long reported = json.get("total").get("requests").asLong();
+        assertTrue(reported > 0);
+        assertTrue(reported < sent.get());
+        assertTrue(json.get("measuredSeconds").asDouble() < 1.0);
+    }
+
+    @Test
+    void generateLoad_GetWithoutRefMeasurement_Throws() {
+        // given
+        final AppArgument appArgs = prepareArgs(Map.of(CommandType.GET, 1), null);
+
+        // when-then
+        assertThrows(WorkloadAppException.class, () -> sut.generateLoad(appArgs));
+
+        // then
+        verifyNoInteractions(appContext);
+    }
+
+    @Test
+    void generateLoad_WithoutDevices_Throws() {
+        // given
+        final AppArgument appArgs = AppArgument.instance()
+            .load(LoadParams.builder()
+                .transportIds(List.of())
+                .commandMix(Map.of(CommandType.HEALTH, 1))
+                .build())
+            .build();
+
+        // when-then
+        assertThrows(WorkloadAppException.class, () -> sut.generateLoad(appArgs));
+    }
+
+    private void assertDeviceSessionsDerivedFromSharedContext() {
+        when(appContext.forDevice()).thenReturn(deviceContext);
+        assertSame(deviceContext, deviceSessionFactory.get());
+    }
+
+    private static AppArgument prepareArgs(Map<CommandType, Integer> commandMix, String reportPath) {
+        return AppArgument.instance()
+            .load(LoadParams.builder()
+                .transportIds(List.of(TRANSPORT_ID_1, TRANSPORT_ID_2))
+                .concurrency(2)
+                .duration(Duration.ofMillis(200))
+                .commandMix(commandMix)
+                .reportPath(reportPath)
+                .build())
+            .build();
+    }
+}
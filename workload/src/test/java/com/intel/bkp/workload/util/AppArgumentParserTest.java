@@ -33,9 +33,17 @@
 package com.intel.bkp.workload.util;
 
 import com.intel.bkp.workload.model.CommandType;
+import com.intel.bkp.workload.model.LoadParams;
+import com.intel.bkp.workload.exceptions.WorkloadAppException;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class AppArgumentParserTest {
 
@@ -47,7 +55,7 @@ class AppArgumentParserTest {
         args[1] = "-cCREATE";
 
         final var expected = new AppArgument("10", CommandType.CREATE,
-            null, null, null, null);
+            null, null, null, null, null);
 
         // when
         final AppArgument result = AppArgumentParser.parseArguments(args);
@@ -69,7 +77,7 @@ class AppArgumentParserTest {
         args[5] = "--log-level=INFO";
 
         final var expected = new AppArgument("10", CommandType.CREATE,
-            "00010203", pufType, "file", "INFO");
+            "00010203", pufType, "file", "INFO", null);
 
         // when
         final AppArgument result = AppArgumentParser.parseArguments(args);
@@ -77,4 +85,47 @@ class AppArgumentParserTest {
         // then
         assertEquals(expected, result);
     }
+
+    @Test
+    void parseArguments_LoadMode_Success() {
+        // given
+        String[] args = {"-i10", "--load", "--mix=GET=8,HEALTH=2", "--concurrency=16", "--duration=30",
+            "--ramp-up=5", "--report=report.json"};
+
+        // when
+        final AppArgument result = AppArgumentParser.parseArguments(args);
+
+        // then
+        assertNull(result.getCommand());
+        final var load = result.getLoad();
+        assertEquals(List.of("10"), load.getTransportIds());
+        assertEquals(Map.of(CommandType.GET, 8, CommandType.HEALTH, 2), load.getCommandMix());
+        assertEquals(16, load.getConcurrency());
+        assertEquals(Duration.ofSeconds(30), load.getDuration());
+        assertEquals(Duration.ofSeconds(5), load.getRampUp());
+        assertEquals("report.json", load.getReportPath());
+    }
+
+    @Test
+    void parseArguments_LoadModeWithoutMix_UsesCommandAndDefaults() {
+        // given
+        String[] args = {"-i10", "-cHEALTH", "--load"};
+
+        // when
+        final AppArgument result = AppArgumentParser.parseArguments(args);
+
+        // then
+        final var load = result.getLoad();
+        assertEquals(Map.of(CommandType.HEALTH, 1), load.getCommandMix());
+        assertEquals(LoadParams.DEFAULT_CONCURRENCY, load.getConcurrency());
+        assertEquals(LoadParams.DEFAULT_DURATION, load.getDuration());
+        assertEquals(Duration.ZERO, load.getRampUp());
+        assertNull(load.getReportPath());
+    }
+
+    @Test
+    void parseCommandMix_WithInvalidEntry_Throws() {
+        // when-then
+        assertThrows(WorkloadAppException.class, () -> AppArgumentParser.parseCommandMix("GET=8,UNKNOWN=2"));
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.workload.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    private final LatencyHistogram sut = new LatencyHistogram();
+
+    @Test
+    void getValueAtPercentile_SmallValues_AreExact() {
+        // given
+        for (int value = 1; value <= 100; value++) {
+            sut.record(value);
+        }
+
+        // when-then
+        assertEquals(50, sut.getValueAtPercentile(50));
+        assertEquals(99, sut.getValueAtPercentile(99));
+        assertEquals(100, sut.getValueAtPercentile(100));
+        assertEquals(100, sut.getMax());
+        assertEquals(50, sut.getMean());
+        assertEquals(100, sut.getTotalCount());
+    }
+
+    @Test
+    void getValueAtPercentile_LargeValues_WithinRelativeError() {
+        // given
+        final long value = 1_234_567;
+        sut.record(value);
+
+        // when
+        final long result = sut.getValueAtPercentile(50);
+
+        // then
+        assertTrue(result <= value);
+        assertTrue(Math.abs(result - value) <= value / 64);
+    }
+
+    @Test
+    void getValueAtPercentile_Empty_ReturnsZero() {
+        // when-then
+        assertEquals(0, sut.getValueAtPercentile(99));
+        assertEquals(0, sut.getMean());
+    }
+
+    @Test
+    void indexOf_IsMonotonicAndMatchesHighestEquivalentValue() {
+        int previousIndex = -1;
+        for (long value = 0; value < 1_000_000; value += 7) {
+            // when
+            final int index = LatencyHistogram.indexOf(value);
+
+            // then
+            assertTrue(index >= previousIndex);
+            assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value);
+            previousIndex = index;
+        }
+        assertTrue(LatencyHistogram.indexOf(Long.MAX_VALUE) >= previousIndex);
+    }
+}